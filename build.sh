@@ -4,7 +4,7 @@ SOURCE_DIR="src"
 OUTPUT_DIR="out"
 
 OUTPUT_DIR_DOCS="docs"
-PACKAGES="controller:model:repository:services:utils:view:lib"
+PACKAGES="controller:model:repository:server:services:utils:view:lib"
 
 JAR_FILE="HMSApp.jar"
 MAIN_CLASS="HMSApp"
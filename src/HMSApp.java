@@ -1,3 +1,8 @@
+import java.util.Arrays;
+import java.util.List;
+
+import server.ApiServer;
+import server.SessionServer;
 import services.Navigator;
 import services.ServiceLocator;
 import utils.MockData;
@@ -17,14 +22,35 @@ public final class HMSApp {
     static boolean DEBUG = false;
 
     public static void main(String[] args) throws Exception {
+        List<String> options = Arrays.asList(args);
+
         // Mocks sample data for the repositories, if required.
-        if (DEBUG || args.length > 0 && args[0].equals("--mock")) {
+        if (DEBUG || options.contains("--mock")) {
             MockData.mockAllData();
         }
 
         // Registers services.
         ServiceLocator.registerHMSServices();
 
+        // Serves the JSON API in the background, ie: --api 8080.
+        int api = options.indexOf("--api");
+
+        if (api >= 0) {
+            int port = api + 1 < args.length && !args[api + 1].startsWith("--")
+                ? Integer.parseInt(args[api + 1]) : ApiServer.DEFAULT_PORT;
+            new ApiServer(port).start();
+        }
+
+        // Serves a session for each terminal that connects, ie: --server 2002.
+        int server = options.indexOf("--server");
+
+        if (server >= 0) {
+            int port = server + 1 < args.length && !args[server + 1].startsWith("--")
+                ? Integer.parseInt(args[server + 1]) : SessionServer.DEFAULT_PORT;
+            new SessionServer(port).run();
+            return;
+        }
+
         // Navigates to the login view.
         Navigator.navigateTo(new LoginView());
     }
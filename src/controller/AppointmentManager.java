@@ -1,19 +1,22 @@
 package controller;
 
 import model.appointments.Appointment;
-import model.appointments.AppointmentOutcomeRecord;
 import model.appointments.AppointmentSlot;
+import model.appointments.SlotGrid;
 import model.appointments.TimeSlot;
-import model.enums.MedicalService;
-import model.prescriptions.Prescription;
+import model.enums.AppointmentStatus;
+import model.enums.Specialisation;
 import model.users.Doctor;
 import model.users.Patient;
 import repository.interfaces.IAppointmentRepository;
+import repository.interfaces.IDoctorRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import controller.interfaces.IAppointmentManager;
 
@@ -30,50 +33,64 @@ public class AppointmentManager implements IAppointmentManager {
      */
     private final IAppointmentRepository appointmentRepository;
 
+    /**
+     * Repository for accessing doctor data.
+     */
+    private final IDoctorRepository doctorRepository;
+
+    /**
+     * The sweeper marking scheduled appointments as fulfilled once they are overdue.
+     */
+    private final AppointmentSweeper sweeper;
+
     /**
      * The start hour of the day for appointments.
      */
-    public final static int START_HOUR = 8;
+    public final static int START_HOUR = SlotGrid.START_HOUR;
 
     /**
      * The end hour of the day for appointments.
      */
-    public final static int END_HOUR = 17;
+    public final static int END_HOUR = SlotGrid.END_HOUR;
 
     /**
      * The duration of each appointment slot in minutes.
      */
-    public final static int SLOT_DURATION = 30;
+    public final static int SLOT_DURATION = SlotGrid.SLOT_DURATION;
+
+    /**
+     * The number of days ahead searched for the earliest available slots when no end date is given.
+     */
+    public final static int SEARCH_HORIZON_DAYS = 90;
 
     /**
      * Creates a new AppointmentManager.
      * @param appointmentRepository the repository for accessing appointment data.
+     * @param doctorRepository the repository for accessing doctor data.
      */
-    public AppointmentManager(IAppointmentRepository appointmentRepository) {
+    public AppointmentManager(IAppointmentRepository appointmentRepository, IDoctorRepository doctorRepository) {
         this.appointmentRepository = appointmentRepository;
+        this.doctorRepository = doctorRepository;
+        this.sweeper = new AppointmentSweeper(appointmentRepository);
         
-        // Every time the AppointmentManager is instantiated, it will check for past appointments
-        // and mark them as fulfilled if it is overdue.
-        fulfillPastAppointments();
-    }
-
-    /**
-     * Marks all past appointments as fulfilled if they are overdue.
-     * This method is called every time the {@link AppointmentManager} is instantiated.
-     */
-    private void fulfillPastAppointments() {
-        appointmentRepository.getOverdueAppointments().forEach(appointment -> {
-            appointment.markAsFulfilled();
-            appointmentRepository.save(appointment);
-        });
+        // Every time the AppointmentManager is instantiated, it will mark the appointments that
+        // became overdue since the last run as fulfilled, then keep doing so in the background.
+        sweeper.sweep();
+        sweeper.start();
     }
 
     /**
-     * Updates the appointment in the repository.
+     * Updates the appointment in the repository. The change is made to a fresh copy of the
+     * appointment, and made again if the appointment was changed by another session meanwhile.
      * @param appointment the appointment to update.
+     * @param change the change to make to the appointment.
+     * @return the updated appointment, or {@code null} if the appointment does not exist.
      */
-    public void updateAppointment(Appointment appointment) {
-        appointmentRepository.save(appointment);
+    public Appointment updateAppointment(Appointment appointment, Consumer<Appointment> change) {
+        return Conflicts.retry(appointmentRepository, appointment.getId(), current -> {
+            change.accept(current);
+            return appointmentRepository.save(current);
+        });
     }
 
     /**
@@ -89,12 +106,18 @@ public class AppointmentManager implements IAppointmentManager {
     }
 
     /**
-     * Cancels a scheduled appointment.
+     * Cancels a scheduled appointment, unless another session has completed or cancelled it meanwhile.
      * @param appointment the appointment to cancel.
      */
     public void cancelAppointment(Appointment appointment) {
-        appointment.markAsCancelled();
-        appointmentRepository.save(appointment);
+        Conflicts.retry(appointmentRepository, appointment.getId(), current -> {
+            if (current.getStatus() != AppointmentStatus.REQUESTED && current.getStatus() != AppointmentStatus.SCHEDULED) {
+                return null;
+            }
+
+            current.markAsCancelled();
+            return appointmentRepository.save(current);
+        });
     }
 
     /**
@@ -103,8 +126,7 @@ public class AppointmentManager implements IAppointmentManager {
      * @param newSlot the new appointment slot.
      */
     public void rescheduleAppointment(Appointment initialAppointment, AppointmentSlot newSlot) {
-        initialAppointment.markAsCancelled();
-        appointmentRepository.save(initialAppointment);
+        cancelAppointment(initialAppointment);
 
         Appointment newAppointment = Appointment.schedule(
             appointmentRepository.generateId(), newSlot.getTimeSlot(),
@@ -114,12 +136,19 @@ public class AppointmentManager implements IAppointmentManager {
     }
 
     /**
-     * Accepts a requested appointment, marking it as scheduled.
+     * Accepts a requested appointment, marking it as scheduled, unless the patient has cancelled
+     * the request meanwhile.
      * @param appointment the appointment to accept.
      */
     public void acceptAppointment(Appointment appointment) {
-        appointment.markAsScheduled();
-        appointmentRepository.save(appointment);
+        Conflicts.retry(appointmentRepository, appointment.getId(), current -> {
+            if (current.getStatus() != AppointmentStatus.REQUESTED) {
+                return null;
+            }
+
+            current.markAsScheduled();
+            return appointmentRepository.save(current);
+        });
     }
 
     /**
@@ -127,24 +156,14 @@ public class AppointmentManager implements IAppointmentManager {
      * @param appointment the appointment to decline.
      */
     public void declineAppointment(Appointment appointment) {
-        appointment.markAsCancelled();
-        appointmentRepository.save(appointment);
-    }
-
-    /**
-     * Marks an appointment as fulfilled.
-     * @param appointment the appointment to mark as fulfilled.
-     */
-    public AppointmentOutcomeRecord updateAppointmentOutcome(
-        Appointment appointment, String consultationNotes,
-        List<Prescription> prescriptions, List<MedicalService> services) {
-        
-        AppointmentOutcomeRecord outcomeRecord = 
-            appointment.createOutcomeRecord(prescriptions, services, consultationNotes);
-        
-        appointmentRepository.save(appointment);
+        Conflicts.retry(appointmentRepository, appointment.getId(), current -> {
+            if (current.getStatus() != AppointmentStatus.REQUESTED) {
+                return null;
+            }
 
-        return outcomeRecord;
+            current.markAsCancelled();
+            return appointmentRepository.save(current);
+        });
     }
 
     /**
@@ -156,30 +175,95 @@ public class AppointmentManager implements IAppointmentManager {
     public List<AppointmentSlot> getAvailableSlotsByDoctor(LocalDate date, Doctor doctor) {
         List<AppointmentSlot> availableSlots = new ArrayList<AppointmentSlot>();
 
-        for (TimeSlot slot : generateTimeSlots(date)) {
-            // Check if the time slot is in the past.
-            if (slot.getDateTime().isBefore(LocalDateTime.now())) {
-                continue;
-            }
+        // The slots that the doctor works, that are not yet booked, and that are not in the past.
+        int available = doctor.getAvailableSlots(date)
+            & ~appointmentRepository.getOccupiedSlots(doctor, date)
+            & SlotGrid.upcomingMaskOf(date, LocalDateTime.now());
+
+        // Visit each set bit, from the earliest slot to the latest.
+        for (int slots = available; slots != 0; slots &= slots - 1) {
+            TimeSlot slot = new TimeSlot(date.atTime(SlotGrid.timeOf(Integer.numberOfTrailingZeros(slots))));
+            availableSlots.add(new AppointmentSlot(doctor, slot));
+        }
+
+        return availableSlots;
+    }
+
+    /**
+     * Finds the earliest available appointment slots across all doctors, starting from now.
+     * @param count the maximum number of slots to find.
+     * @param specialisation the specialisation of the doctors, or {@code null} for any doctor.
+     * @return the list of available slots, ordered by time and then by doctor.
+     */
+    public List<AppointmentSlot> findEarliestSlots(int count, Specialisation specialisation) {
+        LocalDate today = LocalDate.now();
+        return findEarliestSlots(count, specialisation, today, today.plusDays(SEARCH_HORIZON_DAYS));
+    }
+
+    /**
+     * Finds the earliest available appointment slots across all doctors within a date range.
+     * The days are walked one at a time and the search stops as soon as enough slots are found,
+     * so the slots of later days are never generated. The free slots of a doctor on a day are
+     * derived from the occupancy bitmask that the appointment repository maintains as appointments
+     * are saved, so no appointments are scanned, and the doctors are read from the repository
+     * without being copied.
+     * @param count the maximum number of slots to find.
+     * @param specialisation the specialisation of the doctors, or {@code null} for any doctor.
+     * @param from the first date to search, inclusive.
+     * @param to the last date to search, inclusive.
+     * @return the list of available slots, ordered by time and then by doctor.
+     */
+    public List<AppointmentSlot> findEarliestSlots(int count, Specialisation specialisation, LocalDate from, LocalDate to) {
+        List<AppointmentSlot> availableSlots = new ArrayList<AppointmentSlot>();
+
+        List<Doctor> doctors = new ArrayList<Doctor>(doctorRepository.viewBy(doctor -> 
+            specialisation == null || doctor.getSpecialisation() == specialisation));
+        doctors.sort(Comparator.comparing(Doctor::getDoctorId));
+
+        if (doctors.isEmpty() || count <= 0) {
+            return availableSlots;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[] freeSlots = new int[doctors.size()];
 
-            // Check if there is already an exisitng appointment at this time slot.
-            if (!appointmentRepository.isSlotAvailable(doctor, slot)) {
+        for (LocalDate date = from; !date.isAfter(to) && availableSlots.size() < count; date = date.plusDays(1)) {
+            int upcoming = SlotGrid.upcomingMaskOf(date, now);
+
+            if (upcoming == 0) {
                 continue;
             }
 
-            // Check if the doctor is available at this time slot.
-            if (!doctor.isAvailable(slot)) {
-                continue;
+            // The slots of the day that are free for at least one of the doctors.
+            int anyFree = 0;
+
+            for (int i = 0; i < doctors.size(); i++) {
+                Doctor doctor = doctors.get(i);
+
+                freeSlots[i] = doctor.getAvailableSlots(date) 
+                    & ~appointmentRepository.getOccupiedSlots(doctor, date) & upcoming;
+                anyFree |= freeSlots[i];
             }
 
-            availableSlots.add(new AppointmentSlot(doctor, slot));
+            // Visit the free slots from the earliest to the latest, and the doctors in order.
+            for (int slots = anyFree; slots != 0 && availableSlots.size() < count; slots &= slots - 1) {
+                int index = Integer.numberOfTrailingZeros(slots);
+                TimeSlot slot = new TimeSlot(date.atTime(SlotGrid.timeOf(index)));
+
+                for (int i = 0; i < doctors.size() && availableSlots.size() < count; i++) {
+                    if ((freeSlots[i] & (1 << index)) != 0) {
+                        availableSlots.add(new AppointmentSlot(doctors.get(i), slot));
+                    }
+                }
+            }
         }
 
         return availableSlots;
     }
 
     /**
-     * Gets all the appointments in the system, ordered by most recent first.
+     * Gets a read-only view of all the appointments in the system, ordered by most recent first.
+     * The appointments are shared with the repository rather than copied, so they are frozen and cannot be modified.
      * @return the list of appointments.
      */
     public List<Appointment> getAllAppointments() {
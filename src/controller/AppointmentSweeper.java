@@ -0,0 +1,110 @@
+package controller;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import model.appointments.Appointment;
+import repository.exceptions.VersionConflictException;
+import repository.interfaces.IAppointmentRepository;
+
+/**
+ * Marks scheduled appointments as fulfilled once their time slot has passed, in the background.
+ *
+ * <p>The repository keeps its scheduled appointments ordered by time slot, so each sweep only
+ * visits the appointments that have become overdue since the previous sweep, and commits them
+ * as a single batch. The cost of a sweep therefore does not grow with the number of appointments
+ * in the history.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class AppointmentSweeper {
+    /**
+     * The interval between two sweeps in seconds.
+     */
+    public final static long SWEEP_INTERVAL_SECONDS = 30;
+
+    /**
+     * Repository for accessing appointment data.
+     */
+    private final IAppointmentRepository appointmentRepository;
+
+    /**
+     * The executor running the periodic sweeps, or {@code null} if the sweeper is not started.
+     */
+    private ScheduledExecutorService executor = null;
+
+    /**
+     * Creates a new {@link AppointmentSweeper}.
+     * @param appointmentRepository the repository for accessing appointment data.
+     */
+    public AppointmentSweeper(IAppointmentRepository appointmentRepository) {
+        this.appointmentRepository = appointmentRepository;
+    }
+
+    /**
+     * Marks every scheduled appointment whose time slot has passed as fulfilled.
+     * @return the number of appointments marked as fulfilled.
+     */
+    public int sweep() {
+        List<Appointment> overdueAppointments = appointmentRepository.getOverdueAppointments();
+
+        if (overdueAppointments.isEmpty()) {
+            return 0;
+        }
+
+        overdueAppointments.forEach(Appointment::markAsFulfilled);
+
+        try {
+            if (appointmentRepository.save(overdueAppointments) == null) {
+                return 0;
+            }
+        } catch (VersionConflictException e) {
+            // An overdue appointment was changed by a session meanwhile, ie: its outcome was
+            // recorded, so the next sweep reads the appointments again.
+            return 0;
+        }
+
+        return overdueAppointments.size();
+    }
+
+    /**
+     * Starts sweeping periodically on a background daemon thread, every 
+     * {@link #SWEEP_INTERVAL_SECONDS} seconds. Does nothing if the sweeper is already started.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "appointment-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                sweep();
+            } catch (RuntimeException e) {
+                // An exception would cancel all subsequent sweeps, so report it and carry on.
+                System.out.println("[ERROR] Could not fulfill overdue appointments: " + e.getMessage());
+            }
+        }, SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic sweeps. Does nothing if the sweeper is not started.
+     */
+    public synchronized void stop() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdownNow();
+        executor = null;
+    }
+}
@@ -0,0 +1,70 @@
+package controller;
+
+import java.util.function.Function;
+
+import model.BaseModel;
+import repository.exceptions.VersionConflictException;
+import repository.interfaces.IRepository;
+
+/**
+ * Helpers for the managers to resolve the conflicts of changes made by concurrent sessions to the
+ * same item. A change is made to a fresh copy of the item, and if another session saved the item
+ * before the change was saved, the change is made again to a new copy of the item, so that neither
+ * change is lost and the copy held by the caller is never modified.
+ *
+ * <PRE>
+ * Conflicts.retry(appointmentRepository, appointment.getId(), current -&gt; {
+ *     current.markAsCancelled();
+ *     return appointmentRepository.save(current);
+ * });
+ * </PRE>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class Conflicts {
+    /**
+     * The maximum number of times a change is attempted before the conflict is given up on.
+     */
+    static final int MAX_ATTEMPTS = 5;
+
+    /**
+     * The constructor is private since {@link Conflicts} should be used statically.
+     */
+    private Conflicts() {}
+
+    /**
+     * Makes and saves a change to a fresh copy of an item, retrying on a new copy of the item if
+     * it was changed by another session before the change was saved. The change must check the
+     * state of the copy it is given, since the state may have changed between attempts.
+     *
+     * @param <T> the type of the item.
+     * @param <R> the type of the result of the change.
+     * @param repository the repository of the item.
+     * @param id the ID of the item.
+     * @param change the function that makes and saves the change to a copy of the item, and
+     * returns its result.
+     * @return the result of the change, or {@code null} if the item does not exist.
+     * @throws VersionConflictException if the item kept being changed by other sessions after
+     * {@link #MAX_ATTEMPTS} attempts.
+     */
+    static <T extends BaseModel, R> R retry(IRepository<T> repository, String id, Function<T, R> change) {
+        for (int attempt = 1; ; attempt++) {
+            T current = repository.findById(id);
+
+            if (current == null) {
+                return null;
+            }
+
+            try {
+                return change.apply(current);
+
+            } catch (VersionConflictException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
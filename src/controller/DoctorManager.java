@@ -42,12 +42,12 @@ public class DoctorManager implements IDoctorManager {
     }
 
     /**
-     * Retrieves all doctors.
+     * Retrieves a read-only view of all doctors.
      *
-     * @return a list {@link Doctor} of all doctors.
+     * @return a list {@link Doctor} of all doctors, which are frozen and cannot be modified.
      */
     public List<Doctor> getAllDoctors() {
-        return doctorRepository.getItems().values().stream().distinct().toList();
+        return doctorRepository.viewAll();
     }
 
     /**
@@ -66,13 +66,16 @@ public class DoctorManager implements IDoctorManager {
      * @param doctor the doctor whose availability is being set.
      * @param day the day of the week.
      * @param availablePeriod the time period during which the doctor is available.
+     * @return the doctor with the updated availability, or {@code null} if the doctor does not exist.
      */
-    public void setDoctorAvailability(Doctor doctor, DayOfWeek day, TimePeriod availablePeriod) {
-        Availability availability = doctor.getAvailability();
-        availability.setAvailability(day, availablePeriod);
-
-        doctor.setAvailability(availability);
-        doctorRepository.save(doctor);
+    public Doctor setDoctorAvailability(Doctor doctor, DayOfWeek day, TimePeriod availablePeriod) {
+        return Conflicts.retry(doctorRepository, doctor.getId(), current -> {
+            Availability availability = current.getAvailability();
+            availability.setAvailability(day, availablePeriod);
+
+            current.setAvailability(availability);
+            return doctorRepository.save(current);
+        });
     }
 
     /**
@@ -81,13 +84,16 @@ public class DoctorManager implements IDoctorManager {
      * @param doctor the doctor whose availability is being set.
      * @param date the date.
      * @param availablePeriod the time period during which the doctor is available.
+     * @return the doctor with the updated availability, or {@code null} if the doctor does not exist.
      */
-    public void setDoctorAvailability(Doctor doctor, LocalDate date, TimePeriod availablePeriod) {
-        Availability availability = doctor.getAvailability();
-        availability.setAvailability(date, availablePeriod);
-
-        doctor.setAvailability(availability);
-        doctorRepository.save(doctor);
+    public Doctor setDoctorAvailability(Doctor doctor, LocalDate date, TimePeriod availablePeriod) {
+        return Conflicts.retry(doctorRepository, doctor.getId(), current -> {
+            Availability availability = current.getAvailability();
+            availability.setAvailability(date, availablePeriod);
+
+            current.setAvailability(availability);
+            return doctorRepository.save(current);
+        });
     }
 
     /**
@@ -95,13 +101,16 @@ public class DoctorManager implements IDoctorManager {
      *
      * @param doctor the doctor whose availability is being cleared.
      * @param day the day of the week.
+     * @return the doctor with the updated availability, or {@code null} if the doctor does not exist.
      */
-    public void clearDoctorAvailability(Doctor doctor, DayOfWeek day) {
-        Availability availability = doctor.getAvailability();
-        availability.setAvailability(day, TimePeriod.defaultPeriod());
-
-        doctor.setAvailability(availability);
-        doctorRepository.save(doctor);
+    public Doctor clearDoctorAvailability(Doctor doctor, DayOfWeek day) {
+        return Conflicts.retry(doctorRepository, doctor.getId(), current -> {
+            Availability availability = current.getAvailability();
+            availability.setAvailability(day, TimePeriod.defaultPeriod());
+
+            current.setAvailability(availability);
+            return doctorRepository.save(current);
+        });
     }
 
     /**
@@ -109,12 +118,15 @@ public class DoctorManager implements IDoctorManager {
      *
      * @param doctor the doctor whose availability is being cleared.
      * @param date the date.
+     * @return the doctor with the updated availability, or {@code null} if the doctor does not exist.
      */
-    public void clearDoctorAvailability(Doctor doctor, LocalDate date) {
-        Availability availability = doctor.getAvailability();
-        availability.setAvailability(date, TimePeriod.defaultPeriod());
-
-        doctor.setAvailability(availability);
-        doctorRepository.save(doctor);
+    public Doctor clearDoctorAvailability(Doctor doctor, LocalDate date) {
+        return Conflicts.retry(doctorRepository, doctor.getId(), current -> {
+            Availability availability = current.getAvailability();
+            availability.setAvailability(date, TimePeriod.defaultPeriod());
+
+            current.setAvailability(availability);
+            return doctorRepository.save(current);
+        });
     }
 }
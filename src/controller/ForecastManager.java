@@ -0,0 +1,315 @@
+package controller;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import controller.interfaces.IForecastManager;
+import model.appointments.Appointment;
+import model.enums.ReplenishmentStatus;
+import model.inventory.ConsumptionForecast;
+import model.inventory.InventoryItem;
+import model.inventory.StockMovement;
+import model.prescriptions.Prescription;
+import repository.interfaces.IAppointmentRepository;
+import repository.interfaces.IInventoryRepository;
+
+/**
+ * Manages the forecasts of the consumption of the inventory, and the replenishments suggested from them.
+ *
+ * <p>The daily consumption of every item, that is the quantity deducted or dispensed, is kept for
+ * the last {@link #AVERAGE_WINDOW} days, together with a moving average and an exponentially
+ * smoothed average over those days. The history is read from the stock ledger once, and then
+ * updated with every movement of the stock as it is recorded, so that forecasts never go over the
+ * whole history again.</p>
+ *
+ * <p>A replenishment is suggested once the stock left after the prescriptions that are pending
+ * would not cover the forecast consumption over {@link #LEAD_TIME_DAYS} and
+ * {@link #COVER_DAYS}, on top of the stock level alert of the item.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ForecastManager implements IForecastManager {
+    /**
+     * The number of days, up to and including today, that the moving average is taken over.
+     */
+    private static final int AVERAGE_WINDOW = 28;
+
+    /**
+     * The weight of the consumption of the last day in the exponentially smoothed average.
+     */
+    private static final double SMOOTHING = 0.3;
+
+    /**
+     * The number of days between requesting a replenishment and the stock being replenished.
+     */
+    private static final int LEAD_TIME_DAYS = 7;
+
+    /**
+     * The number of days of consumption that a replenishment should cover once it arrives.
+     */
+    private static final int COVER_DAYS = 14;
+
+    /**
+     * Repository for accessing inventory data.
+     */
+    private final IInventoryRepository inventoryRepository;
+
+    /**
+     * Repository for accessing appointment data.
+     */
+    private final IAppointmentRepository appointmentRepository;
+
+    /**
+     * The history of the consumption of each item that was consumed recently, by ID.
+     */
+    private final Map<String, DemandHistory> histories = new ConcurrentHashMap<String, DemandHistory>();
+
+    /**
+     * Creates a new {@link ForecastManager}, reading the consumption of the recent days from the
+     * stock ledger.
+     * @param inventoryRepository the repository for accessing inventory data.
+     * @param appointmentRepository the repository for accessing appointment data.
+     */
+    public ForecastManager(IInventoryRepository inventoryRepository, IAppointmentRepository appointmentRepository) {
+        this.inventoryRepository = inventoryRepository;
+        this.appointmentRepository = appointmentRepository;
+
+        LocalDate from = LocalDate.now().minusDays(AVERAGE_WINDOW - 1);
+
+        inventoryRepository.getDailyConsumption(from, AVERAGE_WINDOW).forEach((itemId, quantities) -> {
+            DemandHistory history = new DemandHistory(from.toEpochDay());
+
+            for (int day = 0; day < quantities.length; day++) {
+                history.record(from.toEpochDay() + day, quantities[day]);
+            }
+
+            histories.put(itemId, history);
+        });
+
+        inventoryRepository.addStockMovementListener(this::recordMovement);
+    }
+
+    /**
+     * Records the consumption of a movement of the stock recorded by the repository.
+     * @param movement the movement of the stock.
+     */
+    private void recordMovement(StockMovement movement) {
+        if (!movement.getType().isConsumption()) {
+            return;
+        }
+
+        long day = movement.getDateTime().toLocalDate().toEpochDay();
+
+        histories.computeIfAbsent(movement.getItemId(), itemId -> new DemandHistory(day))
+            .record(day, -movement.getDelta());
+    }
+
+    /**
+     * Forecasts the consumption of an inventory item.
+     *
+     * @param itemId the ID of the inventory item.
+     * @return the {@link ConsumptionForecast} of the item, or {@code null} if the item does not exist.
+     */
+    public ConsumptionForecast getForecast(String itemId) {
+        InventoryItem item = inventoryRepository.findById(itemId);
+
+        if (item == null) {
+            return null;
+        }
+
+        return forecast(item, getPendingDemand().getOrDefault(itemId, 0), LocalDate.now());
+    }
+
+    /**
+     * Forecasts the consumption of every inventory item.
+     *
+     * @return a list of the {@link ConsumptionForecast} of every item, sorted by ID.
+     */
+    public List<ConsumptionForecast> getForecasts() {
+        Map<String, Integer> pendingDemand = getPendingDemand();
+        LocalDate today = LocalDate.now();
+
+        return inventoryRepository.findAll().stream()
+            .map(item -> forecast(item, pendingDemand.getOrDefault(item.getId(), 0), today))
+            .toList();
+    }
+
+    /**
+     * Retrieves the replenishments suggested for the inventory items without a pending
+     * replenishment request.
+     *
+     * @return a list of the {@link ConsumptionForecast} with suggestions, from the earliest reorder date.
+     */
+    public List<ConsumptionForecast> getReplenishmentSuggestions() {
+        Map<String, Integer> pendingDemand = getPendingDemand();
+        LocalDate today = LocalDate.now();
+
+        return inventoryRepository.findAll().stream()
+            .filter(item -> item.getReplenishmentStatus() != ReplenishmentStatus.PENDING)
+            .map(item -> forecast(item, pendingDemand.getOrDefault(item.getId(), 0), today))
+            .filter(ConsumptionForecast::hasSuggestion)
+            .sorted(Comparator.comparing(ConsumptionForecast::getReorderDate)
+                .thenComparing(ConsumptionForecast::getItemId))
+            .toList();
+    }
+
+    /**
+     * Forecasts the consumption of an item, and suggests the quantity to replenish and the date to
+     * request it by. The forecast daily consumption is the greater of the moving and the smoothed
+     * averages, so that a recent rise in consumption is not averaged away.
+     *
+     * @param item the item.
+     * @param pendingDemand the quantity of the item prescribed but not yet dispensed.
+     * @param today the date of the forecast.
+     * @return the forecast of the item.
+     */
+    private ConsumptionForecast forecast(InventoryItem item, int pendingDemand, LocalDate today) {
+        DemandHistory history = histories.get(item.getId());
+        double[] rates = history == null ? new double[2] : history.rates(today.toEpochDay());
+        double daily = Math.max(rates[0], rates[1]);
+
+        int available = item.getStock() - pendingDemand;
+        int target = (int) Math.ceil(daily * (LEAD_TIME_DAYS + COVER_DAYS)) + item.getStockLevelAlert();
+        int quantity = Math.max(0, target - available);
+        LocalDate reorderDate = null;
+
+        if (quantity > 0) {
+            long daysLeft = daily > 0 ? (long) Math.floor((available - item.getStockLevelAlert()) / daily) : 0;
+            reorderDate = today.plusDays(Math.max(0, daysLeft - LEAD_TIME_DAYS));
+        }
+
+        return new ConsumptionForecast(item.getId(), item.getItemName(), item.getStock(),
+            rates[0], rates[1], pendingDemand, quantity, reorderDate);
+    }
+
+    /**
+     * Gets the quantity of every drug prescribed in completed appointments but not yet dispensed.
+     *
+     * @return the pending quantity by item ID.
+     */
+    private Map<String, Integer> getPendingDemand() {
+        Map<String, Integer> result = new HashMap<String, Integer>();
+
+        for (Appointment appointment : appointmentRepository.getUndispensedAppointments()) {
+            for (Prescription prescription : appointment.getOutcomeRecord().getPrescriptions()) {
+                if (prescription.isPending()) {
+                    result.merge(prescription.getDrugId(), prescription.getQuantity(), Integer::sum);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * The consumption of an item on each of the last {@link #AVERAGE_WINDOW} days, with its moving
+     * and exponentially smoothed averages, which are updated as each day is recorded and closed.
+     */
+    private static final class DemandHistory {
+        /**
+         * The consumption on each day of the window, indexed by the day modulo the window.
+         */
+        private final int[] days = new int[AVERAGE_WINDOW];
+
+        /**
+         * The epoch day of the latest day in the window, which is still open.
+         */
+        private long today;
+
+        /**
+         * The total consumption over the days in the window.
+         */
+        private long total = 0;
+
+        /**
+         * The exponentially smoothed daily consumption over the closed days.
+         */
+        private double smoothed = 0;
+
+        /**
+         * Whether a day was closed, ie: the smoothed average is initialized.
+         */
+        private boolean primed = false;
+
+        /**
+         * Constructs a {@link DemandHistory} starting on a day.
+         *
+         * @param today the epoch day of the first day.
+         */
+        private DemandHistory(long today) {
+            this.today = today;
+        }
+
+        /**
+         * Records the consumption on a day. Consumption on days before the window is discarded, and
+         * consumption on a day that was closed only counts towards the moving average.
+         *
+         * @param day the epoch day of the consumption.
+         * @param quantity the quantity consumed.
+         */
+        private synchronized void record(long day, int quantity) {
+            advanceTo(day);
+
+            if (day <= today - AVERAGE_WINDOW) {
+                return;
+            }
+
+            days[slotOf(day)] += quantity;
+            total += quantity;
+        }
+
+        /**
+         * Gets the moving and the smoothed averages of the daily consumption as of a day.
+         *
+         * @param day the epoch day.
+         * @return the moving average, followed by the smoothed average.
+         */
+        private synchronized double[] rates(long day) {
+            advanceTo(day);
+
+            return new double[] {(double) total / AVERAGE_WINDOW, smoothed};
+        }
+
+        /**
+         * Closes every day before the given day, moving the window so that it ends on that day.
+         *
+         * @param day the epoch day to move to.
+         */
+        private void advanceTo(long day) {
+            long gap = day - today;
+
+            for (long i = 0; i < Math.min(gap, AVERAGE_WINDOW); i++) {
+                int consumed = days[slotOf(today)];
+
+                smoothed = primed ? SMOOTHING * consumed + (1 - SMOOTHING) * smoothed : consumed;
+                primed = true;
+                today++;
+
+                total -= days[slotOf(today)];
+                days[slotOf(today)] = 0;
+            }
+
+            // Every day in the window is empty by now, so the remaining days only decay the average.
+            if (gap > AVERAGE_WINDOW) {
+                smoothed *= Math.pow(1 - SMOOTHING, gap - AVERAGE_WINDOW);
+                today = day;
+            }
+        }
+
+        /**
+         * Gets the index of a day in the window.
+         *
+         * @param day the epoch day.
+         * @return the index of the day.
+         */
+        private static int slotOf(long day) {
+            return (int) Math.floorMod(day, (long) AVERAGE_WINDOW);
+        }
+    }
+}
@@ -1,11 +1,25 @@
 package controller;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import controller.interfaces.IInventoryManager;
+import model.enums.StockMovementType;
 import model.inventory.InventoryItem;
+import model.inventory.StockAdjustment;
+import model.inventory.StockAlert;
+import model.inventory.StockLot;
+import model.inventory.StockMovement;
 import model.users.Pharmacist;
 import repository.interfaces.IInventoryRepository;
+import repository.interfaces.ILotRepository;
 
 /**
  * Manages operations related to inventory.
@@ -14,17 +28,73 @@ import repository.interfaces.IInventoryRepository;
  * @since 2024-11-16
  */
 public class InventoryManager implements IInventoryManager {
+    /**
+     * The number of the most recent stock level alerts that are kept.
+     */
+    private static final int ALERT_HISTORY = 32;
+
     /**
      * Repository for accessing inventory data.
      */
     private final IInventoryRepository inventoryRepository;
 
+    /**
+     * Repository for accessing the lots of the inventory.
+     */
+    private final ILotRepository lotRepository;
+
+    /**
+     * The most recent stock level alerts published by the repository, from the oldest.
+     */
+    private final Deque<StockAlert> alerts = new ArrayDeque<StockAlert>();
+
     /**
      * Creates a new InventoryManager.
      * @param inventoryRepository the repository for accessing inventory data.
+     * @param lotRepository the repository for accessing the lots of the inventory.
      */
-    public InventoryManager(IInventoryRepository inventoryRepository) {
+    public InventoryManager(IInventoryRepository inventoryRepository, ILotRepository lotRepository) {
         this.inventoryRepository = inventoryRepository;
+        this.lotRepository = lotRepository;
+        this.inventoryRepository.addStockAlertListener(this::recordAlert);
+    }
+
+    /**
+     * Records a stock level alert published by the repository, discarding the oldest alert once
+     * more than {@link #ALERT_HISTORY} alerts are kept.
+     * @param alert the alert.
+     */
+    private synchronized void recordAlert(StockAlert alert) {
+        alerts.addLast(alert);
+
+        if (alerts.size() > ALERT_HISTORY) {
+            alerts.removeFirst();
+        }
+    }
+
+    /**
+     * Retrieves the stock level alerts published after a given alert, such as the last alert shown
+     * to the user. Only the most recent alerts are kept.
+     *
+     * @param sequence the sequence number of the last alert seen, or {@code 0} for all the alerts kept.
+     * @return a list of the newer {@link StockAlert}, from the oldest.
+     */
+    public synchronized List<StockAlert> getStockAlertsSince(long sequence) {
+        List<StockAlert> result = new ArrayList<StockAlert>();
+        Iterator<StockAlert> newest = alerts.descendingIterator();
+
+        while (newest.hasNext()) {
+            StockAlert alert = newest.next();
+
+            if (alert.getSequence() <= sequence) {
+                break;
+            }
+
+            result.add(alert);
+        }
+
+        Collections.reverse(result);
+        return result;
     }
 
     /**
@@ -54,8 +124,10 @@ public class InventoryManager implements IInventoryManager {
      * @param level the new stock level alert.
      */
     public void updateStockLevelAlert(InventoryItem item, int level) {
-        item.setStockLevelAlert(level);
-        inventoryRepository.save(item);
+        Conflicts.retry(inventoryRepository, item.getId(), current -> {
+            current.setStockLevelAlert(level);
+            return inventoryRepository.save(current);
+        });
     }
 
     /**
@@ -66,19 +138,18 @@ public class InventoryManager implements IInventoryManager {
      */
 
     public void updateStock(InventoryItem item, int quantity) {
-        item.setStock(quantity);
-        inventoryRepository.save(item);
+        inventoryRepository.setStock(item.getId(), quantity);
     }
 
     /**
-     * Adds stock to an inventory item.
+     * Adds stock to an inventory item. The stock is adjusted atomically, without replacing the item.
      *
      * @param item the inventory item.
      * @param quantity the quantity to add.
+     * @return the outcome of the adjustment, or {@code null} if the item does not exist.
      */
-    public void addStock(InventoryItem item, int quantity) {
-        item.addStock(quantity);
-        inventoryRepository.save(item);
+    public StockAdjustment addStock(InventoryItem item, int quantity) {
+        return addStock(item.getId(), quantity);
     }
 
     /**
@@ -86,36 +157,78 @@ public class InventoryManager implements IInventoryManager {
      *
      * @param itemId the ID of the inventory item.
      * @param quantity the quantity to add.
+     * @return the outcome of the adjustment, or {@code null} if the item does not exist.
      */
-    public void addStock(String itemId, int quantity) {
-        InventoryItem item = inventoryRepository.findById(itemId);
-        addStock(item, quantity);
+    public StockAdjustment addStock(String itemId, int quantity) {
+        return inventoryRepository.adjustStock(itemId, quantity);
     }
 
     /**
-     * Deducts stock from an inventory item by its ID.
+     * Deducts stock from an inventory item, unless there is insufficient stock. The stock is
+     * adjusted atomically, without replacing the item.
      *
      * @param item the inventory item.
      * @param quantity the quantity to deduct.
+     * @return the outcome of the adjustment, or {@code null} if the item does not exist.
      */
-    public void deductStock(InventoryItem item, int quantity) {
-        item.deductStock(quantity);
-        inventoryRepository.save(item);
+    public StockAdjustment deductStock(InventoryItem item, int quantity) {
+        return deductStock(item.getId(), quantity);
     }
 
     /**
-     * Deducts stock from an inventory item by its ID.
+     * Deducts stock from an inventory item by its ID, unless there is insufficient stock.
      *
      * @param itemId the ID of the inventory item.
      * @param quantity the quantity to deduct.
+     * @return the outcome of the adjustment, or {@code null} if the item does not exist.
+     */
+    public StockAdjustment deductStock(String itemId, int quantity) {
+        return inventoryRepository.adjustStock(itemId, -quantity);
+    }
+
+    /**
+     * Receives a lot of an inventory item, adding its quantity to the stock of the item. The lot is
+     * consumed before the lots that expire after it as the stock is dispensed or deducted.
+     *
+     * @param itemId the ID of the inventory item.
+     * @param quantity the quantity received.
+     * @param expiryDate the date the lot expires on.
+     * @return the received {@link StockLot}, or {@code null} if the item does not exist or the
+     * stock could not be added.
+     */
+    public StockLot receiveLot(String itemId, int quantity, LocalDate expiryDate) {
+        StockAdjustment adjustment = inventoryRepository.adjustStock(itemId, quantity, StockMovementType.ADDITION);
+
+        if (adjustment == null || !adjustment.isApplied()) {
+            return null;
+        }
+
+        return lotRepository.save(new StockLot(null, itemId, quantity, expiryDate, LocalDate.now()));
+    }
+
+    /**
+     * Retrieves the lots of an inventory item, from the earliest expiry date.
+     *
+     * @param itemId the ID of the inventory item.
+     * @return a list of the {@link StockLot} of the item.
+     */
+    public List<StockLot> getLots(String itemId) {
+        return lotRepository.getLots(itemId);
+    }
+
+    /**
+     * Retrieves the lots that expire within a number of days from today, including the lots that
+     * have already expired, from the earliest expiry date.
+     *
+     * @param days the number of days from today.
+     * @return a list of the expiring {@link StockLot}.
      */
-    public void deductStock(String itemId, int quantity) {
-        InventoryItem item = inventoryRepository.findById(itemId);
-        deductStock(item, quantity);
+    public List<StockLot> getExpiringLots(int days) {
+        return lotRepository.getLotsExpiringBetween(LocalDate.MIN, LocalDate.now().plusDays(days));
     }
 
     /**
-     * Retrieves inventory items with low stock.
+     * Retrieves inventory items with low stock, from the most critical.
      *
      * @return a list of {@link InventoryItem} with low stock.
      */
@@ -123,6 +236,50 @@ public class InventoryManager implements IInventoryManager {
         return inventoryRepository.getLowStockInventoryItems();
     }
 
+    /**
+     * Retrieves the inventory items with the lowest stock relative to their stock level alerts.
+     *
+     * @param count the maximum number of items to retrieve.
+     * @return a list of at most {@code count} {@link InventoryItem}, from the most critical.
+     */
+    public List<InventoryItem> getMostCriticalItems(int count) {
+        return inventoryRepository.getMostCriticalItems(count);
+    }
+
+    /**
+     * Retrieves the stock of an inventory item at a point in time.
+     *
+     * @param itemId the ID of the {@link InventoryItem}.
+     * @param dateTime the point in time.
+     * @return the stock of the item at that time.
+     */
+    public int getStockAt(String itemId, LocalDateTime dateTime) {
+        return inventoryRepository.getStockAt(itemId, dateTime);
+    }
+
+    /**
+     * Retrieves the movements of the stock of an inventory item within a period.
+     *
+     * @param itemId the ID of the {@link InventoryItem}.
+     * @param from the start of the period, inclusive.
+     * @param to the end of the period, inclusive.
+     * @return a list of the {@link StockMovement} of the item, from the oldest.
+     */
+    public List<StockMovement> getStockMovements(String itemId, LocalDateTime from, LocalDateTime to) {
+        return inventoryRepository.getStockMovements(itemId, from, to);
+    }
+
+    /**
+     * Retrieves the quantity of every inventory item consumed in each of a number of consecutive weeks.
+     *
+     * @param from the first day of the first week.
+     * @param weeks the number of weeks.
+     * @return the quantity consumed in each week, by item ID.
+     */
+    public Map<String, int[]> getWeeklyConsumption(LocalDate from, int weeks) {
+        return inventoryRepository.getWeeklyConsumption(from, weeks);
+    }
+
     /**
      * Retrieves inventory items with pending replenishment requests.
      *
@@ -140,8 +297,10 @@ public class InventoryManager implements IInventoryManager {
      * @param quantity the quantity to replenish.
      */
     public void requestReplenishment(Pharmacist pharmacist, InventoryItem inventoryItem, int quantity) {
-        inventoryItem.createReplenishmentRequest(pharmacist.getPharmacistId(), quantity);
-        inventoryRepository.save(inventoryItem);
+        Conflicts.retry(inventoryRepository, inventoryItem.getId(), current -> {
+            current.createReplenishmentRequest(pharmacist.getPharmacistId(), quantity);
+            return inventoryRepository.save(current);
+        });
     }
 
     /**
@@ -150,8 +309,10 @@ public class InventoryManager implements IInventoryManager {
      * @param inventoryItem the inventory item.
      */
     public void approveReplenishmentRequest(InventoryItem inventoryItem) {
-        inventoryItem.approveReplenishmentRequest();
-        inventoryRepository.save(inventoryItem);
+        Conflicts.retry(inventoryRepository, inventoryItem.getId(), current -> {
+            current.approveReplenishmentRequest();
+            return inventoryRepository.save(current);
+        });
     }
 
     /**
@@ -160,7 +321,9 @@ public class InventoryManager implements IInventoryManager {
      * @param inventoryItem the inventory item.
      */
     public void rejectReplenishmentRequest(InventoryItem inventoryItem) {
-        inventoryItem.rejectReplenishmentRequest();
-        inventoryRepository.save(inventoryItem);
+        Conflicts.retry(inventoryRepository, inventoryItem.getId(), current -> {
+            current.rejectReplenishmentRequest();
+            return inventoryRepository.save(current);
+        });
     }
 }
@@ -1,13 +1,20 @@
 package controller;
 
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import controller.interfaces.IMedicalRecordManager;
+import controller.interfaces.IReservationManager;
+import model.appointments.Appointment;
 import model.appointments.AppointmentOutcomeRecord;
+import model.enums.MedicalService;
 import model.medrecord.MedicalRecordEntry;
+import model.prescriptions.Prescription;
 import model.users.Doctor;
 import model.users.Patient;
+import repository.UnitOfWork;
+import repository.interfaces.IAppointmentRepository;
 import repository.interfaces.IInventoryRepository;
 import repository.interfaces.IMedicalRecordRepository;
 
@@ -28,14 +35,30 @@ public class MedicalRecordManager implements IMedicalRecordManager {
      */
     private final IMedicalRecordRepository repository;
 
+    /**
+     * Repository for accessing appointment data.
+     */
+    private final IAppointmentRepository appointmentRepository;
+
+    /**
+     * Manager of the stock reserved for the prescriptions.
+     */
+    private final IReservationManager reservationManager;
+
     /**
      * Creates a new MedicalRecordManager.
      * @param repository the repository for accessing medical record data.
      * @param inventoryRepository the repository for accessing inventory data.
+     * @param appointmentRepository the repository for accessing appointment data.
+     * @param reservationManager the manager of the stock reserved for the prescriptions.
      */
-    public MedicalRecordManager(IMedicalRecordRepository repository, IInventoryRepository inventoryRepository) {
+    public MedicalRecordManager(IMedicalRecordRepository repository, IInventoryRepository inventoryRepository,
+        IAppointmentRepository appointmentRepository, IReservationManager reservationManager) {
+
         this.repository = repository;
         this.inventoryRepository = inventoryRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.reservationManager = reservationManager;
     }
 
     /**
@@ -56,6 +79,67 @@ public class MedicalRecordManager implements IMedicalRecordManager {
      * @param outcomeRecord the {@link AppointmentOutcomeRecord}.
      */
     public void createMedicalRecordFromOutcome(Patient patient, Doctor doctor, AppointmentOutcomeRecord outcomeRecord) {
+        repository.save(medicalRecordOf(patient, doctor, outcomeRecord));
+    }
+
+    /**
+     * Records the outcome of an {@link Appointment}, and creates the {@link MedicalRecordEntry} of
+     * the outcome in a single transaction, so that an appointment is never completed without its
+     * medical record. The stock of the prescriptions is reserved first, and released again if the
+     * outcome could not be recorded.
+     *
+     * @param appointment the {@link Appointment} to record the outcome of.
+     * @param patient the {@link Patient}.
+     * @param doctor the {@link Doctor}.
+     * @param consultationNotes the consultation notes of the appointment.
+     * @param prescriptions the prescriptions of the appointment.
+     * @param services the medical services provided in the appointment.
+     * @return the {@link AppointmentOutcomeRecord}, or {@code null} if it could not be recorded,
+     * such as when the stock of the prescriptions could not be reserved.
+     */
+    public AppointmentOutcomeRecord recordAppointmentOutcome(Appointment appointment, Patient patient, Doctor doctor,
+        String consultationNotes, List<Prescription> prescriptions, List<MedicalService> services) {
+
+        if (!reservationManager.reserve(appointment.getAppointmentId(), prescriptions)) {
+            return null;
+        }
+
+        AppointmentOutcomeRecord outcomeRecord;
+
+        try {
+            // Retried if the appointment was changed meanwhile, ie: marked as fulfilled by the sweeper.
+            outcomeRecord = Conflicts.retry(appointmentRepository, appointment.getId(), current -> {
+                AppointmentOutcomeRecord recorded = current.createOutcomeRecord(prescriptions, services, consultationNotes);
+
+                UnitOfWork unitOfWork = new UnitOfWork();
+                unitOfWork.save(appointmentRepository, current);
+                unitOfWork.save(repository, medicalRecordOf(patient, doctor, recorded));
+
+                return unitOfWork.commit() ? recorded : null;
+            });
+
+        } catch (RuntimeException e) {
+            reservationManager.release(appointment.getAppointmentId());
+            throw e;
+        }
+
+        if (outcomeRecord == null) {
+            reservationManager.release(appointment.getAppointmentId());
+        }
+
+        return outcomeRecord;
+    }
+
+    /**
+     * Creates a new {@link MedicalRecordEntry} from an {@link AppointmentOutcomeRecord}, without
+     * saving it.
+     *
+     * @param patient the {@link Patient}.
+     * @param doctor the {@link Doctor}.
+     * @param outcomeRecord the {@link AppointmentOutcomeRecord}.
+     * @return the new {@link MedicalRecordEntry}.
+     */
+    private MedicalRecordEntry medicalRecordOf(Patient patient, Doctor doctor, AppointmentOutcomeRecord outcomeRecord) {
         final String treatmentPlan = "Prescribed " + outcomeRecord.getPrescriptions().stream()
             .map(prescription -> inventoryRepository.findById(prescription.getDrugId()).getItemName())
             .collect(Collectors.joining(", "));
@@ -66,15 +150,21 @@ public class MedicalRecordManager implements IMedicalRecordManager {
             outcomeRecord.getServices()
         );
 
-        repository.save(record);
+        return record;
     }
 
     /**
-     * Updates a medical record.
+     * Updates a medical record. The change is made to a fresh copy of the record, and made again if
+     * the record was changed by another session meanwhile, so that neither change is lost.
      *
      * @param record the {@link MedicalRecordEntry} to update.
+     * @param change the change to make to the record.
+     * @return the updated {@link MedicalRecordEntry}, or {@code null} if the record does not exist.
      */
-    public void updateRecord(MedicalRecordEntry record) {
-        repository.save(record);
+    public MedicalRecordEntry updateRecord(MedicalRecordEntry record, Consumer<MedicalRecordEntry> change) {
+        return Conflicts.retry(repository, record.getId(), current -> {
+            change.accept(current);
+            return repository.save(current);
+        });
     }
 }
@@ -1,6 +1,7 @@
 package controller;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import controller.interfaces.IPatientManager;
 import model.appointments.Appointment;
@@ -48,12 +49,18 @@ public class PatientManager implements IPatientManager {
     }
 
     /**
-     * Updates the patient in the repository.
+     * Updates the patient in the repository. The change is made to a fresh copy of the patient, and
+     * made again if the patient was changed by another session meanwhile, so that neither change is lost.
      * 
      * @param patient the {@link Patient} to update.
+     * @param change the change to make to the patient.
+     * @return the updated {@link Patient}, or {@code null} if the patient does not exist.
      */
-    public void updatePatient(Patient patient) {
-        patientRepository.save(patient);
+    public Patient updatePatient(Patient patient, Consumer<Patient> change) {
+        return Conflicts.retry(patientRepository, patient.getId(), current -> {
+            change.accept(current);
+            return patientRepository.save(current);
+        });
     }
 
     /**
@@ -1,11 +1,16 @@
 package controller;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import controller.interfaces.IPharmacistManager;
+import controller.interfaces.IReservationManager;
 import model.appointments.Appointment;
+import model.enums.StockMovementType;
 import model.inventory.InventoryItem;
+import model.inventory.StockAdjustment;
 import model.prescriptions.Prescription;
+import repository.UnitOfWork;
 import repository.interfaces.IAppointmentRepository;
 import repository.interfaces.IInventoryRepository;
 
@@ -27,58 +32,116 @@ public class PharmacistManager implements IPharmacistManager {
      */
     private final IAppointmentRepository appointmentRepository;
 
+    /**
+     * Manager of the stock reserved for the prescriptions.
+     */
+    private final IReservationManager reservationManager;
+
     /**
      * Creates a new {@link PharmacistManager}.
      * @param inventoryRepository the repository for accessing inventory data.
      * @param appointmentRepository the repository for accessing appointment data.
+     * @param reservationManager the manager of the stock reserved for the prescriptions.
      */
-    public PharmacistManager(
-        IInventoryRepository inventoryRepository, IAppointmentRepository appointmentRepository) {
+    public PharmacistManager(IInventoryRepository inventoryRepository,
+        IAppointmentRepository appointmentRepository, IReservationManager reservationManager) {
         
         this.inventoryRepository = inventoryRepository;
         this.appointmentRepository = appointmentRepository;
+        this.reservationManager = reservationManager;
     }
 
     /**
-     * Dispense all {@link Prescription} for an {@link Appointment}.
+     * Dispense all pending {@link Prescription} for an {@link Appointment} whose stock is reserved
+     * for the appointment or available to promise, so that the stock runs out before none of them.
+     * The stock of every drug and the appointment are updated in a single transaction, which is
+     * retried if another session changed any of them meanwhile, so that no prescription is
+     * dispensed twice.
      * @param appointment The {@link Appointment} to dispense {@link Prescription} for.
      */
     public void dispensePrescriptions(Appointment appointment) {
-        List<Prescription> prescriptions = appointment.getOutcomeRecord().getPrescriptions();
+        List<Prescription> pending = appointment.getOutcomeRecord().getPrescriptions().stream()
+            .filter(Prescription::isPending)
+            .toList();
 
-        for (Prescription prescription : prescriptions) {
-            dispense(prescription);
-            prescription.dispense();
-        }
+        reservationManager.dispense(appointment.getAppointmentId(), pending, promised -> {
+            List<Prescription> dispensed = Conflicts.retry(appointmentRepository, appointment.getId(), current -> {
+                UnitOfWork unitOfWork = new UnitOfWork();
+                List<Prescription> changed = new ArrayList<Prescription>();
+
+                // The prescriptions dispensed by another session meanwhile are no longer pending.
+                for (Prescription prescription : promised) {
+                    if (current.getOutcomeRecord().getPrescriptions().contains(prescription)
+                        && dispense(unitOfWork, prescription)) {
 
-        appointmentRepository.save(appointment);
+                        current.dispensePrescription(prescription);
+                        changed.add(prescription);
+                    }
+                }
+
+                unitOfWork.save(appointmentRepository, current);
+                return unitOfWork.commit() ? changed : List.<Prescription>of();
+            });
+
+            return dispensed == null ? List.of() : dispensed;
+        });
     }
 
     /**
-     * Dispense a single {@link Prescription} for an {@link Appointment}.
+     * Dispense a single {@link Prescription} for an {@link Appointment}, unless it was already
+     * dispensed, or its stock is neither reserved for the appointment nor available to promise.
+     * The stock of the drug and the appointment are updated in a single transaction, which is
+     * retried if another session changed either of them meanwhile.
      * @param appointment The {@link Appointment} to dispense the {@link Prescription} for.
      * @param prescription The {@link Prescription} to dispense.
+     * @return true if the prescription was dispensed, false if there is insufficient stock.
      */
-    public void dispensePrescription(Appointment appointment, Prescription prescription) {
-        dispense(prescription);
+    public boolean dispensePrescription(Appointment appointment, Prescription prescription) {
+        return !reservationManager.dispense(appointment.getAppointmentId(), List.of(prescription), promised -> {
+            Boolean dispensed = Conflicts.retry(appointmentRepository, appointment.getId(), current -> {
+                UnitOfWork unitOfWork = new UnitOfWork();
 
-        appointment.getOutcomeRecord().getPrescriptions().stream()
-            .filter(p -> p.equals(prescription) && p.isPending())
-            .findFirst()
-            .ifPresent(p -> p.dispense());
+                if (!dispense(unitOfWork, prescription) || current.dispensePrescription(prescription) == null) {
+                    return false;
+                }
 
-        appointmentRepository.save(appointment);
+                unitOfWork.save(appointmentRepository, current);
+                return unitOfWork.commit();
+            });
+
+            return Boolean.TRUE.equals(dispensed) ? promised : List.of();
+        }).isEmpty();
     }
 
     /**
-     * Dispenses a {@link Prescription}.
+     * Dispenses a {@link Prescription} without an appointment, deducting its stock atomically
+     * without replacing the item, unless its stock is not available to promise.
      * @param prescription The {@link Prescription} to dispense.
+     * @return true if the prescription was dispensed, false if there is insufficient stock.
      */
-    public void dispense(Prescription prescription) {
-        InventoryItem item = inventoryRepository.findById(prescription.getDrugId());
-        item.deductStock(prescription.getQuantity());
-        
-        inventoryRepository.save(item);
+    public boolean dispense(Prescription prescription) {
+        return !reservationManager.dispense(null, List.of(prescription), promised -> {
+            StockAdjustment adjustment = inventoryRepository.adjustStock(prescription.getDrugId(), -prescription.getQuantity(), StockMovementType.DISPENSE);
+            return adjustment != null && adjustment.isApplied() ? promised : List.of();
+        }).isEmpty();
+    }
+
+    /**
+     * Stages the deduction of the stock of a {@link Prescription} in a {@link UnitOfWork}, so that
+     * a drug prescribed more than once is deducted from the same staged item.
+     * @param unitOfWork The {@link UnitOfWork} to stage the deduction in.
+     * @param prescription The {@link Prescription} to dispense.
+     * @return true if the deduction was staged, false if there is insufficient stock.
+     */
+    private boolean dispense(UnitOfWork unitOfWork, Prescription prescription) {
+        InventoryItem item = unitOfWork.find(inventoryRepository, prescription.getDrugId());
+
+        if (item == null || !item.dispenseStock(prescription.getQuantity())) {
+            return false;
+        }
+
+        unitOfWork.save(inventoryRepository, item);
+        return true;
     }
     
-}
+}
\ No newline at end of file
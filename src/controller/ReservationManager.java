@@ -0,0 +1,440 @@
+package controller;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import controller.interfaces.IReservationManager;
+import model.appointments.Appointment;
+import model.inventory.InventoryItem;
+import model.prescriptions.Prescription;
+import repository.interfaces.IAppointmentRepository;
+import repository.interfaces.IInventoryRepository;
+
+/**
+ * Manages the reservations of the stock of prescribed drugs, so that dispensing the prescriptions
+ * of an appointment never runs out of stock partway through.
+ *
+ * <p>When the outcome of an appointment is recorded, the stock of its prescriptions is reserved
+ * at once, provided every drug has enough stock available to promise, that is the stock on hand
+ * that is not reserved for other appointments. Dispensing consumes the reservations of the
+ * appointment, and only dispenses prescriptions that are reserved or still available to promise.</p>
+ *
+ * <p>Reservations that are not picked up within {@link #HOLD_PROPERTY the hold period} expire.
+ * Their deadlines are kept in a timer wheel, whose slots are only visited as time passes, so
+ * expiring reservations never scans the reservations that are not due. The reservations are not
+ * persisted, but are reserved again from the pending prescriptions when the application starts.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ReservationManager implements IReservationManager {
+    /**
+     * The system property of the period in milliseconds that stock is reserved for, ie:
+     * {@code -Dhms.reservations.holdMillis=604800000}.
+     */
+    public static final String HOLD_PROPERTY = "hms.reservations.holdMillis";
+
+    /**
+     * The default period that stock is reserved for.
+     */
+    private static final long DEFAULT_HOLD_MILLIS = Duration.ofDays(7).toMillis();
+
+    /**
+     * The number of slots in the timer wheel, which spans twice the hold period, so that every
+     * reservation is visited once, when it is due.
+     */
+    private static final int WHEEL_SLOTS = 256;
+
+    /**
+     * The period in milliseconds that stock is reserved for.
+     */
+    private final long holdMillis = Long.getLong(HOLD_PROPERTY, DEFAULT_HOLD_MILLIS);
+
+    /**
+     * The period in milliseconds of each slot of the timer wheel.
+     */
+    private final long tickMillis = Math.max(1, holdMillis / (WHEEL_SLOTS / 2));
+
+    /**
+     * Repository for accessing inventory data.
+     */
+    private final IInventoryRepository inventoryRepository;
+
+    /**
+     * The quantity of each drug reserved for each appointment, by appointment ID and then drug ID.
+     */
+    private final Map<String, Map<String, Integer>> reservations = new HashMap<String, Map<String, Integer>>();
+
+    /**
+     * The total quantity of each drug reserved, by drug ID.
+     */
+    private final Map<String, Integer> reserved = new HashMap<String, Integer>();
+
+    /**
+     * The deadlines of the reservations, by appointment ID.
+     */
+    private final TimerWheel deadlines = new TimerWheel(currentTick());
+
+    /**
+     * Creates a new {@link ReservationManager}, reserving the stock of the pending prescriptions
+     * whose reservations have not expired, from the earliest recorded outcome.
+     * @param inventoryRepository the repository for accessing inventory data.
+     * @param appointmentRepository the repository for accessing appointment data.
+     */
+    public ReservationManager(IInventoryRepository inventoryRepository, IAppointmentRepository appointmentRepository) {
+        this.inventoryRepository = inventoryRepository;
+
+        List<Appointment> undispensed = new ArrayList<Appointment>(appointmentRepository.getUndispensedAppointments());
+        undispensed.sort(Comparator.comparing(appointment -> appointment.getOutcomeRecord().getRecordedDate()));
+
+        long now = System.currentTimeMillis();
+
+        for (Appointment appointment : undispensed) {
+            // Only the date of the outcome is recorded, so its reservation is held from the end of that day.
+            LocalDate recordedDate = appointment.getOutcomeRecord().getRecordedDate();
+            long deadline = recordedDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli() + holdMillis;
+
+            if (deadline <= now) {
+                continue;
+            }
+
+            if (!reserve(appointment.getAppointmentId(), appointment.getOutcomeRecord().getPrescriptions(), deadline)) {
+                System.out.println("[WARNING] Could not reserve the stock prescribed in appointment "
+                    + appointment.getAppointmentId() + ".");
+            }
+        }
+    }
+
+    /**
+     * Reserves the stock of the pending prescriptions of an appointment for the hold period,
+     * replacing any stock that was reserved for it before. Either every drug is reserved, or none is.
+     *
+     * @param appointmentId the ID of the appointment.
+     * @param prescriptions the prescriptions of the appointment.
+     * @return {@code true} if the stock was reserved, {@code false} if the stock available to
+     * promise of a drug is insufficient, or a drug does not exist.
+     */
+    public boolean reserve(String appointmentId, List<Prescription> prescriptions) {
+        return reserve(appointmentId, prescriptions, System.currentTimeMillis() + holdMillis);
+    }
+
+    /**
+     * Reserves the stock of the pending prescriptions of an appointment until a deadline.
+     *
+     * @param appointmentId the ID of the appointment.
+     * @param prescriptions the prescriptions of the appointment.
+     * @param deadline the time in milliseconds since the epoch that the reservation expires at.
+     * @return {@code true} if the stock was reserved, {@code false} otherwise.
+     */
+    private synchronized boolean reserve(String appointmentId, List<Prescription> prescriptions, long deadline) {
+        expireReservations();
+
+        Map<String, Integer> demand = new HashMap<String, Integer>();
+        Map<String, Integer> previous = reservations.getOrDefault(appointmentId, Map.of());
+
+        for (Prescription prescription : prescriptions) {
+            if (prescription.isPending()) {
+                demand.merge(prescription.getDrugId(), prescription.getQuantity(), Integer::sum);
+            }
+        }
+
+        for (Map.Entry<String, Integer> entry : demand.entrySet()) {
+            InventoryItem item = inventoryRepository.viewById(entry.getKey());
+
+            // The stock reserved for this appointment before is available to it again.
+            int others = reserved.getOrDefault(entry.getKey(), 0) - previous.getOrDefault(entry.getKey(), 0);
+
+            if (item == null || item.getStock() - others < entry.getValue()) {
+                return false;
+            }
+        }
+
+        releaseReservation(appointmentId);
+
+        if (demand.isEmpty()) {
+            return true;
+        }
+
+        reservations.put(appointmentId, demand);
+        demand.forEach((drugId, quantity) -> reserved.merge(drugId, quantity, Integer::sum));
+        deadlines.schedule(appointmentId, Math.floorDiv(deadline + tickMillis - 1, tickMillis));
+
+        return true;
+    }
+
+    /**
+     * Releases the stock reserved for an appointment.
+     *
+     * @param appointmentId the ID of the appointment.
+     */
+    public synchronized void release(String appointmentId) {
+        releaseReservation(appointmentId);
+    }
+
+    /**
+     * Dispenses the prescriptions of an appointment whose stock is reserved for the appointment or
+     * available to promise, consuming the reservations of the prescriptions that were dispensed.
+     * No other reservation or dispensing takes place while the prescriptions are dispensed.
+     *
+     * @param appointmentId the ID of the appointment, or {@code null} if the prescriptions have no
+     * reservation.
+     * @param prescriptions the prescriptions to dispense.
+     * @param dispenser the function that dispenses the prescriptions it is given, and returns those
+     * that were dispensed.
+     * @return a list of the {@link Prescription} that were dispensed.
+     */
+    public synchronized List<Prescription> dispense(String appointmentId, List<Prescription> prescriptions,
+        Function<List<Prescription>, List<Prescription>> dispenser) {
+
+        expireReservations();
+
+        Map<String, Integer> held = appointmentId == null ? Map.of() : reservations.getOrDefault(appointmentId, Map.of());
+        Map<String, Integer> allowance = new HashMap<String, Integer>();
+        List<Prescription> promised = new ArrayList<Prescription>();
+
+        for (Prescription prescription : prescriptions) {
+            String drugId = prescription.getDrugId();
+            int left = allowance.computeIfAbsent(drugId, k -> held.getOrDefault(k, 0) + availableToPromise(k));
+
+            if (prescription.getQuantity() <= left) {
+                promised.add(prescription);
+                allowance.put(drugId, left - prescription.getQuantity());
+            }
+        }
+
+        if (promised.isEmpty()) {
+            return promised;
+        }
+
+        List<Prescription> dispensed = dispenser.apply(promised);
+
+        if (appointmentId != null) {
+            dispensed.forEach(prescription -> consume(appointmentId, prescription));
+        }
+
+        return dispensed;
+    }
+
+    /**
+     * Gets the stock of an item available to promise, ie: the stock on hand that is not reserved.
+     *
+     * @param itemId the ID of the item.
+     * @return the stock available to promise.
+     */
+    public synchronized int getAvailableToPromise(String itemId) {
+        expireReservations();
+
+        return availableToPromise(itemId);
+    }
+
+    /**
+     * Gets the stock of an item that is reserved for prescriptions.
+     *
+     * @param itemId the ID of the item.
+     * @return the reserved stock.
+     */
+    public synchronized int getReservedQuantity(String itemId) {
+        expireReservations();
+
+        return reserved.getOrDefault(itemId, 0);
+    }
+
+    /**
+     * Gets the stock of an item available to promise, without expiring the reservations that are due.
+     *
+     * @param itemId the ID of the item.
+     * @return the stock available to promise, which is {@code 0} if the item does not exist.
+     */
+    private int availableToPromise(String itemId) {
+        InventoryItem item = inventoryRepository.viewById(itemId);
+
+        if (item == null) {
+            return 0;
+        }
+
+        // The stock can fall below the reserved stock, such as when it is set after a stocktake.
+        return Math.max(0, item.getStock() - reserved.getOrDefault(itemId, 0));
+    }
+
+    /**
+     * Consumes the stock reserved for a dispensed prescription of an appointment.
+     *
+     * @param appointmentId the ID of the appointment.
+     * @param prescription the dispensed prescription.
+     */
+    private void consume(String appointmentId, Prescription prescription) {
+        Map<String, Integer> reservation = reservations.get(appointmentId);
+
+        if (reservation == null) {
+            return;
+        }
+
+        String drugId = prescription.getDrugId();
+        int consumed = Math.min(prescription.getQuantity(), reservation.getOrDefault(drugId, 0));
+
+        if (consumed == 0) {
+            return;
+        }
+
+        reservation.merge(drugId, -consumed, Integer::sum);
+        reserved.merge(drugId, -consumed, Integer::sum);
+        reservation.remove(drugId, 0);
+        reserved.remove(drugId, 0);
+
+        if (reservation.isEmpty()) {
+            reservations.remove(appointmentId);
+            deadlines.cancel(appointmentId);
+        }
+    }
+
+    /**
+     * Releases the stock reserved for an appointment, if any.
+     *
+     * @param appointmentId the ID of the appointment.
+     */
+    private void releaseReservation(String appointmentId) {
+        Map<String, Integer> reservation = reservations.remove(appointmentId);
+
+        if (reservation == null) {
+            return;
+        }
+
+        reservation.forEach((drugId, quantity) -> {
+            reserved.merge(drugId, -quantity, Integer::sum);
+            reserved.remove(drugId, 0);
+        });
+
+        deadlines.cancel(appointmentId);
+    }
+
+    /**
+     * Releases the reservations whose deadlines have passed. The prescriptions of an expired
+     * reservation are still pending, but are only dispensed if their stock is available to promise.
+     */
+    private void expireReservations() {
+        for (String appointmentId : deadlines.advanceTo(currentTick())) {
+            releaseReservation(appointmentId);
+        }
+    }
+
+    /**
+     * Gets the current tick of the timer wheel.
+     *
+     * @return the number of ticks since the epoch.
+     */
+    private long currentTick() {
+        return Math.floorDiv(System.currentTimeMillis(), tickMillis);
+    }
+
+    /**
+     * A hashed timer wheel of the deadlines of the reservations, in ticks. Each deadline is kept
+     * in the slot of its tick modulo the number of slots, and as the wheel advances, only the slots
+     * of the ticks that passed are visited.
+     */
+    private static final class TimerWheel {
+        /**
+         * The deadlines in each slot, by key.
+         */
+        private final List<Map<String, Long>> slots = new ArrayList<Map<String, Long>>(WHEEL_SLOTS);
+
+        /**
+         * The deadline of each key.
+         */
+        private final Map<String, Long> deadlines = new HashMap<String, Long>();
+
+        /**
+         * The last tick the wheel advanced to.
+         */
+        private long tick;
+
+        /**
+         * Constructs a {@link TimerWheel} starting on a tick.
+         *
+         * @param tick the tick to start on.
+         */
+        private TimerWheel(long tick) {
+            this.tick = tick;
+
+            for (int i = 0; i < WHEEL_SLOTS; i++) {
+                slots.add(new HashMap<String, Long>());
+            }
+        }
+
+        /**
+         * Schedules a key to expire on a tick, replacing its previous deadline. Deadlines that
+         * have passed expire on the next tick.
+         *
+         * @param key the key.
+         * @param deadline the tick to expire on.
+         */
+        private void schedule(String key, long deadline) {
+            cancel(key);
+
+            long due = Math.max(deadline, tick + 1);
+            slots.get(slotOf(due)).put(key, due);
+            deadlines.put(key, due);
+        }
+
+        /**
+         * Cancels the deadline of a key, if any.
+         *
+         * @param key the key.
+         */
+        private void cancel(String key) {
+            Long due = deadlines.remove(key);
+
+            if (due != null) {
+                slots.get(slotOf(due)).remove(key);
+            }
+        }
+
+        /**
+         * Advances the wheel to a tick, removing the keys whose deadlines have passed. The deadlines
+         * of later rounds in the slots visited are kept.
+         *
+         * @param now the tick to advance to.
+         * @return the keys that expired.
+         */
+        private List<String> advanceTo(long now) {
+            List<String> expired = new ArrayList<String>();
+            long gap = now - tick;
+
+            // Once a whole round has passed, each slot only needs to be visited once.
+            for (long i = 1; i <= Math.min(gap, WHEEL_SLOTS); i++) {
+                Iterator<Map.Entry<String, Long>> entries = slots.get(slotOf(tick + i)).entrySet().iterator();
+
+                while (entries.hasNext()) {
+                    Map.Entry<String, Long> entry = entries.next();
+
+                    if (entry.getValue() <= now) {
+                        entries.remove();
+                        deadlines.remove(entry.getKey());
+                        expired.add(entry.getKey());
+                    }
+                }
+            }
+
+            tick = Math.max(tick, now);
+            return expired;
+        }
+
+        /**
+         * Gets the index of the slot of a tick.
+         *
+         * @param tick the tick.
+         * @return the index of the slot.
+         */
+        private static int slotOf(long tick) {
+            return (int) Math.floorMod(tick, (long) WHEEL_SLOTS);
+        }
+    }
+}
@@ -2,6 +2,9 @@ package controller;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import controller.interfaces.IStaffManager;
 import model.enums.Gender;
@@ -38,12 +41,12 @@ public class StaffManager implements IStaffManager {
     }
 
     /**
-     * Retrieves all staff members.
+     * Retrieves a read-only view of all staff members, without copying them.
      *
-     * @return a list of {@link User} of all staff members.
+     * @return a list of {@link User} of all staff members, which are frozen and cannot be modified.
      */
     public List<User> getAllStaff() {
-        return userRepository.findBy((user) -> isStaff(user));
+        return userRepository.viewBy((user) -> isStaff(user));
     }
 
     /**
@@ -61,19 +64,42 @@ public class StaffManager implements IStaffManager {
      * @return a list of {@link User} instances representing staff members that match the given keyword.
      */
     public List<User> findStaffByKeywords(String keyword) {
+        return filterStaffByKeywords(keyword, userRepository::findBy);
+    }
+
+    /**
+     * Finds a read-only view of the staff members whose attributes match the specified keyword,
+     * without copying them. See {@link #findStaffByKeywords(String)}.
+     *
+     * @param keyword the keyword to filter staff members; case-insensitive and trimmed of whitespace.
+     * @return a list of {@link User} instances representing staff members that match the given keyword,
+     * which are frozen and cannot be modified.
+     */
+    public List<User> viewStaffByKeywords(String keyword) {
+        return filterStaffByKeywords(keyword, userRepository::viewBy);
+    }
+
+    /**
+     * Filters the staff members whose attributes match the specified keyword.
+     *
+     * @param keyword the keyword to filter staff members.
+     * @param finder the repository method used to find the users matching a predicate.
+     * @return a list of {@link User} instances representing staff members that match the given keyword.
+     */
+    private List<User> filterStaffByKeywords(String keyword, Function<Predicate<User>, List<User>> finder) {
         final String keywords = keyword.trim().toLowerCase();
         
         if (keywords.equals("male")) {
-            return userRepository.findBy((user) -> 
+            return finder.apply((user) -> 
                 user.getGender() == Gender.MALE && isStaff(user));
         }
 
         if (keywords.equals("female")) {
-            return userRepository.findBy((user) -> 
+            return finder.apply((user) -> 
                 user.getGender() == Gender.FEMALE && isStaff(user));
         }
 
-        return userRepository.findBy((user) -> 
+        return finder.apply((user) -> 
             String.format("%s %s %s %s %s %s", 
                 user.getId().toLowerCase(), user.getName(), user.getAge(), 
                 user.getRole(), user.getDob(), user.getEmailAddress())
@@ -134,12 +160,19 @@ public class StaffManager implements IStaffManager {
     }
 
     /**
-     * Updates the details of a staff member.
+     * Updates the details of a staff member. The change is made to a fresh copy of the staff member,
+     * and made again if the staff member was changed by another session meanwhile, so that neither
+     * change is lost.
      *
      * @param user the staff member.
+     * @param change the change to make to the staff member.
+     * @return the updated staff member, or {@code null} if the staff member does not exist.
      */
-    public void updateStaff(User user) {
-        userRepository.save(user);
+    public User updateStaff(User user, Consumer<User> change) {
+        return Conflicts.retry(userRepository, user.getId(), current -> {
+            change.accept(current);
+            return userRepository.save(current);
+        });
     }
     
     /**
@@ -18,9 +18,9 @@ public class UserManager implements IUserManager {
     private final IUserRepository repository;
 
     /**
-     * The currently active user.
+     * The currently active user of each session, where each session runs on its own thread.
      */
-    private User activeUser;
+    private final ThreadLocal<User> activeUser = new ThreadLocal<User>();
 
     /**
      * Creates a new {@link UserManager}.
@@ -35,7 +35,7 @@ public class UserManager implements IUserManager {
      * @return the currently active {@link User}.
      */
     public User getActiveUser() {
-        return activeUser;
+        return activeUser.get();
     }
 
     /**
@@ -47,6 +47,15 @@ public class UserManager implements IUserManager {
         return repository.findById(userId);
     }
 
+    /**
+     * Retrieves a read-only view of a user by their ID, without copying it.
+     * @param userId the ID of the user.
+     * @return the {@link User} with the specified ID, which is frozen and cannot be modified.
+     */
+    public User viewUser(String userId) {
+        return repository.viewById(userId);
+    }
+
     /**
      * Authenticates a user.
      * @param userId the ID of the user.
@@ -63,8 +72,8 @@ public class UserManager implements IUserManager {
 
         // Attempt to authenticate the user.
         if (user.validatePassword(password)) {
-            activeUser = user;
-            return activeUser;
+            activeUser.set(user);
+            return user;
         }
 
         return null;
@@ -76,11 +85,12 @@ public class UserManager implements IUserManager {
      * @param password the new password.
      */
     public void updatePassword(User user, String password) {
-        user.setPassword(password);
-        
         // Sets active user to null to force re-authentication.
-        activeUser = null;
+        activeUser.remove();
         
-        repository.save(user);
+        Conflicts.retry(repository, user.getId(), current -> {
+            current.setPassword(password);
+            return repository.save(current);
+        });
     }
 }
@@ -2,12 +2,11 @@ package controller.interfaces;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 import model.appointments.Appointment;
-import model.appointments.AppointmentOutcomeRecord;
 import model.appointments.AppointmentSlot;
-import model.enums.MedicalService;
-import model.prescriptions.Prescription;
+import model.enums.Specialisation;
 import model.users.Doctor;
 import model.users.Patient;
 
@@ -20,10 +19,13 @@ import model.users.Patient;
  */
 public interface IAppointmentManager {
     /**
-     * Updates the appointment in the repository.
+     * Updates the appointment in the repository, making the change again if the appointment was
+     * changed by another session meanwhile.
      * @param appointment the appointment to update.
+     * @param change the change to make to the appointment.
+     * @return the updated appointment, or {@code null} if the appointment does not exist.
      */
-    void updateAppointment(Appointment appointment);
+    Appointment updateAppointment(Appointment appointment, Consumer<Appointment> change);
 
     /**
      * Creates an appointment request, for doctor approval.
@@ -57,17 +59,6 @@ public interface IAppointmentManager {
      */
     void declineAppointment(Appointment appointment);
 
-    /**
-     * Update the outcome of an appointment.
-     * @param appointment the appointment to update the outcome for.
-     * @param consultationNotes the consultation notes.
-     * @param prescriptions the prescriptions.
-     * @param services the medical services.
-     * @return the outcome record of the appointment.
-     */
-    AppointmentOutcomeRecord updateAppointmentOutcome(Appointment appointment, String consultationNotes,
-                                                      List<Prescription> prescriptions, List<MedicalService> services);
-
     /**
      * Gets the available time slots for an appointment of a doctor on a given date.
      * @param date the date to get the available slots for.
@@ -77,7 +68,26 @@ public interface IAppointmentManager {
     List<AppointmentSlot> getAvailableSlotsByDoctor(LocalDate date, Doctor doctor);
 
     /**
-     * Gets all the appointments in the system, ordered by most recent first.
+     * Finds the earliest available appointment slots across all doctors, starting from now.
+     * @param count the maximum number of slots to find.
+     * @param specialisation the specialisation of the doctors, or {@code null} for any doctor.
+     * @return the list of available slots, ordered by time and then by doctor.
+     */
+    List<AppointmentSlot> findEarliestSlots(int count, Specialisation specialisation);
+
+    /**
+     * Finds the earliest available appointment slots across all doctors within a date range.
+     * @param count the maximum number of slots to find.
+     * @param specialisation the specialisation of the doctors, or {@code null} for any doctor.
+     * @param from the first date to search, inclusive.
+     * @param to the last date to search, inclusive.
+     * @return the list of available slots, ordered by time and then by doctor.
+     */
+    List<AppointmentSlot> findEarliestSlots(int count, Specialisation specialisation, LocalDate from, LocalDate to);
+
+    /**
+     * Gets a read-only view of all the appointments in the system, ordered by most recent first.
+     * The appointments are shared with the repository rather than copied, so they are frozen and cannot be modified.
      * @return the list of appointments.
      */
     List<Appointment> getAllAppointments();
@@ -36,8 +36,9 @@ public interface IDoctorManager {
      * @param doctor the doctor whose availability is being set.
      * @param day the day of the week.
      * @param availablePeriod the time period during which the doctor is available.
+     * @return the doctor with the updated availability, or {@code null} if the doctor does not exist.
      */
-    void setDoctorAvailability(Doctor doctor, DayOfWeek day, TimePeriod availablePeriod);
+    Doctor setDoctorAvailability(Doctor doctor, DayOfWeek day, TimePeriod availablePeriod);
 
     /**
      * Sets the availability of a doctor for a specific date.
@@ -45,22 +46,25 @@ public interface IDoctorManager {
      * @param doctor the doctor whose availability is being set.
      * @param date the date.
      * @param availablePeriod the time period during which the doctor is available.
+     * @return the doctor with the updated availability, or {@code null} if the doctor does not exist.
      */
-    void setDoctorAvailability(Doctor doctor, LocalDate date, TimePeriod availablePeriod);
+    Doctor setDoctorAvailability(Doctor doctor, LocalDate date, TimePeriod availablePeriod);
 
     /**
      * Clears the availability of a doctor for a specific day of the week.
      *
      * @param doctor the doctor whose availability is being cleared.
      * @param day the day of the week.
+     * @return the doctor with the updated availability, or {@code null} if the doctor does not exist.
      */
-    void clearDoctorAvailability(Doctor doctor, DayOfWeek day);
+    Doctor clearDoctorAvailability(Doctor doctor, DayOfWeek day);
     
     /**
      * Clears the availability of a doctor for a specific date.
      *
      * @param doctor the doctor whose availability is being cleared.
      * @param date the date.
+     * @return the doctor with the updated availability, or {@code null} if the doctor does not exist.
      */
-    void clearDoctorAvailability(Doctor doctor, LocalDate date);
+    Doctor clearDoctorAvailability(Doctor doctor, LocalDate date);
 }
\ No newline at end of file
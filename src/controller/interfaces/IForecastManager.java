@@ -0,0 +1,38 @@
+package controller.interfaces;
+
+import java.util.List;
+
+import model.inventory.ConsumptionForecast;
+
+/**
+ * This interface provides methods to forecast the consumption of the inventory and suggest
+ * replenishments in the system.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface IForecastManager {
+    /**
+     * Forecasts the consumption of an inventory item.
+     *
+     * @param itemId the ID of the inventory item.
+     * @return the {@link ConsumptionForecast} of the item, or {@code null} if the item does not exist.
+     */
+    public ConsumptionForecast getForecast(String itemId);
+
+    /**
+     * Forecasts the consumption of every inventory item.
+     *
+     * @return a {@link List} of the {@link ConsumptionForecast} of every item, sorted by ID.
+     */
+    public List<ConsumptionForecast> getForecasts();
+
+    /**
+     * Retrieves the replenishments suggested for the inventory items without a pending
+     * replenishment request.
+     *
+     * @return a {@link List} of the {@link ConsumptionForecast} with suggestions, from the earliest reorder date.
+     */
+    public List<ConsumptionForecast> getReplenishmentSuggestions();
+}
@@ -1,7 +1,15 @@
 package controller.interfaces;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+
 import model.inventory.InventoryItem;
+import model.inventory.StockAdjustment;
+import model.inventory.StockAlert;
+import model.inventory.StockLot;
+import model.inventory.StockMovement;
 import model.users.Pharmacist;
 
 /**
@@ -48,24 +56,54 @@ public interface IInventoryManager {
      * 
      * @param item the {@link InventoryItem}.
      * @param quantity the quantity to add.
+     * @return the outcome of the adjustment, or {@code null} if the item does not exist.
      */
-    public void addStock(InventoryItem item, int quantity);
+    public StockAdjustment addStock(InventoryItem item, int quantity);
 
     /**
-     * Deducts stock from an inventory item.
+     * Adds stock to an inventory item.
      * 
      * @param itemId the ID of the {@link InventoryItem}.
-     * @param quantity the quantity to deduct.
+     * @param quantity the quantity to add.
+     * @return the outcome of the adjustment, or {@code null} if the item does not exist.
      */
-    public void addStock(String itemId, int quantity);
+    public StockAdjustment addStock(String itemId, int quantity);
 
     /**
-     * Deducts stock from an inventory item.
+     * Deducts stock from an inventory item, unless there is insufficient stock.
      * 
      * @param itemId the ID of the {@link InventoryItem}.
      * @param quantity the quantity to deduct.
+     * @return the outcome of the adjustment, or {@code null} if the item does not exist.
+     */
+    public StockAdjustment deductStock(String itemId, int quantity);
+
+    /**
+     * Receives a lot of an inventory item, adding its quantity to the stock of the item.
+     *
+     * @param itemId the ID of the {@link InventoryItem}.
+     * @param quantity the quantity received.
+     * @param expiryDate the date the lot expires on.
+     * @return the received {@link StockLot}, or {@code null} if the item does not exist.
+     */
+    public StockLot receiveLot(String itemId, int quantity, LocalDate expiryDate);
+
+    /**
+     * Retrieves the lots of an inventory item, from the earliest expiry date.
+     *
+     * @param itemId the ID of the {@link InventoryItem}.
+     * @return a {@link List} of the {@link StockLot} of the item.
+     */
+    public List<StockLot> getLots(String itemId);
+
+    /**
+     * Retrieves the lots that expire within a number of days from today, including the lots that
+     * have already expired.
+     *
+     * @param days the number of days from today.
+     * @return a {@link List} of the expiring {@link StockLot}, from the earliest expiry date.
      */
-    public void deductStock(String itemId, int quantity);
+    public List<StockLot> getExpiringLots(int days);
 
     /**
      * Retrieves all inventory items with low stock.
@@ -74,6 +112,50 @@ public interface IInventoryManager {
      */
     public List<InventoryItem> getLowStockInventoryItems();
 
+    /**
+     * Retrieves the inventory items with the lowest stock relative to their stock level alerts.
+     *
+     * @param count the maximum number of items to retrieve.
+     * @return a {@link List} of at most {@code count} {@link InventoryItem}, from the most critical.
+     */
+    public List<InventoryItem> getMostCriticalItems(int count);
+
+    /**
+     * Retrieves the stock level alerts published after a given alert.
+     *
+     * @param sequence the sequence number of the last alert seen, or {@code 0} for all recent alerts.
+     * @return a {@link List} of the newer {@link StockAlert}, from the oldest.
+     */
+    public List<StockAlert> getStockAlertsSince(long sequence);
+
+    /**
+     * Retrieves the stock of an inventory item at a point in time.
+     *
+     * @param itemId the ID of the {@link InventoryItem}.
+     * @param dateTime the point in time.
+     * @return the stock of the item at that time.
+     */
+    public int getStockAt(String itemId, LocalDateTime dateTime);
+
+    /**
+     * Retrieves the movements of the stock of an inventory item within a period.
+     *
+     * @param itemId the ID of the {@link InventoryItem}.
+     * @param from the start of the period, inclusive.
+     * @param to the end of the period, inclusive.
+     * @return a {@link List} of the {@link StockMovement} of the item, from the oldest.
+     */
+    public List<StockMovement> getStockMovements(String itemId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Retrieves the quantity of every inventory item consumed in each of a number of consecutive weeks.
+     *
+     * @param from the first day of the first week.
+     * @param weeks the number of weeks.
+     * @return the quantity consumed in each week, by item ID.
+     */
+    public Map<String, int[]> getWeeklyConsumption(LocalDate from, int weeks);
+
     /**
      * Retrieves all inventory items with pending replenishment requests.
      *
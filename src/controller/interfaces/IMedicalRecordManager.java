@@ -1,8 +1,12 @@
 package controller.interfaces;
 
 import java.util.List;
+import java.util.function.Consumer;
+import model.appointments.Appointment;
 import model.appointments.AppointmentOutcomeRecord;
+import model.enums.MedicalService;
 import model.medrecord.MedicalRecordEntry;
+import model.prescriptions.Prescription;
 import model.users.Doctor;
 import model.users.Patient;
 
@@ -23,10 +27,13 @@ public interface IMedicalRecordManager {
     public List<MedicalRecordEntry> getRecords(Patient patient);
     
     /**
-     * Update a medical record.
+     * Update a medical record, making the change again if the record was changed by another
+     * session meanwhile.
      * @param record the{@link MedicalRecordEntry} to update.
+     * @param change the change to make to the record.
+     * @return the updated {@link MedicalRecordEntry}, or {@code null} if the record does not exist.
      */
-    public void updateRecord(MedicalRecordEntry record);
+    public MedicalRecordEntry updateRecord(MedicalRecordEntry record, Consumer<MedicalRecordEntry> change);
 
     /**
      * Creates a medical record from an appointment outcome.
@@ -36,5 +43,21 @@ public interface IMedicalRecordManager {
      * @param outcomeRecord the outcome record of the appointment.
      */
     public void createMedicalRecordFromOutcome(Patient patient, Doctor doctor, AppointmentOutcomeRecord outcomeRecord);
+
+    /**
+     * Records the outcome of an appointment and creates its medical record in a single
+     * transaction, so that either both are saved or neither is. The stock of the prescriptions is
+     * reserved first, so that the outcome is not recorded if any drug has insufficient stock.
+     *
+     * @param appointment the {@link Appointment} to record the outcome of.
+     * @param patient the {@link Patient} whose record is being created.
+     * @param doctor the {@link Doctor} who treated the patient.
+     * @param consultationNotes the consultation notes of the appointment.
+     * @param prescriptions the prescriptions of the appointment.
+     * @param services the medical services provided in the appointment.
+     * @return the outcome record of the appointment, or {@code null} if it could not be recorded.
+     */
+    public AppointmentOutcomeRecord recordAppointmentOutcome(Appointment appointment, Patient patient, Doctor doctor,
+        String consultationNotes, List<Prescription> prescriptions, List<MedicalService> services);
     
 }
@@ -1,6 +1,7 @@
 package controller.interfaces;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import model.users.Doctor;
 import model.users.Patient;
@@ -22,11 +23,14 @@ public interface IPatientManager {
     public Patient getPatient(String patientId);
 
     /**
-     * Updates the patient in the repository.
+     * Updates the patient in the repository, making the change again if the patient was changed by
+     * another session meanwhile.
      * 
      * @param patient the {@link Patient} to update.
+     * @param change the change to make to the patient.
+     * @return the updated {@link Patient}, or {@code null} if the patient does not exist.
      */
-    public void updatePatient(Patient patient);
+    public Patient updatePatient(Patient patient, Consumer<Patient> change);
 
     /**
      * Get all patients under a {@link Doctor}'s' care.
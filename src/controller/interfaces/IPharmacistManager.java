@@ -12,7 +12,7 @@ import model.prescriptions.Prescription;
  */
 public interface IPharmacistManager {
     /**
-     * Dispense all prescriptions for an appointment.
+     * Dispense all prescriptions for an appointment whose stock is reserved or available to promise.
      * @param appointment The appointment to dispense prescriptions for.
      */
     void dispensePrescriptions(Appointment appointment);
@@ -21,12 +21,16 @@ public interface IPharmacistManager {
      * Dispense a single prescription for an appointment.
      * @param appointment The appointment to dispense the prescription for.
      * @param prescription The prescription to dispense.
+     * @return true if the prescription was dispensed, false if there is insufficient stock
+     * reserved for the appointment or available to promise.
      */
-    void dispensePrescription(Appointment appointment, Prescription prescription);
+    boolean dispensePrescription(Appointment appointment, Prescription prescription);
 
     /**
-     * Dispense a single prescription.
+     * Dispense a single prescription without an appointment.
      * @param prescription The prescription to dispense.
+     * @return true if the prescription was dispensed, false if there is insufficient stock
+     * available to promise.
      */
-    void dispense(Prescription prescription);
+    boolean dispense(Prescription prescription);
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package controller.interfaces;
+
+import java.util.List;
+import java.util.function.Function;
+
+import model.prescriptions.Prescription;
+
+/**
+ * This interface provides methods to reserve the stock of prescribed drugs in the system, so that
+ * the stock promised to a prescription is not dispensed to another.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface IReservationManager {
+    /**
+     * Reserves the stock of the pending prescriptions of an appointment, replacing any stock that
+     * was reserved for it before. Either every drug is reserved, or none is.
+     *
+     * @param appointmentId the ID of the appointment.
+     * @param prescriptions the prescriptions of the appointment.
+     * @return {@code true} if the stock was reserved, {@code false} if the stock available to
+     * promise of a drug is insufficient, or a drug does not exist.
+     */
+    public boolean reserve(String appointmentId, List<Prescription> prescriptions);
+
+    /**
+     * Releases the stock reserved for an appointment.
+     *
+     * @param appointmentId the ID of the appointment.
+     */
+    public void release(String appointmentId);
+
+    /**
+     * Dispenses the prescriptions of an appointment whose stock is reserved for the appointment or
+     * available to promise, consuming the reservations of the prescriptions that were dispensed.
+     *
+     * @param appointmentId the ID of the appointment, or {@code null} if the prescriptions have no
+     * reservation.
+     * @param prescriptions the prescriptions to dispense.
+     * @param dispenser the function that dispenses the prescriptions it is given, and returns those
+     * that were dispensed.
+     * @return a {@link List} of the {@link Prescription} that were dispensed.
+     */
+    public List<Prescription> dispense(String appointmentId, List<Prescription> prescriptions,
+        Function<List<Prescription>, List<Prescription>> dispenser);
+
+    /**
+     * Gets the stock of an item available to promise, ie: the stock on hand that is not reserved.
+     *
+     * @param itemId the ID of the item.
+     * @return the stock available to promise.
+     */
+    public int getAvailableToPromise(String itemId);
+
+    /**
+     * Gets the stock of an item that is reserved for prescriptions.
+     *
+     * @param itemId the ID of the item.
+     * @return the reserved stock.
+     */
+    public int getReservedQuantity(String itemId);
+}
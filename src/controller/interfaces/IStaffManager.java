@@ -2,6 +2,7 @@ package controller.interfaces;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 import model.enums.Gender;
 import model.enums.Specialisation;
@@ -17,9 +18,9 @@ import model.users.User;
 public interface IStaffManager {
 
         /**
-         * Retrieves all staff.
+         * Retrieves a read-only view of all staff, shared with the repository rather than copied.
          * 
-         * @return a {@link List} {@link User} of all staff.
+         * @return a {@link List} {@link User} of all staff, which are frozen and cannot be modified.
          */    
         public List<User> getAllStaff();
 
@@ -31,6 +32,15 @@ public interface IStaffManager {
          */
         public List<User> findStaffByKeywords(String keyword);
 
+        /**
+         * For a given keyword, retrieves a read-only view of all staff whose name contains the 
+         * keyword, shared with the repository rather than copied.
+         * 
+         * @param keyword the keyword to search for.
+         * @return a {@link List} {@link User} of all staff whose name contains the keyword, which are frozen and cannot be modified.
+         */
+        public List<User> viewStaffByKeywords(String keyword);
+
         /**
          * Adds a doctor to the system.
          * 
@@ -73,10 +83,13 @@ public interface IStaffManager {
                 String emailAddress, String phoneNumber);
 
         /**
-         * Update a staff member.
+         * Update a staff member, making the change again if the staff member was changed by another
+         * session meanwhile.
          * @param user the {@link User} staff member to update.
+         * @param change the change to make to the staff member.
+         * @return the updated staff member, or {@code null} if the staff member does not exist.
          */
-        public void updateStaff(User user);
+        public User updateStaff(User user, Consumer<User> change);
 
         /**
          * Delete a staff member.
@@ -25,6 +25,14 @@ public interface IUserManager {
      */
     public User getUser(String userId);
 
+    /**
+     * Retrieves a read-only view of a user by their ID, shared with the repository rather than copied.
+     * 
+     * @param userId the ID of the {@link User}.
+     * @return the {@link User} with the specified ID, which is frozen and cannot be modified.
+     */
+    public User viewUser(String userId);
+
     /**
      * Authenticates a user.
      * 
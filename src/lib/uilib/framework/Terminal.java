@@ -0,0 +1,108 @@
+package lib.uilib.framework;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Scanner;
+
+/**
+ * The terminal that widgets are painted to and read input from. By default, this is the console
+ * of the process, ie: {@link System#out} and {@link System#in}. A thread can attach its own input
+ * and output streams, so that several sessions in the same process each have their own terminal.
+ *
+ * <PRE>
+ * Terminal.attach(socket.getInputStream(), socket.getOutputStream());
+ * </PRE>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Terminal {
+    /**
+     * The output stream of the console of the process.
+     */
+    private static final PrintStream consoleOut = System.out;
+
+    /**
+     * The scanner reading from the console of the process.
+     */
+    private static final Scanner consoleIn = new Scanner(System.in);
+
+    /**
+     * The output stream attached to each thread, if any.
+     */
+    private static final ThreadLocal<PrintStream> out = new ThreadLocal<PrintStream>();
+
+    /**
+     * The scanner attached to each thread, if any.
+     */
+    private static final ThreadLocal<Scanner> in = new ThreadLocal<Scanner>();
+
+    /**
+     * The constructor is private since {@link Terminal} should be used statically.
+     */
+    private Terminal() {}
+
+    /**
+     * Gets the output stream of the terminal of the current thread.
+     * @return the attached output stream, or the console of the process if none is attached.
+     */
+    public static PrintStream out() {
+        PrintStream stream = out.get();
+        return stream == null ? consoleOut : stream;
+    }
+
+    /**
+     * Gets the scanner reading the input of the terminal of the current thread.
+     * @return the attached scanner, or the scanner of the console of the process if none is attached.
+     */
+    public static Scanner in() {
+        Scanner scanner = in.get();
+        return scanner == null ? consoleIn : scanner;
+    }
+
+    /**
+     * Attaches the given input and output streams as the terminal of the current thread.
+     * @param input the stream to read input from.
+     * @param output the stream to paint to.
+     */
+    public static void attach(InputStream input, OutputStream output) {
+        out.set(new PrintStream(output, true, StandardCharsets.UTF_8));
+        in.set(new Scanner(input, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Detaches the terminal of the current thread, which then uses the console of the process.
+     */
+    public static void detach() {
+        out.remove();
+        in.remove();
+    }
+
+    /**
+     * Redirects {@link System#out} to the terminal of the current thread, so that the messages
+     * printed by the rest of the application while serving a session are shown in that session.
+     * Messages printed by threads without a terminal are still printed to the console.
+     */
+    public static void redirectSystemOut() {
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                out().write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                out().write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                out().flush();
+            }
+        }, true, StandardCharsets.UTF_8));
+    }
+}
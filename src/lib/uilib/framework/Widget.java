@@ -53,7 +53,7 @@ public abstract class Widget {
      * @param context the context to build the widget with respect to.
      */
     public void paint(BuildContext context) {
-        System.out.println(this.build(context));
+        Terminal.out().println(this.build(context));
     }
     
     /**
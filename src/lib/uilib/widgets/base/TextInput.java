@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.function.*;
 
 import lib.uilib.framework.BuildContext;
+import lib.uilib.framework.Terminal;
 import lib.uilib.framework.TextInputField;
 import lib.uilib.framework.Widget;
 import lib.uilib.framework.enums.TextStyle;
@@ -28,11 +29,6 @@ public class TextInput extends Widget implements InputWidget {
      */
     private final TextInputField field;
 
-    /**
-     * A scanner object to read user input from the console.
-     */
-    private static Scanner scanner = new Scanner(System.in);
-
     /**
      * Constructs a {@code TextInput} widget that binds to the specified 
      * {@link TextInputField}.
@@ -66,7 +62,7 @@ public class TextInput extends Widget implements InputWidget {
      */
     @Override
     public void paint(BuildContext context) {
-        System.out.print(this.build(context));
+        Terminal.out().print(this.build(context));
     }
 
      /**
@@ -84,7 +80,7 @@ public class TextInput extends Widget implements InputWidget {
 
         while (true) {
             this.paint(context);
-            line = scanner.nextLine();
+            line = readLine();
 
             if (line.equals("0")) {
                 Navigator.pop();
@@ -115,7 +111,7 @@ public class TextInput extends Widget implements InputWidget {
 
         while (true) {
             this.paint(context);
-            line = scanner.nextLine();
+            line = readLine();
 
             // Global "Back" command
             if (line.equals("0")) {
@@ -138,5 +134,15 @@ public class TextInput extends Widget implements InputWidget {
 
         field.setValue(line);
     }
+
+    /**
+     * Reads a line of input from the terminal, once the prompt painted before it is shown.
+     * 
+     * @return the line of input, without the line separator.
+     */
+    private static String readLine() {
+        Terminal.out().flush();
+        return Terminal.in().nextLine();
+    }
     
 }
@@ -24,6 +24,19 @@ public abstract class BaseModel implements SerializableCopyable {
      */
     private String id;
 
+    /**
+     * The version of the data object when it was read from its repository, which is checked when
+     * the object is saved. The version is {@code 0} if the object was not read from a repository,
+     * in which case it is saved unconditionally.
+     */
+    private long version = 0;
+
+    /**
+     * Whether the object is stored in its repository, in which case it is shared by every session
+     * that views it and cannot be changed. Copies of the object are never frozen.
+     */
+    private transient boolean frozen = false;
+
     /**
      * The constructor of Model.
      * @param id the unique ID of the object.
@@ -45,9 +58,47 @@ public abstract class BaseModel implements SerializableCopyable {
      * @param id the unique ID string
      */
     public void setId(String id) {
+        checkMutable();
         this.id = id;
     }
 
+    /**
+     * Gets the version of the object when it was read from its repository.
+     * @return the version, or {@code 0} if the object was not read from a repository.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Sets the version of the object, which is maintained by its repository.
+     * @param version the version of the object.
+     */
+    public void setVersion(long version) {
+        checkMutable();
+        this.version = version;
+    }
+
+    /**
+     * Freezes the object once it is stored in its repository, so that it cannot be changed by the
+     * sessions that view it. Only the copies of the object can be changed.
+     */
+    public void freeze() {
+        this.frozen = true;
+    }
+
+    /**
+     * Checks that the object can be changed, which is called by every method that changes it.
+     * @throws UnsupportedOperationException if the object is frozen, ie: it is stored in its
+     * repository rather than a copy.
+     */
+    protected void checkMutable() {
+        if (this.frozen) {
+            throw new UnsupportedOperationException(
+                "The " + getClass().getSimpleName() + " " + this.id + " is read-only, change a copy of it instead.");
+        }
+    }
+
     /**
      * Creates and returns a copy of the {@link BaseModel} instance.
      * @return a copy of the instance
@@ -90,7 +90,7 @@ public class Appointment extends BaseModel {
      * @return the ID of the appointment.
      */
     public String getAppointmentId() {
-        return this.appointmentId;
+        return super.getId();
     }
 
     /**
@@ -106,6 +106,7 @@ public class Appointment extends BaseModel {
      * @param status the new status of the appointment.
      */
     public void setStatus(AppointmentStatus status) { 
+        checkMutable();
         this.status = status; 
     }
 
@@ -162,6 +163,7 @@ public class Appointment extends BaseModel {
      * @param newTimeSlot the new date and time of the appointment.
      */
     public void setDateTime(TimeSlot newTimeSlot) {
+        checkMutable();
         this.timeSlot = newTimeSlot;
     }
     
@@ -170,6 +172,7 @@ public class Appointment extends BaseModel {
      * @param newDoctorId the ID of the doctor.
      */
     public void getDoctorId(String newDoctorId) { 
+        checkMutable();
         this.doctorId = newDoctorId; 
     }
     
@@ -194,6 +197,7 @@ public class Appointment extends BaseModel {
      * @param newPatientId the ID of the patient.
      */
     public void setPatientId(String newPatientId) {
+        checkMutable();
         this.patientId = newPatientId;
     }
 
@@ -210,6 +214,8 @@ public class Appointment extends BaseModel {
      * @param outcome the new outcome record.
      */
     public void setOutcomeRecord(AppointmentOutcomeRecord outcome) {
+        checkMutable();
+
         if (outcome != null) {
             this.status = AppointmentStatus.COMPLETED;
         }
@@ -217,6 +223,31 @@ public class Appointment extends BaseModel {
         this.outcome = outcome;
     }
 
+    /**
+     * Marks a pending prescription in the outcome record of the appointment as dispensed.
+     * @param prescription the prescription to dispense.
+     * @return the prescription that was dispensed, or {@code null} if the appointment has no such
+     * pending prescription, ie: it was already dispensed.
+     */
+    public Prescription dispensePrescription(Prescription prescription) {
+        checkMutable();
+
+        if (outcome == null) {
+            return null;
+        }
+
+        // The prescriptions of the outcome record are held by this appointment, unlike those of
+        // the copy returned by getOutcomeRecord().
+        for (Prescription pending : outcome.getPrescriptions()) {
+            if (pending.equals(prescription) && pending.isPending()) {
+                pending.dispense();
+                return pending;
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Checks whether the appointment is overdue.
      * @return true if the appointment is overdue, false otherwise.
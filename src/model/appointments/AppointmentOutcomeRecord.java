@@ -111,6 +111,7 @@ public class AppointmentOutcomeRecord implements SerializableCopyable {
      */
     @Override
     public AppointmentOutcomeRecord copy() {
-        return new AppointmentOutcomeRecord(getRecordedDate(), getPrescriptions(), getServices(), getConsultationNotes());
+        return new AppointmentOutcomeRecord(getRecordedDate(),
+            prescriptions.stream().map(Prescription::copy).toList(), getServices(), getConsultationNotes());
     }
 }
@@ -0,0 +1,130 @@
+package model.appointments;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import model.availability.TimePeriod;
+
+/**
+ * The grid of appointment slots in a day. Each day has {@link #SLOTS_PER_DAY} slots of
+ * {@link #SLOT_DURATION} minutes from {@link #START_HOUR} to {@link #END_HOUR}, and a set of slots
+ * in a day is represented as a bitmask where bit {@code i} is the {@code i}-th slot of the day.
+ *
+ * <p>Representing the slots as a bitmask allows the availability of a doctor on a day to be
+ * computed with a few bitwise operations, rather than by checking each slot individually.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class SlotGrid {
+    /**
+     * The start hour of the day for appointments.
+     */
+    public final static int START_HOUR = 8;
+
+    /**
+     * The end hour of the day for appointments.
+     */
+    public final static int END_HOUR = 17;
+
+    /**
+     * The duration of each appointment slot in minutes.
+     */
+    public final static int SLOT_DURATION = 30;
+
+    /**
+     * The number of appointment slots in a day.
+     */
+    public final static int SLOTS_PER_DAY = (END_HOUR - START_HOUR) * 60 / SLOT_DURATION;
+
+    /**
+     * The bitmask of every slot in a day.
+     */
+    public final static int ALL_SLOTS = (1 << SLOTS_PER_DAY) - 1;
+
+    /**
+     * The start of the first slot of the day, in seconds of the day.
+     */
+    private final static int START_SECOND = START_HOUR * 3600;
+
+    /**
+     * The duration of each slot in seconds.
+     */
+    private final static int SLOT_SECONDS = SLOT_DURATION * 60;
+
+    /**
+     * Private constructor of the {@link SlotGrid} class to prevent instantiation.
+     */
+    private SlotGrid() {}
+
+    /**
+     * Gets the index of the slot that starts at a given time.
+     * @param time the start time of the slot.
+     * @return the index of the slot, or {@code -1} if no slot starts at the given time.
+     */
+    public static int indexOf(LocalTime time) {
+        int offset = time.toSecondOfDay() - START_SECOND;
+
+        if (offset < 0 || offset % SLOT_SECONDS != 0 || time.getNano() != 0) {
+            return -1;
+        }
+
+        int index = offset / SLOT_SECONDS;
+        return index < SLOTS_PER_DAY ? index : -1;
+    }
+
+    /**
+     * Gets the start time of a slot.
+     * @param index the index of the slot.
+     * @return the start time of the slot.
+     */
+    public static LocalTime timeOf(int index) {
+        return LocalTime.ofSecondOfDay(START_SECOND + index * SLOT_SECONDS);
+    }
+
+    /**
+     * Gets the bitmask of the slots that lie entirely within a time period.
+     * @param period the time period.
+     * @return the bitmask of the slots within the time period.
+     */
+    public static int maskOf(TimePeriod period) {
+        int start = period.getStart().toSecondOfDay();
+        int end = period.getEnd().toSecondOfDay();
+
+        // A period from midnight to midnight represents no availability.
+        if (start == 0 && end == 0) {
+            return 0;
+        }
+
+        int first = Math.max(0, Math.floorDiv(start - START_SECOND + SLOT_SECONDS - 1, SLOT_SECONDS));
+        int last = Math.min(SLOTS_PER_DAY - 1, Math.floorDiv(end - SLOT_SECONDS - START_SECOND, SLOT_SECONDS));
+
+        if (first > last) {
+            return 0;
+        }
+
+        return ((1 << (last + 1)) - 1) & ~((1 << first) - 1);
+    }
+
+    /**
+     * Gets the bitmask of the slots on a given date that have not yet started.
+     * @param date the date of the slots.
+     * @param now the current date and time.
+     * @return the bitmask of the slots that start at or after the current time.
+     */
+    public static int upcomingMaskOf(LocalDate date, LocalDateTime now) {
+        int comparison = date.compareTo(now.toLocalDate());
+
+        if (comparison != 0) {
+            return comparison < 0 ? 0 : ALL_SLOTS;
+        }
+
+        long offset = now.toLocalTime().toNanoOfDay() - START_SECOND * 1_000_000_000L;
+        long slotNanos = SLOT_SECONDS * 1_000_000_000L;
+        int first = (int) Math.max(0, Math.min(SLOTS_PER_DAY, Math.floorDiv(offset + slotNanos - 1, slotNanos)));
+
+        return first >= SLOTS_PER_DAY ? 0 : ALL_SLOTS & ~((1 << first) - 1);
+    }
+}
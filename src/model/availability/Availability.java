@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import model.SerializableCopyable;
+import model.appointments.SlotGrid;
 import model.appointments.TimeSlot;
 
 /**
@@ -114,10 +115,25 @@ public class Availability implements SerializableCopyable {
      * @return true if the user is available at the given time slot, false otherwise.
      */
     public boolean isAvailable(TimeSlot slot) {
+        int index = SlotGrid.indexOf(slot.getTime());
+
+        if (index >= 0) {
+            return (getSlotMask(slot.getDate()) & (1 << index)) != 0;
+        }
+
         TimePeriod period = getAvailability(slot.getDate());
         return period.contains(new TimePeriod(slot.getTime(), slot.getTime().plusMinutes(30)));
     }
 
+    /**
+     * Gets the bitmask of the appointment slots that the user is available for on a given date.
+     * @param date the date.
+     * @return the bitmask of the available slots, as defined by {@link SlotGrid}.
+     */
+    public int getSlotMask(LocalDate date) {
+        return SlotGrid.maskOf(getAvailability(date));
+    }
+
     /**
      * Creates a copy of the current {@link Availability} instance.
      * 
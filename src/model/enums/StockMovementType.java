@@ -0,0 +1,78 @@
+package model.enums;
+
+/**
+ * The enum corresponding to the kind of a movement of the stock of an inventory item.
+ * 
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum StockMovementType {
+    /**
+     * The stock the item was added to the inventory with.
+     */
+    OPENING("Opening"),
+
+    /**
+     * Stock added to the item.
+     */
+    ADDITION("Addition"),
+
+    /**
+     * Stock deducted from the item.
+     */
+    DEDUCTION("Deduction"),
+
+    /**
+     * Stock dispensed for a prescription.
+     */
+    DISPENSE("Dispense"),
+
+    /**
+     * Stock added by an approved replenishment request.
+     */
+    REPLENISHMENT("Replenishment"),
+
+    /**
+     * A correction of the stock, such as when it is set after a stock take.
+     */
+    ADJUSTMENT("Adjustment");
+
+    /**
+     * The {@code String} value of the enum. This value is used for display.
+     */
+    private final String value;
+
+    /**
+     * The constructor for the StockMovementType enum.
+     * @param value the {@code String} value of the enum.
+     */
+    private StockMovementType(String value) {
+        this.value = value;
+    }
+
+    /**
+     * The getter for the {@code String} value of the enum.
+     * @return the {@code String} value.
+     */
+    public String getValue() {
+        return this.value;
+    }
+
+    /**
+     * Checks whether the movement consumes stock, ie: it is a deduction or a dispense.
+     * @return {@code true} if the movement consumes stock, {@code false} otherwise.
+     */
+    public boolean isConsumption() {
+        return this == DEDUCTION || this == DISPENSE;
+    }
+
+    /**
+     * Returns the {@code String} value of the enum.
+     * @return the {@code String} value of the enum.
+     */
+    @Override
+    public String toString() {
+        return this.value;
+    }
+}
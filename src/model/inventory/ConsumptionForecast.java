@@ -0,0 +1,149 @@
+package model.inventory;
+
+import java.time.LocalDate;
+
+/**
+ * An immutable representation of the forecast daily consumption of an {@link InventoryItem}, and the
+ * replenishment suggested to cover it.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ConsumptionForecast {
+    /**
+     * The unique ID of the item.
+     */
+    private final String itemId;
+
+    /**
+     * The name of the item.
+     */
+    private final String itemName;
+
+    /**
+     * The stock of the item when it was forecast.
+     */
+    private final int stock;
+
+    /**
+     * The average daily consumption of the item over the recent days.
+     */
+    private final double averageDailyConsumption;
+
+    /**
+     * The exponentially smoothed daily consumption of the item, which weighs recent days more.
+     */
+    private final double smoothedDailyConsumption;
+
+    /**
+     * The quantity of the item prescribed but not yet dispensed.
+     */
+    private final int pendingDemand;
+
+    /**
+     * The quantity suggested to replenish, or {@code 0} if no replenishment is suggested.
+     */
+    private final int suggestedQuantity;
+
+    /**
+     * The date by which the replenishment should be requested, or {@code null} if no replenishment
+     * is suggested.
+     */
+    private final LocalDate reorderDate;
+
+    /**
+     * Constructor for a {@link ConsumptionForecast}.
+     * @param itemId the unique ID of the item.
+     * @param itemName the name of the item.
+     * @param stock the stock of the item when it was forecast.
+     * @param averageDailyConsumption the average daily consumption of the item over the recent days.
+     * @param smoothedDailyConsumption the exponentially smoothed daily consumption of the item.
+     * @param pendingDemand the quantity of the item prescribed but not yet dispensed.
+     * @param suggestedQuantity the quantity suggested to replenish, or {@code 0} if none.
+     * @param reorderDate the date by which the replenishment should be requested, or {@code null} if none.
+     */
+    public ConsumptionForecast(String itemId, String itemName, int stock, double averageDailyConsumption,
+        double smoothedDailyConsumption, int pendingDemand, int suggestedQuantity, LocalDate reorderDate) {
+        this.itemId = itemId;
+        this.itemName = itemName;
+        this.stock = stock;
+        this.averageDailyConsumption = averageDailyConsumption;
+        this.smoothedDailyConsumption = smoothedDailyConsumption;
+        this.pendingDemand = pendingDemand;
+        this.suggestedQuantity = suggestedQuantity;
+        this.reorderDate = reorderDate;
+    }
+
+    /**
+     * Gets the unique ID of the item.
+     * @return the unique ID of the item.
+     */
+    public String getItemId() {
+        return this.itemId;
+    }
+
+    /**
+     * Gets the name of the item.
+     * @return the name of the item.
+     */
+    public String getItemName() {
+        return this.itemName;
+    }
+
+    /**
+     * Gets the stock of the item when it was forecast.
+     * @return the stock of the item.
+     */
+    public int getStock() {
+        return this.stock;
+    }
+
+    /**
+     * Gets the average daily consumption of the item over the recent days.
+     * @return the average daily consumption.
+     */
+    public double getAverageDailyConsumption() {
+        return this.averageDailyConsumption;
+    }
+
+    /**
+     * Gets the exponentially smoothed daily consumption of the item, which weighs recent days more.
+     * @return the smoothed daily consumption.
+     */
+    public double getSmoothedDailyConsumption() {
+        return this.smoothedDailyConsumption;
+    }
+
+    /**
+     * Gets the quantity of the item prescribed but not yet dispensed.
+     * @return the pending demand of the item.
+     */
+    public int getPendingDemand() {
+        return this.pendingDemand;
+    }
+
+    /**
+     * Gets the quantity suggested to replenish.
+     * @return the suggested quantity, or {@code 0} if no replenishment is suggested.
+     */
+    public int getSuggestedQuantity() {
+        return this.suggestedQuantity;
+    }
+
+    /**
+     * Gets the date by which the replenishment should be requested.
+     * @return the reorder date, or {@code null} if no replenishment is suggested.
+     */
+    public LocalDate getReorderDate() {
+        return this.reorderDate;
+    }
+
+    /**
+     * Checks whether a replenishment is suggested for the item.
+     * @return {@code true} if a replenishment is suggested, {@code false} otherwise.
+     */
+    public boolean hasSuggestion() {
+        return this.suggestedQuantity > 0;
+    }
+}
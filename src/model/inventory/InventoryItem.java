@@ -2,9 +2,14 @@ package model.inventory;
 
 import model.BaseModel;
 import model.enums.ReplenishmentStatus;
+import model.enums.StockMovementType;
 
 /**
  * Represents an inventory item.
+ *
+ * <p>The item remembers the sequence number of the stock it was read at, so that the inventory
+ * repository can tell whether the stock was changed by another session before a change made to
+ * the stock of the item is saved.</p>
  * 
  * @author Bryan Soong, Joyce Lee
  * @version 1.0
@@ -32,6 +37,17 @@ public class InventoryItem extends BaseModel {
      */
     private int stock;
 
+    /**
+     * The sequence number of the last change to the stock when the item was read.
+     */
+    private transient int stockSequence;
+
+    /**
+     * The kind of the change made to the stock of this item since it was created, read or last
+     * saved, or {@code null} if the stock was not changed.
+     */
+    private transient StockMovementType stockMovementType;
+
     /**
      * The stock level alert of the item.
      */
@@ -61,6 +77,7 @@ public class InventoryItem extends BaseModel {
         this.itemId = itemId;
         this.itemName = itemName;
         this.stock = stock;
+        this.stockMovementType = StockMovementType.OPENING;
         this.stockLevelAlert = stockLevelAlert;
         
         this.replenishmentStatus = ReplenishmentStatus.NULL;
@@ -91,24 +108,59 @@ public class InventoryItem extends BaseModel {
         return this.stock;
     }
 
+    /**
+     * Gets the sequence number of the last change to the stock when the item was read.
+     * @return the sequence number.
+     */
+    public int getStockSequence() {
+        return this.stockSequence;
+    }
+
     /**
      * Sets the stock of the item.
      * @param stock the stock of the item.
+     * @throws IllegalArgumentException if the stock is negative.
      */
     public void setStock(int stock) {
+        checkMutable();
+
+        if (stock < 0) {
+            throw new IllegalArgumentException("The stock of " + getId() + " cannot be negative.");
+        }
+
+        this.stock = stock;
+        markStockMovement(StockMovementType.ADJUSTMENT);
+    }
+
+    /**
+     * Sets the stock of the item and the sequence number of its last change, such as when the item
+     * is restored from storage or read, and clears the change made to the stock.
+     * @param stock the stock of the item.
+     * @param sequence the sequence number of the last change to the stock.
+     */
+    public void restoreStock(int stock, int sequence) {
+        checkMutable();
         this.stock = stock;
+        this.stockSequence = sequence;
+        this.stockMovementType = null;
     }
 
     /**
-     * Deducts the stock of the item.
+     * Deducts the stock of the item, unless there is insufficient stock.
      * @param quantity the quantity to deduct.
+     * @return {@code true} if the stock was deducted, {@code false} if there is insufficient stock.
      */
-    public void deductStock(int quantity) {
-        if (this.stock - quantity < 0) {
-            return;
-        }
+    public boolean deductStock(int quantity) {
+        return changeStock(-quantity, StockMovementType.DEDUCTION);
+    }
 
-        this.stock -= quantity;
+    /**
+     * Deducts the stock of the item dispensed for a prescription, unless there is insufficient stock.
+     * @param quantity the quantity dispensed.
+     * @return {@code true} if the stock was deducted, {@code false} if there is insufficient stock.
+     */
+    public boolean dispenseStock(int quantity) {
+        return changeStock(-quantity, StockMovementType.DISPENSE);
     }
 
     /**
@@ -116,7 +168,51 @@ public class InventoryItem extends BaseModel {
      * @param quantity the quantity to add.
      */
     public void addStock(int quantity) {
-        this.stock += quantity;
+        changeStock(quantity, StockMovementType.ADDITION);
+    }
+
+    /**
+     * Adjusts the stock of the item and records the kind of the change, unless there is
+     * insufficient stock.
+     * @param delta the quantity to add, or a negative quantity to deduct.
+     * @param type the kind of the change.
+     * @return {@code true} if the stock was adjusted, {@code false} if there is insufficient stock.
+     */
+    private boolean changeStock(int delta, StockMovementType type) {
+        checkMutable();
+
+        long balance = (long) this.stock + delta;
+
+        if (balance < 0 || balance > Integer.MAX_VALUE) {
+            return false;
+        }
+
+        this.stock = (int) balance;
+        markStockMovement(type);
+        return true;
+    }
+
+    /**
+     * Records the kind of a change made to the stock of the item. Changes of different kinds made
+     * before the item is saved are recorded together as an adjustment, except on a new item, whose
+     * stock is recorded as its opening stock.
+     * @param type the kind of the change.
+     */
+    private void markStockMovement(StockMovementType type) {
+        if (this.stockMovementType == null) {
+            this.stockMovementType = type;
+        } else if (this.stockMovementType != type && this.stockMovementType != StockMovementType.OPENING) {
+            this.stockMovementType = StockMovementType.ADJUSTMENT;
+        }
+    }
+
+    /**
+     * Gets the kind of the change made to the stock of the item since it was created, read or
+     * last saved.
+     * @return the kind of the change, or {@code null} if the stock was not changed.
+     */
+    public StockMovementType getStockMovementType() {
+        return this.stockMovementType;
     }
 
     /**
@@ -132,6 +228,7 @@ public class InventoryItem extends BaseModel {
      * @param stockLevelAlert the stock level alert of the item.
      */
     public void setStockLevelAlert(int stockLevelAlert) {
+        checkMutable();
         this.stockLevelAlert = stockLevelAlert;
     }
 
@@ -155,12 +252,25 @@ public class InventoryItem extends BaseModel {
         return this.replenishmentRequest.copy();
     }
 
+    /**
+     * Sets the replenishment status and request of the item, such as when the item is restored
+     * from storage.
+     * @param replenishmentStatus the replenishment status of the item.
+     * @param replenishmentRequest the replenishment request of the item, or {@code null} if none.
+     */
+    public void setReplenishment(ReplenishmentStatus replenishmentStatus, ReplenishmentRequest replenishmentRequest) {
+        checkMutable();
+        this.replenishmentStatus = replenishmentStatus;
+        this.replenishmentRequest = replenishmentRequest;
+    }
+
     /**
      * Creates a replenishment request for the item.
      * @param pharmacistId the ID of the pharmacist.
      * @param quantity the quantity to replenish.
      */
     public void createReplenishmentRequest(String pharmacistId, int quantity) {
+        checkMutable();
         this.replenishmentRequest = new ReplenishmentRequest(pharmacistId, quantity);
         this.replenishmentStatus = ReplenishmentStatus.PENDING;
     }
@@ -169,12 +279,14 @@ public class InventoryItem extends BaseModel {
      * Approves the replenishment request for the item.
      */
     public void approveReplenishmentRequest() {
+        checkMutable();
+
         if (this.replenishmentRequest == null || this.replenishmentStatus != ReplenishmentStatus.PENDING) {
             return;
         }
 
         this.replenishmentStatus = ReplenishmentStatus.APPROVED;
-        this.stock += this.replenishmentRequest.getQuantity();
+        changeStock(this.replenishmentRequest.getQuantity(), StockMovementType.REPLENISHMENT);
 
         this.replenishmentRequest = null;
     }
@@ -183,6 +295,8 @@ public class InventoryItem extends BaseModel {
      * Rejects the replenishment request for the item.
      */
     public void rejectReplenishmentRequest() {
+        checkMutable();
+
         if (this.replenishmentRequest == null || this.replenishmentStatus != ReplenishmentStatus.PENDING) {
             return;
         }
@@ -192,12 +306,15 @@ public class InventoryItem extends BaseModel {
     }
 
     /**
-     * Performs a deep copy of the {@link InventoryItem} object.
+     * Performs a deep copy of the {@link InventoryItem} object, including the sequence number of
+     * its stock and the change made to its stock.
      * @return a deep copy of the object.
      */
     @Override
     public InventoryItem copy() {
         InventoryItem item = new InventoryItem(getId(), getItemName(), getStock(), getStockLevelAlert());
+        item.stockSequence = this.stockSequence;
+        item.stockMovementType = this.stockMovementType;
         item.replenishmentStatus = getReplenishmentStatus();
 
         if (getReplenishmentRequest() != null) {
@@ -0,0 +1,91 @@
+package model.inventory;
+
+/**
+ * An immutable representation of the outcome of a change to the stock of an {@link InventoryItem}.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class StockAdjustment {
+    /**
+     * The unique ID of the item.
+     */
+    private final String itemId;
+
+    /**
+     * The quantity that was added, or deducted if negative.
+     */
+    private final int delta;
+
+    /**
+     * The balance of the stock after the change, or the unchanged balance if it was rejected.
+     */
+    private final int balance;
+
+    /**
+     * The sequence number of the change.
+     */
+    private final int sequence;
+
+    /**
+     * Whether the change was applied.
+     */
+    private final boolean applied;
+
+    /**
+     * Constructor for a {@link StockAdjustment}.
+     * @param itemId the unique ID of the item.
+     * @param delta the quantity that was added, or deducted if negative.
+     * @param balance the balance of the stock after the change, or the unchanged balance if it was rejected.
+     * @param sequence the sequence number of the change.
+     * @param applied whether the change was applied.
+     */
+    public StockAdjustment(String itemId, int delta, int balance, int sequence, boolean applied) {
+        this.itemId = itemId;
+        this.delta = delta;
+        this.balance = balance;
+        this.sequence = sequence;
+        this.applied = applied;
+    }
+
+    /**
+     * Gets the unique ID of the item.
+     * @return the unique ID of the item.
+     */
+    public String getItemId() {
+        return this.itemId;
+    }
+
+    /**
+     * Gets the quantity that was added, or deducted if negative.
+     * @return the quantity of the change.
+     */
+    public int getDelta() {
+        return this.delta;
+    }
+
+    /**
+     * Gets the balance of the stock after the change, or the unchanged balance if it was rejected.
+     * @return the balance of the stock.
+     */
+    public int getBalance() {
+        return this.balance;
+    }
+
+    /**
+     * Gets the sequence number of the change, which orders the changes to the stock of the item.
+     * @return the sequence number of the change.
+     */
+    public int getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Checks whether the change was applied, ie: it was not rejected for insufficient stock.
+     * @return {@code true} if the change was applied, {@code false} otherwise.
+     */
+    public boolean isApplied() {
+        return this.applied;
+    }
+}
@@ -0,0 +1,107 @@
+package model.inventory;
+
+/**
+ * An immutable representation of the stock of an {@link InventoryItem} crossing its stock level
+ * alert, either falling to or below it, or recovering above it.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class StockAlert {
+    /**
+     * The sequence number of the alert, which increases with every alert published.
+     */
+    private final long sequence;
+
+    /**
+     * The unique ID of the item.
+     */
+    private final String itemId;
+
+    /**
+     * The name of the item.
+     */
+    private final String itemName;
+
+    /**
+     * The stock of the item when it crossed its stock level alert.
+     */
+    private final int stock;
+
+    /**
+     * The stock level alert of the item.
+     */
+    private final int stockLevelAlert;
+
+    /**
+     * Whether the stock fell to or below the stock level alert, rather than recovered above it.
+     */
+    private final boolean low;
+
+    /**
+     * Constructor for a {@link StockAlert}.
+     * @param sequence the sequence number of the alert.
+     * @param itemId the unique ID of the item.
+     * @param itemName the name of the item.
+     * @param stock the stock of the item when it crossed its stock level alert.
+     * @param stockLevelAlert the stock level alert of the item.
+     * @param low whether the stock fell to or below the stock level alert, rather than recovered above it.
+     */
+    public StockAlert(long sequence, String itemId, String itemName, int stock, int stockLevelAlert, boolean low) {
+        this.sequence = sequence;
+        this.itemId = itemId;
+        this.itemName = itemName;
+        this.stock = stock;
+        this.stockLevelAlert = stockLevelAlert;
+        this.low = low;
+    }
+
+    /**
+     * Gets the sequence number of the alert, which increases with every alert published.
+     * @return the sequence number of the alert.
+     */
+    public long getSequence() {
+        return this.sequence;
+    }
+
+    /**
+     * Gets the unique ID of the item.
+     * @return the unique ID of the item.
+     */
+    public String getItemId() {
+        return this.itemId;
+    }
+
+    /**
+     * Gets the name of the item.
+     * @return the name of the item.
+     */
+    public String getItemName() {
+        return this.itemName;
+    }
+
+    /**
+     * Gets the stock of the item when it crossed its stock level alert.
+     * @return the stock of the item.
+     */
+    public int getStock() {
+        return this.stock;
+    }
+
+    /**
+     * Gets the stock level alert of the item.
+     * @return the stock level alert of the item.
+     */
+    public int getStockLevelAlert() {
+        return this.stockLevelAlert;
+    }
+
+    /**
+     * Checks whether the stock fell to or below the stock level alert, rather than recovered above it.
+     * @return {@code true} if the item is now low on stock, {@code false} if it recovered.
+     */
+    public boolean isLow() {
+        return this.low;
+    }
+}
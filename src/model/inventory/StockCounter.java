@@ -0,0 +1,150 @@
+package model.inventory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A lock-free counter of the stock of an {@link InventoryItem}. The balance and a sequence number
+ * that is incremented on every change are packed into a single {@link AtomicLong}, so that they
+ * are always read and changed together with one compare-and-set, without locking.
+ *
+ * <p>The sequence number orders the changes to the stock, so that a change recorded more than once,
+ * or out of order, is only applied if it is newer than the balance already held.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class StockCounter {
+    /**
+     * The sequence number in the upper 32 bits and the balance in the lower 32 bits.
+     */
+    private final AtomicLong state;
+
+    /**
+     * Constructs a {@link StockCounter}.
+     * @param balance the balance of the stock.
+     * @param sequence the sequence number of the last change to the stock.
+     */
+    public StockCounter(int balance, int sequence) {
+        this.state = new AtomicLong(pack(sequence, balance));
+    }
+
+    /**
+     * Gets the balance of the stock.
+     * @return the balance of the stock.
+     */
+    public int getBalance() {
+        return balanceOf(state.get());
+    }
+
+    /**
+     * Gets the sequence number of the last change to the stock.
+     * @return the sequence number.
+     */
+    public int getSequence() {
+        return sequenceOf(state.get());
+    }
+
+    /**
+     * Gets the balance and sequence number of the stock as a single value, so that both are read at
+     * the same instant. Use {@link #balanceOf(long)} and {@link #sequenceOf(long)} to unpack it.
+     * @return the packed balance and sequence number.
+     */
+    public long get() {
+        return state.get();
+    }
+
+    /**
+     * Atomically adds to or deducts from the stock, unless the balance would become negative.
+     * @param itemId the ID of the item of the stock.
+     * @param delta the quantity to add, or a negative quantity to deduct.
+     * @return the outcome of the adjustment.
+     */
+    public StockAdjustment adjust(String itemId, int delta) {
+        while (true) {
+            long current = state.get();
+            long balance = (long) balanceOf(current) + delta;
+
+            if (balance < 0 || balance > Integer.MAX_VALUE) {
+                return new StockAdjustment(itemId, delta, balanceOf(current), sequenceOf(current), false);
+            }
+
+            int sequence = sequenceOf(current) + 1;
+
+            if (state.compareAndSet(current, pack(sequence, (int) balance))) {
+                return new StockAdjustment(itemId, delta, (int) balance, sequence, true);
+            }
+        }
+    }
+
+    /**
+     * Atomically sets the balance of the stock.
+     * @param itemId the ID of the item of the stock.
+     * @param balance the new balance, which must not be negative.
+     * @return the outcome of the change, as the difference from the previous balance.
+     * @throws IllegalArgumentException if the balance is negative.
+     */
+    public StockAdjustment set(String itemId, int balance) {
+        if (balance < 0) {
+            throw new IllegalArgumentException("The stock of " + itemId + " cannot be negative.");
+        }
+
+        long previous = state.getAndUpdate(current -> pack(sequenceOf(current) + 1, balance));
+        return new StockAdjustment(itemId, balance - balanceOf(previous), balance, sequenceOf(previous) + 1, true);
+    }
+
+    /**
+     * Atomically undoes an adjustment, unless the stock was changed since, such as when the
+     * adjustment could not be persisted.
+     * @param adjustment the adjustment to undo, which must have been applied to this counter.
+     * @return {@code true} if the adjustment was undone, {@code false} if the stock was changed since.
+     */
+    public boolean revert(StockAdjustment adjustment) {
+        long applied = pack(adjustment.getSequence(), adjustment.getBalance());
+        long previous = pack(adjustment.getSequence() - 1, adjustment.getBalance() - adjustment.getDelta());
+
+        return state.compareAndSet(applied, previous);
+    }
+
+    /**
+     * Atomically sets the balance recorded at a sequence number, unless the stock was already
+     * changed since, such as when the changes are replayed from storage.
+     * @param sequence the sequence number of the change.
+     * @param balance the balance after the change.
+     * @return {@code true} if the balance was set, {@code false} if the change is not newer.
+     */
+    public boolean advanceTo(int sequence, int balance) {
+        long next = pack(sequence, balance);
+        long previous = state.getAndUpdate(current -> sequence > sequenceOf(current) ? next : current);
+
+        return sequence > sequenceOf(previous);
+    }
+
+    /**
+     * Unpacks the balance from a value returned by {@link #get()}.
+     * @param state the packed balance and sequence number.
+     * @return the balance.
+     */
+    public static int balanceOf(long state) {
+        return (int) state;
+    }
+
+    /**
+     * Unpacks the sequence number from a value returned by {@link #get()}.
+     * @param state the packed balance and sequence number.
+     * @return the sequence number.
+     */
+    public static int sequenceOf(long state) {
+        return (int) (state >>> 32);
+    }
+
+    /**
+     * Packs a balance and a sequence number into a single value.
+     * @param sequence the sequence number.
+     * @param balance the balance.
+     * @return the packed value.
+     */
+    private static long pack(int sequence, int balance) {
+        return ((long) sequence << 32) | (balance & 0xFFFFFFFFL);
+    }
+}
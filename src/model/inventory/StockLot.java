@@ -0,0 +1,126 @@
+package model.inventory;
+
+import java.time.LocalDate;
+
+import model.BaseModel;
+
+/**
+ * Represents a lot of the stock of an {@link InventoryItem}, that is a quantity of the item received
+ * at once, which expires on the same date. The quantity of the lot is the quantity that remains of
+ * it, which is consumed as the stock of the item is dispensed or deducted.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class StockLot extends BaseModel {
+    /**
+     * The serializable class version number to verify whether the serialized object have loaded classes
+     * for that object that are compatible with respect to serialization.
+     */
+    private static final long serialVersionUID = 42L;
+
+    /**
+     * The unique ID of the item that the lot is of.
+     */
+    private final String itemId;
+
+    /**
+     * The quantity that remains of the lot.
+     */
+    private int quantity;
+
+    /**
+     * The date the lot expires on.
+     */
+    private final LocalDate expiryDate;
+
+    /**
+     * The date the lot was received on.
+     */
+    private final LocalDate receivedDate;
+
+    /**
+     * Constructor for a {@link StockLot}.
+     * @param lotId the unique ID of the lot, or {@code null} to generate one when it is saved.
+     * @param itemId the unique ID of the item that the lot is of.
+     * @param quantity the quantity that remains of the lot.
+     * @param expiryDate the date the lot expires on.
+     * @param receivedDate the date the lot was received on.
+     */
+    public StockLot(String lotId, String itemId, int quantity, LocalDate expiryDate, LocalDate receivedDate) {
+        super(lotId);
+
+        this.itemId = itemId;
+        this.quantity = quantity;
+        this.expiryDate = expiryDate;
+        this.receivedDate = receivedDate;
+    }
+
+    /**
+     * Gets the unique ID of the lot.
+     * @return the unique ID of the lot.
+     */
+    public String getLotId() {
+        return getId();
+    }
+
+    /**
+     * Gets the unique ID of the item that the lot is of.
+     * @return the unique ID of the item.
+     */
+    public String getItemId() {
+        return this.itemId;
+    }
+
+    /**
+     * Gets the quantity that remains of the lot.
+     * @return the quantity of the lot.
+     */
+    public int getQuantity() {
+        return this.quantity;
+    }
+
+    /**
+     * Sets the quantity that remains of the lot.
+     * @param quantity the quantity of the lot.
+     */
+    public void setQuantity(int quantity) {
+        checkMutable();
+        this.quantity = quantity;
+    }
+
+    /**
+     * Gets the date the lot expires on.
+     * @return the expiry date of the lot.
+     */
+    public LocalDate getExpiryDate() {
+        return this.expiryDate;
+    }
+
+    /**
+     * Gets the date the lot was received on.
+     * @return the received date of the lot.
+     */
+    public LocalDate getReceivedDate() {
+        return this.receivedDate;
+    }
+
+    /**
+     * Checks whether the lot has expired on a date, ie: it expires before that date.
+     * @param date the date to check.
+     * @return {@code true} if the lot has expired, {@code false} otherwise.
+     */
+    public boolean isExpired(LocalDate date) {
+        return this.expiryDate.isBefore(date);
+    }
+
+    /**
+     * Creates and returns a copy of the {@link StockLot} instance.
+     * @return a copy of the instance.
+     */
+    @Override
+    public StockLot copy() {
+        return new StockLot(getId(), getItemId(), getQuantity(), getExpiryDate(), getReceivedDate());
+    }
+}
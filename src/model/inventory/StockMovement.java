@@ -0,0 +1,96 @@
+package model.inventory;
+
+import java.time.LocalDateTime;
+
+import model.enums.StockMovementType;
+
+/**
+ * An immutable representation of a movement of the stock of an {@link InventoryItem}, as recorded
+ * in the stock ledger.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class StockMovement {
+    /**
+     * The date and time of the movement.
+     */
+    private final LocalDateTime dateTime;
+
+    /**
+     * The unique ID of the item.
+     */
+    private final String itemId;
+
+    /**
+     * The kind of the movement.
+     */
+    private final StockMovementType type;
+
+    /**
+     * The quantity that was added, or deducted if negative.
+     */
+    private final int delta;
+
+    /**
+     * The balance of the stock after the movement.
+     */
+    private final int balance;
+
+    /**
+     * Constructor for a {@link StockMovement}.
+     * @param dateTime the date and time of the movement.
+     * @param itemId the unique ID of the item.
+     * @param type the kind of the movement.
+     * @param delta the quantity that was added, or deducted if negative.
+     * @param balance the balance of the stock after the movement.
+     */
+    public StockMovement(LocalDateTime dateTime, String itemId, StockMovementType type, int delta, int balance) {
+        this.dateTime = dateTime;
+        this.itemId = itemId;
+        this.type = type;
+        this.delta = delta;
+        this.balance = balance;
+    }
+
+    /**
+     * Gets the date and time of the movement.
+     * @return the date and time of the movement.
+     */
+    public LocalDateTime getDateTime() {
+        return this.dateTime;
+    }
+
+    /**
+     * Gets the unique ID of the item.
+     * @return the unique ID of the item.
+     */
+    public String getItemId() {
+        return this.itemId;
+    }
+
+    /**
+     * Gets the kind of the movement.
+     * @return the kind of the movement.
+     */
+    public StockMovementType getType() {
+        return this.type;
+    }
+
+    /**
+     * Gets the quantity that was added, or deducted if negative.
+     * @return the quantity of the movement.
+     */
+    public int getDelta() {
+        return this.delta;
+    }
+
+    /**
+     * Gets the balance of the stock after the movement.
+     * @return the balance of the stock.
+     */
+    public int getBalance() {
+        return this.balance;
+    }
+}
@@ -3,6 +3,7 @@ package model.medrecord;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import model.BaseModel;
 import model.enums.MedicalService;
@@ -115,6 +116,7 @@ public class MedicalRecordEntry extends BaseModel {
      * @param dateRecorded the date the record was recorded.
      */
     public void setDateRecorded(LocalDate dateRecorded) {
+        checkMutable();
         this.dateRecorded = dateRecorded;
     }
 
@@ -131,6 +133,7 @@ public class MedicalRecordEntry extends BaseModel {
      * @param patientId the ID of the patient to whom the record belongs.
      */
     public void setPatientId(String patientId) {
+        checkMutable();
         this.patientId = patientId;
     }
 
@@ -147,6 +150,7 @@ public class MedicalRecordEntry extends BaseModel {
      * @param doctorId the name of the doctor who recorded the entry.
      */
     public void setDoctorId(String doctorId) {
+        checkMutable();
         this.doctorId = doctorId;
     }
 
@@ -163,6 +167,7 @@ public class MedicalRecordEntry extends BaseModel {
      * @param diagnosis the diagnosis given to the patient.
      */
     public void setDiagnosis(String diagnosis) {
+        checkMutable();
         this.diagnosis = diagnosis;
     }
 
@@ -179,15 +184,16 @@ public class MedicalRecordEntry extends BaseModel {
      * @param treatmentPlan the treatment plan for the patient.
      */
     public void setTreatmentPlan(String treatmentPlan) {
+        checkMutable();
         this.treatmentPlan = treatmentPlan;
     }
 
     /**
      * Gets the prescription given to the patient.
-     * @return the {@link List} pf {@link Prescription} given to the patient.
+     * @return copies of the {@link Prescription} given to the patient, in a {@link List} that can be changed.
      */
     public List<Prescription> getPrescription() {
-        return new ArrayList<Prescription>(prescriptions);
+        return prescriptions.stream().map(Prescription::copy).collect(Collectors.toCollection(ArrayList::new));
     }
     
     /**
@@ -195,6 +201,7 @@ public class MedicalRecordEntry extends BaseModel {
      * @param prescriptions the prescription given to the patient.
      */
     public void setPrescription(List<Prescription> prescriptions) {
+        checkMutable();
         this.prescriptions = prescriptions;
     }
 
@@ -211,6 +218,7 @@ public class MedicalRecordEntry extends BaseModel {
      * @param medicalServices the {@link MedicalService} provided to the patient.
      */
     public void setMedicalServices(List<MedicalService> medicalServices) {
+        checkMutable();
         this.medicalServices = medicalServices;
     }
 
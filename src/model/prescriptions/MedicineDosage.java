@@ -65,6 +65,29 @@ public class MedicineDosage implements SerializableCopyable {
         return quantity + " " + unit;
     }
 
+    /**
+     * Checks if the dosage is equal to another object, ie: it has the same quantity and unit.
+     * @return true if the dosage is equal to the other object, false otherwise.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (!(obj instanceof MedicineDosage)) return false;
+
+        MedicineDosage dosage = (MedicineDosage) obj;
+
+        return dosage.getQuantity() == this.quantity && dosage.getUnit() == this.unit;
+    }
+
+    /**
+     * Returns the hash code of the dosage, which is consistent with {@link #equals(Object)}.
+     * @return the hash code of the dosage.
+     */
+    @Override
+    public int hashCode() {
+        return 31 * quantity + (unit == null ? 0 : unit.hashCode());
+    }
+
     /**
      * Creates and returns a copy of the {@link MedicineDosage} instance.
      * @return a copy of the instance
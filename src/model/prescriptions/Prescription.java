@@ -148,6 +148,9 @@ public class Prescription implements SerializableCopyable {
      */
     @Override
     public Prescription copy() {
-        return new Prescription(getDrugId(), getQuantity(), getDosage(), getFrequency());
+        Prescription prescription = new Prescription(getDrugId(), getQuantity(), getDosage(), getFrequency());
+        prescription.status = getStatus();
+
+        return prescription;
     }
 }
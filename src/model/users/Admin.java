@@ -48,6 +48,7 @@ public class Admin extends User {
      * @param id the ID of the admin.
      */
     public void setAdminId(String id) {
+        checkMutable();
         super.setId(id);
     }
 
@@ -2,6 +2,7 @@ package model.users;
 
 import java.time.LocalDate;
 
+import model.appointments.SlotGrid;
 import model.appointments.TimeSlot;
 import model.availability.Availability;
 import model.enums.Gender;
@@ -65,6 +66,7 @@ public class Doctor extends User {
      * @param id the ID of the doctor.
      */
     public void setDoctorId(String id) {
+        checkMutable();
         super.setId(id);
     }
 
@@ -81,6 +83,7 @@ public class Doctor extends User {
      * @param specialisation the specialisation of the doctor.
      */
     public void setSpecialisation(Specialisation specialisation) {
+        checkMutable();
         this.specialisation = specialisation;
     }
 
@@ -97,6 +100,7 @@ public class Doctor extends User {
      * @param availability the availability of the doctor.
      */
     public void setAvailability(Availability availability) {
+        checkMutable();
         this.availability = availability;
     }
     
@@ -109,6 +113,15 @@ public class Doctor extends User {
         return availability.isAvailable(slot);
     }
 
+    /**
+     * Gets the bitmask of the appointment slots that the doctor works on a given date.
+     * @param date the date to check.
+     * @return the bitmask of the working slots, as defined by {@link SlotGrid}.
+     */
+    public int getAvailableSlots(LocalDate date) {
+        return availability.getSlotMask(date);
+    }
+
     /**
      * Creates a copy of the current {@link Doctor} instance.
      * @return the exact copy (shallow) of the {@link Doctor}.
@@ -81,6 +81,7 @@ public class Patient extends User {
      * @param id the ID of the patient.
      */
     public void setPatientId(String id) {
+        checkMutable();
         super.setId(id);
     }
 
@@ -97,6 +98,7 @@ public class Patient extends User {
      * @param weight the new weight of the patient.
      */
     public void setWeight(double weight) {
+        checkMutable();
         this.weight = weight;
     }
 
@@ -113,6 +115,7 @@ public class Patient extends User {
      * @param height the new height (in cm) of the patient.
      */
     public void setHeight(double height) {
+        checkMutable();
         this.height = height;
     }
 
@@ -129,6 +132,7 @@ public class Patient extends User {
      * @param bloodType the new blood type of the patient.
      */
     public void setBloodType(BloodType bloodType) {
+        checkMutable();
         this.bloodType = bloodType;
     }
 
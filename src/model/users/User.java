@@ -121,6 +121,7 @@ public abstract class User extends BaseModel {
      * @param password the new password of the user.
      */
     public void setPassword(String password) {
+        checkMutable();
         this.isDefaultPassword = false;
         this.password = password;
     }
@@ -138,6 +139,7 @@ public abstract class User extends BaseModel {
      * @param isDefaultPassword the new flag to indicate if the user is using the default password.
      */
     public void setDefaultPassword(boolean isDefaultPassword) {
+        checkMutable();
         this.isDefaultPassword = isDefaultPassword;
     }
 
@@ -154,6 +156,7 @@ public abstract class User extends BaseModel {
      * @param name the new name of the user.
      */
     public void setName(String name) {
+        checkMutable();
         this.name = name;
     }
 
@@ -170,6 +173,7 @@ public abstract class User extends BaseModel {
      * @param gender the new gender of the user.
      */
     public void setGender(Gender gender) {
+        checkMutable();
         this.gender = gender;
     }
 
@@ -186,6 +190,7 @@ public abstract class User extends BaseModel {
      * @param dob the new date of birth of the user.
      */
     public void setDob(LocalDate dob) {
+        checkMutable();
         this.dob = dob;
     }
 
@@ -210,6 +215,7 @@ public abstract class User extends BaseModel {
      * @param phoneNumber the new phonne number of the user.
      */
     public void setPhoneNumber(String phoneNumber) {
+        checkMutable();
         this.phoneNumber = phoneNumber;
     }
 
@@ -226,6 +232,7 @@ public abstract class User extends BaseModel {
      * @param emailAddress the new email address of the user.
      */
     public void setEmailAddress(String emailAddress) {
+        checkMutable();
         this.emailAddress = emailAddress;
     }
 
@@ -242,6 +249,7 @@ public abstract class User extends BaseModel {
      * @param age the new age of the user.
      */
     public void setAge(int age) {
+        checkMutable();
         this.age = age;
     }
 
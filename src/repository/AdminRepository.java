@@ -44,11 +44,11 @@ import repository.interfaces.IUserRepository;
      * Gets all the {@link Admin} stored in the repository.
     * @return the the entries of {@link Admin} stored.
     */
+    @SuppressWarnings("unchecked")
     @Override
     public Map<String, Admin> getItems() {
-        return this.repository.getItems().entrySet().stream().filter(
-            entry -> entry.getValue().getRole() == UserRole.ADMIN).collect(
-                Collectors.toMap(e -> (String) e.getKey(), e -> (Admin) e.getValue()));
+        // The type cast is always valid since the partition only holds admins.
+        return (Map<String, Admin>) (Map<String, ?>) this.repository.getItems(UserRole.ADMIN);
     }
 
     /**
@@ -57,7 +57,7 @@ import repository.interfaces.IUserRepository;
     */
     @Override
     public List<Admin> findAll() {
-        return this.getItems().values().stream().collect(Collectors.toList());
+        return this.repository.findByRole(UserRole.ADMIN).stream().map(user -> (Admin) user).collect(Collectors.toList());
     }
  
      /**
@@ -68,8 +68,7 @@ import repository.interfaces.IUserRepository;
     @SuppressWarnings("unused")
 	@Override
     public String generateId() {
-        return ID_PREFIX + getItems().keySet().stream().sorted().reduce((first, second) -> second).map(
-            last -> String.format("%04d", Integer.parseInt(last.substring(1)) + 1)).orElse("1001");
+        return repository.generateId(UserRole.ADMIN);
     }
 
     /**
@@ -79,7 +78,7 @@ import repository.interfaces.IUserRepository;
      */
     @Override
     public int count() {
-        return this.getItems().size();
+        return this.repository.count(UserRole.ADMIN);
     }
 
     /**
@@ -92,7 +91,7 @@ import repository.interfaces.IUserRepository;
     public Admin findById(String adminId) {
         User user =  repository.findById(adminId);
 
-        if (user.getRole() != UserRole.ADMIN) {
+        if (user == null || user.getRole() != UserRole.ADMIN) {
             return null;
         }
 
@@ -106,11 +105,48 @@ import repository.interfaces.IUserRepository;
     */
     @Override
     public List<Admin> findBy(Predicate<Admin> predicate) {
-        return repository.findBy(
-            // Filter out all admins
-            (User user) -> user.getRole() == UserRole.ADMIN).stream().map((User user) -> (Admin) user)
-            // Then filter by the predicate
-            .filter(predicate).toList();
+        // Only the admins that match the predicate are copied.
+        return this.viewAll().stream().filter(predicate).map(this::copyOf).toList();
+    }
+
+    /**
+     * Retrieves a read-only view of all {@link Admin}s stored in the repository, without copying them.
+     * 
+     * @return a {@link List} of all {@link Admin}s, which must not be modified.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Admin> viewAll() {
+        // The type cast is always valid since the partition only holds admins.
+        return (List<Admin>) (List<?>) repository.viewByRole(UserRole.ADMIN);
+    }
+
+    /**
+     * Retrieves a read-only view of a {@link Admin} by their unique ID, without copying them.
+     * 
+     * @param id the ID of the {@link Admin}.
+     * @return the {@link Admin} matching the ID, or {@code null} if not found. The {@link Admin} must not be modified.
+     */
+    @Override
+    public Admin viewById(String id) {
+        User user = repository.viewById(id);
+
+        if (user == null || user.getRole() != UserRole.ADMIN) {
+            return null;
+        }
+
+        return (Admin) user;
+    }
+
+    /**
+     * Retrieves a read-only view of all {@link Admin}s that satisfy the specified predicate, without copying them.
+     * 
+     * @param predicate the condition to filter {@link Admin}s.
+     * @return a {@link List} of {@link Admin}s that match the predicate, which must not be modified.
+     */
+    @Override
+    public List<Admin> viewBy(Predicate<Admin> predicate) {
+        return viewAll().stream().filter(predicate).toList();
     }
 
     /**
@@ -121,7 +157,7 @@ import repository.interfaces.IUserRepository;
      */
     @Override
     public boolean exists(String adminId) {
-        return this.findById(adminId) != null;
+        return this.viewById(adminId) != null;
     }
 
     /**
@@ -132,7 +168,7 @@ import repository.interfaces.IUserRepository;
      */
     @Override
     public boolean exists(Predicate<Admin> predicate) {
-        return this.findBy(predicate).size() > 0;
+        return this.viewAll().stream().anyMatch(predicate);
     }
 
     /**
@@ -178,16 +214,85 @@ import repository.interfaces.IUserRepository;
         return null;
     }
 
+    /**
+     * Deletes all the {@link Admin}s matching the given IDs as a single batch.
+     * 
+     * @param adminIds the IDs of the {@link Admin}s to delete.
+     * @return the deleted {@link Admin}s, or {@code null} if the batch was not persisted.
+     */
+    @Override
+    public List<Admin> deleteById(List<String> adminIds) {
+        List<User> deleted = repository.deleteById(adminIds.stream().filter(this::exists).toList());
+
+        if (deleted == null) {
+            return null;
+        }
+
+        return deleted.stream().map(user -> (Admin) user).toList();
+    }
+
     /**
     * Clears all the {@link Admin} stored in the repository.
     */
     @Override
     public void clear() {
-        repository.findBy(
-            // Filter out all patients
-            (User user) -> user.getRole() == UserRole.ADMIN).stream().forEach((User user) -> {
-                repository.deleteById(user.getId());
-            });
+        repository.deleteById(List.copyOf(repository.getItems(UserRole.ADMIN).keySet()));
+    }
+
+    /**
+     * Gets the current version of an {@link Admin}, which changes whenever it is saved or removed.
+     * 
+     * @param id the ID of the {@link Admin}.
+     * @return the version of the {@link Admin}.
+     */
+    @Override
+    public long getVersion(String id) {
+        return repository.getVersion(id);
+    }
+
+    /**
+     * Gets the revision of the underlying repository, which changes whenever any user is saved or removed.
+     * 
+     * @return the revision of the underlying repository.
+     */
+    @Override
+    public long getRevision() {
+        return repository.getRevision();
+    }
+
+    /**
+     * Saves an {@link Admin} only if it was not changed since it was at the given version.
+     * 
+     * @param item the {@link Admin} to save.
+     * @param expectedVersion the version of the {@link Admin} when it was read.
+     * @return {@code true} if the {@link Admin} was saved, {@code false} otherwise.
+     */
+    @Override
+    public boolean compareAndSave(Admin item, long expectedVersion) {
+        return repository.compareAndSave(item, expectedVersion);
+    }
+
+    /**
+     * Blocks until the changes made to the {@link Admin}s so far are written to disk.
+     * 
+     * @return {@code true} if the changes are written, {@code false} otherwise.
+     */
+    @Override
+    public boolean flush() {
+        return repository.flush();
+    }
+
+    /**
+     * Copies an {@link Admin} held by the repository, at the version it was read at, so that the
+     * copy can be saved.
+     * 
+     * @param admin the {@link Admin} held by the repository.
+     * @return a copy of the {@link Admin}.
+     */
+    private Admin copyOf(Admin admin) {
+        Admin copy = admin.copy();
+        copy.setVersion(admin.getVersion());
+
+        return copy;
     }
 }
- 
\ No newline at end of file
@@ -1,20 +1,33 @@
 package repository;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Predicate;
 
 import model.appointments.Appointment;
+import model.appointments.SlotGrid;
 import model.appointments.TimeSlot;
+import model.enums.AppointmentStatus;
 import model.enums.PrescriptionStatus;
 import model.users.Doctor;
 import model.users.Patient;
 import repository.interfaces.IAppointmentRepository;
+import repository.persistence.codec.AppointmentCodec;
 
 /**
  * Repository class to handle operations related to {@link Appointment} objects.
  * Provides methods to manage, retrieve, and manipulate appointments based on
  * various criteria such as doctor, patient, time slots, and appointment statuses.
  * This class extends the {@link BaseRepository} and implements {@link IAppointmentRepository}.
+ *
+ * <p>The appointments are indexed by doctor, patient, status and date. Each index holds the
+ * appointments in time order, so queries are answered with a lookup and a range scan over the
+ * matching appointments only, rather than a scan over every appointment in the repository.</p>
+ *
+ * <p>The scheduled appointments of each doctor on each date are also kept as a bitmask of the
+ * occupied slots, as defined by {@link SlotGrid}, so that the availability of a doctor on a date
+ * is computed without looking at the appointments at all.</p>
  * 
  * @author Bryan Soong, Joyce Lee
  * @version 1.0
@@ -32,11 +45,58 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      */
     public static final String ID_PREFIX = "Y";
 
+    /**
+     * The order of the appointments in the indexes, by time slot and then by ID.
+     */
+    private static final Comparator<Appointment> TIME_ORDER = Comparator
+        .comparing((Appointment appointment) -> appointment.getTimeSlot().getDateTime())
+        .thenComparing(Appointment::getId);
+
+    /**
+     * The empty result of looking up a key that is not in an index.
+     */
+    private static final NavigableSet<Appointment> EMPTY = Collections.unmodifiableNavigableSet(new TreeSet<Appointment>(TIME_ORDER));
+
+    /**
+     * The index of the appointments of each doctor, by doctor ID.
+     */
+    private final Map<String, NavigableSet<Appointment>> doctorIndex = new HashMap<String, NavigableSet<Appointment>>();
+
+    /**
+     * The index of the appointments of each patient, by patient ID.
+     */
+    private final Map<String, NavigableSet<Appointment>> patientIndex = new HashMap<String, NavigableSet<Appointment>>();
+
+    /**
+     * The index of the appointments with each status.
+     */
+    private final Map<AppointmentStatus, NavigableSet<Appointment>> statusIndex = new EnumMap<AppointmentStatus, NavigableSet<Appointment>>(AppointmentStatus.class);
+
+    /**
+     * The index of the appointments on each date, ordered by date.
+     */
+    private final NavigableMap<LocalDate, NavigableSet<Appointment>> dateIndex = new TreeMap<LocalDate, NavigableSet<Appointment>>();
+
+    /**
+     * The bitmask of the slots occupied by scheduled appointments of each doctor on each date,
+     * by doctor ID. Dates without scheduled appointments are omitted.
+     */
+    private final Map<String, Map<LocalDate, Integer>> occupancy = new HashMap<String, Map<LocalDate, Integer>>();
+
+    /**
+     * The cached read-only view of all the appointments in time order, or {@code null} if it has
+     * to be rebuilt after the appointments were changed.
+     */
+    private List<Appointment> timeline;
+
     /**
      * Constructor for the {@link AppointmentRepository} class.
      */
     public AppointmentRepository() {
-        super(FILENAME);
+        super(FILENAME, new AppointmentCodec());
+
+        // The indexes are only initialized after the items are loaded by the super constructor.
+        onReset();
     }
 
     /**
@@ -46,8 +106,7 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
     @SuppressWarnings("unused")
 	@Override
     public String generateId() {
-        return ID_PREFIX + getItems().keySet().stream().sorted().reduce((first, second) -> second).map(
-            last -> String.format("%04d", Integer.parseInt(last.substring(1)) + 1)).orElse("1001");
+        return nextId(ID_PREFIX);
     }
 
     /**
@@ -65,12 +124,19 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
     }
 
     /**
-     * Gets all the appointments in the system, ordered by most recent first.
-     * @return the list of appointments.
+     * Gets a read-only view of all the appointments in the system, ordered by most recent first.
+     * The view is cached until the appointments are next changed.
+     * @return the list of appointments, which must not be modified.
      */
-    public List<Appointment> getAppointments() {
-        return getItems().values()
-            .stream().sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getAppointments() {
+        if (timeline == null) {
+            List<Appointment> appointments = new ArrayList<Appointment>(count());
+            dateIndex.values().forEach(appointments::addAll);
+
+            timeline = Collections.unmodifiableList(appointments);
+        }
+
+        return timeline;
     }
 
     /**
@@ -78,11 +144,8 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param doctor the {@link Doctor} to get the appointments for.
      * @return the list of appointments.
      */
-    public List<Appointment> getAppointments(Doctor doctor) {
-        return findBy((appointment) -> appointment.getDoctorId().equals(doctor.getDoctorId()))
-            .stream()
-            .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot()))
-            .toList();
+    public synchronized List<Appointment> getAppointments(Doctor doctor) {
+        return copyOf(lookup(doctorIndex, doctor.getDoctorId()), appointment -> true);
     }
 
     /**
@@ -90,14 +153,8 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param patient the {@link Patient} to get the appointments for.
      * @return the list of pending appointments, ordered by most recent first.
      */
-    public List<Appointment> getPendingAppointments(Patient patient) {
-        return findBy((appointment) -> 
-            appointment.getPatientId().equals(patient.getPatientId()) && 
-            !appointment.getTimeSlot().getDate().isBefore(LocalDate.now()) &&
-            appointment.isRequested()
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getPendingAppointments(Patient patient) {
+        return copyOf(upcoming(lookup(patientIndex, patient.getPatientId())), Appointment::isRequested);
     }
 
     /**
@@ -105,14 +162,8 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param doctor the {@link Doctor} to get the appointments for.
      * @return the list of pending appointments, ordered by most recent first.
      */
-    public List<Appointment> getPendingAppointments(Doctor doctor) {
-        return findBy((appointment) -> 
-            appointment.getDoctorId().equals(doctor.getDoctorId()) && 
-            !appointment.getTimeSlot().getDate().isBefore(LocalDate.now()) &&
-            appointment.isRequested()
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getPendingAppointments(Doctor doctor) {
+        return copyOf(upcoming(lookup(doctorIndex, doctor.getDoctorId())), Appointment::isRequested);
     }
 
     /**
@@ -120,14 +171,8 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param doctor the {@link Doctor} to get the appointments for.
      * @return the list of appointments.
      */
-    public List<Appointment> getScheduledAppointments(Doctor doctor) {
-        return findBy((appointment) -> 
-            appointment.getDoctorId().equals(doctor.getDoctorId()) && 
-            !appointment.getTimeSlot().getDate().isBefore(LocalDate.now()) &&
-            appointment.isScheduled()
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getScheduledAppointments(Doctor doctor) {
+        return copyOf(upcoming(lookup(doctorIndex, doctor.getDoctorId())), Appointment::isScheduled);
     }
 
     /**
@@ -136,14 +181,11 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param date the date to get the appointments for.
      * @return the list of {@link Appointment}.
      */
-    public List<Appointment> getScheduledAppointments(Doctor doctor, LocalDate date) {
-        return findBy((appointment) -> 
-            appointment.getDoctorId().equals(doctor.getDoctorId()) && 
-            appointment.getTimeSlot().getDate().equals(date) &&
-            appointment.isScheduled()
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getScheduledAppointments(Doctor doctor, LocalDate date) {
+        NavigableSet<Appointment> appointments = lookup(doctorIndex, doctor.getDoctorId());
+
+        return copyOf(appointments.subSet(
+            probe(date.atStartOfDay()), true, probe(date.plusDays(1).atStartOfDay()), false), Appointment::isScheduled);
     }
 
     /**
@@ -151,14 +193,8 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param patient the {@link Patient} to get the appointments for.
      * @return the list of {@link Appointment}, ordered by most recent first.
      */
-    public List<Appointment> getScheduledAppointments(Patient patient) {
-        return findBy((appointment) -> 
-            appointment.getPatientId().equals(patient.getPatientId()) && 
-            !appointment.getTimeSlot().getDate().isBefore(LocalDate.now()) &&
-            appointment.isScheduled()
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getScheduledAppointments(Patient patient) {
+        return copyOf(upcoming(lookup(patientIndex, patient.getPatientId())), Appointment::isScheduled);
     }
 
     /**
@@ -167,24 +203,18 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param patient the {@link Patient} to get the appointments for.
      * @return the list of {@link Appointment}, ordered by most recent first.
      */
-    public List<Appointment> getUpcomingAppointments(Patient patient) {
-        return findBy((appointment) -> 
-            appointment.getPatientId().equals(patient.getPatientId()) && 
-            !appointment.getTimeSlot().getDate().isBefore(LocalDate.now()) &&
-            (appointment.isScheduled() || appointment.isRequested())
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getUpcomingAppointments(Patient patient) {
+        return copyOf(upcoming(lookup(patientIndex, patient.getPatientId())), 
+            appointment -> appointment.isScheduled() || appointment.isRequested());
     }
 
     /**
      * Gets the scheduled appointments that are overdue.
      * @return the list of {@link Appointment} that are overdue.
      */
-    public List<Appointment> getOverdueAppointments() {
-        return findBy((appointment) -> 
-            appointment.isScheduled() && appointment.isOverdue()
-        );
+    public synchronized List<Appointment> getOverdueAppointments() {
+        NavigableSet<Appointment> scheduled = lookup(statusIndex, AppointmentStatus.SCHEDULED);
+        return copyOf(scheduled.headSet(probe(LocalDateTime.now()), false), appointment -> true);
     }
 
     /**
@@ -192,13 +222,8 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param doctor the doctor to get the appointments for.
      * @return the list of fulfilled appointments, ordered by most recent first.
      */
-    public List<Appointment> getFulfilledAppointments(Doctor doctor) {
-        return findBy((appointment) -> 
-            appointment.getDoctorId().equals(doctor.getDoctorId()) && 
-            appointment.isFulfilled()
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getFulfilledAppointments(Doctor doctor) {
+        return copyOf(lookup(doctorIndex, doctor.getDoctorId()), Appointment::isFulfilled);
     }
 
     /**
@@ -206,13 +231,8 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param doctor the {@link Doctor} to get the appointments for.
      * @return the list of completed {@link Appointment}, ordered by most recent first.
      */
-    public List<Appointment> getCompletedAppointments(Doctor doctor) {
-        return findBy((appointment) -> 
-            appointment.getDoctorId().equals(doctor.getDoctorId()) &&
-            appointment.isCompleted()
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getCompletedAppointments(Doctor doctor) {
+        return copyOf(lookup(doctorIndex, doctor.getDoctorId()), Appointment::isCompleted);
     }
 
     /**
@@ -220,13 +240,9 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param patient the {@link Patient} to get the appointments for.
      * @return the list of past {@link Appointment}, ordered by most recent first.
      */
-    public List<Appointment> getPastAppointments(Patient patient) {
-        return findBy((appointment) -> 
-            appointment.getPatientId().equals(patient.getPatientId()) && 
-            appointment.isCompleted() || appointment.isFulfilled()
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getPastAppointments(Patient patient) {
+        return copyOf(lookup(patientIndex, patient.getPatientId()), 
+            appointment -> appointment.isCompleted() || appointment.isFulfilled());
     }
 
     /**
@@ -234,28 +250,21 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param doctor the {@link Doctor} to get the appointments for.
      * @return the list of past {@link Appointment}, ordered by most recent first.
      */
-    public List<Appointment> getPastAppointments(Doctor doctor) {
-        return findBy((appointment) -> 
-            appointment.getDoctorId().equals(doctor.getDoctorId()) && 
-            appointment.isCompleted() || appointment.isFulfilled()
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+    public synchronized List<Appointment> getPastAppointments(Doctor doctor) {
+        return copyOf(lookup(doctorIndex, doctor.getDoctorId()), 
+            appointment -> appointment.isCompleted() || appointment.isFulfilled());
     }
 
     /**
      * Gets the undispensed appointments, that is completed appointments with pending prescriptions.
      * @return the list of undispensed {@link Appointment}, ordered by most recent first.
      */
-    public List<Appointment> getUndispensedAppointments() {
-        return findBy((appointment) -> 
-            appointment.isCompleted() && 
+    public synchronized List<Appointment> getUndispensedAppointments() {
+        return copyOf(lookup(statusIndex, AppointmentStatus.COMPLETED), (appointment) -> 
             appointment.getOutcomeRecord() != null && // this condition is kept for redudnancy checks
             appointment.getOutcomeRecord().getPrescriptions().stream()
             .anyMatch(prescription -> prescription.getStatus() == PrescriptionStatus.PENDING)
-        )
-        .stream()
-        .sorted((a, b) -> a.getTimeSlot().compareTo(b.getTimeSlot())).toList();
+        );
     }
 
     /**
@@ -264,15 +273,220 @@ public class AppointmentRepository extends BaseRepository<Appointment> implement
      * @param doctor the {@link Doctor} to check the availability for.
      * @return whether the slot is available.
      */
-    public boolean isSlotAvailable(Doctor doctor, TimeSlot slot) {
-        List<Appointment> scheduledAppointments = getScheduledAppointments(doctor, slot.getDateTime().toLocalDate());
+    public synchronized boolean isSlotAvailable(Doctor doctor, TimeSlot slot) {
+        int index = SlotGrid.indexOf(slot.getTime());
+
+        if (index >= 0) {
+            return (getOccupiedSlots(doctor, slot.getDate()) & (1 << index)) == 0;
+        }
 
-        for (Appointment appointment : scheduledAppointments) {
-            if (appointment.getTimeSlot().equals(slot)) {
+        NavigableSet<Appointment> appointments = lookup(doctorIndex, doctor.getDoctorId());
+
+        for (Appointment appointment : appointments.tailSet(probe(slot.getDateTime()), true)) {
+            if (!appointment.getTimeSlot().equals(slot)) {
+                break;
+            }
+
+            if (appointment.isScheduled()) {
                 return false;
             }
         }
 
         return true;
     }
+
+    /**
+     * Gets the slots of a doctor on a given date that are occupied by scheduled appointments.
+     * @param doctor the {@link Doctor} to get the occupied slots for.
+     * @param date the date to get the occupied slots for.
+     * @return the bitmask of the occupied slots, as defined by {@link SlotGrid}.
+     */
+    public synchronized int getOccupiedSlots(Doctor doctor, LocalDate date) {
+        Map<LocalDate, Integer> dates = occupancy.get(doctor.getDoctorId());
+
+        if (dates == null) {
+            return 0;
+        }
+
+        return dates.getOrDefault(date, 0);
+    }
+
+    /**
+     * Adds a stored {@link Appointment} to the indexes, replacing the appointment it replaced.
+     * @param previous the appointment that was replaced, or {@code null} if it was inserted.
+     * @param item the appointment that was stored.
+     */
+    @Override
+    protected void onStored(Appointment previous, Appointment item) {
+        if (previous != null) {
+            onRemoved(previous);
+        }
+
+        timeline = null;
+
+        if (doctorIndex == null) {
+            return;
+        }
+
+        index(doctorIndex, item.getDoctorId()).add(item);
+        index(patientIndex, item.getPatientId()).add(item);
+        index(statusIndex, item.getStatus()).add(item);
+        index(dateIndex, item.getTimeSlot().getDate()).add(item);
+
+        int slot = SlotGrid.indexOf(item.getTimeSlot().getTime());
+
+        if (item.isScheduled() && slot >= 0) {
+            occupancy.computeIfAbsent(item.getDoctorId(), k -> new HashMap<LocalDate, Integer>())
+                .merge(item.getTimeSlot().getDate(), 1 << slot, (a, b) -> a | b);
+        }
+    }
+
+    /**
+     * Removes a removed {@link Appointment} from the indexes.
+     * @param item the appointment that was removed.
+     */
+    @Override
+    protected void onRemoved(Appointment item) {
+        timeline = null;
+
+        if (doctorIndex == null) {
+            return;
+        }
+
+        unindex(doctorIndex, item.getDoctorId(), item);
+        unindex(patientIndex, item.getPatientId(), item);
+        unindex(statusIndex, item.getStatus(), item);
+        unindex(dateIndex, item.getTimeSlot().getDate(), item);
+
+        if (item.isScheduled()) {
+            refreshOccupancy(item.getDoctorId(), item.getTimeSlot().getDate());
+        }
+    }
+
+    /**
+     * Recomputes the occupied slots of a doctor on a date from the doctor's appointments. This is
+     * needed on removal, since another scheduled appointment may still occupy the same slot.
+     * @param doctorId the ID of the doctor.
+     * @param date the date to recompute the occupied slots for.
+     */
+    private void refreshOccupancy(String doctorId, LocalDate date) {
+        int occupied = 0;
+
+        for (Appointment appointment : lookup(doctorIndex, doctorId).subSet(
+            probe(date.atStartOfDay()), true, probe(date.plusDays(1).atStartOfDay()), false)) {
+            int slot = SlotGrid.indexOf(appointment.getTimeSlot().getTime());
+
+            if (appointment.isScheduled() && slot >= 0) {
+                occupied |= 1 << slot;
+            }
+        }
+
+        Map<LocalDate, Integer> dates = occupancy.computeIfAbsent(doctorId, k -> new HashMap<LocalDate, Integer>());
+
+        if (occupied != 0) {
+            dates.put(date, occupied);
+            return;
+        }
+
+        dates.remove(date);
+
+        if (dates.isEmpty()) {
+            occupancy.remove(doctorId);
+        }
+    }
+
+    /**
+     * Rebuilds the indexes from the appointments in the repository.
+     */
+    @Override
+    protected void onReset() {
+        // The indexes are not yet initialized when this is called from the super constructor.
+        if (doctorIndex == null) {
+            return;
+        }
+
+        doctorIndex.clear();
+        patientIndex.clear();
+        statusIndex.clear();
+        dateIndex.clear();
+        occupancy.clear();
+        timeline = null;
+
+        getItems().values().forEach(item -> onStored(null, item));
+    }
+
+    /**
+     * Gets the appointments under a key of an index.
+     * @param <K> the type of the key.
+     * @param index the index to look up.
+     * @param key the key to look up.
+     * @return the appointments under the key, ordered by time slot.
+     */
+    private static <K> NavigableSet<Appointment> lookup(Map<K, NavigableSet<Appointment>> index, K key) {
+        NavigableSet<Appointment> appointments = index.get(key);
+        return appointments == null ? EMPTY : appointments;
+    }
+
+    /**
+     * Gets the appointments under a key of an index, creating the entry if it does not exist.
+     * @param <K> the type of the key.
+     * @param index the index to look up.
+     * @param key the key to look up.
+     * @return the appointments under the key, ordered by time slot.
+     */
+    private static <K> NavigableSet<Appointment> index(Map<K, NavigableSet<Appointment>> index, K key) {
+        return index.computeIfAbsent(key, k -> new TreeSet<Appointment>(TIME_ORDER));
+    }
+
+    /**
+     * Removes an appointment under a key of an index, removing the entry once it is empty.
+     * @param <K> the type of the key.
+     * @param index the index to remove from.
+     * @param key the key the appointment is indexed under.
+     * @param item the appointment to remove.
+     */
+    private static <K> void unindex(Map<K, NavigableSet<Appointment>> index, K key, Appointment item) {
+        NavigableSet<Appointment> appointments = index.get(key);
+
+        if (appointments != null && appointments.remove(item) && appointments.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Gets the appointments that are on or after the start of today.
+     * @param appointments the appointments ordered by time slot.
+     * @return the view of the upcoming appointments.
+     */
+    private static NavigableSet<Appointment> upcoming(NavigableSet<Appointment> appointments) {
+        return appointments.tailSet(probe(LocalDate.now().atStartOfDay()), true);
+    }
+
+    /**
+     * Creates an {@link Appointment} used only as a bound of a range scan over an index. The probe
+     * is ordered before every appointment at the same date and time.
+     * @param dateTime the date and time of the bound.
+     * @return the probe appointment.
+     */
+    private static Appointment probe(LocalDateTime dateTime) {
+        return new Appointment("", null, new TimeSlot(dateTime), null, null);
+    }
+
+    /**
+     * Copies the appointments that match a predicate, preserving their order.
+     * @param appointments the appointments to filter.
+     * @param predicate the condition to check each appointment.
+     * @return the list of copies of the matching appointments.
+     */
+    private List<Appointment> copyOf(Collection<Appointment> appointments, Predicate<Appointment> predicate) {
+        List<Appointment> result = new ArrayList<Appointment>();
+
+        for (Appointment appointment : appointments) {
+            if (predicate.test(appointment)) {
+                result.add(copyOf(appointment));
+            }
+        }
+
+        return result;
+    }
 }
@@ -1,16 +1,64 @@
 package repository;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
 
 import model.BaseModel;
+import repository.exceptions.VersionConflictException;
 import repository.interfaces.IRepository;
+import repository.persistence.GroupCommitter;
+import repository.persistence.IdAllocator;
+import repository.persistence.Journal;
+import repository.persistence.TransactionLog;
+import repository.persistence.codec.Codecs;
+import repository.persistence.codec.RecordCodec;
 
 /**
  * Base repository class that provides basic CRUD operations for managing items in a repository.
  * This class is abstract and intended to be extended by concrete repository classes.
+ * 
+ * <p>Items are persisted as a snapshot of the whole repository plus a {@link Journal} of the
+ * mutations made since that snapshot. Each mutation only appends a small record to the journal,
+ * and the journal is periodically compacted into a new snapshot. Snapshots are checksummed and
+ * atomically replaced, and the previous generation is kept to fall back on if a snapshot is
+ * found to be corrupted.</p>
+ *
+ * <p>Both the snapshot and the journal records are encoded with the {@link RecordCodec} of the
+ * repository rather than Java serialization. Data files written with Java serialization by older
+ * versions are still read, and are rewritten in the binary format once they are loaded.</p>
+ *
+ * <p>Stored items are never modified in place. Saving an item replaces the stored item with a
+ * frozen copy (see {@link BaseModel#freeze()}), so the items returned by the read-only {@code view}
+ * methods can be shared without copying them, while the {@code find} methods return private copies to be modified and saved. Fields that
+ * subclasses change without saving the whole item, such as counters, are journaled as patches (see
+ * {@link #appendPatch(String, byte[])}), and the stored item is replaced with an updated copy
+ * without changing its version (see {@link #replaceInPlace(BaseModel)}).</p>
+ *
+ * <p>The items are held in a {@link ConcurrentHashMap}, so that several sessions in the same process
+ * can look up items by ID without locking. Operations that change the items, or read several of
+ * them at once, are synchronized on the repository, so that the items, the indexes of subclasses and
+ * the journal are always changed together. Each item has a version that is incremented whenever it
+ * is saved or removed, and the copies returned by the {@code find} methods carry the version they
+ * were read at. Saving a copy that another session has changed since it was read throws a
+ * {@link VersionConflictException} instead of overwriting the other change, so that the caller can
+ * read the item again and retry.</p>
+ *
+ * <p>Changes that span several repositories are committed through a {@link UnitOfWork}, which
+ * records them in a shared {@link TransactionLog} before they are appended to the journal of each
+ * repository. Each repository keeps the LSN of the last transaction it has applied in its snapshot
+ * and journal, and applies any later transactions from the log when it is loaded.</p>
  *
  * @param <T> the type of the model that the repository holds, which extends {@link BaseModel}.
  * 
@@ -26,22 +74,194 @@ public abstract class BaseRepository<T extends BaseModel> implements IRepository
     private static final String BASE_PATH = System.getProperty("user.dir") + File.separator + "data" + File.separator;
 
     /**
-     * The internal store of the maps of each of the items.
+     * The number of journal records after which the journal is folded into a new snapshot.
+     */
+    private static final int COMPACTION_THRESHOLD = 512;
+
+    /**
+     * The magic number at the start of a binary snapshot, {@code "HMSR"} in ASCII.
+     */
+    private static final int SNAPSHOT_MAGIC = 0x484D5352;
+
+    /**
+     * The version of the layout of a binary snapshot, which holds the LSN of the last transaction
+     * applied to the repository and ends with a checksum of the snapshot.
+     */
+    private static final byte SNAPSHOT_FORMAT = 3;
+
+    /**
+     * The version of the layout of a binary snapshot written by older versions, with a checksum
+     * but without the LSN of the last transaction.
+     */
+    private static final byte UNSEQUENCED_SNAPSHOT_FORMAT = 2;
+
+    /**
+     * The version of the layout of a binary snapshot written by older versions, without a checksum.
+     */
+    private static final byte UNCHECKED_SNAPSHOT_FORMAT = 1;
+
+    /**
+     * The suffix of the file that a new snapshot is written to before it replaces the snapshot.
+     */
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * The suffix of the file of the previous generation of the snapshot.
+     */
+    private static final String BACKUP_SUFFIX = ".bak";
+
+    /**
+     * The suffix of the file that a corrupted snapshot is set aside to.
+     */
+    private static final String CORRUPT_SUFFIX = ".corrupt";
+
+    /**
+     * The magic number at the start of a file written with Java serialization.
+     */
+    private static final int SERIALIZED_MAGIC = 0xACED;
+
+    /**
+     * The journal record type for an item that was inserted or updated, encoded with Java
+     * serialization. Only read to migrate journals written by older versions.
+     */
+    private static final byte LEGACY_RECORD_PUT = 1;
+
+    /**
+     * The journal record type for an item that was removed, written by older versions.
+     */
+    private static final byte LEGACY_RECORD_DELETE = 2;
+
+    /**
+     * The journal record type for a group of records that are applied all-or-nothing.
+     */
+    private static final byte RECORD_BATCH = 3;
+
+    /**
+     * The journal record type for an item that was inserted or updated.
+     */
+    private static final byte RECORD_PUT = 4;
+
+    /**
+     * The journal record type for an item that was removed.
+     */
+    private static final byte RECORD_DELETE = 5;
+
+    /**
+     * The journal record type for the changes made to the repository by a transaction, tagged with
+     * the LSN of the transaction.
+     */
+    private static final byte RECORD_TRANSACTION = 6;
+
+    /**
+     * The journal record type for a partial change made to an item in place, encoded by the subclass.
+     */
+    private static final byte RECORD_PATCH = 7;
+
+    /**
+     * The name of the file of the log of transactions that span several repositories.
+     */
+    private static final String TRANSACTION_LOG_FILENAME = "transactions.log";
+
+    /**
+     * The number of transactions after which every repository in the transaction log is compacted
+     * and the log is truncated.
+     */
+    private static final int TRANSACTION_CHECKPOINT_THRESHOLD = 256;
+
+    /**
+     * The lock held while a transaction is committed or the transaction log is checkpointed, so
+     * that transactions are appended to the log in the order of their LSNs.
+     */
+    private static final Object transactionLock = new Object();
+
+    /**
+     * The repositories that were constructed, by the name of their file, used to compact the
+     * repositories in the transaction log before it is truncated.
+     */
+    private static final Map<String, BaseRepository<?>> registry = new HashMap<String, BaseRepository<?>>();
+
+    /**
+     * The log of transactions that span several repositories, opened on first use.
+     */
+    private static TransactionLog transactionLog = null;
+
+    /**
+     * The internal store of the maps of each of the items, which is replaced as a whole when the
+     * snapshot is loaded.
+     */
+    private volatile Map<String, T> items = null;
+
+    /**
+     * The version of each item that was saved or removed since the repository was loaded, by ID.
+     * The items that were not changed since are at version {@code 1}.
+     */
+    private final Map<String, Long> versions = new ConcurrentHashMap<String, Long>();
+
+    /**
+     * The revision of the repository, which is incremented whenever any of its items is saved or
+     * removed, or the items are replaced as a whole.
      */
-    private Map<String, T> items = null;
+    private volatile long revision = 0;
 
     /**
      * The name of the file where the repository's data is stored and loaded from.
      */
     private final String filename;
 
+    /**
+     * The journal of mutations made since the last snapshot was written.
+     */
+    private final Journal journal;
+
+    /**
+     * The allocator of IDs for new items, seeded from the IDs already in use.
+     */
+    private final IdAllocator idAllocator;
+
+    /**
+     * The codec used to encode the items in the snapshot and the journal.
+     */
+    private final RecordCodec<T> codec;
+
+    /**
+     * Whether data written by an older version was loaded, and should be rewritten in the
+     * current format.
+     */
+    private boolean requiresMigration = false;
+
+    /**
+     * Whether the snapshot was recovered from a fallback after it was found to be missing or
+     * corrupted, and should be rewritten.
+     */
+    private boolean requiresRecovery = false;
+
+    /**
+     * The LSN of the last transaction applied to the repository, or {@code 0} if none was.
+     */
+    private long appliedLsn = 0;
+
+    /**
+     * The cached read-only view of all the items, or {@code null} if it has to be rebuilt after
+     * the items were changed.
+     */
+    private List<T> view = null;
+
     /**
      * Constructs a {@link BaseRepository} with the specified filename for data persistence.
      *
      * @param filename the name of the file where the repository's data is stored and loaded from.
+     * @param codec the codec used to encode the items of the repository.
      */
-    public BaseRepository(String filename) {
+    public BaseRepository(String filename, RecordCodec<T> codec) {
         this.filename = filename;
+        this.codec = codec;
+        this.journal = new Journal(new File(BASE_PATH + filename + ".journal"));
+        this.idAllocator = new IdAllocator(new File(BASE_PATH + filename + ".seq"));
+
+        synchronized (registry) {
+            registry.put(filename, this);
+        }
+
         initialize();
     }
 
@@ -55,11 +275,31 @@ public abstract class BaseRepository<T extends BaseModel> implements IRepository
     }
 
      /**
-     * Initializes the repository by loading data from the serialized file and parsing the content.
+     * Initializes the repository by loading data from the serialized file and parsing the content,
+     * then replaying the mutations recorded in the journal since that snapshot was written.
      */
-    public void initialize() {
-        // To add additional logic/cleanup here
+    public synchronized void initialize() {
+        // Records queued in write-behind mode by other instances must be written before reading.
+        flush();
         readFromSerialized();
+        versions.clear();
+        items.values().forEach(item -> {
+            item.setVersion(1);
+            item.freeze();
+        });
+        revision++;
+        items.keySet().forEach(idAllocator::observe);
+        view = null;
+        onReset();
+        journal.replay(this::applyRecord);
+        recoverTransactions();
+
+        if (requiresMigration) {
+            System.out.println("[INFO] Migrating " + filename + " to the current format.");
+            requiresMigration = !writeToSerialized();
+        } else if (requiresRecovery) {
+            requiresRecovery = !writeToSerialized();
+        }
     }
 
     /**
@@ -68,9 +308,9 @@ public abstract class BaseRepository<T extends BaseModel> implements IRepository
      * @return a list of copies of all items in the repository.
      */
     @SuppressWarnings("unchecked")
-    public List<T> findAll() {
+    public synchronized List<T> findAll() {
         return items.values().stream()
-                    .map(item -> (T) item.copy())
+                    .map(this::copyOf)
                     .collect(Collectors.toList());
     }
 
@@ -89,7 +329,7 @@ public abstract class BaseRepository<T extends BaseModel> implements IRepository
             return null;
         }
 
-        return (T) item.copy();
+        return copyOf(item);
     }
 
     /**
@@ -100,8 +340,53 @@ public abstract class BaseRepository<T extends BaseModel> implements IRepository
      */
     @SuppressWarnings("unchecked") 
     // Type cast is always valid since implementations of copy() does a covariant return.
-    final public List<T> findBy(Predicate<T> predicate) {
-        return items.values().stream().filter(predicate).map((T item) -> (T) item.copy()).collect(Collectors.toList());
+    final public synchronized List<T> findBy(Predicate<T> predicate) {
+        return items.values().stream().filter(predicate).map(this::copyOf).collect(Collectors.toList());
+    }
+
+    /**
+     * Gets a read-only view of all items in the repository, without copying them. The items are
+     * frozen, so only the copies returned by the {@code find} methods can be modified. The view is
+     * cached until the items are next changed, so repeated reads allocate nothing.
+     *
+     * @return an unmodifiable list of all items, which must not be modified.
+     */
+    public synchronized List<T> viewAll() {
+        if (view == null) {
+            view = Collections.unmodifiableList(new ArrayList<T>(items.values()));
+        }
+
+        return view;
+    }
+
+    /**
+     * Gets a read-only view of an item by its ID, without copying it. The item is frozen.
+     *
+     * @param id the ID of the item to find.
+     * @return the item with the given ID, or {@code null} if no item matches. The item must not
+     * be modified.
+     */
+    public T viewById(String id) {
+        return items.get(id);
+    }
+
+    /**
+     * Gets a read-only view of all items that match a given predicate, without copying them. The
+     * items are frozen.
+     *
+     * @param predicate the condition to check each item.
+     * @return a list of the items that match the predicate, which must not be modified.
+     */
+    public synchronized List<T> viewBy(Predicate<T> predicate) {
+        List<T> result = new ArrayList<T>();
+
+        for (T item : items.values()) {
+            if (predicate.test(item)) {
+                result.add(item);
+            }
+        }
+
+        return Collections.unmodifiableList(result);
     }
 
     /**
@@ -110,62 +395,213 @@ public abstract class BaseRepository<T extends BaseModel> implements IRepository
      * @param id the ID of the item to remove.
      * @return the removed item, or {@code null} if no item matches the given ID.
      */
-    final public T deleteById(String id) {
-        T item = items.remove(id);
-        writeToSerialized();
+    final public synchronized T deleteById(String id) {
+        T item = remove(id);
+
+        if (item != null) {
+            appendRecord(encodeDelete(id));
+        }
 
         return item;
     }
 
     /**
      * Saves an item to the repository. If the item does not have an ID, a new one is generated.
-     * The item is persisted to the file.
+     * The item is saved as a batch of one, so that it is only applied if it is persisted.
      *
      * @param item the item to save.
-     * @return the saved item, with its ID updated if necessary.
+     * @return the saved item, with its ID and version updated, or {@code null} if the item could
+     * not be persisted.
+     * @throws VersionConflictException if the item was read at an older version, ie: it was
+     * changed by another session since it was read.
      */
-    @SuppressWarnings("unchecked")
-    // Type cast is always valid since implementations of copy() does a covariant return.
-    public T save(T item) {
+    public synchronized T save(T item) {
         if (item == null) return null;
-        
-        if (item.getId() == null || item.getId().isBlank()) {
-            item.setId(generateId());
+
+        return save(List.of(item)) == null ? null : item;
+    }
+
+    /**
+     * Gets the current version of an item, to be passed to {@link #compareAndSave(BaseModel, long)}
+     * when the item is saved.
+     *
+     * @param id the ID of the item.
+     * @return the version of the item, which is {@code 1} if it was not changed since the
+     * repository was loaded, or {@code 0} if the item never existed.
+     */
+    public long getVersion(String id) {
+        Long version = versions.get(id);
+
+        if (version != null) {
+            return version;
         }
 
-        items.put(item.getId(), (T) item.copy());
-        writeToSerialized();
+        return items.containsKey(id) ? 1 : 0;
+    }
 
-        return item;
+    /**
+     * Gets the revision of the repository, which changes whenever any of its items is saved or
+     * removed, so that callers can tell whether the items have changed since they last read them.
+     *
+     * @return the revision of the repository.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * Saves an item only if it is still at the given version, ie: it was not saved or removed by
+     * another session since the version was read. The check and the save are atomic.
+     *
+     * @param item the item to save.
+     * @param expectedVersion the version of the item when it was read, see {@link #getVersion(String)}.
+     * @return {@code true} if the item was saved, {@code false} if it was changed in the meantime
+     * or could not be persisted.
+     */
+    public synchronized boolean compareAndSave(T item, long expectedVersion) {
+        if (item == null) return false;
+
+        if (item.getId() != null && getVersion(item.getId()) != expectedVersion) {
+            return false;
+        }
+
+        item.setVersion(expectedVersion);
+        return save(item) != null;
     }
 
     /**
-     * Saves a collection of items to the repository. Items without IDs are assigned new IDs.
-     * The items are persisted to the file.
+     * Saves a collection of items to the repository as a single batch. Items without IDs are
+     * assigned new IDs. All the items are applied in memory and then persisted with exactly one
+     * write, so either every item in the batch is persisted or none of them are.
      *
      * @param collection the collection of items to save.
-     * @return the saved collection, with IDs updated if necessary.
+     * @return the saved collection, with IDs updated if necessary, or {@code null} if the
+     * collection is empty or the batch could not be persisted.
+     * @throws VersionConflictException if an item was changed by another session since it was
+     * read, in which case none of the items are saved.
      */
-    public List<T> save(List<T> collection) {
+    @SuppressWarnings("unchecked")
+    // Type cast is always valid since implementations of copy() does a covariant return.
+    public synchronized List<T> save(List<T> collection) {
         if (collection.size() <= 0) return null;
 
+        // Check every item before any is applied, so that a conflict leaves the batch unapplied.
         for (T item : collection) {
-            if (item.getId() == null || item.getId().isBlank()) {
-                item.setId(generateId());
+            if (item.getId() != null && !item.getId().isBlank()) {
+                checkVersion(item);
             }
-            
-            save(item);
         }
 
-        writeToSerialized();
+        // The previous state of every item touched by the batch, to restore if the write fails.
+        Map<String, T> previous = new LinkedHashMap<String, T>();
+        List<byte[]> records = new ArrayList<byte[]>();
+
+        try {
+            for (T item : collection) {
+                if (item.getId() == null || item.getId().isBlank()) {
+                    item.setId(generateId(item));
+                }
+
+                idAllocator.observe(item.getId());
+
+                T replaced = items.get(item.getId());
+                T stored = (T) item.copy();
+
+                store(stored);
+
+                if (!previous.containsKey(item.getId())) {
+                    previous.put(item.getId(), replaced);
+                }
+
+                records.add(encodePut(stored));
+                item.setVersion(stored.getVersion());
+            }
+        } catch (RuntimeException e) {
+            // An item rejected by a subclass while it is stored leaves the batch unapplied.
+            rollback(previous);
+            throw e;
+        }
+
+        // A single record is already appended all-or-nothing, so it is not wrapped in a batch.
+        byte[] record = records.size() == 1 ? records.get(0) : encodeBatch(records);
+
+        if (!appendRecord(record)) {
+            System.out.println("[ERROR] Could not persist batch to " + filename + ", rolling back.");
+            rollback(previous);
+            return null;
+        }
+
+        collection.forEach(this::onSaved);
         return collection;
     }
 
+    /**
+     * Removes a collection of items from the repository by their IDs as a single batch, persisting
+     * the changes with exactly one write.
+     *
+     * @param ids the IDs of the items to remove.
+     * @return the removed items, or {@code null} if the batch could not be persisted.
+     */
+    public synchronized List<T> deleteById(List<String> ids) {
+        Map<String, T> previous = new LinkedHashMap<String, T>();
+        List<byte[]> records = new ArrayList<byte[]>();
+
+        for (String id : ids) {
+            T item = remove(id);
+
+            if (item == null) {
+                continue;
+            }
+
+            previous.put(id, item);
+            records.add(encodeDelete(id));
+        }
+
+        if (records.isEmpty()) {
+            return new ArrayList<T>();
+        }
+
+        if (!appendRecord(encodeBatch(records))) {
+            System.out.println("[ERROR] Could not persist batch to " + filename + ", rolling back.");
+            rollback(previous);
+            return null;
+        }
+
+        return new ArrayList<T>(previous.values());
+    }
+
+    /**
+     * Allocates the next unused ID with the given prefix in O(1). The sequence of each prefix is
+     * monotonic and persisted, so IDs are never reused, even across restarts.
+     *
+     * @param prefix the prefix of the ID.
+     * @return the allocated ID.
+     */
+    protected String nextId(String prefix) {
+        return idAllocator.next(prefix.charAt(0));
+    }
+
+    /**
+     * Generates a unique ID for the given item to be stored in the repository. Repositories whose
+     * IDs depend on the item, such as its role, should override this method.
+     *
+     * @param item the item to generate the ID for.
+     * @return the unique ID.
+     */
+    protected String generateId(T item) {
+        return generateId();
+    }
+
      /**
-     * Clears all items in the repository and persists the changes.
+     * Clears all items in the repository and persists the changes. Since nothing remains to be
+     * replayed, this writes an empty snapshot and discards the journal.
      */
-    public void clear() {
+    public synchronized void clear() {
+        items.keySet().forEach(id -> versions.put(id, getVersion(id) + 1));
         items.clear();
+        revision++;
+        view = null;
+        onReset();
         writeToSerialized();
     }
 
@@ -176,7 +612,7 @@ public abstract class BaseRepository<T extends BaseModel> implements IRepository
      * @return {@code true} if an item with the given ID exists, {@code false} otherwise.
      */
     public boolean exists(String id) {
-        return findById(id) != null;
+        return items.containsKey(id);
     }
 
     /**
@@ -199,51 +635,872 @@ public abstract class BaseRepository<T extends BaseModel> implements IRepository
     }
 
     /**
-     * Reads the serialized data from the file into the repository's items.
+     * Gets a file in the directory of the data files, for repositories that keep data of their own
+     * next to their items.
+     *
+     * @param filename the name of the file.
+     * @return the file in the data directory.
+     */
+    protected static File dataFile(String filename) {
+        return new File(BASE_PATH + filename);
+    }
+
+    /**
+     * Copies a stored item, tagged with its version. The version is read from the stored item
+     * rather than {@link #getVersion(String)}, so that it matches the copied state even if the
+     * item is saved by another session meanwhile. Subclasses that return copies of their items
+     * must copy them with this method, so that the copies can be saved.
+     *
+     * @param item the stored item.
+     * @return a copy of the item, at the version of the stored item.
      */
     @SuppressWarnings("unchecked")
-    protected void readFromSerialized() {
-        File file = new File(BASE_PATH + filename);
+    // Type cast is always valid since implementations of copy() does a covariant return.
+    protected T copyOf(T item) {
+        T copy = (T) item.copy();
+        copy.setVersion(item.getVersion());
 
-        if (!file.exists()) {
-            items = new HashMap<String, T>();
+        return copy;
+    }
+
+    /**
+     * Checks that an item to be saved is not a stale copy. Items that were not read from the
+     * repository, ie: at version {@code 0}, are saved unconditionally.
+     *
+     * @param item the item to be saved.
+     * @throws VersionConflictException if the item was changed by another session since it was read.
+     */
+    private void checkVersion(T item) {
+        if (item.getVersion() == 0) {
             return;
         }
 
-        try (FileInputStream fileInputStream = new FileInputStream(BASE_PATH + filename)) {
-            ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream);
-            
-            items = (Map<String, T>) objectInputStream.readObject();
-
-        } catch (ClassNotFoundException | IOException e) {
-            e.printStackTrace();
+        long current = getVersion(item.getId());
 
-            items = new HashMap<String, T>();
-            return;
+        if (item.getVersion() != current) {
+            throw new VersionConflictException(item.getId(), item.getVersion(), current);
         }
     }
 
     /**
-     * Writes the serialized data from the repository's items to the file.
-     * 
-     * @return {@code true} if the write succeeded, {@code false} otherwise.
+     * Called before an item is inserted or replaced in the repository, including while the journal
+     * is replayed and while items are rolled back. Repositories whose items have fields that are
+     * changed in place should override this method to carry those fields over to the item. The item
+     * can be rejected by throwing an exception, in which case nothing is stored.
+     *
+     * @param previous the item that will be replaced, or {@code null} if the item will be inserted.
+     * @param item the item that will be stored.
+     * @throws VersionConflictException if the item cannot be stored over the item it replaces.
      */
-    protected boolean writeToSerialized() {
-        if (!new File(BASE_PATH).exists()) {
-            new File(BASE_PATH).mkdir();
-        }
+    protected void onStoring(T previous, T item) {}
 
-        File file = new File(BASE_PATH + filename);
+    /**
+     * Called after an item passed to one of the {@code save} methods is saved, with the item of the
+     * caller rather than the stored copy, such as to update the state that the copy was read at.
+     * Items saved by a {@link UnitOfWork} are only passed once the transaction is committed.
+     *
+     * @param item the item that was saved.
+     */
+    protected void onSaved(T item) {}
+
+    /**
+     * Called after an item is inserted or replaced in the repository, including while the journal
+     * is replayed. Repositories that maintain secondary indexes should override this method to
+     * keep them consistent with the items.
+     *
+     * @param previous the item that was replaced, or {@code null} if the item was inserted.
+     * @param item the item that was stored.
+     */
+    protected void onStored(T previous, T item) {}
 
-        try (FileOutputStream fileOutputStream = new FileOutputStream(file)) {
-            ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream);
-            objectOutputStream.writeObject(items);
+    /**
+     * Called after an item is removed from the repository, including while the journal is
+     * replayed.
+     *
+     * @param item the item that was removed.
+     */
+    protected void onRemoved(T item) {}
 
-        } catch (IOException e) {
-            e.printStackTrace();
-            return false;
+    /**
+     * Called after the items of the repository are replaced as a whole, ie: when the snapshot is
+     * loaded or the repository is cleared. Repositories that maintain secondary indexes should
+     * override this method to rebuild them from {@link #getItems()}.
+     *
+     * <p>Note that this is first called from the constructor of {@link BaseRepository}, before the
+     * fields of the subclass are initialized.</p>
+     */
+    protected void onReset() {}
+
+    /**
+     * Inserts or replaces an item in the internal store.
+     *
+     * @param item the item to store.
+     */
+    private void store(T item) {
+        onStoring(items.get(item.getId()), item);
+
+        long version = getVersion(item.getId()) + 1;
+
+        view = null;
+        revision++;
+        versions.put(item.getId(), version);
+        item.setVersion(version);
+        item.freeze();
+        onStored(items.put(item.getId(), item), item);
+    }
+
+    /**
+     * Removes an item from the internal store.
+     *
+     * @param id the ID of the item to remove.
+     * @return the removed item, or {@code null} if no item matches the given ID.
+     */
+    private T remove(String id) {
+        long version = getVersion(id) + 1;
+        T item = items.remove(id);
+
+        if (item != null) {
+            view = null;
+            revision++;
+            versions.put(id, version);
+            onRemoved(item);
         }
 
-        return true;
+        return item;
+    }
+
+    /**
+     * Blocks until the changes made to the repository so far are written to disk. This only
+     * has to be called in write-behind mode, where the changes are otherwise written in the
+     * background (see {@link GroupCommitter}).
+     *
+     * @return {@code true} if the changes are written, {@code false} otherwise.
+     */
+    public boolean flush() {
+        GroupCommitter committer = GroupCommitter.getInstance();
+        return committer == null || committer.flush();
+    }
+
+    /**
+     * Folds the journal into a new snapshot of the repository, so that the journal does not
+     * grow without bound and startup does not have to replay a long history of mutations.
+     *
+     * @return {@code true} if the snapshot was written, {@code false} otherwise.
+     */
+    public synchronized boolean compact() {
+        return writeToSerialized();
+    }
+
+    /**
+     * Appends a patch to the journal for a change that was made to a field of a stored item without
+     * saving the whole item, such as a counter. The patch is encoded by the subclass, and is applied
+     * with {@link #applyPatch(BaseModel, DataInput)} when the journal is replayed. Since patches may be
+     * appended in a different order than the changes were made, they should carry enough to be
+     * applied in any order, ie: a sequence number and the resulting value.
+     *
+     * @param id the ID of the item that was changed.
+     * @param patch the encoded change.
+     * @return {@code true} if the patch was persisted, {@code false} otherwise.
+     */
+    protected final synchronized boolean appendPatch(String id, byte[] patch) {
+        revision++;
+        return appendRecord(encodePatch(id, patch));
+    }
+
+    /**
+     * Replaces a stored item with a copy of it whose fields were changed in place, such as by a
+     * patch, without changing its version, so that the copies read before it can still be saved.
+     * The caller must hold the lock of the repository.
+     *
+     * @param item the copy to store in place of the stored item with the same ID.
+     * @return {@code true} if the item was replaced, {@code false} if no item matches its ID.
+     */
+    protected final boolean replaceInPlace(T item) {
+        item.setVersion(getVersion(item.getId()));
+        item.freeze();
+
+        if (items.replace(item.getId(), item) == null) {
+            return false;
+        }
+
+        view = null;
+        revision++;
+        return true;
+    }
+
+    /**
+     * Applies a patch appended with {@link #appendPatch(String, byte[])} to a stored item while the
+     * journal is replayed. Repositories that append patches must override this method.
+     *
+     * @param item the stored item that the patch was appended for.
+     * @param in the input positioned at the start of the patch.
+     * @throws IOException if the patch could not be decoded.
+     */
+    protected void applyPatch(T item, DataInput in) throws IOException {
+        throw new IOException("Patches are not supported by " + filename);
+    }
+
+    /**
+     * Gets the name of the file where the repository's data is stored, which identifies the
+     * repository in the transaction log.
+     *
+     * @return the name of the file.
+     */
+    final String getFilename() {
+        return filename;
+    }
+
+    /**
+     * Assigns a new ID to an item that does not have one, to be saved by a {@link UnitOfWork}.
+     *
+     * @param item the item to assign an ID to.
+     * @return the ID of the item.
+     */
+    final synchronized String assignId(T item) {
+        if (item.getId() == null || item.getId().isBlank()) {
+            item.setId(generateId(item));
+        }
+
+        idAllocator.observe(item.getId());
+        return item.getId();
+    }
+
+    /**
+     * Applies the changes staged by a {@link UnitOfWork} to the items in memory, without
+     * persisting them. The caller must hold the lock of the repository until the changes are
+     * either persisted with {@link #appendTransaction(long, byte[])} or undone with
+     * {@link #rollback(Map)}.
+     *
+     * @param changes the items to save by ID, or {@code null} for the items to remove.
+     * @param previous the map to put the previous state of each changed item into, or
+     * {@code null} if the item did not exist.
+     * @return the encoded record of the changes, or {@code null} if they could not be encoded.
+     * @throws VersionConflictException if an item to save was changed by another session since
+     * it was read, in which case none of the changes are applied.
+     */
+    @SuppressWarnings("unchecked")
+    // Type cast is always valid since implementations of copy() does a covariant return.
+    final byte[] applyChanges(Map<String, T> changes, Map<String, T> previous) {
+        List<byte[]> records = new ArrayList<byte[]>();
+
+        for (T item : changes.values()) {
+            if (item != null) {
+                checkVersion(item);
+            }
+        }
+
+        for (Map.Entry<String, T> change : changes.entrySet()) {
+            String id = change.getKey();
+
+            if (change.getValue() == null && !items.containsKey(id)) {
+                continue;
+            }
+
+            T replaced = items.get(id);
+
+            if (change.getValue() == null) {
+                remove(id);
+                records.add(encodeDelete(id));
+            } else {
+                T stored = (T) change.getValue().copy();
+
+                store(stored);
+                records.add(encodePut(stored));
+                change.getValue().setVersion(stored.getVersion());
+            }
+
+            if (!previous.containsKey(id)) {
+                previous.put(id, replaced);
+            }
+        }
+
+        return encodeBatch(records);
+    }
+
+    /**
+     * Completes the changes applied by {@link #applyChanges(Map, Map)} once the transaction is
+     * committed, by calling {@link #onSaved(BaseModel)} with every item that was saved.
+     *
+     * @param changes the items saved by ID, or {@code null} for the items removed.
+     */
+    final void committed(Map<String, T> changes) {
+        for (T item : changes.values()) {
+            if (item != null) {
+                onSaved(item);
+            }
+        }
+    }
+
+    /**
+     * Appends the changes made by a transaction to the journal, once the transaction is committed
+     * to the transaction log.
+     *
+     * @param lsn the LSN of the transaction.
+     * @param record the encoded record of the changes.
+     * @return {@code true} if the changes were persisted, {@code false} otherwise.
+     */
+    final boolean appendTransaction(long lsn, byte[] record) {
+        appliedLsn = lsn;
+        return appendRecord(encodeTransaction(lsn, record));
+    }
+
+    /**
+     * Gets the lock held while a transaction is committed.
+     *
+     * @return the lock.
+     */
+    static Object getTransactionLock() {
+        return transactionLock;
+    }
+
+    /**
+     * Gets the log of transactions that span several repositories, opening it on first use.
+     *
+     * @return the transaction log.
+     */
+    static synchronized TransactionLog getTransactionLog() {
+        if (transactionLog == null) {
+            transactionLog = new TransactionLog(new File(BASE_PATH + TRANSACTION_LOG_FILENAME));
+        }
+
+        return transactionLog;
+    }
+
+    /**
+     * Truncates the transaction log once it grows past {@link #TRANSACTION_CHECKPOINT_THRESHOLD}
+     * transactions. Every repository in the log is compacted first, so that its snapshot holds
+     * the changes and LSN of every transaction in the log. The log is kept if any of these
+     * repositories was not constructed or could not be compacted.
+     */
+    static void checkpointTransactions() {
+        TransactionLog log = getTransactionLog();
+
+        synchronized (transactionLock) {
+            if (log.size() < TRANSACTION_CHECKPOINT_THRESHOLD) {
+                return;
+            }
+
+            for (String name : log.participants()) {
+                BaseRepository<?> repository;
+
+                synchronized (registry) {
+                    repository = registry.get(name);
+                }
+
+                if (repository == null || !repository.compact()) {
+                    return;
+                }
+            }
+
+            log.truncate();
+        }
+    }
+
+    /**
+     * Applies the transactions in the transaction log that were committed after the last
+     * transaction applied to the repository, ie: when the journal records of the transactions
+     * were lost in a crash. The repository is then rewritten, so that the changes are persisted
+     * before the log is truncated.
+     */
+    private void recoverTransactions() {
+        TransactionLog log = getTransactionLog();
+        log.observe(appliedLsn);
+
+        List<byte[]> records = log.recordsAfter(filename, appliedLsn);
+
+        if (records.isEmpty()) {
+            return;
+        }
+
+        System.out.println("[WARNING] Recovering " + records.size() + " transactions of " + filename + " from the transaction log.");
+
+        for (byte[] record : records) {
+            try {
+                applyRecord(new DataInputStream(new ByteArrayInputStream(record)));
+            } catch (IOException e) {
+                System.out.println("[ERROR] Could not recover a transaction of " + filename + ": " + e.getMessage());
+            }
+        }
+
+        appliedLsn = log.lastLsn();
+        requiresRecovery = true;
+    }
+
+    /**
+     * Appends a record to the journal, compacting the journal into a new snapshot once it
+     * grows past {@link #COMPACTION_THRESHOLD} records.
+     *
+     * @param record the encoded record to append.
+     * @return {@code true} if the record was persisted, {@code false} otherwise.
+     */
+    private boolean appendRecord(byte[] record) {
+        if (record == null) {
+            return false;
+        }
+
+        if (!journal.append(record)) {
+            // Fall back to persisting the whole repository so that the change is not lost.
+            return writeToSerialized();
+        }
+
+        if (journal.size() >= COMPACTION_THRESHOLD) {
+            compact();
+        }
+
+        return true;
+    }
+
+    /**
+     * Encodes a journal record for an item that was inserted or updated.
+     *
+     * @param item the item that was saved.
+     * @return the encoded record, or {@code null} if the item could not be encoded.
+     */
+    private byte[] encodePut(T item) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+
+            out.writeByte(RECORD_PUT);
+            Codecs.writeId(out, item.getId());
+            writeItem(out, item);
+            out.flush();
+
+            return bytes.toByteArray();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Encodes a journal record for a partial change made to an item in place.
+     *
+     * @param id the ID of the item that was changed.
+     * @param patch the encoded change.
+     * @return the encoded record, or {@code null} if the record could not be encoded.
+     */
+    private byte[] encodePatch(String id, byte[] patch) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+
+            out.writeByte(RECORD_PATCH);
+            Codecs.writeId(out, id);
+            out.write(patch);
+            out.flush();
+
+            return bytes.toByteArray();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Encodes a journal record that groups several records to be applied all-or-nothing. Since
+     * the group is appended as one framed record, a crash mid-append discards the whole group.
+     *
+     * @param records the encoded records to group.
+     * @return the encoded record, or {@code null} if any record could not be encoded.
+     */
+    private byte[] encodeBatch(List<byte[]> records) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+
+            out.writeByte(RECORD_BATCH);
+            out.writeInt(records.size());
+
+            for (byte[] record : records) {
+                if (record == null) {
+                    return null;
+                }
+
+                out.writeInt(record.length);
+                out.write(record);
+            }
+
+            out.flush();
+            return bytes.toByteArray();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Encodes a journal record for the changes made to the repository by a transaction.
+     *
+     * @param lsn the LSN of the transaction.
+     * @param record the encoded record of the changes.
+     * @return the encoded record, or {@code null} if the record could not be encoded.
+     */
+    private byte[] encodeTransaction(long lsn, byte[] record) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+
+            out.writeByte(RECORD_TRANSACTION);
+            out.writeLong(lsn);
+            out.write(record);
+            out.flush();
+
+            return bytes.toByteArray();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Restores the items touched by a batch or transaction that could not be persisted. Copies of
+     * the previous items are stored, since the previous items are frozen at their old version.
+     *
+     * @param previous the previous state of each item, or {@code null} if it did not exist.
+     */
+    final void rollback(Map<String, T> previous) {
+        for (Map.Entry<String, T> entry : previous.entrySet()) {
+            if (entry.getValue() == null) {
+                remove(entry.getKey());
+            } else {
+                store(copyOf(entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * Encodes a journal record for an item that was removed.
+     *
+     * @param id the ID of the item that was removed.
+     * @return the encoded record, or {@code null} if the record could not be encoded.
+     */
+    private byte[] encodeDelete(String id) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+
+            out.writeByte(RECORD_DELETE);
+            Codecs.writeId(out, id);
+            out.flush();
+
+            return bytes.toByteArray();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Applies a journal record to the repository's items during replay.
+     *
+     * @param in the input positioned at the start of the record.
+     * @throws IOException if the record could not be decoded.
+     */
+    @SuppressWarnings("unchecked")
+    private void applyRecord(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+
+        if (type == RECORD_BATCH) {
+            int count = in.readInt();
+
+            for (int i = 0; i < count; i++) {
+                byte[] record = new byte[in.readInt()];
+                in.readFully(record);
+                applyRecord(new DataInputStream(new ByteArrayInputStream(record)));
+            }
+
+            return;
+        }
+
+        if (type == RECORD_TRANSACTION) {
+            long lsn = in.readLong();
+
+            applyRecord(in);
+            appliedLsn = Math.max(appliedLsn, lsn);
+            return;
+        }
+
+        if (type == RECORD_PATCH) {
+            T item = items.get(Codecs.readId(in));
+
+            // Patches of items that were removed since are skipped.
+            if (item != null) {
+                applyPatch(item, in);
+                revision++;
+            }
+
+            return;
+        }
+
+        if (type == RECORD_PUT || type == RECORD_DELETE) {
+            String id = Codecs.readId(in);
+            idAllocator.observe(id);
+
+            if (type == RECORD_DELETE) {
+                remove(id);
+            } else {
+                store(readItem(in));
+            }
+
+            return;
+        }
+
+        if (type != LEGACY_RECORD_PUT && type != LEGACY_RECORD_DELETE) {
+            throw new IOException("Unknown record type " + type);
+        }
+
+        // Records written with Java serialization are folded into a binary snapshot once loaded.
+        requiresMigration = true;
+
+        String id = in.readUTF();
+        idAllocator.observe(id);
+
+        if (type == LEGACY_RECORD_DELETE) {
+            remove(id);
+            return;
+        }
+
+        try {
+            store((T) new ObjectInputStream(in).readObject());
+        } catch (ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Encodes an item with the codec of the repository, tagged with the version of the codec.
+     *
+     * @param out the output to write to.
+     * @param item the item to encode.
+     * @throws IOException if the item could not be written.
+     */
+    private void writeItem(DataOutput out, T item) throws IOException {
+        out.writeByte(codec.version());
+        codec.write(out, item);
+    }
+
+    /**
+     * Decodes an item written by {@link #writeItem(DataOutput, BaseModel)}.
+     *
+     * @param in the input to read from.
+     * @return the decoded item.
+     * @throws IOException if the item could not be read.
+     */
+    private T readItem(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+
+        if (version > codec.version()) {
+            throw new IOException("Unsupported record version " + version);
+        }
+
+        return codec.read(in, version);
+    }
+
+    /**
+     * Reads the snapshot into the repository's items. If the snapshot is missing or corrupted,
+     * the snapshot left behind by an interrupted write is used if it is intact, or otherwise the
+     * previous generation of the snapshot, and the corrupted snapshot is set aside. Snapshots
+     * written with Java serialization by older versions are also read, and marked to be rewritten.
+     */
+    protected void readFromSerialized() {
+        appliedLsn = 0;
+
+        File file = new File(BASE_PATH + filename);
+        File[] candidates = {file, new File(BASE_PATH + filename + TEMP_SUFFIX), new File(BASE_PATH + filename + BACKUP_SUFFIX)};
+
+        for (File candidate : candidates) {
+            if (!candidate.exists()) {
+                continue;
+            }
+
+            try {
+                items = readSnapshot(candidate);
+            } catch (ClassNotFoundException | IOException e) {
+                String reason = e instanceof EOFException ? "Truncated snapshot" : e.getMessage();
+                System.out.println("[WARNING] The snapshot " + candidate.getName() + " is corrupted: " + reason);
+                continue;
+            }
+
+            if (candidate != file) {
+                System.out.println("[WARNING] Recovered " + filename + " from " + candidate.getName() + ".");
+
+                // Keep the corrupted snapshot aside rather than overwriting it with the recovered one.
+                if (file.exists() && !file.renameTo(new File(BASE_PATH + filename + CORRUPT_SUFFIX))) {
+                    System.out.println("[ERROR] Could not set aside the corrupted snapshot " + filename + ".");
+                }
+
+                requiresRecovery = true;
+            }
+
+            return;
+        }
+
+        if (file.exists()) {
+            System.out.println("[ERROR] No intact snapshot of " + filename + " was found, starting empty.");
+            file.renameTo(new File(BASE_PATH + filename + CORRUPT_SUFFIX));
+        }
+
+        items = new ConcurrentHashMap<String, T>();
+    }
+
+    /**
+     * Reads the items of a snapshot file, verifying its checksum.
+     *
+     * @param file the snapshot file to read.
+     * @return the items of the snapshot, by ID.
+     * @throws IOException if the snapshot could not be read, or is truncated or corrupted.
+     * @throws ClassNotFoundException if a snapshot written with Java serialization has items of an
+     * unknown class.
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, T> readSnapshot(File file) throws IOException, ClassNotFoundException {
+        try (BufferedInputStream inputStream = new BufferedInputStream(new FileInputStream(file))) {
+            inputStream.mark(Short.BYTES);
+
+            if (new DataInputStream(inputStream).readUnsignedShort() == SERIALIZED_MAGIC) {
+                inputStream.reset();
+
+                Map<String, T> items = (Map<String, T>) new ObjectInputStream(inputStream).readObject();
+                requiresMigration = true;
+                return new ConcurrentHashMap<String, T>(items);
+            }
+
+            inputStream.reset();
+
+            CheckedInputStream checked = new CheckedInputStream(inputStream, new CRC32());
+            DataInputStream in = new DataInputStream(checked);
+
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Unrecognised snapshot format");
+            }
+
+            byte format = in.readByte();
+
+            if (format != SNAPSHOT_FORMAT && format != UNSEQUENCED_SNAPSHOT_FORMAT && format != UNCHECKED_SNAPSHOT_FORMAT) {
+                throw new IOException("Unsupported snapshot format " + format);
+            }
+
+            long lsn = format == SNAPSHOT_FORMAT ? in.readLong() : 0;
+            int count = in.readInt();
+            Map<String, T> items = new ConcurrentHashMap<String, T>(Math.max(16, count * 4 / 3 + 1));
+
+            for (int i = 0; i < count; i++) {
+                T item = readItem(in);
+                items.put(item.getId(), item);
+            }
+
+            if (format == UNCHECKED_SNAPSHOT_FORMAT) {
+                // Snapshots written by older versions have no checksum, and are rewritten with one.
+                requiresMigration = true;
+                return items;
+            }
+
+            int expected = (int) checked.getChecksum().getValue();
+
+            if (in.readInt() != expected || in.read() != -1) {
+                throw new IOException("Checksum mismatch");
+            }
+
+            appliedLsn = lsn;
+            return items;
+        }
+    }
+
+    /**
+     * Writes the repository's items as a new binary snapshot, and discards the journal records
+     * that the snapshot now includes.
+     *
+     * <p>The snapshot is written to a temporary file with a trailing checksum and synced to disk,
+     * then renamed over the current snapshot, so that a crash at any point leaves an intact
+     * snapshot behind. The current snapshot is kept as the previous generation, to fall back on if
+     * the new snapshot is later found to be corrupted.</p>
+     * 
+     * @return {@code true} if the write succeeded, {@code false} otherwise.
+     */
+    protected boolean writeToSerialized() {
+        if (!new File(BASE_PATH).exists()) {
+            new File(BASE_PATH).mkdir();
+        }
+
+        File file = new File(BASE_PATH + filename);
+        File temp = new File(BASE_PATH + filename + TEMP_SUFFIX);
+
+        try (FileOutputStream fileStream = new FileOutputStream(temp)) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(fileStream), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeByte(SNAPSHOT_FORMAT);
+            out.writeLong(appliedLsn);
+            out.writeInt(items.size());
+
+            for (T item : items.values()) {
+                writeItem(out, item);
+            }
+
+            out.writeInt((int) checked.getChecksum().getValue());
+            out.flush();
+            fileStream.getFD().sync();
+
+        } catch (IOException e) {
+            System.out.println("[ERROR] Could not write the snapshot of " + filename + ": " + e.getMessage());
+            temp.delete();
+            return false;
+        }
+
+        try {
+            if (file.exists()) {
+                retainGeneration(file, new File(BASE_PATH + filename + BACKUP_SUFFIX));
+            }
+
+            try {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            syncDirectory();
+
+        } catch (IOException e) {
+            System.out.println("[ERROR] Could not replace the snapshot of " + filename + ": " + e.getMessage());
+            return false;
+        }
+
+        // Persist the sequences so that the IDs of deleted items, which are no longer in the
+        // snapshot or the journal, are still never reused.
+        idAllocator.persist();
+
+        return journal.truncate();
+    }
+
+    /**
+     * Keeps the current snapshot as the previous generation. The snapshot is hard linked where
+     * possible, so that the current snapshot stays in place until it is atomically replaced.
+     *
+     * @param file the current snapshot.
+     * @param backup the file of the previous generation.
+     * @throws IOException if the snapshot could not be kept.
+     */
+    private static void retainGeneration(File file, File backup) throws IOException {
+        Files.deleteIfExists(backup.toPath());
+
+        try {
+            Files.createLink(backup.toPath(), file.toPath());
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file.toPath(), backup.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the data directory, so that the renames of the snapshots survive a crash. This is not
+     * supported on every platform, in which case the renames are left to the file system.
+     */
+    private static void syncDirectory() {
+        try (FileChannel directory = FileChannel.open(Paths.get(BASE_PATH), StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Directories cannot be opened for syncing on some platforms, ie: Windows.
+        }
     }
 }
@@ -40,11 +40,11 @@ public class DoctorRepository implements IDoctorRepository {
      * 
      * @return a {@link Map} of all {@link Doctor}s, with their IDs as keys.
      */
+    @SuppressWarnings("unchecked")
     @Override
     public Map<String, Doctor> getItems() {
-        return this.repository.getItems().entrySet().stream()
-            .filter(entry -> entry.getValue().getRole() == UserRole.DOCTOR)
-            .collect(Collectors.toMap(Map.Entry::getKey, e -> (Doctor) e.getValue()));
+        // The type cast is always valid since the partition only holds doctors.
+        return (Map<String, Doctor>) (Map<String, ?>) this.repository.getItems(UserRole.DOCTOR);
     }
 
     /**
@@ -54,7 +54,7 @@ public class DoctorRepository implements IDoctorRepository {
      */
     @Override
     public List<Doctor> findAll() {
-        return this.getItems().values().stream().collect(Collectors.toList());
+        return this.repository.findByRole(UserRole.DOCTOR).stream().map(user -> (Doctor) user).collect(Collectors.toList());
     }
 
     /**
@@ -65,8 +65,7 @@ public class DoctorRepository implements IDoctorRepository {
     @SuppressWarnings("unused")
 	@Override
     public String generateId() {
-        return "D" + getItems().keySet().stream().sorted().reduce((first, second) -> second).map(
-            last -> String.format("%04d", Integer.parseInt(last.substring(1)) + 1)).orElse("1001");
+        return repository.generateId(UserRole.DOCTOR);
     }
 
 
@@ -77,7 +76,7 @@ public class DoctorRepository implements IDoctorRepository {
      */
     @Override
     public int count() {
-        return this.getItems().size();
+        return this.repository.count(UserRole.DOCTOR);
     }
 
     /**
@@ -103,10 +102,48 @@ public class DoctorRepository implements IDoctorRepository {
      */
     @Override
     public List<Doctor> findBy(Predicate<Doctor> predicate) {
-        return repository.findBy(user -> user.getRole() == UserRole.DOCTOR).stream()
-            .map(user -> (Doctor) user) // Cast User to Doctor
-            .filter(predicate)          // Apply the given predicate
-            .collect(Collectors.toList()); // Collect results as a List
+        // Only the doctors that match the predicate are copied.
+        return this.viewAll().stream().filter(predicate).map(this::copyOf).collect(Collectors.toList());
+    }
+
+    /**
+     * Retrieves a read-only view of all {@link Doctor}s stored in the repository, without copying them.
+     * 
+     * @return a {@link List} of all {@link Doctor}s, which must not be modified.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Doctor> viewAll() {
+        // The type cast is always valid since the partition only holds doctors.
+        return (List<Doctor>) (List<?>) repository.viewByRole(UserRole.DOCTOR);
+    }
+
+    /**
+     * Retrieves a read-only view of a {@link Doctor} by their unique ID, without copying them.
+     * 
+     * @param id the ID of the {@link Doctor}.
+     * @return the {@link Doctor} matching the ID, or {@code null} if not found. The {@link Doctor} must not be modified.
+     */
+    @Override
+    public Doctor viewById(String id) {
+        User user = repository.viewById(id);
+
+        if (user == null || user.getRole() != UserRole.DOCTOR) {
+            return null;
+        }
+
+        return (Doctor) user;
+    }
+
+    /**
+     * Retrieves a read-only view of all {@link Doctor}s that satisfy the specified predicate, without copying them.
+     * 
+     * @param predicate the condition to filter {@link Doctor}s.
+     * @return a {@link List} of {@link Doctor}s that match the predicate, which must not be modified.
+     */
+    @Override
+    public List<Doctor> viewBy(Predicate<Doctor> predicate) {
+        return viewAll().stream().filter(predicate).toList();
     }
 
     /**
@@ -117,7 +154,7 @@ public class DoctorRepository implements IDoctorRepository {
      */
     @Override
     public boolean exists(String doctorId) {
-        return this.findById(doctorId) != null; // Return true if doctor exists
+        return this.viewById(doctorId) != null; // Return true if doctor exists
     }
 
     /**
@@ -128,7 +165,7 @@ public class DoctorRepository implements IDoctorRepository {
      */
     @Override
     public boolean exists(Predicate<Doctor> predicate) {
-        return !this.findBy(predicate).isEmpty(); // Return true if any doctor matches the predicate
+        return this.viewAll().stream().anyMatch(predicate);
     }
 
     /**
@@ -173,12 +210,85 @@ public class DoctorRepository implements IDoctorRepository {
         return null;
     }
 
+    /**
+     * Deletes all the {@link Doctor}s matching the given IDs as a single batch.
+     * 
+     * @param doctorIds the IDs of the {@link Doctor}s to delete.
+     * @return the deleted {@link Doctor}s, or {@code null} if the batch was not persisted.
+     */
+    @Override
+    public List<Doctor> deleteById(List<String> doctorIds) {
+        List<User> deleted = repository.deleteById(doctorIds.stream().filter(this::exists).toList());
+
+        if (deleted == null) {
+            return null;
+        }
+
+        return deleted.stream().map(user -> (Doctor) user).toList();
+    }
+
     /**
      * Deletes all {@link Doctor}s from the repository.
      */
     @Override
     public void clear() {
-        repository.findBy(user -> user.getRole() == UserRole.DOCTOR) // Find all users with DOCTOR role
-                  .forEach(user -> repository.deleteById(user.getId())); // Delete each doctor by ID
+        repository.deleteById(List.copyOf(repository.getItems(UserRole.DOCTOR).keySet()));
+    }
+
+    /**
+     * Gets the current version of a {@link Doctor}, which changes whenever it is saved or removed.
+     * 
+     * @param id the ID of the {@link Doctor}.
+     * @return the version of the {@link Doctor}.
+     */
+    @Override
+    public long getVersion(String id) {
+        return repository.getVersion(id);
+    }
+
+    /**
+     * Gets the revision of the underlying repository, which changes whenever any user is saved or removed.
+     * 
+     * @return the revision of the underlying repository.
+     */
+    @Override
+    public long getRevision() {
+        return repository.getRevision();
+    }
+
+    /**
+     * Saves a {@link Doctor} only if it was not changed since it was at the given version.
+     * 
+     * @param item the {@link Doctor} to save.
+     * @param expectedVersion the version of the {@link Doctor} when it was read.
+     * @return {@code true} if the {@link Doctor} was saved, {@code false} otherwise.
+     */
+    @Override
+    public boolean compareAndSave(Doctor item, long expectedVersion) {
+        return repository.compareAndSave(item, expectedVersion);
+    }
+
+    /**
+     * Blocks until the changes made to the {@link Doctor}s so far are written to disk.
+     * 
+     * @return {@code true} if the changes are written, {@code false} otherwise.
+     */
+    @Override
+    public boolean flush() {
+        return repository.flush();
+    }
+
+    /**
+     * Copies a {@link Doctor} held by the repository, at the version it was read at, so that the
+     * copy can be saved.
+     * 
+     * @param doctor the {@link Doctor} held by the repository.
+     * @return a copy of the {@link Doctor}.
+     */
+    private Doctor copyOf(Doctor doctor) {
+        Doctor copy = doctor.copy();
+        copy.setVersion(doctor.getVersion());
+
+        return copy;
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,59 @@
 package repository;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import model.enums.ReplenishmentStatus;
 import model.inventory.InventoryItem;
+import model.inventory.StockAdjustment;
+import model.inventory.StockCounter;
+import model.enums.StockMovementType;
+import model.inventory.StockAlert;
+import model.inventory.StockMovement;
+import repository.exceptions.VersionConflictException;
 import repository.interfaces.IInventoryRepository;
 import repository.interfaces.IRepository;
+import repository.persistence.StockLedger;
+import repository.persistence.codec.InventoryItemCodec;
 
 /**
  * An implementation of {@link IRepository} that operates on {@link InventoryItem} data models.
  * This repository provides methods to manage inventory items, including CRUD operations,
  * checking stock levels, and handling replenishment requests.
+ *
+ * <p>The committed stock of every item is held by the repository in a {@link StockCounter}, with
+ * the sequence number of its last change, so that {@link #adjustStock(String, int)} only journals
+ * the new balance of the item rather than the whole item. The counter is changed while the
+ * repository is locked, since the journal is appended under the same lock, and is reverted if the
+ * balance could not be journaled. A copy of an item whose stock was changed is only saved if the
+ * stock was not changed since the copy was read, and its change is only applied to the counter
+ * once it is committed, so that a rolled back change never reaches the counter.</p>
+ *
+ * <p>The stock level of every item is indexed in order of its stock relative to its stock level
+ * alert, and the index is updated whenever the stock or the alert of an item changes, so that the
+ * items that are low on stock, or the most critical items, are found without scanning the inventory.
+ * Whenever the stock of an item crosses its stock level alert, a {@link StockAlert} is published to
+ * the listeners of the repository.</p>
+ *
+ * <p>Every change to the stock of an item is also appended to a {@link StockLedger}, once it is
+ * saved, so that the stock of an item at a point in time, and the consumption of every item over
+ * time, can be queried. Changes that reached the inventory without reaching the ledger, such as
+ * when the ledger could not be written or an item was removed, are appended as adjustments when
+ * the repository is loaded.</p>
  * 
  * @see <a href="https://www.geeksforgeeks.org/dependency-injection-di-design-pattern/">Dependency Injection</a>
  * @author Bryan Soong, Joyce Lee
@@ -22,18 +65,493 @@ public class InventoryRepository extends BaseRepository<InventoryItem> implement
      * The filename of the file to store the inventory items.
      */
     private final static String FILENAME = "inventory.dat";
+
+    /**
+     * The filename of the ledger of the movements of the stock of the inventory items.
+     */
+    private final static String LEDGER_FILENAME = "inventory.ledger";
     
     /**
      * The prefix for the ID of an {@link InventoryItem}.
      */
     public final static String ID_PREFIX = "I";
 
+    /**
+     * The order of the stock levels in the index, from the most critical, ie: the lowest stock
+     * relative to the stock level alert, and then by ID.
+     */
+    private static final Comparator<StockLevel> CRITICAL_ORDER = Comparator
+        .comparingDouble((StockLevel level) -> level.ratio)
+        .thenComparing(level -> level.id);
+
+    /**
+     * The index of the stock level of every item, from the most critical.
+     */
+    private final NavigableSet<StockLevel> stockIndex = new TreeSet<StockLevel>(CRITICAL_ORDER);
+
+    /**
+     * The indexed stock level of each item, by ID, to find its entry in {@link #stockIndex}.
+     */
+    private final Map<String, StockLevel> stockLevels = new HashMap<String, StockLevel>();
+
+    /**
+     * The listeners to the alerts of the stock of items crossing their stock level alerts.
+     */
+    private final List<Consumer<StockAlert>> alertListeners = new CopyOnWriteArrayList<Consumer<StockAlert>>();
+
+    /**
+     * The listeners to the movements of the stock of items appended to the ledger.
+     */
+    private final List<Consumer<StockMovement>> movementListeners = new CopyOnWriteArrayList<Consumer<StockMovement>>();
+
+    /**
+     * The sequence number of the last alert published.
+     */
+    private long alertSequence = 0;
+
+    /**
+     * The ledger of the movements of the stock of the items.
+     */
+    private final StockLedger ledger;
+
+    /**
+     * The counter of the committed stock of each item, by ID.
+     */
+    private final Map<String, StockCounter> counters = new ConcurrentHashMap<String, StockCounter>();
+
+    /**
+     * The change made to the stock of each item stored but not yet saved, by ID, which is appended
+     * to the ledger once the item is saved, or discarded if the item is rolled back.
+     */
+    private final Map<String, Integer> pendingMovements = new HashMap<String, Integer>();
+
     /**
      * Constructs a new {@link InventoryRepository} instance.
      * It initializes the repository with the specified file.
      */
     public InventoryRepository() {
-        super(FILENAME);
+        super(FILENAME, new InventoryItemCodec());
+
+        // The index is only initialized after the items are loaded by the super constructor.
+        onReset();
+
+        this.ledger = new StockLedger(dataFile(LEDGER_FILENAME));
+        reconcileLedger();
+    }
+
+    /**
+     * Appends an opening or adjusting movement to the ledger for every item whose stock does not
+     * match its balance in the ledger, such as items stored before the ledger was kept, and clears
+     * the balance of the items that were removed.
+     */
+    private synchronized void reconcileLedger() {
+        for (InventoryItem item : getItems().values()) {
+            StockMovementType type = ledger.getBalance(item.getId()) == null
+                ? StockMovementType.OPENING
+                : StockMovementType.ADJUSTMENT;
+
+            ledger.recordBalance(item.getId(), type, item.getStock());
+        }
+
+        for (String itemId : ledger.getItemIds()) {
+            if (!exists(itemId)) {
+                ledger.recordBalance(itemId, StockMovementType.ADJUSTMENT, 0);
+            }
+        }
+    }
+
+    /**
+     * Atomically adds to or deducts from the stock of an item, unless there is insufficient stock.
+     * Each adjustment only appends the new balance of the stock to the journal.
+     * 
+     * @param itemId the ID of the item.
+     * @param delta the quantity to add, or a negative quantity to deduct.
+     * @return the outcome of the adjustment, or {@code null} if no item matches the ID.
+     */
+    @Override
+    public StockAdjustment adjustStock(String itemId, int delta) {
+        return adjustStock(itemId, delta, delta < 0 ? StockMovementType.DEDUCTION : StockMovementType.ADDITION);
+    }
+
+    /**
+     * Atomically adds to or deducts from the stock of an item, unless there is insufficient stock,
+     * and records it in the ledger as the given kind of movement.
+     * 
+     * @param itemId the ID of the item.
+     * @param delta the quantity to add, or a negative quantity to deduct.
+     * @param type the kind of the movement.
+     * @return the outcome of the adjustment, or {@code null} if no item matches the ID. The
+     * adjustment is not applied if there is insufficient stock, or it could not be persisted.
+     */
+    @Override
+    public synchronized StockAdjustment adjustStock(String itemId, int delta, StockMovementType type) {
+        StockCounter counter = counters.get(itemId);
+
+        if (counter == null) {
+            return null;
+        }
+
+        return persistStock(counter, counter.adjust(itemId, delta), type);
+    }
+
+    /**
+     * Atomically sets the stock of an item, regardless of the adjustments made to it meanwhile.
+     * 
+     * @param itemId the ID of the item.
+     * @param stock the new stock of the item.
+     * @return the outcome of the change, or {@code null} if no item matches the ID. The change is
+     * not applied if it could not be persisted.
+     * @throws IllegalArgumentException if the stock is negative.
+     */
+    @Override
+    public synchronized StockAdjustment setStock(String itemId, int stock) {
+        StockCounter counter = counters.get(itemId);
+
+        if (counter == null) {
+            return null;
+        }
+
+        return persistStock(counter, counter.set(itemId, stock), StockMovementType.ADJUSTMENT);
+    }
+
+    /**
+     * Appends the balance of the stock after an adjustment to the journal, tagged with the sequence
+     * number of the adjustment so that it is only replayed over an older balance, then updates the
+     * stored item and appends the adjustment to the ledger. The adjustment is reverted if it could
+     * not be appended. The caller must hold the lock of the repository.
+     * 
+     * @param counter the counter that the adjustment was applied to.
+     * @param adjustment the adjustment to persist.
+     * @param type the kind of the movement.
+     * @return the adjustment, or an adjustment that is not applied if it was reverted.
+     */
+    private StockAdjustment persistStock(StockCounter counter, StockAdjustment adjustment, StockMovementType type) {
+        if (!adjustment.isApplied()) {
+            return adjustment;
+        }
+
+        String itemId = adjustment.getItemId();
+
+        if (!appendPatch(itemId, encodeStock(adjustment))) {
+            counter.revert(adjustment);
+            System.out.println("[ERROR] Could not persist the stock of " + itemId + ".");
+
+            return new StockAdjustment(itemId, adjustment.getDelta(), adjustment.getBalance() - adjustment.getDelta(),
+                adjustment.getSequence() - 1, false);
+        }
+
+        restoreStock(viewById(itemId), adjustment.getSequence(), adjustment.getBalance());
+
+        if (adjustment.getDelta() != 0) {
+            publishMovement(ledger.record(itemId, type, adjustment.getDelta()));
+        }
+
+        return adjustment;
+    }
+
+    /**
+     * Encodes the balance of the stock after an adjustment as a patch.
+     * 
+     * @param adjustment the adjustment.
+     * @return the encoded patch, or {@code null} if it could not be encoded.
+     */
+    private static byte[] encodeStock(StockAdjustment adjustment) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream out = new DataOutputStream(bytes)) {
+
+            out.writeInt(adjustment.getSequence());
+            out.writeInt(adjustment.getBalance());
+            out.writeInt(adjustment.getDelta());
+            out.flush();
+
+            return bytes.toByteArray();
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Replaces a stored item with a copy of it at the given stock, without changing its version,
+     * and indexes its new stock level. The caller must hold the lock of the repository.
+     * 
+     * @param item the stored item, or {@code null} if it was removed.
+     * @param sequence the sequence number of the last change to the stock.
+     * @param stock the stock.
+     */
+    private void restoreStock(InventoryItem item, int sequence, int stock) {
+        if (item == null) {
+            return;
+        }
+
+        InventoryItem restored = item.copy();
+        restored.restoreStock(stock, sequence);
+
+        if (replaceInPlace(restored)) {
+            refreshStockLevel(restored);
+        }
+    }
+
+    /**
+     * Applies the balance of the stock appended by {@link #persistStock(StockCounter, StockAdjustment, StockMovementType)},
+     * unless the stock was changed later.
+     * 
+     * @param item the stored item.
+     * @param in the input positioned at the start of the patch.
+     * @throws IOException if the patch could not be decoded.
+     */
+    @Override
+    protected void applyPatch(InventoryItem item, DataInput in) throws IOException {
+        int sequence = in.readInt();
+        int balance = in.readInt();
+
+        if (sequence <= item.getStockSequence()) {
+            return;
+        }
+
+        // The counters are not yet initialized when this is called from the super constructor.
+        if (counters != null && counters.containsKey(item.getId())) {
+            counters.get(item.getId()).advanceTo(sequence, balance);
+        }
+
+        restoreStock(item, sequence, balance);
+    }
+
+    /**
+     * Checks the change made to the stock of an item before it is stored, and holds the change
+     * until the item is saved. The stock of an item whose stock was not changed is the committed
+     * stock, unless the item was restored from storage at a newer stock. Items rolled back are
+     * not changes to be recorded.
+     * 
+     * @param previous the item that will be replaced, or {@code null} if the item will be inserted.
+     * @param item the item that will be stored.
+     * @throws VersionConflictException if the stock of a copy was changed, but the stock was
+     * changed by another session since the copy was read.
+     */
+    @Override
+    protected void onStoring(InventoryItem previous, InventoryItem item) {
+        // The counters are not yet initialized when this is called from the super constructor.
+        if (counters == null) {
+            return;
+        }
+
+        StockCounter counter = counters.get(item.getId());
+        StockMovementType type = item.getStockMovementType();
+
+        if (counter == null) {
+            counters.put(item.getId(), new StockCounter(item.getStock(), item.getStockSequence()));
+
+            if (type != null) {
+                // An item inserted over an ID that was removed replaces the stock left in the ledger.
+                Integer balance = ledger.getBalance(item.getId());
+                pendingMovements.put(item.getId(), item.getStock() - (balance == null ? 0 : balance));
+            }
+
+            item.restoreStock(item.getStock(), item.getStockSequence());
+            return;
+        }
+
+        long state = counter.get();
+        int sequence = StockCounter.sequenceOf(state);
+
+        if (type == null) {
+            pendingMovements.remove(item.getId());
+
+            if (item.getStockSequence() > sequence) {
+                counter.advanceTo(item.getStockSequence(), item.getStock());
+            } else {
+                item.restoreStock(StockCounter.balanceOf(state), sequence);
+            }
+
+            return;
+        }
+
+        // A new item replaces the stock, while a copy must have been read at the committed stock.
+        if (type != StockMovementType.OPENING && item.getStockSequence() != sequence) {
+            throw new VersionConflictException(item.getId(), item.getVersion(), getVersion(item.getId()));
+        }
+
+        pendingMovements.put(item.getId(), item.getStock() - StockCounter.balanceOf(state));
+        item.restoreStock(item.getStock(), sequence + 1);
+    }
+
+    /**
+     * Indexes the stock level of a stored {@link InventoryItem}.
+     * 
+     * @param previous the item that was replaced, or {@code null} if it was inserted.
+     * @param item the item that was stored.
+     */
+    @Override
+    protected void onStored(InventoryItem previous, InventoryItem item) {
+        refreshStockLevel(item);
+    }
+
+    /**
+     * Removes the stock level of a removed {@link InventoryItem} from the index.
+     * 
+     * @param item the item that was removed.
+     */
+    @Override
+    protected void onRemoved(InventoryItem item) {
+        if (stockIndex == null) {
+            return;
+        }
+
+        StockLevel level = stockLevels.remove(item.getId());
+
+        if (level != null) {
+            stockIndex.remove(level);
+        }
+
+        pendingMovements.remove(item.getId());
+        counters.remove(item.getId());
+    }
+
+    /**
+     * Updates the indexed stock level of a stored item to its current stock and stock level alert,
+     * and publishes a {@link StockAlert} if its stock crossed the stock level alert. The caller must
+     * hold the lock of the repository.
+     * 
+     * @param item the stored item, or {@code null} if it was removed.
+     */
+    private void refreshStockLevel(InventoryItem item) {
+        // The index is not yet initialized when this is called from the super constructor.
+        if (item == null || stockIndex == null) {
+            return;
+        }
+
+        StockLevel level = new StockLevel(item.getId(), item.getStock(), item.getStockLevelAlert());
+        StockLevel previous = stockLevels.put(item.getId(), level);
+
+        if (previous != null) {
+            stockIndex.remove(previous);
+        }
+
+        stockIndex.add(level);
+
+        if (previous == null || previous.isLow() == level.isLow()) {
+            return;
+        }
+
+        StockAlert alert = new StockAlert(++alertSequence, item.getId(), item.getItemName(),
+            level.stock, level.alert, level.isLow());
+
+        for (Consumer<StockAlert> listener : alertListeners) {
+            listener.accept(alert);
+        }
+    }
+
+    /**
+     * Publishes a movement appended to the ledger to the listeners of the repository. The caller
+     * must hold the lock of the repository.
+     * 
+     * @param movement the movement, or {@code null} if it could not be appended.
+     */
+    private void publishMovement(StockMovement movement) {
+        if (movement == null) {
+            return;
+        }
+
+        for (Consumer<StockMovement> listener : movementListeners) {
+            listener.accept(movement);
+        }
+    }
+
+    /**
+     * Adds a listener to be called whenever a movement of the stock of an item is appended to the
+     * ledger, once it is saved. Listeners are called while the repository is locked, so they should
+     * only record the movement and return.
+     * 
+     * @param listener the listener to add.
+     */
+    @Override
+    public void addStockMovementListener(Consumer<StockMovement> listener) {
+        movementListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addStockMovementListener(Consumer)}.
+     * 
+     * @param listener the listener to remove.
+     */
+    @Override
+    public void removeStockMovementListener(Consumer<StockMovement> listener) {
+        movementListeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener to be called whenever the stock of an item falls to or below its stock level
+     * alert, or recovers above it. Listeners are called while the repository is locked, so they
+     * should only record the alert and return.
+     * 
+     * @param listener the listener to add.
+     */
+    @Override
+    public void addStockAlertListener(Consumer<StockAlert> listener) {
+        alertListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addStockAlertListener(Consumer)}.
+     * 
+     * @param listener the listener to remove.
+     */
+    @Override
+    public void removeStockAlertListener(Consumer<StockAlert> listener) {
+        alertListeners.remove(listener);
+    }
+
+    /**
+     * Applies the change made to the stock of a saved item to its counter, appends it to the
+     * ledger, and marks the stock of the item as read at the committed stock.
+     * 
+     * @param item the item that was saved.
+     */
+    @Override
+    protected void onSaved(InventoryItem item) {
+        InventoryItem stored = viewById(item.getId());
+
+        if (stored == null) {
+            return;
+        }
+
+        counters.get(item.getId()).advanceTo(stored.getStockSequence(), stored.getStock());
+        Integer delta = pendingMovements.remove(item.getId());
+
+        if (delta != null && delta != 0) {
+            StockMovementType type = item.getStockMovementType();
+
+            if (type == null || (type == StockMovementType.OPENING && ledger.getBalance(item.getId()) != null)) {
+                type = StockMovementType.ADJUSTMENT;
+            }
+
+            publishMovement(ledger.record(item.getId(), type, delta));
+        }
+
+        item.restoreStock(stored.getStock(), stored.getStockSequence());
+    }
+
+    /**
+     * Rebuilds the counters of the stock of the items and the index of the stock levels from the
+     * items loaded from storage.
+     */
+    @Override
+    protected void onReset() {
+        // The counters and the index are not yet initialized when this is called from the super constructor.
+        if (counters == null) {
+            return;
+        }
+
+        counters.clear();
+        stockIndex.clear();
+        stockLevels.clear();
+        pendingMovements.clear();
+
+        for (InventoryItem item : getItems().values()) {
+            counters.put(item.getId(), new StockCounter(item.getStock(), item.getStockSequence()));
+            refreshStockLevel(item);
+        }
     }
 
     /**
@@ -43,19 +561,20 @@ public class InventoryRepository extends BaseRepository<InventoryItem> implement
     @SuppressWarnings("unused")
 	@Override
     public String generateId() {
-        return ID_PREFIX + getItems().keySet().stream().sorted().reduce((first, second) -> second).map(
-            last -> String.format("%04d", Integer.parseInt(last.substring(1)) + 1)).orElse("1001");
+        return nextId(ID_PREFIX);
     }
 
     /**
-     * Retrieves all {@link InventoryItem}s stored in the repository, sorted by their IDs.
+     * Retrieves copies of all {@link InventoryItem}s stored in the repository, sorted by their IDs,
+     * so that the items can be changed and saved without changing the stored items.
      * 
-     * @return a sorted {@link List} of all {@link InventoryItem}s.
+     * @return a sorted {@link List} of copies of all {@link InventoryItem}s.
      */
     @Override
-    public List<InventoryItem> findAll() {
+    public synchronized List<InventoryItem> findAll() {
         return getItems().values().stream()
         .sorted((a, b) -> a.getId().compareTo(b.getId()))
+        .map(this::copyOf)
         .toList();
     }
 
@@ -84,14 +603,132 @@ public class InventoryRepository extends BaseRepository<InventoryItem> implement
     }
 
     /**
-     * Retrieves all {@link InventoryItem}s with stock levels below their alert threshold.
+     * Retrieves all {@link InventoryItem}s with stock levels at or below their alert threshold,
+     * from the most critical. Only the low stock items are visited.
      * 
      * @return a {@link List} of {@link InventoryItem}s with low stock.
      */
     @Override
-    public List<InventoryItem> getLowStockInventoryItems() {
-        return findBy(
-            item -> item.getStock() <= item.getStockLevelAlert());
+    public synchronized List<InventoryItem> getLowStockInventoryItems() {
+        List<InventoryItem> result = new ArrayList<InventoryItem>();
+
+        for (StockLevel level : stockIndex) {
+            if (!level.isLow()) {
+                break;
+            }
+
+            result.add(copyOf(viewById(level.id)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Retrieves the {@link InventoryItem}s with the lowest stock relative to their stock level
+     * alerts, whether or not they are low on stock. Only the returned items are visited.
+     * 
+     * @param count the maximum number of items to retrieve.
+     * @return a {@link List} of at most {@code count} {@link InventoryItem}s, from the most critical.
+     */
+    @Override
+    public synchronized List<InventoryItem> getMostCriticalItems(int count) {
+        List<InventoryItem> result = new ArrayList<InventoryItem>(Math.max(0, Math.min(count, stockIndex.size())));
+
+        for (StockLevel level : stockIndex) {
+            if (result.size() >= count) {
+                break;
+            }
+
+            result.add(copyOf(viewById(level.id)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the stock of an {@link InventoryItem} at a point in time, from the ledger.
+     * 
+     * @param itemId the ID of the item.
+     * @param dateTime the point in time.
+     * @return the stock of the item at that time, or {@code 0} if it was not stocked by then.
+     */
+    @Override
+    public int getStockAt(String itemId, LocalDateTime dateTime) {
+        return ledger.balanceAt(itemId, dateTime);
+    }
+
+    /**
+     * Retrieves the movements of the stock of an {@link InventoryItem} within a period, from the ledger.
+     * 
+     * @param itemId the ID of the item.
+     * @param from the start of the period, inclusive.
+     * @param to the end of the period, inclusive.
+     * @return a {@link List} of the {@link StockMovement}s of the item, from the oldest.
+     */
+    @Override
+    public List<StockMovement> getStockMovements(String itemId, LocalDateTime from, LocalDateTime to) {
+        return ledger.movementsBetween(itemId, from, to);
+    }
+
+    /**
+     * Gets the quantity of every {@link InventoryItem} deducted or dispensed in each of a number of
+     * consecutive weeks, from the ledger.
+     * 
+     * @param from the first day of the first week.
+     * @param weeks the number of weeks.
+     * @return the quantity consumed in each week, by item ID. Items without movements are omitted.
+     */
+    @Override
+    public Map<String, int[]> getWeeklyConsumption(LocalDate from, int weeks) {
+        return getConsumption(from, weeks, 7);
+    }
+
+    /**
+     * Gets the quantity of every {@link InventoryItem} deducted or dispensed on each of a number of
+     * consecutive days, from the ledger.
+     * 
+     * @param from the first day.
+     * @param days the number of days.
+     * @return the quantity consumed on each day, by item ID. Items without movements are omitted.
+     */
+    @Override
+    public Map<String, int[]> getDailyConsumption(LocalDate from, int days) {
+        return getConsumption(from, days, 1);
+    }
+
+    /**
+     * Gets the quantity of every {@link InventoryItem} deducted or dispensed in each of a number of
+     * consecutive periods of whole days, from the ledger.
+     * 
+     * @param from the first day of the first period.
+     * @param periods the number of periods.
+     * @param length the number of days in each period.
+     * @return the quantity consumed in each period, by item ID. Items without movements are omitted.
+     */
+    private Map<String, int[]> getConsumption(LocalDate from, int periods, int length) {
+        Map<String, int[]> result = new HashMap<String, int[]>();
+
+        if (periods <= 0) {
+            return result;
+        }
+
+        List<LocalDateTime> boundaries = new ArrayList<LocalDateTime>(periods + 1);
+
+        for (int period = 0; period <= periods; period++) {
+            boundaries.add(from.plusDays((long) period * length).atStartOfDay());
+        }
+
+        ledger.consumptionBetween(boundaries).forEach((id, consumed) -> {
+            int[] quantities = new int[periods];
+
+            for (int period = 0; period < periods; period++) {
+                quantities[period] = (int) consumed[period];
+            }
+
+            result.put(id, quantities);
+        });
+
+        return result;
     }
 
     /**
@@ -122,9 +759,7 @@ public class InventoryRepository extends BaseRepository<InventoryItem> implement
      * @param stock the new stock quantity to set.
      */
     public void updateStockByItemName(String itemName, int stock) {
-        InventoryItem inventoryItem = findByItemName(itemName);
-        inventoryItem.setStock(stock);
-        save(inventoryItem);
+        setStock(findByItemName(itemName).getId(), stock);
     }
 
     /**
@@ -142,4 +777,60 @@ public class InventoryRepository extends BaseRepository<InventoryItem> implement
 
         return super.save(item);
     }
+
+    /**
+     * The indexed stock level of an item, which is replaced rather than changed when the stock or
+     * the stock level alert of the item changes, so that it keeps its place in the index.
+     */
+    private static final class StockLevel {
+        /**
+         * The ID of the item.
+         */
+        private final String id;
+
+        /**
+         * The stock of the item.
+         */
+        private final int stock;
+
+        /**
+         * The stock level alert of the item.
+         */
+        private final int alert;
+
+        /**
+         * The stock of the item relative to its stock level alert, which is at most {@code 1} if
+         * the item is low on stock.
+         */
+        private final double ratio;
+
+        /**
+         * Constructs a {@link StockLevel}.
+         * 
+         * @param id the ID of the item.
+         * @param stock the stock of the item.
+         * @param alert the stock level alert of the item.
+         */
+        private StockLevel(String id, int stock, int alert) {
+            this.id = id;
+            this.stock = stock;
+            this.alert = alert;
+
+            if (alert > 0) {
+                this.ratio = (double) stock / alert;
+            } else {
+                // Items without an alert level are only low once they run out.
+                this.ratio = stock <= 0 ? 0 : Double.POSITIVE_INFINITY;
+            }
+        }
+
+        /**
+         * Checks whether the item is low on stock, ie: its stock is at or below its stock level alert.
+         * 
+         * @return {@code true} if the item is low on stock, {@code false} otherwise.
+         */
+        private boolean isLow() {
+            return stock <= alert;
+        }
+    }
 }
@@ -0,0 +1,337 @@
+package repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import model.enums.StockMovementType;
+import model.inventory.InventoryItem;
+import model.inventory.StockLot;
+import model.inventory.StockMovement;
+import repository.interfaces.IInventoryRepository;
+import repository.interfaces.ILotRepository;
+import repository.interfaces.IRepository;
+import repository.persistence.codec.StockLotCodec;
+
+/**
+ * An implementation of {@link IRepository} that operates on {@link StockLot} data models.
+ * This repository keeps the lots of the stock of every {@link InventoryItem}, and consumes them
+ * first-expired-first-out as the stock of the items is dispensed or deducted.
+ *
+ * <p>The lots of each item are kept in a min-heap ordered by expiry date, so that the lot that
+ * expires first is found without sorting the lots of the item, and every lot is kept in an index
+ * ordered by expiry date, so that the lots expiring within a period are found with a range query
+ * rather than a scan.</p>
+ *
+ * <p>The lots follow the movements of the stock recorded by the inventory repository. The stock of
+ * an item that is not in any lot, such as the stock added without a lot, is untracked, and is only
+ * consumed once the lots of the item are used up. Dispensing skips the lots that have expired, and
+ * only consumes them once neither the other lots nor the untracked stock are left, while other
+ * deductions, such as writing off stock, consume the expired lots first. The lots of an
+ * item never hold more than its stock, and they are trimmed to the stock when the repository is loaded.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LotRepository extends BaseRepository<StockLot> implements ILotRepository {
+    /**
+     * The filename of the file to store the lots.
+     */
+    private final static String FILENAME = "lots.dat";
+
+    /**
+     * The prefix for the ID of a {@link StockLot}.
+     */
+    public final static String ID_PREFIX = "L";
+
+    /**
+     * The order of the lots in the indexes, from the earliest expiry date, and then by ID.
+     */
+    private static final Comparator<StockLot> EXPIRY_ORDER = Comparator
+        .comparing(StockLot::getExpiryDate)
+        .thenComparing(StockLot::getId);
+
+    /**
+     * The lots of each item, by item ID, in a min-heap ordered by expiry date.
+     */
+    private final Map<String, PriorityQueue<StockLot>> itemLots = new HashMap<String, PriorityQueue<StockLot>>();
+
+    /**
+     * The lots of every item, ordered by expiry date.
+     */
+    private final NavigableSet<StockLot> expiryIndex = new TreeSet<StockLot>(EXPIRY_ORDER);
+
+    /**
+     * The {@link IInventoryRepository} dependency whose stock the lots follow.
+     */
+    private final IInventoryRepository inventoryRepository;
+
+    /**
+     * Constructs a {@link LotRepository} that follows the stock of the items of an {@link IInventoryRepository}.
+     *
+     * @param inventoryRepository the instance of an implementation of {@link IInventoryRepository}.
+     */
+    public LotRepository(IInventoryRepository inventoryRepository) {
+        super(FILENAME, new StockLotCodec());
+
+        // The indexes are only initialized after the lots are loaded by the super constructor.
+        onReset();
+
+        this.inventoryRepository = inventoryRepository;
+        trimToStock();
+        inventoryRepository.addStockMovementListener(this::onStockMovement);
+    }
+
+    /**
+     * Trims the lots of every item to the stock of the item, such as when the stock was changed
+     * while the lots could not be written, or the item was removed.
+     */
+    private synchronized void trimToStock() {
+        for (String itemId : new ArrayList<String>(itemLots.keySet())) {
+            InventoryItem item = inventoryRepository.viewById(itemId);
+            consume(itemId, 0, item == null ? 0 : item.getStock(), false);
+        }
+    }
+
+    /**
+     * Consumes the lots of an item as its stock is dispensed or deducted. When the stock is set,
+     * such as after a stocktake, the lots are only trimmed to the new stock, since the stock that
+     * was lost is not known to be from the lots.
+     *
+     * @param movement the movement of the stock recorded by the inventory repository.
+     */
+    private void onStockMovement(StockMovement movement) {
+        if (movement.getDelta() >= 0) {
+            return;
+        }
+
+        int quantity = movement.getType() == StockMovementType.ADJUSTMENT ? 0 : -movement.getDelta();
+
+        consume(movement.getItemId(), quantity, movement.getBalance(),
+            movement.getType() == StockMovementType.DISPENSE);
+    }
+
+    /**
+     * Consumes a quantity of an item from its lots, in the following phases:
+     * <ol>
+     * <li>from the lots that have not expired, first-expired-first-out, or from every lot if the
+     * quantity was not dispensed;</li>
+     * <li>from the untracked stock, ie: the stock before the movement that is not in any lot;</li>
+     * <li>from the expired lots, first-expired-first-out;</li>
+     * <li>and finally, the lots are trimmed to the stock of the item, first-expired-first-out.</li>
+     * </ol>
+     *
+     * @param itemId the ID of the item.
+     * @param quantity the quantity consumed.
+     * @param stock the stock of the item after it was consumed.
+     * @param dispense whether the quantity was dispensed, in which case the expired lots are only
+     * consumed once the other lots and the untracked stock are used up.
+     */
+    private synchronized void consume(String itemId, int quantity, int stock, boolean dispense) {
+        PriorityQueue<StockLot> lots = itemLots.get(itemId);
+
+        if (lots == null) {
+            return;
+        }
+
+        int total = lots.stream().mapToInt(StockLot::getQuantity).sum();
+
+        if (Math.min(quantity, total) <= 0 && total <= stock) {
+            return;
+        }
+
+        // The lots from the earliest expiry date, with the quantity left of each as it is consumed.
+        List<StockLot> ordered = new ArrayList<StockLot>(lots.size());
+
+        while (!lots.isEmpty()) {
+            ordered.add(lots.poll());
+        }
+
+        // The polled lots are still stored, and are replaced in the heap as they are saved or removed.
+        lots.addAll(ordered);
+
+        int[] left = ordered.stream().mapToInt(StockLot::getQuantity).toArray();
+        LocalDate today = LocalDate.now();
+
+        int fromLots = take(ordered, left, quantity, lot -> !dispense || !lot.isExpired(today));
+
+        int untracked = Math.max(0, stock + quantity - total);
+        int fromUntracked = Math.min(quantity - fromLots, untracked);
+
+        int fromExpired = take(ordered, left, quantity - fromLots - fromUntracked, lot -> lot.isExpired(today));
+
+        int held = total - fromLots - fromExpired;
+        take(ordered, left, held - Math.max(stock, 0), lot -> true);
+
+        List<StockLot> changed = new ArrayList<StockLot>();
+        List<String> exhausted = new ArrayList<String>();
+
+        for (int i = 0; i < ordered.size(); i++) {
+            StockLot lot = ordered.get(i);
+
+            if (left[i] == 0) {
+                exhausted.add(lot.getId());
+            } else if (left[i] != lot.getQuantity()) {
+                StockLot copy = lot.copy();
+                copy.setQuantity(left[i]);
+                changed.add(copy);
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            save(changed);
+        }
+
+        if (!exhausted.isEmpty()) {
+            deleteById(exhausted);
+        }
+    }
+
+    /**
+     * Takes a quantity from the lots that are eligible, first-expired-first-out, up to the quantity
+     * left of them.
+     *
+     * @param lots the lots, ordered from the earliest expiry date.
+     * @param left the quantity left of each lot, which is reduced by the quantity taken from it.
+     * @param quantity the quantity to take.
+     * @param eligible the condition of the lots to take from.
+     * @return the quantity taken.
+     */
+    private static int take(List<StockLot> lots, int[] left, int quantity, Predicate<StockLot> eligible) {
+        int taken = 0;
+
+        for (int i = 0; i < lots.size() && taken < quantity; i++) {
+            if (left[i] > 0 && eligible.test(lots.get(i))) {
+                int amount = Math.min(quantity - taken, left[i]);
+
+                left[i] -= amount;
+                taken += amount;
+            }
+        }
+
+        return taken;
+    }
+
+    /**
+     * Indexes a stored {@link StockLot}.
+     *
+     * @param previous the lot that was replaced, or {@code null} if it was inserted.
+     * @param item the lot that was stored.
+     */
+    @Override
+    protected void onStored(StockLot previous, StockLot item) {
+        // The indexes are not yet initialized when this is called from the super constructor.
+        if (itemLots == null) {
+            return;
+        }
+
+        if (previous != null) {
+            onRemoved(previous);
+        }
+
+        itemLots.computeIfAbsent(item.getItemId(), k -> new PriorityQueue<StockLot>(EXPIRY_ORDER)).add(item);
+        expiryIndex.add(item);
+    }
+
+    /**
+     * Removes a removed {@link StockLot} from the indexes.
+     *
+     * @param item the lot that was removed.
+     */
+    @Override
+    protected void onRemoved(StockLot item) {
+        if (itemLots == null) {
+            return;
+        }
+
+        PriorityQueue<StockLot> lots = itemLots.get(item.getItemId());
+
+        if (lots != null) {
+            lots.remove(item);
+
+            if (lots.isEmpty()) {
+                itemLots.remove(item.getItemId());
+            }
+        }
+
+        expiryIndex.remove(item);
+    }
+
+    /**
+     * Rebuilds the indexes from the lots in the repository.
+     */
+    @Override
+    protected void onReset() {
+        if (itemLots == null) {
+            return;
+        }
+
+        itemLots.clear();
+        expiryIndex.clear();
+
+        getItems().values().forEach(item -> onStored(null, item));
+    }
+
+    /**
+     * Generates an ID for a {@link StockLot}.
+     * @return the generated ID for a {@link StockLot}.
+     */
+    @Override
+    public String generateId() {
+        return nextId(ID_PREFIX);
+    }
+
+    /**
+     * Retrieves the lots of an item, from the earliest expiry date.
+     *
+     * @param itemId the ID of the item.
+     * @return a {@link List} of the {@link StockLot}s of the item.
+     */
+    @Override
+    public synchronized List<StockLot> getLots(String itemId) {
+        PriorityQueue<StockLot> lots = itemLots.get(itemId);
+
+        if (lots == null) {
+            return new ArrayList<StockLot>();
+        }
+
+        return lots.stream().sorted(EXPIRY_ORDER).map(this::copyOf).toList();
+    }
+
+    /**
+     * Retrieves the lots of every item expiring within a period, from the earliest expiry date.
+     * Only the lots within the period are visited.
+     *
+     * @param from the first day of the period.
+     * @param to the last day of the period.
+     * @return a {@link List} of the {@link StockLot}s expiring within the period.
+     */
+    @Override
+    public synchronized List<StockLot> getLotsExpiringBetween(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return new ArrayList<StockLot>();
+        }
+
+        return expiryIndex.subSet(probe(from), true, probe(to.plusDays(1)), false).stream()
+            .map(this::copyOf)
+            .toList();
+    }
+
+    /**
+     * Creates a lot that sorts before every lot expiring on a date, to look up the index.
+     *
+     * @param expiryDate the expiry date.
+     * @return the probe lot.
+     */
+    private static StockLot probe(LocalDate expiryDate) {
+        return new StockLot("", null, 0, expiryDate, null);
+    }
+}
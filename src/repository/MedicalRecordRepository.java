@@ -4,6 +4,7 @@ import java.util.List;
 import model.medrecord.MedicalRecordEntry;
 import repository.interfaces.IMedicalRecordRepository;
 import repository.interfaces.IRepository;
+import repository.persistence.codec.MedicalRecordEntryCodec;
 
 /**
  * An implementation of {@link IRepository} that operates on {@link MedicalRecordEntry} data models.
@@ -20,11 +21,16 @@ public class MedicalRecordRepository extends BaseRepository<MedicalRecordEntry>
      */
     private final static String FILENAME = "records.dat";
 
+    /**
+     * The prefix for the ID of a {@link MedicalRecordEntry}.
+     */
+    public final static String ID_PREFIX = "M";
+
     /**
      * Constructor for the {@link MedicalRecordRepository} class.
      */
     public MedicalRecordRepository() {
-        super(FILENAME);
+        super(FILENAME, new MedicalRecordEntryCodec());
     }
 
     /**
@@ -35,8 +41,7 @@ public class MedicalRecordRepository extends BaseRepository<MedicalRecordEntry>
     @SuppressWarnings("unused")
 	@Override
     public String generateId() {
-        return "M" + getItems().keySet().stream().sorted().reduce((first, second) -> second).map(
-            last -> String.format("%04d", Integer.parseInt(last.substring(1)) + 1)).orElse("1001");
+        return nextId(ID_PREFIX);
     }
 
     /**
@@ -44,12 +49,13 @@ public class MedicalRecordRepository extends BaseRepository<MedicalRecordEntry>
      * The results are sorted in descending order by the date the records were created.
      * 
      * @param patientId the ID of the patient whose medical records are to be retrieved.
-     * @return a sorted {@link List} of {@link MedicalRecordEntry} objects for the specified patient.
+     * @return a sorted {@link List} of copies of the {@link MedicalRecordEntry} objects for the specified patient.
      */
     public List<MedicalRecordEntry> findByPatientId(String patientId) {
         return getItems().values().stream()
         .filter(entry -> entry.getPatientId().equals(patientId))
         .sorted((b, a) -> a.getDateRecorded().compareTo(b.getDateRecorded()))
+        .map(this::copyOf)
         .toList();
     }
 
@@ -58,12 +64,13 @@ public class MedicalRecordRepository extends BaseRepository<MedicalRecordEntry>
      * The results are sorted in descending order by the date the records were created.
      * 
      * @param doctorId the ID of the doctor whose medical records are to be retrieved.
-     * @return a sorted {@link List} of {@link MedicalRecordEntry} objects for the specified doctor.
+     * @return a sorted {@link List} of copies of the {@link MedicalRecordEntry} objects for the specified doctor.
      */
     public List<MedicalRecordEntry> findByDoctorId(String doctorId) {
         return getItems().values().stream()
         .filter(entry -> entry.getDoctorId().equals(doctorId))
         .sorted((b, a) -> a.getDateRecorded().compareTo(b.getDateRecorded()))
+        .map(this::copyOf)
         .toList();
     }
 }
@@ -40,11 +40,11 @@ public class PatientRepository implements IPatientRepository {
      *
      * @return a map of patient IDs to {@link Patient} objects.
      */
+    @SuppressWarnings("unchecked")
     @Override
     public Map<String, Patient> getItems() {
-        return this.repository.getItems().entrySet().stream().filter(
-            entry -> entry.getValue().getRole() == UserRole.PATIENT).collect(
-                Collectors.toMap(e -> (String) e.getKey(), e -> (Patient) e.getValue()));
+        // The type cast is always valid since the partition only holds patients.
+        return (Map<String, Patient>) (Map<String, ?>) this.repository.getItems(UserRole.PATIENT);
     }
 
     /**
@@ -54,7 +54,7 @@ public class PatientRepository implements IPatientRepository {
      */
     @Override
     public List<Patient> findAll() {
-        return this.getItems().values().stream().collect(Collectors.toList());
+        return this.repository.findByRole(UserRole.PATIENT).stream().map(user -> (Patient) user).collect(Collectors.toList());
     }
 
     /**
@@ -64,7 +64,7 @@ public class PatientRepository implements IPatientRepository {
      */
     @Override
     public int count() {
-        return this.getItems().size();
+        return this.repository.count(UserRole.PATIENT);
     }
 
     /**
@@ -75,8 +75,7 @@ public class PatientRepository implements IPatientRepository {
     @SuppressWarnings("unused")
 	@Override
     public String generateId() {
-        return "P" + getItems().keySet().stream().sorted().reduce((first, second) -> second).map(
-            last -> String.format("%04d", Integer.parseInt(last.substring(1)) + 1)).orElse("1001");
+        return repository.generateId(UserRole.PATIENT);
     }
 
     /**
@@ -89,7 +88,7 @@ public class PatientRepository implements IPatientRepository {
     public Patient findById(String patientId) {
         User user =  repository.findById(patientId);
 
-        if (user.getRole() != UserRole.PATIENT) {
+        if (user == null || user.getRole() != UserRole.PATIENT) {
             return null;
         }
 
@@ -104,11 +103,48 @@ public class PatientRepository implements IPatientRepository {
      */
     @Override
     public List<Patient> findBy(Predicate<Patient> predicate) {
-        return repository.findBy(
-            // Filter out all patients
-            (User user) -> user.getRole() == UserRole.PATIENT).stream().map((User user) -> (Patient) user)
-            // Then filter by the predicate
-            .filter(predicate).toList();
+        // Only the patients that match the predicate are copied.
+        return this.viewAll().stream().filter(predicate).map(this::copyOf).toList();
+    }
+
+    /**
+     * Retrieves a read-only view of all {@link Patient}s stored in the repository, without copying them.
+     * 
+     * @return a {@link List} of all {@link Patient}s, which must not be modified.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Patient> viewAll() {
+        // The type cast is always valid since the partition only holds patients.
+        return (List<Patient>) (List<?>) repository.viewByRole(UserRole.PATIENT);
+    }
+
+    /**
+     * Retrieves a read-only view of a {@link Patient} by their unique ID, without copying them.
+     * 
+     * @param id the ID of the {@link Patient}.
+     * @return the {@link Patient} matching the ID, or {@code null} if not found. The {@link Patient} must not be modified.
+     */
+    @Override
+    public Patient viewById(String id) {
+        User user = repository.viewById(id);
+
+        if (user == null || user.getRole() != UserRole.PATIENT) {
+            return null;
+        }
+
+        return (Patient) user;
+    }
+
+    /**
+     * Retrieves a read-only view of all {@link Patient}s that satisfy the specified predicate, without copying them.
+     * 
+     * @param predicate the condition to filter {@link Patient}s.
+     * @return a {@link List} of {@link Patient}s that match the predicate, which must not be modified.
+     */
+    @Override
+    public List<Patient> viewBy(Predicate<Patient> predicate) {
+        return viewAll().stream().filter(predicate).toList();
     }
 
     /**
@@ -119,7 +155,7 @@ public class PatientRepository implements IPatientRepository {
      */
     @Override
     public boolean exists(String patientId) {
-        return this.findById(patientId) != null;
+        return this.viewById(patientId) != null;
     }
 
     /**
@@ -130,7 +166,7 @@ public class PatientRepository implements IPatientRepository {
      */
     @Override
     public boolean exists(Predicate<Patient> predicate) {
-        return this.findBy(predicate).size() > 0;
+        return this.viewAll().stream().anyMatch(predicate);
     }
 
    /**
@@ -177,15 +213,85 @@ public class PatientRepository implements IPatientRepository {
         return null;
     }
 
+    /**
+     * Deletes all the {@link Patient}s matching the given IDs as a single batch.
+     * 
+     * @param patientIds the IDs of the {@link Patient}s to delete.
+     * @return the deleted {@link Patient}s, or {@code null} if the batch was not persisted.
+     */
+    @Override
+    public List<Patient> deleteById(List<String> patientIds) {
+        List<User> deleted = repository.deleteById(patientIds.stream().filter(this::exists).toList());
+
+        if (deleted == null) {
+            return null;
+        }
+
+        return deleted.stream().map(user -> (Patient) user).toList();
+    }
+
     /**
      * Removes all {@link Patient} entries from the repository.
      */
     @Override
     public void clear() {
-        repository.findBy(
-            // Filter out all patients
-            (User user) -> user.getRole() == UserRole.PATIENT).stream().forEach((User user) -> {
-                repository.deleteById(user.getId());
-            });
+        repository.deleteById(List.copyOf(repository.getItems(UserRole.PATIENT).keySet()));
+    }
+
+    /**
+     * Gets the current version of a {@link Patient}, which changes whenever it is saved or removed.
+     * 
+     * @param id the ID of the {@link Patient}.
+     * @return the version of the {@link Patient}.
+     */
+    @Override
+    public long getVersion(String id) {
+        return repository.getVersion(id);
+    }
+
+    /**
+     * Gets the revision of the underlying repository, which changes whenever any user is saved or removed.
+     * 
+     * @return the revision of the underlying repository.
+     */
+    @Override
+    public long getRevision() {
+        return repository.getRevision();
+    }
+
+    /**
+     * Saves a {@link Patient} only if it was not changed since it was at the given version.
+     * 
+     * @param item the {@link Patient} to save.
+     * @param expectedVersion the version of the {@link Patient} when it was read.
+     * @return {@code true} if the {@link Patient} was saved, {@code false} otherwise.
+     */
+    @Override
+    public boolean compareAndSave(Patient item, long expectedVersion) {
+        return repository.compareAndSave(item, expectedVersion);
+    }
+
+    /**
+     * Blocks until the changes made to the {@link Patient}s so far are written to disk.
+     * 
+     * @return {@code true} if the changes are written, {@code false} otherwise.
+     */
+    @Override
+    public boolean flush() {
+        return repository.flush();
+    }
+
+    /**
+     * Copies a {@link Patient} held by the repository, at the version it was read at, so that the
+     * copy can be saved.
+     * 
+     * @param patient the {@link Patient} held by the repository.
+     * @return a copy of the {@link Patient}.
+     */
+    private Patient copyOf(Patient patient) {
+        Patient copy = patient.copy();
+        copy.setVersion(patient.getVersion());
+
+        return copy;
     }
 }
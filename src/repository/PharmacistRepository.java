@@ -45,11 +45,11 @@ public class PharmacistRepository implements IPharmacistRepository {
      * 
      * @return the entries of {@link Pharmacist} stored.
      */
+    @SuppressWarnings("unchecked")
     @Override
     public Map<String, Pharmacist> getItems() {
-        return this.repository.getItems().entrySet().stream().filter(
-            entry -> entry.getValue().getRole() == UserRole.PHARMACIST).collect(
-                Collectors.toMap(e -> (String) e.getKey(), e -> (Pharmacist) e.getValue()));
+        // The type cast is always valid since the partition only holds pharmacists.
+        return (Map<String, Pharmacist>) (Map<String, ?>) this.repository.getItems(UserRole.PHARMACIST);
     }
 
     /**
@@ -59,7 +59,7 @@ public class PharmacistRepository implements IPharmacistRepository {
      */
     @Override
     public List<Pharmacist> findAll() {
-        return this.getItems().values().stream().collect(Collectors.toList());
+        return this.repository.findByRole(UserRole.PHARMACIST).stream().map(user -> (Pharmacist) user).collect(Collectors.toList());
     }
 
     /**
@@ -69,7 +69,7 @@ public class PharmacistRepository implements IPharmacistRepository {
      */
     @Override
     public int count() {
-        return this.getItems().size();
+        return this.repository.count(UserRole.PHARMACIST);
     }
 
     /**
@@ -80,8 +80,7 @@ public class PharmacistRepository implements IPharmacistRepository {
     @SuppressWarnings("unused")
 	@Override
     public String generateId() {
-        return "F" + getItems().keySet().stream().sorted().reduce((first, second) -> second).map(
-            last -> String.format("%04d", Integer.parseInt(last.substring(1)) + 1)).orElse("1001");
+        return repository.generateId(UserRole.PHARMACIST);
     }
 
 
@@ -95,7 +94,7 @@ public class PharmacistRepository implements IPharmacistRepository {
     public Pharmacist findById(String pharmacistId) {
         User user = repository.findById(pharmacistId);
 
-        if (user.getRole() != UserRole.PHARMACIST) {
+        if (user == null || user.getRole() != UserRole.PHARMACIST) {
             return null;
         }
 
@@ -110,11 +109,48 @@ public class PharmacistRepository implements IPharmacistRepository {
      */
     @Override
     public List<Pharmacist> findBy(Predicate<Pharmacist> predicate) {
-        return repository.findBy(
-            // Filter out all pharmacists
-            (User user) -> user.getRole() == UserRole.PHARMACIST).stream().map((User user) -> (Pharmacist) user)
-            // Then filter by the predicate
-            .filter(predicate).toList();
+        // Only the pharmacists that match the predicate are copied.
+        return this.viewAll().stream().filter(predicate).map(this::copyOf).toList();
+    }
+
+    /**
+     * Retrieves a read-only view of all {@link Pharmacist}s stored in the repository, without copying them.
+     * 
+     * @return a {@link List} of all {@link Pharmacist}s, which must not be modified.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Pharmacist> viewAll() {
+        // The type cast is always valid since the partition only holds pharmacists.
+        return (List<Pharmacist>) (List<?>) repository.viewByRole(UserRole.PHARMACIST);
+    }
+
+    /**
+     * Retrieves a read-only view of a {@link Pharmacist} by their unique ID, without copying them.
+     * 
+     * @param id the ID of the {@link Pharmacist}.
+     * @return the {@link Pharmacist} matching the ID, or {@code null} if not found. The {@link Pharmacist} must not be modified.
+     */
+    @Override
+    public Pharmacist viewById(String id) {
+        User user = repository.viewById(id);
+
+        if (user == null || user.getRole() != UserRole.PHARMACIST) {
+            return null;
+        }
+
+        return (Pharmacist) user;
+    }
+
+    /**
+     * Retrieves a read-only view of all {@link Pharmacist}s that satisfy the specified predicate, without copying them.
+     * 
+     * @param predicate the condition to filter {@link Pharmacist}s.
+     * @return a {@link List} of {@link Pharmacist}s that match the predicate, which must not be modified.
+     */
+    @Override
+    public List<Pharmacist> viewBy(Predicate<Pharmacist> predicate) {
+        return viewAll().stream().filter(predicate).toList();
     }
 
     /**
@@ -125,7 +161,7 @@ public class PharmacistRepository implements IPharmacistRepository {
      */
     @Override
     public boolean exists(String pharmacistId) {
-        return this.findById(pharmacistId) != null;
+        return this.viewById(pharmacistId) != null;
     }
 
     /**
@@ -136,7 +172,7 @@ public class PharmacistRepository implements IPharmacistRepository {
      */
     @Override
     public boolean exists(Predicate<Pharmacist> predicate) {
-        return this.findBy(predicate).size() > 0;
+        return this.viewAll().stream().anyMatch(predicate);
     }
 
     /**
@@ -184,15 +220,85 @@ public class PharmacistRepository implements IPharmacistRepository {
         return null;
     }
 
+    /**
+     * Deletes all the {@link Pharmacist}s matching the given IDs as a single batch.
+     * 
+     * @param pharmacistIds the IDs of the {@link Pharmacist}s to delete.
+     * @return the deleted {@link Pharmacist}s, or {@code null} if the batch was not persisted.
+     */
+    @Override
+    public List<Pharmacist> deleteById(List<String> pharmacistIds) {
+        List<User> deleted = repository.deleteById(pharmacistIds.stream().filter(this::exists).toList());
+
+        if (deleted == null) {
+            return null;
+        }
+
+        return deleted.stream().map(user -> (Pharmacist) user).toList();
+    }
+
     /**
      * Deletes all the {@link Pharmacist} stored in the repository.
      */
     @Override
     public void clear() {
-        repository.findBy(
-            (User user) -> user.getRole() == UserRole.PHARMACIST).stream().forEach((User user) -> {
-                repository.deleteById(user.getId());
-            });
+        repository.deleteById(List.copyOf(repository.getItems(UserRole.PHARMACIST).keySet()));
     }
-}
 
+    /**
+     * Gets the current version of a {@link Pharmacist}, which changes whenever it is saved or removed.
+     * 
+     * @param id the ID of the {@link Pharmacist}.
+     * @return the version of the {@link Pharmacist}.
+     */
+    @Override
+    public long getVersion(String id) {
+        return repository.getVersion(id);
+    }
+
+    /**
+     * Gets the revision of the underlying repository, which changes whenever any user is saved or removed.
+     * 
+     * @return the revision of the underlying repository.
+     */
+    @Override
+    public long getRevision() {
+        return repository.getRevision();
+    }
+
+    /**
+     * Saves a {@link Pharmacist} only if it was not changed since it was at the given version.
+     * 
+     * @param item the {@link Pharmacist} to save.
+     * @param expectedVersion the version of the {@link Pharmacist} when it was read.
+     * @return {@code true} if the {@link Pharmacist} was saved, {@code false} otherwise.
+     */
+    @Override
+    public boolean compareAndSave(Pharmacist item, long expectedVersion) {
+        return repository.compareAndSave(item, expectedVersion);
+    }
+
+    /**
+     * Blocks until the changes made to the {@link Pharmacist}s so far are written to disk.
+     * 
+     * @return {@code true} if the changes are written, {@code false} otherwise.
+     */
+    @Override
+    public boolean flush() {
+        return repository.flush();
+    }
+
+    /**
+     * Copies a {@link Pharmacist} held by the repository, at the version it was read at, so that the
+     * copy can be saved.
+     * 
+     * @param pharmacist the {@link Pharmacist} held by the repository.
+     * @return a copy of the {@link Pharmacist}.
+     */
+    private Pharmacist copyOf(Pharmacist pharmacist) {
+        Pharmacist copy = pharmacist.copy();
+        copy.setVersion(pharmacist.getVersion());
+
+        return copy;
+    }
+}
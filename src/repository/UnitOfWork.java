@@ -0,0 +1,256 @@
+package repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import model.BaseModel;
+import repository.exceptions.VersionConflictException;
+import repository.interfaces.IRepository;
+import repository.persistence.TransactionLog;
+
+/**
+ * A unit of work that stages changes to items across several repositories, and commits them as a
+ * single transaction. Either every change is applied and persisted, or none of them are.
+ *
+ * <p>On commit, the staged changes are applied to each repository and recorded as one entry in
+ * the {@link TransactionLog}, which is synced to disk once, before they are appended to the
+ * journal of each repository. The repositories are locked in a fixed order for the duration of
+ * the commit, so that no synchronized operation of another thread observes only some of the
+ * changes.</p>
+ *
+ * <p>Items staged from copies that another session changed since they were read are rejected on
+ * commit with a {@link VersionConflictException}, in which case none of the changes are applied
+ * and the work can be retried from fresh copies.</p>
+ *
+ * <p>A unit of work is used by a single thread, and is discarded once it is committed.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class UnitOfWork {
+    /**
+     * The changes staged for each repository, in the order the repositories were first used.
+     */
+    private final Map<BaseRepository<?>, Changes<?>> changes = new LinkedHashMap<BaseRepository<?>, Changes<?>>();
+
+    /**
+     * Finds an item by its ID, as staged in this unit of work.
+     *
+     * @param <T> the type of the item.
+     * @param repository the repository of the item.
+     * @param id the ID of the item.
+     * @return the item staged in this unit of work, a copy of the stored item if it is not staged,
+     * or {@code null} if the item does not exist or is staged to be deleted.
+     * @throws IllegalArgumentException if the repository does not support transactions.
+     */
+    public <T extends BaseModel> T find(IRepository<T> repository, String id) {
+        Changes<T> staged = changesOf(repository);
+
+        if (staged.items.containsKey(id)) {
+            return staged.items.get(id);
+        }
+
+        return repository.findById(id);
+    }
+
+    /**
+     * Stages an item to be saved. If the item does not have an ID, a new one is generated.
+     *
+     * @param <T> the type of the item.
+     * @param repository the repository of the item.
+     * @param item the item to save.
+     * @return the item, with its ID updated if necessary.
+     * @throws IllegalArgumentException if the repository does not support transactions.
+     */
+    public <T extends BaseModel> T save(IRepository<T> repository, T item) {
+        Changes<T> staged = changesOf(repository);
+        staged.items.put(staged.repository.assignId(item), item);
+
+        return item;
+    }
+
+    /**
+     * Stages an item to be removed.
+     *
+     * @param <T> the type of the item.
+     * @param repository the repository of the item.
+     * @param id the ID of the item to remove.
+     * @throws IllegalArgumentException if the repository does not support transactions.
+     */
+    public <T extends BaseModel> void delete(IRepository<T> repository, String id) {
+        changesOf(repository).items.put(id, null);
+    }
+
+    /**
+     * Commits the staged changes as a single transaction.
+     *
+     * @return {@code true} if the changes were committed, {@code false} if they could not be
+     * persisted, in which case none of them are applied.
+     * @throws VersionConflictException if a staged item was changed by another session since it
+     * was read, in which case none of the changes are applied.
+     */
+    public boolean commit() {
+        List<Changes<?>> participants = new ArrayList<Changes<?>>(changes.values());
+        participants.removeIf(staged -> staged.items.isEmpty());
+
+        if (participants.isEmpty()) {
+            return true;
+        }
+
+        // Lock the repositories in the order of their names, so that transactions cannot deadlock.
+        participants.sort(Comparator.comparing(staged -> staged.repository.getFilename()));
+
+        boolean committed;
+
+        try {
+            synchronized (BaseRepository.getTransactionLock()) {
+                committed = commit(participants, 0);
+            }
+        } finally {
+            changes.clear();
+        }
+
+        if (committed) {
+            BaseRepository.checkpointTransactions();
+        }
+
+        return committed;
+    }
+
+    /**
+     * Locks the repositories of the participants from the given index onwards, then commits the
+     * changes of every participant.
+     *
+     * @param participants the participants of the transaction, in the order to lock them.
+     * @param index the index of the next participant to lock.
+     * @return {@code true} if the changes were committed, {@code false} otherwise.
+     * @throws VersionConflictException if a staged item was changed by another session since it was read.
+     */
+    private static boolean commit(List<Changes<?>> participants, int index) {
+        if (index < participants.size()) {
+            synchronized (participants.get(index).repository) {
+                return commit(participants, index + 1);
+            }
+        }
+
+        TransactionLog log = BaseRepository.getTransactionLog();
+        Map<String, byte[]> records = new LinkedHashMap<String, byte[]>();
+
+        for (Changes<?> staged : participants) {
+            byte[] record;
+
+            try {
+                record = staged.apply();
+            } catch (VersionConflictException e) {
+                participants.forEach(Changes::rollback);
+                throw e;
+            }
+
+            if (record == null) {
+                System.out.println("[ERROR] Could not encode the changes to " + staged.repository.getFilename() + ", rolling back.");
+                participants.forEach(Changes::rollback);
+                return false;
+            }
+
+            records.put(staged.repository.getFilename(), record);
+        }
+
+        long lsn = log.nextLsn();
+
+        if (!log.append(lsn, records)) {
+            System.out.println("[ERROR] Could not persist the transaction, rolling back.");
+            participants.forEach(Changes::rollback);
+            return false;
+        }
+
+        for (Changes<?> staged : participants) {
+            // The transaction is already in the log, which is kept until the repository is compacted.
+            if (!staged.repository.appendTransaction(lsn, records.get(staged.repository.getFilename()))) {
+                System.out.println("[ERROR] Could not persist the transaction to " + staged.repository.getFilename()
+                    + ", it will be recovered from the transaction log.");
+            }
+
+            staged.committed();
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the changes staged for a repository, creating them on first use.
+     *
+     * @param <T> the type of the items of the repository.
+     * @param repository the repository.
+     * @return the changes staged for the repository.
+     * @throws IllegalArgumentException if the repository does not support transactions.
+     */
+    @SuppressWarnings("unchecked")
+    // Type cast is always valid since the changes are keyed by their repository.
+    private <T extends BaseModel> Changes<T> changesOf(IRepository<T> repository) {
+        if (!(repository instanceof BaseRepository)) {
+            throw new IllegalArgumentException("The repository " + repository.getClass().getSimpleName() + " does not support transactions.");
+        }
+
+        BaseRepository<T> base = (BaseRepository<T>) repository;
+        return (Changes<T>) changes.computeIfAbsent(base, key -> new Changes<T>(base));
+    }
+
+    /**
+     * The changes staged for a single repository.
+     *
+     * @param <T> the type of the items of the repository.
+     */
+    private static class Changes<T extends BaseModel> {
+        /**
+         * The repository that the changes are made to.
+         */
+        private final BaseRepository<T> repository;
+
+        /**
+         * The items to save by ID, or {@code null} for the items to remove.
+         */
+        private final Map<String, T> items = new LinkedHashMap<String, T>();
+
+        /**
+         * The previous state of each item changed on commit, to restore if the commit fails.
+         */
+        private final Map<String, T> previous = new LinkedHashMap<String, T>();
+
+        /**
+         * Constructs the {@link Changes} of a repository.
+         *
+         * @param repository the repository that the changes are made to.
+         */
+        private Changes(BaseRepository<T> repository) {
+            this.repository = repository;
+        }
+
+        /**
+         * Applies the changes to the items of the repository in memory.
+         *
+         * @return the encoded record of the changes, or {@code null} if they could not be encoded.
+         */
+        private byte[] apply() {
+            return repository.applyChanges(items, previous);
+        }
+
+        /**
+         * Completes the changes to the items of the repository once the transaction is committed.
+         */
+        private void committed() {
+            repository.committed(items);
+        }
+
+        /**
+         * Restores the items of the repository changed by {@link #apply()}.
+         */
+        private void rollback() {
+            repository.rollback(previous);
+            previous.clear();
+        }
+    }
+}
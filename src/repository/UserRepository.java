@@ -1,10 +1,12 @@
 package repository;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import model.enums.UserRole;
 import model.users.User;
 import repository.interfaces.IUserRepository;
+import repository.persistence.codec.UserCodec;
 
 /**
  * A repository implementation for managing {@link User} data models.
@@ -26,12 +28,73 @@ public class UserRepository extends BaseRepository<User> implements IUserReposit
      * Note: This is typically overridden by specific prefixes for user roles.
      */
     final static String ID_PREFIX = "U";
+
+    /**
+     * The partition of the users with each role, by user ID. The partitions are held in a
+     * {@link ConcurrentHashMap}, like the items of the repository, so that the read-only views
+     * returned by {@link #getItems(UserRole)} can be read without holding the lock of the repository.
+     */
+    private final Map<UserRole, Map<String, User>> partitions = new EnumMap<UserRole, Map<String, User>>(UserRole.class);
+
+    /**
+     * The cached read-only view of the users with each role. A role is absent if its view has to
+     * be rebuilt after its users were changed.
+     */
+    private final Map<UserRole, List<User>> roleViews = new EnumMap<UserRole, List<User>>(UserRole.class);
     
     /**
      * Constructs a new {@link UserRepository} instance.
      */
     public UserRepository() {
-        super(FILENAME);
+        super(FILENAME, new UserCodec());
+
+        // The partitions are only initialized after the items are loaded by the super constructor.
+        onReset();
+    }
+
+    /**
+     * Retrieves a read-only view of the {@link User}s with the given role, by their IDs. The view
+     * reflects later changes to the users, and can be read without holding the lock of the repository.
+     * 
+     * @param role the {@link UserRole} of the users.
+     * @return a {@link Map} of the users with the role, which must not be modified.
+     */
+    @Override
+    public synchronized Map<String, User> getItems(UserRole role) {
+        return Collections.unmodifiableMap(partition(role));
+    }
+
+    /**
+     * Retrieves copies of all the {@link User}s with the given role.
+     * 
+     * @param role the {@link UserRole} of the users.
+     * @return a list of copies of the users with the role.
+     */
+    @Override
+    public synchronized List<User> findByRole(UserRole role) {
+        return partition(role).values().stream().map(this::copyOf).toList();
+    }
+
+    /**
+     * Retrieves a read-only view of all the {@link User}s with the given role, without copying them.
+     * 
+     * @param role the {@link UserRole} of the users.
+     * @return a list of the users with the role, which must not be modified.
+     */
+    @Override
+    public synchronized List<User> viewByRole(UserRole role) {
+        return roleViews.computeIfAbsent(role, key -> List.copyOf(partition(key).values()));
+    }
+
+    /**
+     * Counts the {@link User}s with the given role.
+     * 
+     * @param role the {@link UserRole} of the users.
+     * @return the number of users with the role.
+     */
+    @Override
+    public synchronized int count(UserRole role) {
+        return partition(role).size();
     }
 
     /**
@@ -42,15 +105,26 @@ public class UserRepository extends BaseRepository<User> implements IUserReposit
     @SuppressWarnings("unused")
 	@Override
     public String generateId() {
-        return "U" + getItems().keySet().stream().sorted().reduce((first, second) -> second).map(
-            last -> String.format("%04d", Integer.parseInt(last.substring(1)) + 1)).orElse("1001");
+        return nextId(ID_PREFIX);
     }
 
     /**
      * Generates a new unique ID for a {@link User} based on their {@link UserRole}.
      * 
      * @param user the {@link User} object for which the ID is being generated.
-     * @return the generated ID prefixed with a letter corresponding to the user's role:
+     * @return the generated ID prefixed with a letter corresponding to the user's role,
+     *         see {@link #generateId(UserRole)}.
+     */
+    public String generateUserId(User user) {
+        return generateId(user.getRole());
+    }
+
+    /**
+     * Generates a new unique ID for a {@link User} of the given {@link UserRole}. Each role has its
+     * own sequence of IDs.
+     * 
+     * @param role the {@link UserRole} of the user.
+     * @return the generated ID prefixed with a letter corresponding to the role:
      *         <ul>
      *         <li>"A" for {@link UserRole#ADMIN}</li>
      *         <li>"D" for {@link UserRole#DOCTOR}</li>
@@ -59,15 +133,16 @@ public class UserRepository extends BaseRepository<User> implements IUserReposit
      *         <li>"U" for other roles</li>
      *         </ul>
      */
-    public String generateUserId(User user) {
-        if (user.getRole() == UserRole.ADMIN) {
-            return "A" + generateId().substring(1);
-        } else if (user.getRole() == UserRole.DOCTOR) {
-            return "D" + generateId().substring(1);
-        } else if (user.getRole() == UserRole.PATIENT) {
-            return "P" + generateId().substring(1);
-        } else if (user.getRole() == UserRole.PHARMACIST) {
-            return "F" + generateId().substring(1);
+    @Override
+    public String generateId(UserRole role) {
+        if (role == UserRole.ADMIN) {
+            return nextId("A");
+        } else if (role == UserRole.DOCTOR) {
+            return nextId("D");
+        } else if (role == UserRole.PATIENT) {
+            return nextId("P");
+        } else if (role == UserRole.PHARMACIST) {
+            return nextId("F");
         }
 
         return generateId();
@@ -110,21 +185,77 @@ public class UserRepository extends BaseRepository<User> implements IUserReposit
     }
 
     /**
-     * Saves a collection of {@link User} objects to the repository.
-     * For each user in the collection, if the user does not have an ID, a new ID is generated 
-     * based on their role before saving.
+     * Generates a new unique ID for a {@link User} that is saved as part of a batch, based on
+     * their {@link UserRole}.
+     * 
+     * @param item the {@link User} object for which the ID is being generated.
+     * @return the generated ID prefixed with a letter corresponding to the user's role.
+     */
+    @Override
+    protected String generateId(User item) {
+        return generateUserId(item);
+    }
+
+    /**
+     * Adds a stored {@link User} to the partition of their role, removing the user they replaced
+     * from the partition of its role in case the role was changed.
      * 
-     * @param collection the list of {@link User} objects to save.
-     * @return the saved list of {@link User} objects, with IDs assigned where needed.
+     * @param previous the user that was replaced, or {@code null} if the user was inserted.
+     * @param item the user that was stored.
      */
     @Override
-    public List<User> save(List<User> collection) {
-        collection.forEach(user -> {
-            if (user.getId() == null) {
-                user.setId(generateUserId(user));
-            }
-        });
-        
-        return super.save(collection);
+    protected void onStored(User previous, User item) {
+        if (previous != null) {
+            onRemoved(previous);
+        }
+
+        // The partitions are not yet initialized when this is called from the super constructor.
+        if (partitions == null) {
+            return;
+        }
+
+        partition(item.getRole()).put(item.getId(), item);
+        roleViews.remove(item.getRole());
+    }
+
+    /**
+     * Removes a removed {@link User} from the partition of their role.
+     * 
+     * @param item the user that was removed.
+     */
+    @Override
+    protected void onRemoved(User item) {
+        if (partitions == null) {
+            return;
+        }
+
+        partition(item.getRole()).remove(item.getId());
+        roleViews.remove(item.getRole());
+    }
+
+    /**
+     * Rebuilds the partitions from all the {@link User}s in the repository.
+     */
+    @Override
+    protected void onReset() {
+        if (partitions == null) {
+            return;
+        }
+
+        // The partitions are cleared in place, since their views may be held by callers.
+        partitions.values().forEach(Map::clear);
+        roleViews.clear();
+
+        getItems().values().forEach(item -> onStored(null, item));
+    }
+
+    /**
+     * Gets the partition of the users with the given role, creating it if it does not exist.
+     * 
+     * @param role the {@link UserRole} of the users.
+     * @return the partition of the users with the role, by user ID.
+     */
+    private Map<String, User> partition(UserRole role) {
+        return partitions.computeIfAbsent(role, key -> new ConcurrentHashMap<String, User>());
     }
 }
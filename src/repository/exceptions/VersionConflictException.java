@@ -0,0 +1,75 @@
+package repository.exceptions;
+
+/**
+ * Exception thrown when an item is saved from a stale copy, ie: the item was saved or removed by
+ * another session since the copy was read. This class extends the RuntimeException class.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class VersionConflictException extends RuntimeException {
+    /**
+     * The serializable class version number to verify whether the serialized object have loaded classes
+     * for that object that are compatible with respect to serialization.
+     */
+    private static final long serialVersionUID = 42L;
+
+    /**
+     * The ID of the item that was saved.
+     */
+    private final String id;
+
+    /**
+     * The version of the item when it was read.
+     */
+    private final long expectedVersion;
+
+    /**
+     * The version of the item when it was saved.
+     */
+    private final long actualVersion;
+
+    /**
+     * Constructor for the exception
+     *
+     * @param id the ID of the item that was saved.
+     * @param expectedVersion the version of the item when it was read.
+     * @param actualVersion the version of the item when it was saved.
+     */
+    public VersionConflictException(String id, long expectedVersion, long actualVersion) {
+        super(String.format("The item %s was changed by another session (read at version %d, now at version %d).",
+            id, expectedVersion, actualVersion));
+
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    /**
+     * Gets the ID of the item that was saved.
+     *
+     * @return the ID of the item.
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the version of the item when it was read.
+     *
+     * @return the version of the item when it was read.
+     */
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    /**
+     * Gets the version of the item when it was saved.
+     *
+     * @return the version of the item when it was saved.
+     */
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
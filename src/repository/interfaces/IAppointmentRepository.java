@@ -17,7 +17,8 @@ import model.users.Patient;
  */
 public interface IAppointmentRepository extends IRepository<Appointment> {
     /**
-     * Gets all the appointments in the system, ordered by most recent first.
+     * Gets a read-only view of all the appointments in the system, ordered by most recent first.
+     * The appointments are shared with the repository rather than copied, and must not be modified.
      * @return the list of appointments.
      */
     public List<Appointment> getAppointments();
@@ -120,4 +121,12 @@ public interface IAppointmentRepository extends IRepository<Appointment> {
      * @return whether the slot is available.
      */
     public boolean isSlotAvailable(Doctor doctor, TimeSlot slot);
+
+    /**
+     * Gets the slots of a doctor on a given date that are occupied by scheduled appointments.
+     * @param doctor the doctor to get the occupied slots for.
+     * @param date the date to get the occupied slots for.
+     * @return the bitmask of the occupied slots, as defined by {@link model.appointments.SlotGrid}.
+     */
+    public int getOccupiedSlots(Doctor doctor, LocalDate date);
 }
@@ -1,8 +1,16 @@
 package repository.interfaces;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import model.enums.StockMovementType;
 import model.inventory.InventoryItem;
+import model.inventory.StockAdjustment;
+import model.inventory.StockAlert;
+import model.inventory.StockMovement;
 
 /**
  * The interface that defines the contract for an inventory repository.
@@ -26,8 +34,98 @@ public interface IInventoryRepository extends IRepository<InventoryItem> {
     public List<InventoryItem> getPendingReplenishmentRequestItems();
 
     /**
-     * Retrieves all inventory items that are currently low stock.
+     * Retrieves all inventory items that are currently low stock, from the most critical.
      * @return the {@link List} of {@link InventoryItem} that are low stock.
      */
     public List<InventoryItem> getLowStockInventoryItems();
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the inventory items with the lowest stock relative to their stock level alerts.
+     * @param count the maximum number of items to retrieve.
+     * @return the {@link List} of at most {@code count} {@link InventoryItem}, from the most critical.
+     */
+    public List<InventoryItem> getMostCriticalItems(int count);
+
+    /**
+     * Adds a listener to be called whenever the stock of an item crosses its stock level alert.
+     * @param listener the listener to add.
+     */
+    public void addStockAlertListener(Consumer<StockAlert> listener);
+
+    /**
+     * Removes a listener to the stock level alerts.
+     * @param listener the listener to remove.
+     */
+    public void removeStockAlertListener(Consumer<StockAlert> listener);
+
+    /**
+     * Adds a listener to be called whenever a movement of the stock of an item is recorded.
+     * @param listener the listener to add.
+     */
+    public void addStockMovementListener(Consumer<StockMovement> listener);
+
+    /**
+     * Removes a listener to the movements of the stock of items.
+     * @param listener the listener to remove.
+     */
+    public void removeStockMovementListener(Consumer<StockMovement> listener);
+
+    /**
+     * Atomically adds to or deducts from the stock of an item, unless there is insufficient stock.
+     * @param itemId the ID of the item.
+     * @param delta the quantity to add, or a negative quantity to deduct.
+     * @return the outcome of the adjustment, or {@code null} if the item does not exist.
+     */
+    public StockAdjustment adjustStock(String itemId, int delta);
+
+    /**
+     * Atomically adds to or deducts from the stock of an item, unless there is insufficient stock,
+     * and records it as the given kind of movement.
+     * @param itemId the ID of the item.
+     * @param delta the quantity to add, or a negative quantity to deduct.
+     * @param type the kind of the movement.
+     * @return the outcome of the adjustment, or {@code null} if the item does not exist.
+     */
+    public StockAdjustment adjustStock(String itemId, int delta, StockMovementType type);
+
+    /**
+     * Atomically sets the stock of an item.
+     * @param itemId the ID of the item.
+     * @param stock the new stock of the item.
+     * @return the outcome of the change, or {@code null} if the item does not exist.
+     */
+    public StockAdjustment setStock(String itemId, int stock);
+
+    /**
+     * Gets the stock of an item at a point in time.
+     * @param itemId the ID of the item.
+     * @param dateTime the point in time.
+     * @return the stock of the item at that time, or {@code 0} if it was not stocked by then.
+     */
+    public int getStockAt(String itemId, LocalDateTime dateTime);
+
+    /**
+     * Retrieves the movements of the stock of an item within a period.
+     * @param itemId the ID of the item.
+     * @param from the start of the period, inclusive.
+     * @param to the end of the period, inclusive.
+     * @return the {@link List} of {@link StockMovement} of the item, from the oldest.
+     */
+    public List<StockMovement> getStockMovements(String itemId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Gets the quantity of every item deducted or dispensed in each of a number of consecutive weeks.
+     * @param from the first day of the first week.
+     * @param weeks the number of weeks.
+     * @return the quantity consumed in each week, by item ID.
+     */
+    public Map<String, int[]> getWeeklyConsumption(LocalDate from, int weeks);
+
+    /**
+     * Gets the quantity of every item deducted or dispensed on each of a number of consecutive days.
+     * @param from the first day.
+     * @param days the number of days.
+     * @return the quantity consumed on each day, by item ID.
+     */
+    public Map<String, int[]> getDailyConsumption(LocalDate from, int days);
+}
@@ -0,0 +1,30 @@
+package repository.interfaces;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import model.inventory.StockLot;
+
+/**
+ * The interface that defines the contract for a repository of the lots of the inventory.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface ILotRepository extends IRepository<StockLot> {
+    /**
+     * Retrieves the lots of an item, from the earliest expiry date.
+     * @param itemId the ID of the item.
+     * @return the {@link List} of {@link StockLot} of the item.
+     */
+    public List<StockLot> getLots(String itemId);
+
+    /**
+     * Retrieves the lots of every item expiring within a period, from the earliest expiry date.
+     * @param from the first day of the period.
+     * @param to the last day of the period.
+     * @return the {@link List} of {@link StockLot} expiring within the period.
+     */
+    public List<StockLot> getLotsExpiringBetween(LocalDate from, LocalDate to);
+}
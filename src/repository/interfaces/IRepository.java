@@ -10,6 +10,7 @@ import java.util.*;
 import java.util.function.*;
 
 import model.BaseModel;
+import repository.exceptions.VersionConflictException;
 
 /**
  * The interface that defines the behavaiour of a data repository of a {@link BaseModel}.
@@ -49,6 +50,31 @@ public interface IRepository<T extends BaseModel> {
      * @return a list of the items satisfying the predicate.
      */
     public List<T> findBy(Predicate<T> predicate);
+
+    /**
+     * Gets a read-only view of all the items stored by the {@link IRepository}. Unlike 
+     * {@link #findAll()}, the items are shared with the repository rather than copied, so they 
+     * are frozen, and their setters throw an {@link UnsupportedOperationException}. To modify an
+     * item, get a copy of it with {@link #findById(String)} and {@link #save(BaseModel)} the copy.
+     * @return an unmodifiable list of all the items, which must not be modified.
+     */
+    public List<T> viewAll();
+
+    /**
+     * Gets a read-only view of the item that matches the given ID, shared with the repository
+     * rather than copied. See {@link #viewAll()}.
+     * @param id the ID of the item.
+     * @return the item matching the ID, which must not be modified.
+     */
+    public T viewById(String id);
+
+    /**
+     * Gets a read-only view of all the items that match a given predicate (condition), shared 
+     * with the repository rather than copied. See {@link #viewAll()}.
+     * @param predicate the condition to check whether an item should be included.
+     * @return a list of the items satisfying the predicate, which must not be modified.
+     */
+    public List<T> viewBy(Predicate<T> predicate);
     
     /**
      * Checks whether an item matching the given ID exists in the repository.
@@ -65,16 +91,46 @@ public interface IRepository<T extends BaseModel> {
     public boolean exists(Predicate<T> predicate);
 
     /**
-     * Saves the given item to the repository.
+     * Saves the given item to the repository. An item read from the repository is only saved if
+     * it was not changed since it was read, see {@link BaseModel#getVersion()}.
      * @param item the item with changes to be saved.
-     * @return the same reference to the item.
+     * @return the same reference to the item, at its new version, or {@code null} if the item
+     * could not be persisted, in which case it is not saved.
+     * @throws VersionConflictException if the item was changed by another session since it was read.
      */
     public T save(T item);
 
     /**
-     * Saves a collection of items to the repository.
+     * Gets the current version of the item that matches the given ID, which changes whenever the
+     * item is saved or removed.
+     * @param id the ID of the item.
+     * @return the version of the item.
+     */
+    public long getVersion(String id);
+
+    /**
+     * Gets the revision of the {@link IRepository}, which changes whenever any of its items is
+     * saved or removed.
+     * @return the revision of the repository.
+     */
+    public long getRevision();
+
+    /**
+     * Saves the given item only if it was not changed since it was at the given version, so that
+     * the changes of another session are never overwritten.
+     * @param item the item with changes to be saved.
+     * @param expectedVersion the version of the item when it was read, see {@link #getVersion(String)}.
+     * @return whether the item was saved.
+     */
+    public boolean compareAndSave(T item, long expectedVersion);
+
+    /**
+     * Saves a collection of items to the repository as a single batch. The changes are applied
+     * all-or-nothing and persisted once for the whole batch.
      * @param collection the collection of items to be saved.
-     * @return the same reference to the items.
+     * @return the same reference to the items, or {@code null} if the batch was not persisted.
+     * @throws VersionConflictException if an item was changed by another session since it was
+     * read, in which case none of the items are saved.
      */
     public List<T> save(List<T> collection);
     
@@ -85,6 +141,14 @@ public interface IRepository<T extends BaseModel> {
      */
     public T deleteById(String id);
 
+    /**
+     * Removes all the items that match the given IDs as a single batch. The changes are applied
+     * all-or-nothing and persisted once for the whole batch.
+     * @param ids the IDs of the items.
+     * @return the items that were removed, or {@code null} if the batch was not persisted.
+     */
+    public List<T> deleteById(List<String> ids);
+
     /**
      * Removes all the items in the repository and persist the changes.
      */
@@ -95,4 +159,11 @@ public interface IRepository<T extends BaseModel> {
      * @return the unique ID.
      */
     public String generateId();
+
+    /**
+     * Blocks until the changes made to the {@link IRepository} so far are durably written, for
+     * callers that need durability when the changes are written in the background.
+     * @return whether the changes are written.
+     */
+    public boolean flush();
 }
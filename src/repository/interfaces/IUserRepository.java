@@ -1,7 +1,9 @@
 package repository.interfaces;
 
 import java.util.List;
+import java.util.Map;
 
+import model.enums.UserRole;
 import model.users.User;
 
 /**
@@ -26,4 +28,39 @@ public interface IUserRepository extends IRepository<User> {
      * @return whether the user exists.
      */
     public boolean nameExists(String name);
+
+    /**
+     * Generates a unique ID for a {@link User} of the given role, prefixed according to the role.
+     * @param role the role of the user.
+     * @return the unique ID.
+     */
+    public String generateId(UserRole role);
+
+    /**
+     * Gets a read-only view of the {@link User}s with the given role, by their IDs.
+     * @param role the role of the users.
+     * @return a map of the users with the role, which must not be modified.
+     */
+    public Map<String, User> getItems(UserRole role);
+
+    /**
+     * Finds all the {@link User}s with the given role.
+     * @param role the role of the users.
+     * @return a list of copies of the users with the role.
+     */
+    public List<User> findByRole(UserRole role);
+
+    /**
+     * Gets a read-only view of all the {@link User}s with the given role, without copying them.
+     * @param role the role of the users.
+     * @return a list of the users with the role, which must not be modified.
+     */
+    public List<User> viewByRole(UserRole role);
+
+    /**
+     * Counts the {@link User}s with the given role.
+     * @param role the role of the users.
+     * @return the number of users with the role.
+     */
+    public int count(UserRole role);
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package repository.persistence;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The single background thread that persists the records appended to {@link Journal}s in
+ * write-behind mode. Appending a record only queues it in memory, and the committer writes every
+ * record queued within {@link #getMaxDelayMillis()} of each other to their journals at once, with
+ * one sync to disk per journal (group commit).
+ *
+ * <p>Write-behind mode is disabled by default, and is enabled with the system property
+ * {@value #ENABLED_PROPERTY}. The maximum delay is set with the system property
+ * {@value #MAX_DELAY_PROPERTY}. Records that are queued but not yet written are lost if the
+ * application crashes, so callers that need a change to be durable should call {@link #flush()}.
+ * The queued records are also flushed when the application exits.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class GroupCommitter {
+    /**
+     * The system property that enables write-behind mode, ie: {@code -Dhms.persistence.writeBehind=true}.
+     */
+    public static final String ENABLED_PROPERTY = "hms.persistence.writeBehind";
+
+    /**
+     * The system property of the maximum delay in milliseconds between a record being queued and
+     * it being written, ie: {@code -Dhms.persistence.maxDelayMillis=20}.
+     */
+    public static final String MAX_DELAY_PROPERTY = "hms.persistence.maxDelayMillis";
+
+    /**
+     * The default maximum delay in milliseconds.
+     */
+    private static final long DEFAULT_MAX_DELAY_MILLIS = 20;
+
+    /**
+     * The delay in milliseconds before retrying after the records could not be written.
+     */
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    /**
+     * The committer, or {@code null} if write-behind mode is disabled.
+     */
+    private static final GroupCommitter instance = Boolean.getBoolean(ENABLED_PROPERTY)
+        ? new GroupCommitter(Long.getLong(MAX_DELAY_PROPERTY, DEFAULT_MAX_DELAY_MILLIS)) : null;
+
+    /**
+     * The maximum delay in milliseconds between a record being queued and it being written.
+     */
+    private final long maxDelayMillis;
+
+    /**
+     * The journals with records queued since the last commit, in the order they were queued.
+     */
+    private final Set<Journal> queued = new LinkedHashSet<Journal>();
+
+    /**
+     * The lock held while the queued records are committed, so that only one commit runs at a time.
+     */
+    private final Object commitLock = new Object();
+
+    /**
+     * Constructs a {@link GroupCommitter} and starts its thread.
+     *
+     * @param maxDelayMillis the maximum delay in milliseconds between a record being queued and it
+     * being written.
+     */
+    private GroupCommitter(long maxDelayMillis) {
+        this.maxDelayMillis = Math.max(0, maxDelayMillis);
+
+        Thread thread = new Thread(this::run, "persistence-committer");
+        thread.setDaemon(true);
+        thread.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "persistence-flush"));
+    }
+
+    /**
+     * Gets the committer, if write-behind mode is enabled.
+     *
+     * @return the committer, or {@code null} if write-behind mode is disabled.
+     */
+    public static GroupCommitter getInstance() {
+        return instance;
+    }
+
+    /**
+     * Gets the maximum delay in milliseconds between a record being queued and it being written.
+     *
+     * @return the maximum delay in milliseconds.
+     */
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    /**
+     * Notifies the committer that records were queued to a journal.
+     *
+     * @param journal the journal that records were queued to.
+     */
+    synchronized void submit(Journal journal) {
+        if (queued.add(journal) && queued.size() == 1) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Writes every record queued so far and syncs them to disk, blocking until they are durable.
+     *
+     * @return {@code true} if every queued record was written, {@code false} otherwise.
+     */
+    public boolean flush() {
+        return commit();
+    }
+
+    /**
+     * Commits the queued records whenever there are any, waiting up to the maximum delay after the
+     * first record is queued so that the records queued in a burst are written together.
+     */
+    private void run() {
+        while (true) {
+            try {
+                synchronized (this) {
+                    while (queued.isEmpty()) {
+                        wait();
+                    }
+                }
+
+                Thread.sleep(maxDelayMillis);
+
+                if (!commit()) {
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                }
+
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Writes the records queued to each journal, with one sync to disk per journal. The journals
+     * whose records could not be written keep them, and are queued again to be retried.
+     *
+     * @return {@code true} if every queued record was written, {@code false} otherwise.
+     */
+    private boolean commit() {
+        synchronized (commitLock) {
+            List<Journal> journals;
+
+            synchronized (this) {
+                journals = new ArrayList<Journal>(queued);
+                queued.clear();
+            }
+
+            boolean committed = true;
+
+            for (Journal journal : journals) {
+                if (!journal.commitPending()) {
+                    committed = false;
+                    submit(journal);
+                }
+            }
+
+            return committed;
+        }
+    }
+}
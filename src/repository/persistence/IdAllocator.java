@@ -0,0 +1,137 @@
+package repository.persistence;
+
+import java.io.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A monotonic allocator of IDs of the form {@code <prefix><number>}, such as {@code P1001}, that
+ * keeps one sequence per prefix. Allocating an ID is a single atomic increment, so it is O(1)
+ * and safe to call from concurrent callers.
+ *
+ * <p>The highest number handed out for each prefix is persisted to a small file whenever
+ * {@link #persist()} is called. Combined with {@link #observe(String)} being called on every ID
+ * that is loaded or replayed, this guarantees that IDs are never reused across restarts, even
+ * after the items holding the highest IDs are deleted.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class IdAllocator {
+    /**
+     * The value of each sequence before its first ID is allocated, so that the first ID is 1001.
+     */
+    private static final int INITIAL_VALUE = 1000;
+
+    /**
+     * The file where the sequences are persisted.
+     */
+    private final File file;
+
+    /**
+     * The current value of the sequence for each prefix.
+     */
+    private final Map<Character, AtomicInteger> sequences = new ConcurrentHashMap<Character, AtomicInteger>();
+
+    /**
+     * Constructs an {@link IdAllocator} and loads the sequences persisted in the given file.
+     *
+     * @param file the file where the sequences are persisted.
+     */
+    public IdAllocator(File file) {
+        this.file = file;
+        load();
+    }
+
+    /**
+     * Allocates the next ID for the given prefix.
+     *
+     * @param prefix the prefix of the ID.
+     * @return the allocated ID.
+     */
+    public String next(char prefix) {
+        return prefix + String.format("%04d", sequence(prefix).incrementAndGet());
+    }
+
+    /**
+     * Records that an ID is in use, so that it is never allocated again. IDs that are not of the
+     * form {@code <prefix><number>} are ignored.
+     *
+     * @param id the ID that is in use.
+     */
+    public void observe(String id) {
+        if (id == null || id.length() < 2) {
+            return;
+        }
+
+        int value;
+
+        try {
+            value = Integer.parseInt(id.substring(1));
+        } catch (NumberFormatException e) {
+            return;
+        }
+
+        sequence(id.charAt(0)).accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Persists the current value of every sequence.
+     *
+     * @return {@code true} if the sequences were persisted, {@code false} otherwise.
+     */
+    public boolean persist() {
+        file.getParentFile().mkdirs();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(sequences.size());
+
+            for (Map.Entry<Character, AtomicInteger> entry : sequences.entrySet()) {
+                out.writeChar(entry.getKey());
+                out.writeInt(entry.getValue().get());
+            }
+
+        } catch (IOException e) {
+            System.out.println("[ERROR] Could not persist ID sequences to " + file.getName() + ".");
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the sequence for the given prefix, creating it if it does not exist.
+     *
+     * @param prefix the prefix of the sequence.
+     * @return the sequence.
+     */
+    private AtomicInteger sequence(char prefix) {
+        return sequences.computeIfAbsent(prefix, key -> new AtomicInteger(INITIAL_VALUE));
+    }
+
+    /**
+     * Loads the sequences persisted in the file, if it exists.
+     */
+    private void load() {
+        if (!file.exists()) {
+            return;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            int count = in.readInt();
+
+            for (int i = 0; i < count; i++) {
+                char prefix = in.readChar();
+                int value = in.readInt();
+
+                sequence(prefix).accumulateAndGet(value, Math::max);
+            }
+
+        } catch (IOException e) {
+            // The sequences are still recovered from the IDs observed when the items are loaded.
+            System.out.println("[WARNING] Could not load ID sequences from " + file.getName() + ".");
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package repository.persistence;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * An append-only write-ahead log of mutation records for a repository. Each record is framed as
+ * {@code [length][crc32][payload]} so that a record torn by a crash mid-append is detected and
+ * discarded on replay instead of corrupting the records before it.
+ *
+ * <p>The journal is only ever appended to, and is truncated once its records have been folded
+ * into a new snapshot of the repository (see {@link #truncate()}).</p>
+ *
+ * <p>In write-behind mode (see {@link GroupCommitter}), appended records are queued in memory and
+ * written to the file by the {@link GroupCommitter} in groups.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Journal {
+    /**
+     * The maximum size of a single record, used to reject corrupted length prefixes.
+     */
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The file backing the journal.
+     */
+    private final File file;
+
+    /**
+     * The output stream appending to the journal file, opened lazily on the first append.
+     */
+    private DataOutputStream out = null;
+
+    /**
+     * The file stream underlying {@link #out}, used to sync the journal file to disk.
+     */
+    private FileOutputStream fileStream = null;
+
+    /**
+     * The committer that writes the appended records, or {@code null} if the records are written
+     * as they are appended.
+     */
+    private final GroupCommitter committer;
+
+    /**
+     * Whether each record is synced to disk as it is appended.
+     */
+    private final boolean durable;
+
+    /**
+     * The records appended but not yet written by the {@link #committer}, in the order they were
+     * appended.
+     */
+    private final List<byte[]> pending = new ArrayList<byte[]>();
+
+    /**
+     * The number of records in the journal since it was last truncated.
+     */
+    private int recordCount = 0;
+
+    /**
+     * Constructs a {@link Journal} backed by the given file.
+     *
+     * @param file the file backing the journal.
+     */
+    public Journal(File file) {
+        this(file, false);
+    }
+
+    /**
+     * Constructs a {@link Journal} backed by the given file. A durable journal syncs each record
+     * to disk before {@link #append(byte[])} returns, even in write-behind mode.
+     *
+     * @param file the file backing the journal.
+     * @param durable whether each record is synced to disk as it is appended.
+     */
+    public Journal(File file, boolean durable) {
+        this.file = file;
+        this.durable = durable;
+        this.committer = durable ? null : GroupCommitter.getInstance();
+    }
+
+    /**
+     * A callback that applies a single journal record during replay.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+        /**
+         * Applies the record read from the given input.
+         *
+         * @param in the input positioned at the start of the record payload.
+         * @throws IOException if the record could not be decoded.
+         */
+        void apply(DataInputStream in) throws IOException;
+    }
+
+    /**
+     * Gets the number of records appended since the journal was last truncated.
+     *
+     * @return the number of records in the journal.
+     */
+    public int size() {
+        return recordCount;
+    }
+
+    /**
+     * Replays every intact record in the journal, in the order they were appended. Replay stops at
+     * the first torn or corrupted record, and the journal is truncated to the last intact record so
+     * that subsequent appends are not hidden behind it.
+     *
+     * @param handler the callback that applies each record.
+     * @return the number of records replayed.
+     */
+    public int replay(RecordHandler handler) {
+        recordCount = 0;
+
+        if (!file.exists()) {
+            return 0;
+        }
+
+        long validLength = 0;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            while (true) {
+                byte[] payload = readFrame(in);
+
+                if (payload == null) {
+                    break;
+                }
+
+                try {
+                    handler.apply(new DataInputStream(new ByteArrayInputStream(payload)));
+                } catch (IOException e) {
+                    // The record is intact but could not be decoded, so skip it rather than
+                    // discarding the records after it.
+                    System.out.println("[WARNING] Skipping unreadable record in journal " + file.getName() + ".");
+                }
+
+                validLength += Integer.BYTES * 2 + payload.length;
+                recordCount++;
+            }
+        } catch (IOException e) {
+            System.out.println("[WARNING] Could not replay journal " + file.getName() + ": " + e.getMessage());
+        }
+
+        if (validLength < file.length()) {
+            System.out.println("[WARNING] Discarding incomplete records at the end of journal " + file.getName() + ".");
+
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(validLength);
+            } catch (IOException e) {
+                System.out.println("[ERROR] Could not truncate journal " + file.getName() + ".");
+            }
+        }
+
+        return recordCount;
+    }
+
+    /**
+     * Appends a record to the journal. In write-behind mode, the record is only queued to be
+     * written by the {@link GroupCommitter}, unless the journal is durable.
+     *
+     * @param payload the encoded record.
+     * @return {@code true} if the record was written or queued, {@code false} otherwise.
+     */
+    public synchronized boolean append(byte[] payload) {
+        if (committer != null) {
+            pending.add(payload);
+            recordCount++;
+            committer.submit(this);
+            return true;
+        }
+
+        try {
+            writeFrame(payload);
+            out.flush();
+
+            if (durable) {
+                fileStream.getFD().sync();
+            }
+
+        } catch (IOException e) {
+            System.out.println("[ERROR] Could not append to journal " + file.getName() + ".");
+            close();
+            return false;
+        }
+
+        recordCount++;
+        return true;
+    }
+
+    /**
+     * Writes the records queued in write-behind mode and syncs them to disk. The records are kept
+     * queued if they could not be written.
+     *
+     * @return {@code true} if the queued records were written, {@code false} otherwise.
+     */
+    synchronized boolean commitPending() {
+        if (pending.isEmpty()) {
+            return true;
+        }
+
+        long committedLength = file.length();
+
+        try {
+            for (byte[] payload : pending) {
+                writeFrame(payload);
+            }
+
+            out.flush();
+            fileStream.getFD().sync();
+
+        } catch (IOException e) {
+            System.out.println("[ERROR] Could not write " + pending.size() + " queued records to journal " + file.getName() + ".");
+            close();
+
+            // Cut off any partially written records, since replay stops at the first torn record
+            // and would otherwise hide the records when they are appended again.
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(committedLength);
+            } catch (IOException e2) {
+                System.out.println("[ERROR] Could not truncate journal " + file.getName() + ".");
+            }
+
+            return false;
+        }
+
+        pending.clear();
+        return true;
+    }
+
+    /**
+     * Writes a framed record to the journal file, opening it if needed.
+     *
+     * @param payload the encoded record.
+     * @throws IOException if the record could not be written.
+     */
+    private void writeFrame(byte[] payload) throws IOException {
+        if (out == null) {
+            file.getParentFile().mkdirs();
+            fileStream = new FileOutputStream(file, true);
+            out = new DataOutputStream(new BufferedOutputStream(fileStream));
+        }
+
+        out.writeInt(payload.length);
+        out.writeInt(checksum(payload));
+        out.write(payload);
+    }
+
+    /**
+     * Removes all records from the journal. This should only be called once the state described
+     * by the records has been persisted elsewhere, ie: in a snapshot.
+     *
+     * @return {@code true} if the journal was truncated, {@code false} otherwise.
+     */
+    public synchronized boolean truncate() {
+        close();
+
+        // The queued records are part of the state that is now persisted elsewhere.
+        pending.clear();
+
+        if (file.exists() && !file.delete()) {
+            System.out.println("[ERROR] Could not truncate journal " + file.getName() + ".");
+            return false;
+        }
+
+        recordCount = 0;
+        return true;
+    }
+
+    /**
+     * Closes the underlying output stream, if it is open.
+     */
+    public synchronized void close() {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            out.close();
+        } catch (IOException e) {
+            // The stream is discarded regardless.
+        }
+
+        out = null;
+        fileStream = null;
+    }
+
+    /**
+     * Reads a single framed record.
+     *
+     * @param in the input to read from.
+     * @return the payload of the record, or {@code null} if the end of the journal or a torn
+     * record was reached.
+     * @throws IOException if the journal could not be read.
+     */
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int crc = in.readInt();
+
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+
+            return checksum(payload) == crc ? payload : null;
+
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Computes the CRC32 checksum of a record payload.
+     *
+     * @param payload the record payload.
+     * @return the checksum.
+     */
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,750 @@
+package repository.persistence;
+
+import java.io.*;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import model.enums.StockMovementType;
+import model.inventory.StockMovement;
+import repository.persistence.codec.Codecs;
+
+/**
+ * An append-only ledger of the movements of the stock of inventory items. Every movement is
+ * appended as an immutable record framed as {@code [length][crc32][payload]}, like the records of
+ * a {@link Journal}, and records are never changed or removed.
+ *
+ * <p>Every {@link #CHECKPOINT_INTERVAL} movements, a checkpoint of the balance and the total
+ * consumption of every item is appended, and its position is appended to an index file next to
+ * the ledger. The stock of an item at a point in time is found by reading the last checkpoint
+ * before that time and the movements after it, rather than the whole history of the item.</p>
+ *
+ * <PRE>
+ * record   := MOVEMENT time:long id type:byte delta:int balance:int
+ *           | CHECKPOINT time:long count:int (id balance:int consumed:long)*
+ * index    := (time:long offset:long)*
+ * </PRE>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class StockLedger {
+    /**
+     * The number of movements after which a checkpoint is appended.
+     */
+    public static final int CHECKPOINT_INTERVAL = 256;
+
+    /**
+     * The record type for a movement of the stock of an item.
+     */
+    private static final byte RECORD_MOVEMENT = 1;
+
+    /**
+     * The record type for a checkpoint of the balances of every item.
+     */
+    private static final byte RECORD_CHECKPOINT = 2;
+
+    /**
+     * The maximum size of a single record, used to reject corrupted length prefixes.
+     */
+    private static final int MAX_RECORD_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The size of the frame around the payload of a record.
+     */
+    private static final int FRAME_SIZE = Integer.BYTES * 2;
+
+    /**
+     * The suffix of the index file of the checkpoints.
+     */
+    private static final String INDEX_SUFFIX = ".idx";
+
+    /**
+     * The file backing the ledger.
+     */
+    private final File file;
+
+    /**
+     * The index file of the positions of the checkpoints in the ledger.
+     */
+    private final File indexFile;
+
+    /**
+     * The time and the position in the ledger of each checkpoint, in the order they were appended.
+     */
+    private final List<long[]> checkpoints = new ArrayList<long[]>();
+
+    /**
+     * The balance and total consumption of each item after the last record, by ID.
+     */
+    private final Map<String, Position> positions = new HashMap<String, Position>();
+
+    /**
+     * The output stream appending to the ledger, opened lazily on the first append.
+     */
+    private DataOutputStream out = null;
+
+    /**
+     * The output stream appending to the index file, opened lazily on the first checkpoint.
+     */
+    private DataOutputStream indexOut = null;
+
+    /**
+     * The length of the intact records in the ledger.
+     */
+    private long length = 0;
+
+    /**
+     * The time of the last record, so that the times of the records never decrease even if the
+     * clock is set back.
+     */
+    private long lastTime = 0;
+
+    /**
+     * The number of movements appended since the last checkpoint.
+     */
+    private int movementsSinceCheckpoint = 0;
+
+    /**
+     * Constructs a {@link StockLedger} backed by the given file, and reads the balances after the
+     * last checkpoint in it.
+     *
+     * @param file the file backing the ledger.
+     */
+    public StockLedger(File file) {
+        this.file = file;
+        this.indexFile = new File(file.getPath() + INDEX_SUFFIX);
+
+        load();
+    }
+
+    /**
+     * Appends a movement of the stock of an item to the ledger. The balance recorded with the
+     * movement is the balance in the ledger after the movement, so that movements recorded out of
+     * order by concurrent adjustments still add up to the stock of the item.
+     *
+     * @param itemId the ID of the item.
+     * @param type the kind of the movement.
+     * @param delta the quantity that was added, or deducted if negative.
+     * @return the movement appended, or {@code null} if it could not be appended.
+     */
+    public synchronized StockMovement record(String itemId, StockMovementType type, int delta) {
+        Position position = positions.get(itemId);
+        int balance = (position == null ? 0 : position.balance) + delta;
+        long time = Math.max(lastTime, System.currentTimeMillis());
+
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream payload = new DataOutputStream(bytes)) {
+
+            payload.writeByte(RECORD_MOVEMENT);
+            payload.writeLong(time);
+            Codecs.writeId(payload, itemId);
+            Codecs.writeEnum(payload, type);
+            payload.writeInt(delta);
+            payload.writeInt(balance);
+            payload.flush();
+
+            append(bytes.toByteArray());
+
+        } catch (IOException e) {
+            System.out.println("[ERROR] Could not append to the stock ledger " + file.getName() + ".");
+            close();
+            return null;
+        }
+
+        lastTime = time;
+        apply(positions, itemId, type, delta);
+
+        if (++movementsSinceCheckpoint >= CHECKPOINT_INTERVAL) {
+            checkpoint();
+        }
+
+        return new StockMovement(toDateTime(time), itemId, type, delta, balance);
+    }
+
+    /**
+     * Appends a movement of the stock of an item that brings its balance in the ledger to the given
+     * balance, unless the balance is already in the ledger.
+     *
+     * @param itemId the ID of the item.
+     * @param type the kind of the movement.
+     * @param balance the balance of the stock after the movement.
+     * @return {@code true} if the ledger holds the balance, {@code false} if the movement could not
+     * be appended.
+     */
+    public synchronized boolean recordBalance(String itemId, StockMovementType type, int balance) {
+        Position position = positions.get(itemId);
+
+        if (position != null && position.balance == balance) {
+            return true;
+        }
+
+        return record(itemId, type, balance - (position == null ? 0 : position.balance)) != null;
+    }
+
+    /**
+     * Gets the balance of the stock of an item after the last movement recorded in the ledger.
+     *
+     * @param itemId the ID of the item.
+     * @return the balance, or {@code null} if no movement of the item was recorded.
+     */
+    public synchronized Integer getBalance(String itemId) {
+        Position position = positions.get(itemId);
+        return position == null ? null : position.balance;
+    }
+
+    /**
+     * Gets the IDs of the items whose movements were recorded in the ledger.
+     *
+     * @return a copy of the IDs of the items.
+     */
+    public synchronized Set<String> getItemIds() {
+        return new HashSet<String>(positions.keySet());
+    }
+
+    /**
+     * Gets the balance of the stock of an item at a point in time.
+     *
+     * @param itemId the ID of the item.
+     * @param dateTime the point in time.
+     * @return the balance, or {@code 0} if no movement of the item was recorded by then.
+     */
+    public synchronized int balanceAt(String itemId, LocalDateTime dateTime) {
+        Position position = positionsAt(toMillis(dateTime), itemId).get(itemId);
+        return position == null ? 0 : position.balance;
+    }
+
+    /**
+     * Gets the total quantity of the stock of every item consumed by deductions and dispenses in
+     * each of a series of consecutive periods.
+     *
+     * @param boundaries the start of the first period, followed by the end of each period, in
+     * ascending order.
+     * @return the quantity consumed in each period, by item ID. Items without movements are omitted.
+     */
+    public synchronized Map<String, long[]> consumptionBetween(List<LocalDateTime> boundaries) {
+        Map<String, long[]> result = new HashMap<String, long[]>();
+        Map<String, Position> start = positionsAt(toMillis(boundaries.get(0)), null);
+
+        for (int i = 1; i < boundaries.size(); i++) {
+            Map<String, Position> end = positionsAt(toMillis(boundaries.get(i)), null);
+
+            for (Map.Entry<String, Position> entry : end.entrySet()) {
+                Position before = start.get(entry.getKey());
+                long consumed = entry.getValue().consumed - (before == null ? 0 : before.consumed);
+
+                result.computeIfAbsent(entry.getKey(), k -> new long[boundaries.size() - 1])[i - 1] = consumed;
+            }
+
+            start = end;
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the movements of the stock of an item within a period of time.
+     *
+     * @param itemId the ID of the item.
+     * @param from the start of the period, inclusive.
+     * @param to the end of the period, inclusive.
+     * @return the movements of the item, from the oldest.
+     */
+    public synchronized List<StockMovement> movementsBetween(String itemId, LocalDateTime from, LocalDateTime to) {
+        long start = toMillis(from);
+        long end = toMillis(to);
+        List<StockMovement> result = new ArrayList<StockMovement>();
+        int checkpoint = floorCheckpoint(start);
+        long offset = checkpoint < 0 ? 0 : checkpoints.get(checkpoint)[1];
+
+        try (DataInputStream in = openAt(offset)) {
+            while (offset < length) {
+                byte[] payload = readFrame(in);
+                offset += FRAME_SIZE + payload.length;
+
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+
+                if (record.readByte() != RECORD_MOVEMENT) {
+                    continue;
+                }
+
+                long time = record.readLong();
+
+                if (time > end) {
+                    break;
+                }
+
+                String id = Codecs.readId(record);
+
+                if (time >= start && id.equals(itemId)) {
+                    StockMovementType type = Codecs.readEnum(record, StockMovementType.values());
+                    result.add(new StockMovement(toDateTime(time), id, type, record.readInt(), record.readInt()));
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("[ERROR] Could not read the stock ledger " + file.getName() + ": " + e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * Closes the underlying output streams, if they are open.
+     */
+    public synchronized void close() {
+        closeQuietly(out);
+        closeQuietly(indexOut);
+
+        out = null;
+        indexOut = null;
+    }
+
+    /**
+     * Gets the balance and total consumption of the items at a point in time, from the last
+     * checkpoint before that time and the movements after it.
+     *
+     * @param time the point in time, in milliseconds since the epoch.
+     * @param itemId the ID of the only item to get, or {@code null} to get every item.
+     * @return the positions of the items, by ID.
+     */
+    private Map<String, Position> positionsAt(long time, String itemId) {
+        Map<String, Position> result = new HashMap<String, Position>();
+        int checkpoint = floorCheckpoint(time);
+        long offset = checkpoint < 0 ? 0 : checkpoints.get(checkpoint)[1];
+
+        try (DataInputStream in = openAt(offset)) {
+            boolean first = checkpoint >= 0;
+
+            while (offset < length) {
+                byte[] payload = readFrame(in);
+                offset += FRAME_SIZE + payload.length;
+
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+                byte type = record.readByte();
+
+                if (type == RECORD_CHECKPOINT) {
+                    // Only the checkpoint that the scan starts from is read.
+                    if (first) {
+                        record.readLong();
+                        readCheckpoint(record, result, itemId);
+                    }
+
+                    first = false;
+                    continue;
+                }
+
+                first = false;
+
+                if (record.readLong() > time) {
+                    break;
+                }
+
+                String id = Codecs.readId(record);
+
+                if (itemId == null || id.equals(itemId)) {
+                    apply(result, id, Codecs.readEnum(record, StockMovementType.values()), record.readInt());
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("[ERROR] Could not read the stock ledger " + file.getName() + ": " + e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * Finds the last checkpoint at or before a point in time.
+     *
+     * @param time the point in time, in milliseconds since the epoch.
+     * @return the index of the checkpoint, or {@code -1} if there is none.
+     */
+    private int floorCheckpoint(long time) {
+        int low = 0;
+        int high = checkpoints.size() - 1;
+        int result = -1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+
+            if (checkpoints.get(mid)[0] <= time) {
+                result = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Appends a checkpoint of the balances of every item, and its position to the index file.
+     */
+    private void checkpoint() {
+        long time = lastTime;
+        long offset = length;
+
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             DataOutputStream payload = new DataOutputStream(bytes)) {
+
+            payload.writeByte(RECORD_CHECKPOINT);
+            payload.writeLong(time);
+            payload.writeInt(positions.size());
+
+            for (Map.Entry<String, Position> entry : positions.entrySet()) {
+                Codecs.writeId(payload, entry.getKey());
+                payload.writeInt(entry.getValue().balance);
+                payload.writeLong(entry.getValue().consumed);
+            }
+
+            payload.flush();
+            append(bytes.toByteArray());
+
+        } catch (IOException e) {
+            System.out.println("[ERROR] Could not append a checkpoint to the stock ledger " + file.getName() + ".");
+            close();
+            return;
+        }
+
+        checkpoints.add(new long[] {time, offset});
+        movementsSinceCheckpoint = 0;
+
+        try {
+            if (indexOut == null) {
+                indexOut = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile, true)));
+            }
+
+            indexOut.writeLong(time);
+            indexOut.writeLong(offset);
+            indexOut.flush();
+
+        } catch (IOException e) {
+            // The index is rebuilt from the ledger when it is next loaded.
+            System.out.println("[WARNING] Could not update the index of the stock ledger " + file.getName() + ".");
+            closeQuietly(indexOut);
+            indexOut = null;
+        }
+    }
+
+    /**
+     * Appends a framed record to the ledger, opening it if needed.
+     *
+     * @param payload the encoded record.
+     * @throws IOException if the record could not be written.
+     */
+    private void append(byte[] payload) throws IOException {
+        if (out == null) {
+            file.getParentFile().mkdirs();
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+        }
+
+        out.writeInt(payload.length);
+        out.writeInt(checksum(payload));
+        out.write(payload);
+        out.flush();
+
+        length += FRAME_SIZE + payload.length;
+    }
+
+    /**
+     * Reads the index of the checkpoints and the records after the last checkpoint. If the index
+     * is missing or does not match the ledger, it is rebuilt from the whole ledger. Records torn by
+     * a crash at the end of the ledger are discarded.
+     */
+    private void load() {
+        if (!file.exists()) {
+            indexFile.delete();
+            return;
+        }
+
+        long offset = readIndex();
+        boolean rebuild = offset < 0;
+
+        if (rebuild) {
+            checkpoints.clear();
+            positions.clear();
+            offset = 0;
+        }
+
+        try (DataInputStream in = openAt(offset)) {
+            long fileLength = file.length();
+
+            while (offset < fileLength) {
+                byte[] payload = readFrame(in);
+
+                if (payload == null) {
+                    break;
+                }
+
+                DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+                byte type = record.readByte();
+                long time = record.readLong();
+
+                if (type == RECORD_CHECKPOINT) {
+                    if (checkpoints.isEmpty() || checkpoints.get(checkpoints.size() - 1)[1] < offset) {
+                        checkpoints.add(new long[] {time, offset});
+                        rebuild = true;
+                    }
+
+                    positions.clear();
+                    readCheckpoint(record, positions, null);
+                    movementsSinceCheckpoint = 0;
+                } else {
+                    String id = Codecs.readId(record);
+                    apply(positions, id, Codecs.readEnum(record, StockMovementType.values()), record.readInt());
+                    movementsSinceCheckpoint++;
+                }
+
+                lastTime = Math.max(lastTime, time);
+                offset += FRAME_SIZE + payload.length;
+            }
+        } catch (IOException e) {
+            System.out.println("[WARNING] Could not read the stock ledger " + file.getName() + ": " + e.getMessage());
+        }
+
+        length = offset;
+
+        if (length < file.length()) {
+            System.out.println("[WARNING] Discarding incomplete records at the end of the stock ledger " + file.getName() + ".");
+
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(length);
+            } catch (IOException e) {
+                System.out.println("[ERROR] Could not truncate the stock ledger " + file.getName() + ".");
+            }
+        }
+
+        if (rebuild) {
+            writeIndex();
+        }
+    }
+
+    /**
+     * Reads the index of the checkpoints, and the balances of the last checkpoint in it.
+     *
+     * @return the position in the ledger after the last checkpoint, or {@code -1} if the index is
+     * missing or does not match the ledger.
+     */
+    private long readIndex() {
+        if (!indexFile.exists() || indexFile.length() % (Long.BYTES * 2) != 0) {
+            return -1;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            long count = indexFile.length() / (Long.BYTES * 2);
+
+            for (long i = 0; i < count; i++) {
+                checkpoints.add(new long[] {in.readLong(), in.readLong()});
+            }
+        } catch (IOException e) {
+            return -1;
+        }
+
+        if (checkpoints.isEmpty()) {
+            return 0;
+        }
+
+        long[] last = checkpoints.get(checkpoints.size() - 1);
+
+        try (DataInputStream in = openAt(last[1])) {
+            byte[] payload = readFrame(in);
+
+            if (payload == null) {
+                return -1;
+            }
+
+            DataInputStream record = new DataInputStream(new ByteArrayInputStream(payload));
+
+            if (record.readByte() != RECORD_CHECKPOINT || record.readLong() != last[0]) {
+                return -1;
+            }
+
+            readCheckpoint(record, positions, null);
+            lastTime = last[0];
+
+            return last[1] + FRAME_SIZE + payload.length;
+
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Rewrites the index file from the checkpoints found in the ledger.
+     */
+    private void writeIndex() {
+        try (DataOutputStream index = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+            for (long[] checkpoint : checkpoints) {
+                index.writeLong(checkpoint[0]);
+                index.writeLong(checkpoint[1]);
+            }
+        } catch (IOException e) {
+            System.out.println("[WARNING] Could not rebuild the index of the stock ledger " + file.getName() + ".");
+        }
+    }
+
+    /**
+     * Reads the balances of a checkpoint, after its type and time.
+     *
+     * @param in the input positioned after the time of the checkpoint.
+     * @param positions the map to put the position of each item into.
+     * @param itemId the ID of the only item to read, or {@code null} to read every item.
+     * @throws IOException if the checkpoint could not be read.
+     */
+    private static void readCheckpoint(DataInputStream in, Map<String, Position> positions, String itemId) throws IOException {
+        int count = in.readInt();
+
+        for (int i = 0; i < count; i++) {
+            String id = Codecs.readId(in);
+            int balance = in.readInt();
+            long consumed = in.readLong();
+
+            if (itemId == null || id.equals(itemId)) {
+                positions.put(id, new Position(balance, consumed));
+            }
+        }
+    }
+
+    /**
+     * Applies a movement to the position of an item.
+     *
+     * @param positions the positions of the items, by ID.
+     * @param itemId the ID of the item.
+     * @param type the kind of the movement.
+     * @param delta the quantity that was added, or deducted if negative.
+     */
+    private static void apply(Map<String, Position> positions, String itemId, StockMovementType type, int delta) {
+        Position position = positions.computeIfAbsent(itemId, k -> new Position(0, 0));
+
+        position.balance += delta;
+
+        if (type.isConsumption()) {
+            position.consumed -= delta;
+        }
+    }
+
+    /**
+     * Opens the ledger for reading at a position.
+     *
+     * @param offset the position to read from.
+     * @return the input positioned at the offset.
+     * @throws IOException if the ledger could not be opened.
+     */
+    private DataInputStream openAt(long offset) throws IOException {
+        FileInputStream stream = new FileInputStream(file);
+        stream.getChannel().position(offset);
+
+        return new DataInputStream(new BufferedInputStream(stream));
+    }
+
+    /**
+     * Reads a single framed record.
+     *
+     * @param in the input to read from.
+     * @return the payload of the record, or {@code null} if the end of the ledger or a torn record
+     * was reached.
+     * @throws IOException if the ledger could not be read.
+     */
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int crc = in.readInt();
+
+            if (length < 0 || length > MAX_RECORD_SIZE) {
+                return null;
+            }
+
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+
+            return checksum(payload) == crc ? payload : null;
+
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Computes the CRC32 checksum of a record payload.
+     *
+     * @param payload the record payload.
+     * @return the checksum.
+     */
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Closes a stream, ignoring any error since the stream is discarded regardless.
+     *
+     * @param stream the stream to close, or {@code null}.
+     */
+    private static void closeQuietly(Closeable stream) {
+        if (stream == null) {
+            return;
+        }
+
+        try {
+            stream.close();
+        } catch (IOException e) {
+            // The stream is discarded regardless.
+        }
+    }
+
+    /**
+     * Converts a date and time in the default time zone to milliseconds since the epoch.
+     *
+     * @param dateTime the date and time.
+     * @return the milliseconds since the epoch.
+     */
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Converts milliseconds since the epoch to a date and time in the default time zone.
+     *
+     * @param millis the milliseconds since the epoch.
+     * @return the date and time.
+     */
+    private static LocalDateTime toDateTime(long millis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+    }
+
+    /**
+     * The balance and total consumption of the stock of an item.
+     */
+    private static final class Position {
+        /**
+         * The balance of the stock.
+         */
+        private int balance;
+
+        /**
+         * The total quantity consumed by deductions and dispenses.
+         */
+        private long consumed;
+
+        /**
+         * Constructs a {@link Position}.
+         *
+         * @param balance the balance of the stock.
+         * @param consumed the total quantity consumed.
+         */
+        private Position(int balance, long consumed) {
+            this.balance = balance;
+            this.consumed = consumed;
+        }
+    }
+}
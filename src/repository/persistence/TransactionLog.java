@@ -0,0 +1,238 @@
+package repository.persistence;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The write-ahead log of the transactions that span several repositories. Each transaction is
+ * appended as a single record holding the journal record of every repository it changes, tagged
+ * with a log sequence number (LSN), and is synced to disk before it is considered committed.
+ *
+ * <p>The records of a transaction are also appended to the journal of each repository, which may
+ * be lost in a crash since the journals are not synced for every record. When a repository is
+ * loaded, it applies the transactions in this log with a higher LSN than the last transaction it
+ * has seen, so that a committed transaction is never applied to only some of its repositories.</p>
+ *
+ * <p>The log is kept in memory as well as on disk, and is truncated once every repository in it
+ * has written a snapshot that includes its transactions.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class TransactionLog {
+    /**
+     * The durable journal backing the log.
+     */
+    private final Journal journal;
+
+    /**
+     * The transactions in the log, in the order they were committed.
+     */
+    private final List<Transaction> transactions = new ArrayList<Transaction>();
+
+    /**
+     * The highest LSN that was allocated or observed.
+     */
+    private long lastLsn = 0;
+
+    /**
+     * Constructs a {@link TransactionLog} backed by the given file, and reads the transactions
+     * that are already in it.
+     *
+     * @param file the file backing the log.
+     */
+    public TransactionLog(File file) {
+        this.journal = new Journal(file, true);
+        journal.replay(in -> {
+            Transaction transaction = Transaction.read(in);
+
+            transactions.add(transaction);
+            lastLsn = Math.max(lastLsn, transaction.lsn);
+        });
+    }
+
+    /**
+     * Allocates the LSN of a new transaction.
+     *
+     * @return the LSN, which is higher than every LSN allocated or observed before.
+     */
+    public synchronized long nextLsn() {
+        return ++lastLsn;
+    }
+
+    /**
+     * Gets the highest LSN that was allocated or observed.
+     *
+     * @return the LSN, or {@code 0} if none was.
+     */
+    public synchronized long lastLsn() {
+        return lastLsn;
+    }
+
+    /**
+     * Records that a transaction with the given LSN was committed, ie: when it is loaded from the
+     * snapshot of a repository after the log was truncated, so that its LSN is never allocated
+     * again.
+     *
+     * @param lsn the LSN of the transaction.
+     */
+    public synchronized void observe(long lsn) {
+        lastLsn = Math.max(lastLsn, lsn);
+    }
+
+    /**
+     * Appends a transaction to the log and syncs it to disk.
+     *
+     * @param lsn the LSN of the transaction.
+     * @param records the journal record of each repository changed by the transaction, by the
+     * name of the repository.
+     * @return {@code true} if the transaction is committed, {@code false} otherwise.
+     */
+    public synchronized boolean append(long lsn, Map<String, byte[]> records) {
+        Transaction transaction = new Transaction(lsn, new LinkedHashMap<String, byte[]>(records));
+
+        if (!journal.append(transaction.encode())) {
+            return false;
+        }
+
+        transactions.add(transaction);
+        return true;
+    }
+
+    /**
+     * Gets the journal records of a repository from the transactions committed after the given LSN.
+     *
+     * @param name the name of the repository.
+     * @param lsn the LSN of the last transaction that the repository has seen.
+     * @return the journal records of the repository, in the order they were committed.
+     */
+    public synchronized List<byte[]> recordsAfter(String name, long lsn) {
+        List<byte[]> records = new ArrayList<byte[]>();
+
+        for (Transaction transaction : transactions) {
+            if (transaction.lsn > lsn && transaction.records.containsKey(name)) {
+                records.add(transaction.records.get(name));
+            }
+        }
+
+        return records;
+    }
+
+    /**
+     * Gets the names of the repositories changed by the transactions in the log.
+     *
+     * @return the names of the repositories, in sorted order.
+     */
+    public synchronized Set<String> participants() {
+        Set<String> names = new TreeSet<String>();
+        transactions.forEach(transaction -> names.addAll(transaction.records.keySet()));
+
+        return names;
+    }
+
+    /**
+     * Gets the number of transactions in the log.
+     *
+     * @return the number of transactions.
+     */
+    public synchronized int size() {
+        return transactions.size();
+    }
+
+    /**
+     * Removes all transactions from the log. This should only be called once every repository in
+     * the log has written a snapshot that includes its transactions.
+     *
+     * @return {@code true} if the log was truncated, {@code false} otherwise.
+     */
+    public synchronized boolean truncate() {
+        if (!journal.truncate()) {
+            return false;
+        }
+
+        transactions.clear();
+        return true;
+    }
+
+    /**
+     * A transaction in the log.
+     */
+    private static class Transaction {
+        /**
+         * The LSN of the transaction.
+         */
+        private final long lsn;
+
+        /**
+         * The journal record of each repository changed by the transaction, by the name of the repository.
+         */
+        private final Map<String, byte[]> records;
+
+        /**
+         * Constructs a {@link Transaction}.
+         *
+         * @param lsn the LSN of the transaction.
+         * @param records the journal record of each repository changed by the transaction.
+         */
+        private Transaction(long lsn, Map<String, byte[]> records) {
+            this.lsn = lsn;
+            this.records = records;
+        }
+
+        /**
+         * Encodes the transaction as a log record.
+         *
+         * @return the encoded record.
+         */
+        private byte[] encode() {
+            try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                 DataOutputStream out = new DataOutputStream(bytes)) {
+
+                out.writeLong(lsn);
+                out.writeInt(records.size());
+
+                for (Map.Entry<String, byte[]> entry : records.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().length);
+                    out.write(entry.getValue());
+                }
+
+                out.flush();
+                return bytes.toByteArray();
+
+            } catch (IOException e) {
+                // Writing to a byte array does not fail.
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Decodes a transaction from a log record.
+         *
+         * @param in the input positioned at the start of the record.
+         * @return the decoded transaction.
+         * @throws IOException if the record could not be decoded.
+         */
+        private static Transaction read(DataInputStream in) throws IOException {
+            long lsn = in.readLong();
+            int count = in.readInt();
+            Map<String, byte[]> records = new LinkedHashMap<String, byte[]>();
+
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                byte[] record = new byte[in.readInt()];
+
+                in.readFully(record);
+                records.put(name, record);
+            }
+
+            return new Transaction(lsn, records);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package repository.persistence.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import model.appointments.Appointment;
+import model.appointments.AppointmentOutcomeRecord;
+import model.appointments.TimeSlot;
+import model.enums.AppointmentStatus;
+
+/**
+ * The {@link RecordCodec} of {@link Appointment}, including its {@link AppointmentOutcomeRecord}.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class AppointmentCodec implements RecordCodec<Appointment> {
+    /**
+     * The current version of the format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Constructs an {@link AppointmentCodec}.
+     */
+    public AppointmentCodec() {}
+
+    /**
+     * Gets the current version of the format written by the codec.
+     * @return the version of the format.
+     */
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    /**
+     * Encodes a {@link Appointment}.
+     * @param out the output to write the item to.
+     * @param item the item to encode.
+     * @throws IOException if the item could not be written.
+     */
+    @Override
+    public void write(DataOutput out, Appointment item) throws IOException {
+        Codecs.writeId(out, item.getId());
+        Codecs.writeEnum(out, item.getStatus());
+        Codecs.writeDateTime(out, item.getTimeSlot().getDateTime());
+        Codecs.writeId(out, item.getDoctorId());
+        Codecs.writeId(out, item.getPatientId());
+
+        AppointmentOutcomeRecord outcome = item.getOutcomeRecord();
+        out.writeBoolean(outcome != null);
+
+        if (outcome != null) {
+            Codecs.writeDate(out, outcome.getRecordedDate());
+            Codecs.writePrescriptions(out, outcome.getPrescriptions());
+            Codecs.writeServices(out, outcome.getServices());
+            Codecs.writeString(out, outcome.getConsultationNotes());
+        }
+    }
+
+    /**
+     * Decodes a {@link Appointment}.
+     * @param in the input to read the item from.
+     * @param version the version of the format that the item was written with.
+     * @return the decoded item.
+     * @throws IOException if the item could not be read.
+     */
+    @Override
+    public Appointment read(DataInput in, int version) throws IOException {
+        String id = Codecs.readId(in);
+        AppointmentStatus status = Codecs.readEnum(in, AppointmentStatus.values());
+        TimeSlot timeSlot = new TimeSlot(Codecs.readDateTime(in));
+        String doctorId = Codecs.readId(in);
+        String patientId = Codecs.readId(in);
+
+        Appointment appointment = new Appointment(id, status, timeSlot, doctorId, patientId);
+
+        if (in.readBoolean()) {
+            appointment.setOutcomeRecord(new AppointmentOutcomeRecord(
+                Codecs.readDate(in), Codecs.readPrescriptions(in),
+                Codecs.readServices(in), Codecs.readString(in)));
+
+            // Setting the outcome record marks the appointment as completed, so restore its status.
+            appointment.setStatus(status);
+        }
+
+        return appointment;
+    }
+}
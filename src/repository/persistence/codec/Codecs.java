@@ -0,0 +1,388 @@
+package repository.persistence.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import model.enums.DosageUnit;
+import model.enums.MedicalService;
+import model.enums.MedicineFrequency;
+import model.enums.PrescriptionStatus;
+import model.prescriptions.MedicineDosage;
+import model.prescriptions.Prescription;
+
+/**
+ * The utility class of the primitive encodings shared by the {@link RecordCodec}s.
+ *
+ * <ul>
+ * <li>IDs such as {@code P1001} are encoded as the prefix byte followed by the number.</li>
+ * <li>Dates are encoded as the epoch day, and times as the second of the day.</li>
+ * <li>Enums are encoded as their ordinal.</li>
+ * <li>Strings and lengths are prefixed with a variable-length integer.</li>
+ * </ul>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Codecs {
+    /**
+     * The marker written in place of an ID prefix for an ID that is {@code null}.
+     */
+    private static final byte NULL_ID = 0;
+
+    /**
+     * The marker written in place of an ID prefix for an ID that is not of the form
+     * {@code <prefix><number>}, and is therefore written as a string.
+     */
+    private static final byte STRING_ID = 1;
+
+    /**
+     * The value written in place of an epoch day for a date that is {@code null}.
+     */
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+
+    /**
+     * Private constructor of the {@link Codecs} class to prevent instantiation.
+     */
+    private Codecs() {}
+
+    /**
+     * Writes a non-negative integer using as few bytes as possible.
+     * @param out the output to write to.
+     * @param value the value to write.
+     * @throws IOException if the value could not be written.
+     */
+    public static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a non-negative integer written by {@link #writeVarInt(DataOutput, int)}.
+     * @param in the input to read from.
+     * @return the value read.
+     * @throws IOException if the value could not be read.
+     */
+    public static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * Writes an ID. IDs of the form {@code <prefix><number>} are written as the prefix byte
+     * followed by the number, and any other ID is written as a string.
+     * @param out the output to write to.
+     * @param id the ID to write, may be {@code null}.
+     * @throws IOException if the ID could not be written.
+     */
+    public static void writeId(DataOutput out, String id) throws IOException {
+        if (id == null) {
+            out.writeByte(NULL_ID);
+            return;
+        }
+
+        int number = parseIdNumber(id);
+
+        if (number < 0) {
+            out.writeByte(STRING_ID);
+            writeString(out, id);
+            return;
+        }
+
+        out.writeByte(id.charAt(0));
+        writeVarInt(out, number);
+    }
+
+    /**
+     * Reads an ID written by {@link #writeId(DataOutput, String)}.
+     * @param in the input to read from.
+     * @return the ID read, may be {@code null}.
+     * @throws IOException if the ID could not be read.
+     */
+    public static String readId(DataInput in) throws IOException {
+        byte prefix = in.readByte();
+
+        if (prefix == NULL_ID) {
+            return null;
+        }
+
+        if (prefix == STRING_ID) {
+            return readString(in);
+        }
+
+        return formatId((char) prefix, readVarInt(in));
+    }
+
+    /**
+     * Writes a string as its length followed by its UTF-8 bytes.
+     * @param out the output to write to.
+     * @param value the string to write, may be {@code null}.
+     * @throws IOException if the string could not be written.
+     */
+    public static void writeString(DataOutput out, String value) throws IOException {
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutput, String)}.
+     * @param in the input to read from.
+     * @return the string read, may be {@code null}.
+     * @throws IOException if the string could not be read.
+     */
+    public static String readString(DataInput in) throws IOException {
+        int length = readVarInt(in);
+
+        if (length == 0) {
+            return null;
+        }
+
+        byte[] bytes = new byte[length - 1];
+        in.readFully(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes a date as its epoch day.
+     * @param out the output to write to.
+     * @param date the date to write, may be {@code null}.
+     * @throws IOException if the date could not be written.
+     */
+    public static void writeDate(DataOutput out, LocalDate date) throws IOException {
+        out.writeInt(date == null ? NULL_DATE : (int) date.toEpochDay());
+    }
+
+    /**
+     * Reads a date written by {@link #writeDate(DataOutput, LocalDate)}.
+     * @param in the input to read from.
+     * @return the date read, may be {@code null}.
+     * @throws IOException if the date could not be read.
+     */
+    public static LocalDate readDate(DataInput in) throws IOException {
+        int epochDay = in.readInt();
+        return epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Writes a time as its second of the day.
+     * @param out the output to write to.
+     * @param time the time to write.
+     * @throws IOException if the time could not be written.
+     */
+    public static void writeTime(DataOutput out, LocalTime time) throws IOException {
+        writeVarInt(out, time.toSecondOfDay());
+    }
+
+    /**
+     * Reads a time written by {@link #writeTime(DataOutput, LocalTime)}.
+     * @param in the input to read from.
+     * @return the time read.
+     * @throws IOException if the time could not be read.
+     */
+    public static LocalTime readTime(DataInput in) throws IOException {
+        return LocalTime.ofSecondOfDay(readVarInt(in));
+    }
+
+    /**
+     * Writes a date and time as its epoch day followed by its second of the day.
+     * @param out the output to write to.
+     * @param dateTime the date and time to write.
+     * @throws IOException if the date and time could not be written.
+     */
+    public static void writeDateTime(DataOutput out, LocalDateTime dateTime) throws IOException {
+        writeDate(out, dateTime.toLocalDate());
+        writeTime(out, dateTime.toLocalTime());
+    }
+
+    /**
+     * Reads a date and time written by {@link #writeDateTime(DataOutput, LocalDateTime)}.
+     * @param in the input to read from.
+     * @return the date and time read.
+     * @throws IOException if the date and time could not be read.
+     */
+    public static LocalDateTime readDateTime(DataInput in) throws IOException {
+        LocalDate date = readDate(in);
+        return date.atTime(readTime(in));
+    }
+
+    /**
+     * Writes an enum constant as its ordinal.
+     * @param out the output to write to.
+     * @param value the enum constant to write, may be {@code null}.
+     * @throws IOException if the enum constant could not be written.
+     */
+    public static void writeEnum(DataOutput out, Enum<?> value) throws IOException {
+        out.writeByte(value == null ? -1 : value.ordinal());
+    }
+
+    /**
+     * Reads an enum constant written by {@link #writeEnum(DataOutput, Enum)}.
+     * @param <E> the type of the enum.
+     * @param in the input to read from.
+     * @param values the constants of the enum, ie: {@code E.values()}.
+     * @return the enum constant read, may be {@code null}.
+     * @throws IOException if the enum constant could not be read.
+     */
+    public static <E extends Enum<E>> E readEnum(DataInput in, E[] values) throws IOException {
+        int ordinal = in.readByte();
+
+        if (ordinal < 0) {
+            return null;
+        }
+
+        if (ordinal >= values.length) {
+            throw new IOException("Unknown ordinal " + ordinal);
+        }
+
+        return values[ordinal];
+    }
+
+    /**
+     * Writes a list of {@link MedicalService}.
+     * @param out the output to write to.
+     * @param services the services to write.
+     * @throws IOException if the services could not be written.
+     */
+    public static void writeServices(DataOutput out, List<MedicalService> services) throws IOException {
+        writeVarInt(out, services.size());
+
+        for (MedicalService service : services) {
+            writeEnum(out, service);
+        }
+    }
+
+    /**
+     * Reads a list of {@link MedicalService} written by {@link #writeServices(DataOutput, List)}.
+     * @param in the input to read from.
+     * @return the services read.
+     * @throws IOException if the services could not be read.
+     */
+    public static List<MedicalService> readServices(DataInput in) throws IOException {
+        int count = readVarInt(in);
+        List<MedicalService> services = new ArrayList<MedicalService>(count);
+
+        for (int i = 0; i < count; i++) {
+            services.add(readEnum(in, MedicalService.values()));
+        }
+
+        return services;
+    }
+
+    /**
+     * Writes a list of {@link Prescription}.
+     * @param out the output to write to.
+     * @param prescriptions the prescriptions to write.
+     * @throws IOException if the prescriptions could not be written.
+     */
+    public static void writePrescriptions(DataOutput out, List<Prescription> prescriptions) throws IOException {
+        writeVarInt(out, prescriptions.size());
+
+        for (Prescription prescription : prescriptions) {
+            writeId(out, prescription.getDrugId());
+            writeVarInt(out, prescription.getQuantity());
+            writeVarInt(out, prescription.getDosage().getQuantity());
+            writeEnum(out, prescription.getDosage().getUnit());
+            writeEnum(out, prescription.getFrequency());
+            writeEnum(out, prescription.getStatus());
+        }
+    }
+
+    /**
+     * Reads a list of {@link Prescription} written by {@link #writePrescriptions(DataOutput, List)}.
+     * @param in the input to read from.
+     * @return the prescriptions read.
+     * @throws IOException if the prescriptions could not be read.
+     */
+    public static List<Prescription> readPrescriptions(DataInput in) throws IOException {
+        int count = readVarInt(in);
+        List<Prescription> prescriptions = new ArrayList<Prescription>(count);
+
+        for (int i = 0; i < count; i++) {
+            String drugId = readId(in);
+            int quantity = readVarInt(in);
+            MedicineDosage dosage = new MedicineDosage(readVarInt(in), readEnum(in, DosageUnit.values()));
+            MedicineFrequency frequency = readEnum(in, MedicineFrequency.values());
+
+            Prescription prescription = new Prescription(drugId, quantity, dosage, frequency);
+
+            if (readEnum(in, PrescriptionStatus.values()) == PrescriptionStatus.DISPENSED) {
+                prescription.dispense();
+            }
+
+            prescriptions.add(prescription);
+        }
+
+        return prescriptions;
+    }
+
+    /**
+     * Formats an ID as its prefix followed by its number, zero-padded to four digits.
+     * @param prefix the prefix of the ID.
+     * @param number the number of the ID.
+     * @return the formatted ID.
+     */
+    private static String formatId(char prefix, int number) {
+        String digits = Integer.toString(number);
+        StringBuilder id = new StringBuilder(digits.length() + 4).append(prefix);
+
+        for (int i = digits.length(); i < 4; i++) {
+            id.append('0');
+        }
+
+        return id.append(digits).toString();
+    }
+
+    /**
+     * Parses the number of an ID of the form {@code <prefix><number>}, where the prefix is an
+     * uppercase letter and the number is formatted to at least four digits.
+     * @param id the ID to parse.
+     * @return the number of the ID, or {@code -1} if the ID is not of that form.
+     */
+    private static int parseIdNumber(String id) {
+        if (id.length() < 2 || id.charAt(0) < 'A' || id.charAt(0) > 'Z') {
+            return -1;
+        }
+
+        try {
+            int number = Integer.parseInt(id.substring(1));
+
+            // Only IDs that are formatted back to exactly the same string can be written compactly.
+            if (number < 0 || !id.equals(formatId(id.charAt(0), number))) {
+                return -1;
+            }
+
+            return number;
+
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package repository.persistence.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import model.medrecord.MedicalRecordEntry;
+
+/**
+ * The {@link RecordCodec} of {@link MedicalRecordEntry}.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class MedicalRecordEntryCodec implements RecordCodec<MedicalRecordEntry> {
+    /**
+     * The current version of the format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Constructs a {@link MedicalRecordEntryCodec}.
+     */
+    public MedicalRecordEntryCodec() {}
+
+    /**
+     * Gets the current version of the format written by the codec.
+     * @return the version of the format.
+     */
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    /**
+     * Encodes a {@link MedicalRecordEntry}.
+     * @param out the output to write the item to.
+     * @param item the item to encode.
+     * @throws IOException if the item could not be written.
+     */
+    @Override
+    public void write(DataOutput out, MedicalRecordEntry item) throws IOException {
+        Codecs.writeId(out, item.getId());
+        Codecs.writeDate(out, item.getDateRecorded());
+        Codecs.writeId(out, item.getPatientId());
+        Codecs.writeId(out, item.getDoctorId());
+        Codecs.writeString(out, item.getDiagnosis());
+        Codecs.writeString(out, item.getTreatmentPlan());
+        Codecs.writePrescriptions(out, item.getPrescription());
+        Codecs.writeServices(out, item.getMedicalServices());
+    }
+
+    /**
+     * Decodes a {@link MedicalRecordEntry}.
+     * @param in the input to read the item from.
+     * @param version the version of the format that the item was written with.
+     * @return the decoded item.
+     * @throws IOException if the item could not be read.
+     */
+    @Override
+    public MedicalRecordEntry read(DataInput in, int version) throws IOException {
+        return new MedicalRecordEntry(
+            Codecs.readId(in), Codecs.readDate(in), Codecs.readId(in), Codecs.readId(in),
+            Codecs.readString(in), Codecs.readString(in),
+            Codecs.readPrescriptions(in), Codecs.readServices(in));
+    }
+}
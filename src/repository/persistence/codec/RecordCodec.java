@@ -0,0 +1,45 @@
+package repository.persistence.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import model.BaseModel;
+
+/**
+ * The interface that defines a hand-written binary encoding of a {@link BaseModel}, used by the
+ * repositories in place of Java serialization to persist their items.
+ *
+ * <p>Each encoded record is tagged with the {@link #version()} of the codec that wrote it, so that
+ * a codec can keep reading records written by its older versions after its format changes.</p>
+ *
+ * @param <T> the type of the model that the codec encodes.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface RecordCodec<T extends BaseModel> {
+    /**
+     * Gets the current version of the format written by the codec.
+     * @return the version of the format.
+     */
+    public int version();
+
+    /**
+     * Encodes an item.
+     * @param out the output to write the item to.
+     * @param item the item to encode.
+     * @throws IOException if the item could not be written.
+     */
+    public void write(DataOutput out, T item) throws IOException;
+
+    /**
+     * Decodes an item.
+     * @param in the input to read the item from.
+     * @param version the version of the format that the item was written with.
+     * @return the decoded item.
+     * @throws IOException if the item could not be read.
+     */
+    public T read(DataInput in, int version) throws IOException;
+}
@@ -0,0 +1,62 @@
+package repository.persistence.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import model.inventory.StockLot;
+
+/**
+ * The {@link RecordCodec} of {@link StockLot}.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class StockLotCodec implements RecordCodec<StockLot> {
+    /**
+     * The current version of the format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Constructs a {@link StockLotCodec}.
+     */
+    public StockLotCodec() {}
+
+    /**
+     * Gets the current version of the format written by the codec.
+     * @return the version of the format.
+     */
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    /**
+     * Encodes a {@link StockLot}.
+     * @param out the output to write the item to.
+     * @param item the item to encode.
+     * @throws IOException if the item could not be written.
+     */
+    @Override
+    public void write(DataOutput out, StockLot item) throws IOException {
+        Codecs.writeId(out, item.getId());
+        Codecs.writeId(out, item.getItemId());
+        out.writeInt(item.getQuantity());
+        Codecs.writeDate(out, item.getExpiryDate());
+        Codecs.writeDate(out, item.getReceivedDate());
+    }
+
+    /**
+     * Decodes a {@link StockLot}.
+     * @param in the input to read the item from.
+     * @param version the version of the format that the item was written with.
+     * @return the decoded item.
+     * @throws IOException if the item could not be read.
+     */
+    @Override
+    public StockLot read(DataInput in, int version) throws IOException {
+        return new StockLot(Codecs.readId(in), Codecs.readId(in), in.readInt(), Codecs.readDate(in), Codecs.readDate(in));
+    }
+}
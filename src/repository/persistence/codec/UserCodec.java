@@ -0,0 +1,202 @@
+package repository.persistence.codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Map;
+
+import model.availability.Availability;
+import model.availability.TimePeriod;
+import model.enums.BloodType;
+import model.enums.Gender;
+import model.enums.Specialisation;
+import model.enums.UserRole;
+import model.users.Admin;
+import model.users.Doctor;
+import model.users.Patient;
+import model.users.Pharmacist;
+import model.users.User;
+
+/**
+ * The {@link RecordCodec} of {@link User}. The {@link UserRole} of the user is written first to
+ * determine which subclass of {@link User} is decoded, followed by the fields common to all users
+ * and then the fields specific to the subclass.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class UserCodec implements RecordCodec<User> {
+    /**
+     * The current version of the format.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * Constructs a {@link UserCodec}.
+     */
+    public UserCodec() {}
+
+    /**
+     * Gets the current version of the format written by the codec.
+     * @return the version of the format.
+     */
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    /**
+     * Encodes a {@link User}.
+     * @param out the output to write the item to.
+     * @param item the item to encode.
+     * @throws IOException if the item could not be written.
+     */
+    @Override
+    public void write(DataOutput out, User item) throws IOException {
+        Codecs.writeEnum(out, item.getRole());
+        Codecs.writeId(out, item.getId());
+        Codecs.writeString(out, item.getName());
+        out.writeInt(item.getAge());
+        Codecs.writeString(out, item.getPassword());
+        out.writeBoolean(item.isDefaultPassword());
+        Codecs.writeEnum(out, item.getGender());
+        Codecs.writeDate(out, item.getDob());
+        Codecs.writeString(out, item.getPhoneNumber());
+        Codecs.writeString(out, item.getEmailAddress());
+
+        if (item instanceof Patient) {
+            Patient patient = (Patient) item;
+
+            out.writeDouble(patient.getWeight());
+            out.writeDouble(patient.getHeight());
+            Codecs.writeEnum(out, patient.getBloodType());
+
+        } else if (item instanceof Doctor) {
+            Doctor doctor = (Doctor) item;
+
+            Codecs.writeEnum(out, doctor.getSpecialisation());
+            writeAvailability(out, doctor.getAvailability());
+        }
+    }
+
+    /**
+     * Decodes a {@link User}.
+     * @param in the input to read the item from.
+     * @param version the version of the format that the item was written with.
+     * @return the decoded item.
+     * @throws IOException if the item could not be read.
+     */
+    @Override
+    public User read(DataInput in, int version) throws IOException {
+        UserRole role = Codecs.readEnum(in, UserRole.values());
+        String id = Codecs.readId(in);
+        String name = Codecs.readString(in);
+        int age = in.readInt();
+        String password = Codecs.readString(in);
+        boolean isDefaultPassword = in.readBoolean();
+        Gender gender = Codecs.readEnum(in, Gender.values());
+        LocalDate dob = Codecs.readDate(in);
+        String phoneNumber = Codecs.readString(in);
+        String emailAddress = Codecs.readString(in);
+
+        User user;
+
+        switch (role) {
+            case PATIENT:
+                user = new Patient(id, name, age, password, gender, dob, in.readDouble(), in.readDouble(),
+                    phoneNumber, emailAddress, Codecs.readEnum(in, BloodType.values()));
+                break;
+
+            case DOCTOR:
+                Doctor doctor = new Doctor(id, name, age, password, gender, dob, phoneNumber, emailAddress,
+                    Codecs.readEnum(in, Specialisation.values()));
+                doctor.setAvailability(readAvailability(in));
+                user = doctor;
+                break;
+
+            case PHARMACIST:
+                user = new Pharmacist(id, name, age, password, gender, dob, phoneNumber, emailAddress);
+                break;
+
+            case ADMIN:
+                user = new Admin(id, name, age, password, gender, dob, phoneNumber, emailAddress);
+                break;
+
+            default:
+                throw new IOException("Unknown user role " + role);
+        }
+
+        user.setDefaultPassword(isDefaultPassword);
+        return user;
+    }
+
+    /**
+     * Writes the general and specific {@link Availability} of a doctor.
+     * @param out the output to write to.
+     * @param availability the availability to write.
+     * @throws IOException if the availability could not be written.
+     */
+    private static void writeAvailability(DataOutput out, Availability availability) throws IOException {
+        Map<DayOfWeek, TimePeriod> general = availability.getGeneralAvailability();
+        Codecs.writeVarInt(out, general.size());
+
+        for (Map.Entry<DayOfWeek, TimePeriod> entry : general.entrySet()) {
+            Codecs.writeEnum(out, entry.getKey());
+            writeTimePeriod(out, entry.getValue());
+        }
+
+        Map<LocalDate, TimePeriod> specific = availability.getSpecificAvailability();
+        Codecs.writeVarInt(out, specific.size());
+
+        for (Map.Entry<LocalDate, TimePeriod> entry : specific.entrySet()) {
+            Codecs.writeDate(out, entry.getKey());
+            writeTimePeriod(out, entry.getValue());
+        }
+    }
+
+    /**
+     * Reads the {@link Availability} written by {@link #writeAvailability(DataOutput, Availability)}.
+     * @param in the input to read from.
+     * @return the availability read.
+     * @throws IOException if the availability could not be read.
+     */
+    private static Availability readAvailability(DataInput in) throws IOException {
+        Availability availability = new Availability();
+
+        int generalCount = Codecs.readVarInt(in);
+        for (int i = 0; i < generalCount; i++) {
+            availability.setAvailability(Codecs.readEnum(in, DayOfWeek.values()), readTimePeriod(in));
+        }
+
+        int specificCount = Codecs.readVarInt(in);
+        for (int i = 0; i < specificCount; i++) {
+            availability.setAvailability(Codecs.readDate(in), readTimePeriod(in));
+        }
+
+        return availability;
+    }
+
+    /**
+     * Writes a {@link TimePeriod}.
+     * @param out the output to write to.
+     * @param period the time period to write.
+     * @throws IOException if the time period could not be written.
+     */
+    private static void writeTimePeriod(DataOutput out, TimePeriod period) throws IOException {
+        Codecs.writeTime(out, period.getStart());
+        Codecs.writeTime(out, period.getEnd());
+    }
+
+    /**
+     * Reads a {@link TimePeriod} written by {@link #writeTimePeriod(DataOutput, TimePeriod)}.
+     * @param in the input to read from.
+     * @return the time period read.
+     * @throws IOException if the time period could not be read.
+     */
+    private static TimePeriod readTimePeriod(DataInput in) throws IOException {
+        return new TimePeriod(Codecs.readTime(in), Codecs.readTime(in));
+    }
+}
@@ -0,0 +1,177 @@
+package server;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import model.appointments.Appointment;
+import model.appointments.AppointmentOutcomeRecord;
+import model.appointments.AppointmentSlot;
+import model.inventory.ConsumptionForecast;
+import model.inventory.InventoryItem;
+import model.inventory.StockLot;
+import model.medrecord.MedicalRecordEntry;
+import model.prescriptions.Prescription;
+import model.users.Doctor;
+
+/**
+ * The JSON representation of a kind of item served by the {@link ApiServer}, as the keys of the
+ * JSON object of an item and the function that gets the values of an item, one for each key.
+ * Items are written straight to the response as their values are read, without building a tree
+ * of JSON objects first.
+ *
+ * <p>Only the fields needed by clients are included, so the passwords of users are never served.</p>
+ *
+ * @param <T> the type of the items.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ApiResource<T> {
+    /**
+     * The representation of an {@link InventoryItem}.
+     */
+    static final ApiResource<InventoryItem> INVENTORY_ITEM = new ApiResource<InventoryItem>(
+        new String[] {"id", "name", "stock", "stockLevelAlert", "replenishmentStatus"},
+        item -> new Object[] {
+            item.getItemId(), item.getItemName(), item.getStock(), item.getStockLevelAlert(),
+            item.getReplenishmentStatus() == null ? null : item.getReplenishmentStatus().name()});
+
+    /**
+     * The representation of a {@link ConsumptionForecast}.
+     */
+    static final ApiResource<ConsumptionForecast> FORECAST = new ApiResource<ConsumptionForecast>(
+        new String[] {"id", "name", "stock", "averageDailyConsumption", "smoothedDailyConsumption",
+            "pendingDemand", "suggestedQuantity", "reorderDate"},
+        forecast -> new Object[] {
+            forecast.getItemId(), forecast.getItemName(), forecast.getStock(),
+            forecast.getAverageDailyConsumption(), forecast.getSmoothedDailyConsumption(),
+            forecast.getPendingDemand(), forecast.getSuggestedQuantity(), forecast.getReorderDate()});
+
+    /**
+     * The representation of a {@link StockLot}.
+     */
+    static final ApiResource<StockLot> LOT = new ApiResource<StockLot>(
+        new String[] {"id", "itemId", "quantity", "expiryDate", "receivedDate"},
+        lot -> new Object[] {
+            lot.getLotId(), lot.getItemId(), lot.getQuantity(), lot.getExpiryDate(), lot.getReceivedDate()});
+
+    /**
+     * The representation of a {@link Doctor}.
+     */
+    static final ApiResource<Doctor> DOCTOR = new ApiResource<Doctor>(
+        new String[] {"id", "name", "gender", "age", "specialisation"},
+        doctor -> new Object[] {
+            doctor.getDoctorId(), doctor.getName(), doctor.getGender().name(), doctor.getAge(),
+            doctor.getSpecialisation().name()});
+
+    /**
+     * The representation of an available {@link AppointmentSlot}.
+     */
+    static final ApiResource<AppointmentSlot> SLOT = new ApiResource<AppointmentSlot>(
+        new String[] {"doctorId", "doctorName", "dateTime"},
+        slot -> new Object[] {
+            slot.getDoctor().getDoctorId(), slot.getDoctorName(), slot.getTimeSlot().getDateTime()});
+
+    /**
+     * The representation of an {@link Appointment}, including its outcome if it has one.
+     */
+    static final ApiResource<Appointment> APPOINTMENT = new ApiResource<Appointment>(
+        new String[] {"id", "status", "dateTime", "doctorId", "patientId", "outcome"},
+        appointment -> new Object[] {
+            appointment.getAppointmentId(), appointment.getStatus().name(),
+            appointment.getTimeSlot().getDateTime(), appointment.getDoctorId(), appointment.getPatientId(),
+            outcomeOf(appointment.getOutcomeRecord())});
+
+    /**
+     * The representation of a {@link MedicalRecordEntry}.
+     */
+    static final ApiResource<MedicalRecordEntry> MEDICAL_RECORD = new ApiResource<MedicalRecordEntry>(
+        new String[] {"id", "dateRecorded", "patientId", "doctorId", "diagnosis", "treatmentPlan", "services", "prescriptions"},
+        entry -> new Object[] {
+            entry.getEntryId(), entry.getDateRecorded(), entry.getPatientId(), entry.getDoctorId(),
+            entry.getDiagnosis(), entry.getTreatmentPlan(),
+            entry.getMedicalServices().stream().map(Enum::name).toList(),
+            entry.getPrescription().stream().map(ApiResource::prescriptionOf).toList()});
+
+    /**
+     * The keys of the JSON object of an item.
+     */
+    private final String[] keys;
+
+    /**
+     * The function that gets the values of an item, one for each key.
+     */
+    private final Function<T, Object[]> values;
+
+    /**
+     * Constructs an {@link ApiResource}.
+     *
+     * @param keys the keys of the JSON object of an item.
+     * @param values the function that gets the values of an item, one for each key.
+     */
+    private ApiResource(String[] keys, Function<T, Object[]> values) {
+        this.keys = keys;
+        this.values = values;
+    }
+
+    /**
+     * Gets the keys of the JSON object of an item.
+     *
+     * @return the keys.
+     */
+    String[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * Gets the values of an item, one for each key.
+     *
+     * @param item the item.
+     * @return the values of the item.
+     */
+    Object[] valuesOf(T item) {
+        return values.apply(item);
+    }
+
+    /**
+     * Gets the fields of the outcome of an appointment.
+     *
+     * @param outcome the outcome of the appointment, or {@code null} if it has none.
+     * @return the fields of the outcome by name, or {@code null} if the appointment has no outcome.
+     */
+    private static Map<String, Object> outcomeOf(AppointmentOutcomeRecord outcome) {
+        if (outcome == null) {
+            return null;
+        }
+
+        Map<String, Object> fields = new LinkedHashMap<String, Object>();
+
+        fields.put("recordedDate", outcome.getRecordedDate());
+        fields.put("consultationNotes", outcome.getConsultationNotes());
+        fields.put("services", outcome.getServices().stream().map(Enum::name).toList());
+        fields.put("prescriptions", outcome.getPrescriptions().stream().map(ApiResource::prescriptionOf).toList());
+
+        return fields;
+    }
+
+    /**
+     * Gets the fields of a prescription.
+     *
+     * @param prescription the prescription.
+     * @return the fields of the prescription by name.
+     */
+    private static Map<String, Object> prescriptionOf(Prescription prescription) {
+        Map<String, Object> fields = new LinkedHashMap<String, Object>();
+
+        fields.put("drugId", prescription.getDrugId());
+        fields.put("quantity", prescription.getQuantity());
+        fields.put("dosage", prescription.getDosage().getQuantity());
+        fields.put("unit", prescription.getDosage().getUnit().name());
+        fields.put("frequency", prescription.getFrequency().name());
+        fields.put("status", prescription.getStatus().name());
+
+        return fields;
+    }
+}
@@ -0,0 +1,656 @@
+package server;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import controller.interfaces.IAppointmentManager;
+import controller.interfaces.IDoctorManager;
+import controller.interfaces.IForecastManager;
+import controller.interfaces.IInventoryManager;
+import controller.interfaces.IMedicalRecordManager;
+import controller.interfaces.IPatientManager;
+import model.enums.Specialisation;
+import model.inventory.InventoryItem;
+import model.users.Doctor;
+import model.users.Patient;
+import repository.interfaces.IAppointmentRepository;
+import repository.interfaces.IInventoryRepository;
+import repository.interfaces.ILotRepository;
+import repository.interfaces.IMedicalRecordRepository;
+import repository.interfaces.IUserRepository;
+import services.ServiceLocator;
+import utils.JsonWriter;
+
+/**
+ * The HTTP server that exposes the read operations of the managers as JSON endpoints under
+ * {@code /api/}, for kiosks and dashboards to poll. The server only listens on the loopback
+ * address, and since it has no authentication, it does not expose the operations that change
+ * the data.
+ *
+ * <table>
+ *   <caption>Endpoints</caption>
+ *   <tr><td>{@code GET /api/inventory}</td><td>all inventory items</td></tr>
+ *   <tr><td>{@code GET /api/inventory/low-stock}</td><td>the items at or below their stock level alert</td></tr>
+ *   <tr><td>{@code GET /api/inventory/critical?count=10}</td><td>the items with the lowest stock relative to their alert</td></tr>
+ *   <tr><td>{@code GET /api/inventory/forecast}</td><td>the forecast consumption and suggested replenishment of every item</td></tr>
+ *   <tr><td>{@code GET /api/inventory/expiring?days=30}</td><td>the lots expiring within a number of days, including expired lots</td></tr>
+ *   <tr><td>{@code GET /api/inventory/{id}}</td><td>a single inventory item</td></tr>
+ *   <tr><td>{@code GET /api/doctors}</td><td>all doctors</td></tr>
+ *   <tr><td>{@code GET /api/doctors/{id}/slots?date=2024-11-20}</td><td>the available slots of a doctor on a date</td></tr>
+ *   <tr><td>{@code GET /api/slots?count=10&specialisation=CARDIOLOGIST}</td><td>the earliest available slots</td></tr>
+ *   <tr><td>{@code GET /api/appointments?doctorId=D1001}</td><td>all appointments, or those of a doctor</td></tr>
+ *   <tr><td>{@code GET /api/appointments/undispensed}</td><td>the appointments with prescriptions to dispense</td></tr>
+ *   <tr><td>{@code GET /api/patients/{id}/records}</td><td>the medical records of a patient</td></tr>
+ * </table>
+ *
+ * <p>Lists are paginated with the {@code offset} and {@code limit} query parameters. The whole
+ * list is read from its manager, but only the items of the page are encoded, and they are
+ * streamed to the client one item at a time rather than built into a response. Every response has an {@code ETag} derived from the
+ * revisions of the repositories it is read from, so a client that polls with
+ * {@code If-None-Match} gets a {@code 304 Not Modified} without the items being read at all
+ * until they change.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ApiServer {
+    /**
+     * The default port that the server listens on.
+     */
+    public static final int DEFAULT_PORT = 8080;
+
+    /**
+     * The prefix of the paths of the endpoints.
+     */
+    private static final String CONTEXT = "/api/";
+
+    /**
+     * The number of items in a page if the {@code limit} parameter is not given.
+     */
+    private static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * The maximum number of items in a page.
+     */
+    private static final int MAX_LIMIT = 500;
+
+    /**
+     * The number of slots found by {@code /api/slots} if the {@code count} parameter is not given.
+     */
+    private static final int DEFAULT_SLOT_COUNT = 10;
+
+    /**
+     * The number of items found by {@code /api/inventory/critical} if the {@code count} parameter
+     * is not given.
+     */
+    private static final int DEFAULT_CRITICAL_COUNT = 10;
+
+    /**
+     * The number of days within which lots are found by {@code /api/inventory/expiring} if the
+     * {@code days} parameter is not given.
+     */
+    private static final int DEFAULT_EXPIRY_DAYS = 30;
+
+    /**
+     * The maximum number of days within which lots are found by {@code /api/inventory/expiring}.
+     */
+    private static final int MAX_EXPIRY_DAYS = 3650;
+
+    /**
+     * The port that the server listens on.
+     */
+    private final int port;
+
+    /**
+     * The start time of the server, which is part of every ETag since the revisions of the
+     * repositories start over when the application is restarted.
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    /**
+     * The {@link IInventoryManager} dependency that serves the inventory endpoints.
+     */
+    private final IInventoryManager inventoryManager = ServiceLocator.getService(IInventoryManager.class);
+
+    /**
+     * The {@link IForecastManager} dependency that serves the forecast endpoints.
+     */
+    private final IForecastManager forecastManager = ServiceLocator.getService(IForecastManager.class);
+
+    /**
+     * The {@link IDoctorManager} dependency that serves the doctor endpoints.
+     */
+    private final IDoctorManager doctorManager = ServiceLocator.getService(IDoctorManager.class);
+
+    /**
+     * The {@link IPatientManager} dependency that serves the patient endpoints.
+     */
+    private final IPatientManager patientManager = ServiceLocator.getService(IPatientManager.class);
+
+    /**
+     * The {@link IAppointmentManager} dependency that serves the appointment endpoints.
+     */
+    private final IAppointmentManager appointmentManager = ServiceLocator.getService(IAppointmentManager.class);
+
+    /**
+     * The {@link IMedicalRecordManager} dependency that serves the medical record endpoints.
+     */
+    private final IMedicalRecordManager medicalRecordManager = ServiceLocator.getService(IMedicalRecordManager.class);
+
+    /**
+     * The {@link IInventoryRepository} dependency whose revision the ETags of the inventory and the
+     * forecasts are derived from.
+     */
+    private final IInventoryRepository inventoryRepository = ServiceLocator.getService(IInventoryRepository.class);
+
+    /**
+     * The {@link ILotRepository} dependency whose revision the ETags of the expiring lots are derived from.
+     */
+    private final ILotRepository lotRepository = ServiceLocator.getService(ILotRepository.class);
+
+    /**
+     * The {@link IUserRepository} dependency whose revision the ETags of the doctors, their slots and
+     * the appointments are derived from.
+     */
+    private final IUserRepository userRepository = ServiceLocator.getService(IUserRepository.class);
+
+    /**
+     * The {@link IAppointmentRepository} dependency whose revision the ETags of the appointments, the
+     * slots and the forecasts are derived from.
+     */
+    private final IAppointmentRepository appointmentRepository = ServiceLocator.getService(IAppointmentRepository.class);
+
+    /**
+     * The {@link IMedicalRecordRepository} dependency whose revision the ETags of the medical records
+     * are derived from.
+     */
+    private final IMedicalRecordRepository medicalRecordRepository = ServiceLocator.getService(IMedicalRecordRepository.class);
+
+    /**
+     * Constructs an {@link ApiServer} that listens on the given port. The services must already
+     * be registered with the {@link ServiceLocator}.
+     *
+     * @param port the port to listen on.
+     */
+    public ApiServer(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Starts the server in the background, handling each request on its own thread.
+     *
+     * @return the started server, which can be stopped with {@link HttpServer#stop(int)}.
+     * @throws IOException if the server could not listen on its port.
+     */
+    public HttpServer start() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+
+        server.createContext(CONTEXT, this::handle);
+        server.setExecutor(VirtualThreads.perTaskExecutor("api-"));
+        server.start();
+
+        System.out.println(String.format("[INFO] Serving the API on http://%s:%d%s",
+            server.getAddress().getHostString(), server.getAddress().getPort(), CONTEXT));
+
+        return server;
+    }
+
+    /**
+     * Handles a request, responding with an error if it does not match an endpoint.
+     *
+     * @param exchange the request and its response.
+     * @throws IOException if the response could not be written.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                sendError(exchange, 405, "Only GET and HEAD are supported.");
+                return;
+            }
+
+            String[] path = exchange.getRequestURI().getPath().substring(CONTEXT.length()).split("/");
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            route(exchange, path, query);
+
+        } catch (IllegalArgumentException e) {
+            if (isStarted(exchange)) {
+                System.out.println("[ERROR] Could not finish the response to " + exchange.getRequestURI() + ": " + e.getMessage());
+                return;
+            }
+
+            sendError(exchange, 400, e.getMessage());
+
+        } catch (RuntimeException e) {
+            System.out.println("[ERROR] Could not handle " + exchange.getRequestURI() + ": " + e);
+
+            // An error response cannot follow the headers of a response that was already started.
+            if (!isStarted(exchange)) {
+                sendError(exchange, 500, "An internal error occurred.");
+            }
+
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Responds to a request with the endpoint that matches its path.
+     *
+     * @param exchange the request and its response.
+     * @param path the segments of the path after {@code /api/}.
+     * @param query the query parameters of the request.
+     * @throws IOException if the response could not be written.
+     * @throws IllegalArgumentException if a query parameter is invalid.
+     */
+    private void route(HttpExchange exchange, String[] path, Map<String, String> query) throws IOException {
+        String resource = path[0];
+
+        if (resource.equals("inventory") && path.length == 1) {
+            sendPage(exchange, query, tagOf(inventoryRepository.getRevision()),
+                inventoryManager::getAllItems, ApiResource.INVENTORY_ITEM);
+
+        } else if (resource.equals("inventory") && path.length == 2 && path[1].equals("low-stock")) {
+            sendPage(exchange, query, tagOf(inventoryRepository.getRevision()),
+                inventoryManager::getLowStockInventoryItems, ApiResource.INVENTORY_ITEM);
+
+        } else if (resource.equals("inventory") && path.length == 2 && path[1].equals("critical")) {
+            int count = parseInt(query, "count", DEFAULT_CRITICAL_COUNT, 1, MAX_LIMIT);
+
+            sendPage(exchange, query, tagOf(inventoryRepository.getRevision()),
+                () -> inventoryManager.getMostCriticalItems(count), ApiResource.INVENTORY_ITEM);
+
+        } else if (resource.equals("inventory") && path.length == 2 && path[1].equals("forecast")) {
+            // Forecasts also change with the day, as the days without consumption are counted.
+            sendPage(exchange, query, tagOf(inventoryRepository.getRevision(), appointmentRepository.getRevision(),
+                LocalDate.now().toEpochDay()), forecastManager::getForecasts, ApiResource.FORECAST);
+
+        } else if (resource.equals("inventory") && path.length == 2 && path[1].equals("expiring")) {
+            int days = parseInt(query, "days", DEFAULT_EXPIRY_DAYS, 0, MAX_EXPIRY_DAYS);
+
+            // The lots within the window also change with the day.
+            sendPage(exchange, query, tagOf(lotRepository.getRevision(), LocalDate.now().toEpochDay()),
+                () -> inventoryManager.getExpiringLots(days), ApiResource.LOT);
+
+        } else if (resource.equals("inventory") && path.length == 2) {
+            String tag = tagOf(inventoryRepository.getRevision());
+
+            if (!isModified(exchange, tag)) {
+                return;
+            }
+
+            InventoryItem item = inventoryManager.getItem(path[1]);
+
+            if (item == null) {
+                sendError(exchange, 404, "No inventory item " + path[1] + ".");
+                return;
+            }
+
+            sendItem(exchange, tag, item, ApiResource.INVENTORY_ITEM);
+
+        } else if (resource.equals("doctors") && path.length == 1) {
+            sendPage(exchange, query, tagOf(userRepository.getRevision()),
+                doctorManager::getAllDoctors, ApiResource.DOCTOR);
+
+        } else if (resource.equals("doctors") && path.length == 3 && path[2].equals("slots")) {
+            Doctor doctor = doctorManager.getDoctor(path[1]);
+            LocalDate date = parseDate(query.get("date"));
+
+            if (doctor == null) {
+                sendError(exchange, 404, "No doctor " + path[1] + ".");
+                return;
+            }
+
+            // The available slots also change as the slots of today pass.
+            sendPage(exchange, query, tagOf(userRepository.getRevision(), appointmentRepository.getRevision(), currentMinute()),
+                () -> appointmentManager.getAvailableSlotsByDoctor(date, doctor), ApiResource.SLOT);
+
+        } else if (resource.equals("slots") && path.length == 1) {
+            int count = parseInt(query, "count", DEFAULT_SLOT_COUNT, 1, MAX_LIMIT);
+            Specialisation specialisation = parseSpecialisation(query.get("specialisation"));
+
+            sendPage(exchange, query, tagOf(userRepository.getRevision(), appointmentRepository.getRevision(), currentMinute()),
+                () -> appointmentManager.findEarliestSlots(count, specialisation), ApiResource.SLOT);
+
+        } else if (resource.equals("appointments") && path.length == 1) {
+            String doctorId = query.get("doctorId");
+            String tag = tagOf(userRepository.getRevision(), appointmentRepository.getRevision());
+
+            if (doctorId == null) {
+                sendPage(exchange, query, tag, appointmentManager::getAllAppointments, ApiResource.APPOINTMENT);
+                return;
+            }
+
+            Doctor doctor = doctorManager.getDoctor(doctorId);
+
+            if (doctor == null) {
+                sendError(exchange, 404, "No doctor " + doctorId + ".");
+                return;
+            }
+
+            sendPage(exchange, query, tag, () -> appointmentManager.getAppointments(doctor), ApiResource.APPOINTMENT);
+
+        } else if (resource.equals("appointments") && path.length == 2 && path[1].equals("undispensed")) {
+            sendPage(exchange, query, tagOf(appointmentRepository.getRevision()),
+                appointmentManager::getUndispensedAppointments, ApiResource.APPOINTMENT);
+
+        } else if (resource.equals("patients") && path.length == 3 && path[2].equals("records")) {
+            Patient patient = patientManager.getPatient(path[1]);
+
+            if (patient == null) {
+                sendError(exchange, 404, "No patient " + path[1] + ".");
+                return;
+            }
+
+            sendPage(exchange, query, tagOf(medicalRecordRepository.getRevision()),
+                () -> medicalRecordManager.getRecords(patient), ApiResource.MEDICAL_RECORD);
+
+        } else {
+            sendError(exchange, 404, "No endpoint " + exchange.getRequestURI().getPath() + ".");
+        }
+    }
+
+    /**
+     * Responds with a page of a list of items, unless the client already has the current version
+     * of the list. The list is only read if it has changed.
+     *
+     * @param <T> the type of the items.
+     * @param exchange the request and its response.
+     * @param query the query parameters of the request, with the {@code offset} and {@code limit}
+     * of the page.
+     * @param tag the ETag of the current version of the list.
+     * @param items the supplier of the list.
+     * @param resource the representation of the items.
+     * @throws IOException if the response could not be written.
+     * @throws IllegalArgumentException if the offset or limit is invalid.
+     */
+    private <T> void sendPage(HttpExchange exchange, Map<String, String> query, String tag,
+        Supplier<List<T>> items, ApiResource<T> resource) throws IOException {
+
+        int offset = parseInt(query, "offset", 0, 0, Integer.MAX_VALUE);
+        int limit = parseInt(query, "limit", DEFAULT_LIMIT, 1, MAX_LIMIT);
+
+        if (!isModified(exchange, tag)) {
+            return;
+        }
+
+        List<T> list = items.get();
+        int from = Math.min(offset, list.size());
+        int to = Math.min(list.size(), from + limit);
+
+        Writer out = openBody(exchange, tag);
+
+        if (out == null) {
+            return;
+        }
+
+        JsonWriter json = new JsonWriter(out);
+
+        out.write("{\"offset\":");
+        json.writeValue(offset);
+        out.write(",\"limit\":");
+        json.writeValue(limit);
+        out.write(",\"total\":");
+        json.writeValue(list.size());
+        out.write(",\"next\":");
+        json.writeValue(to < list.size() ? to : null);
+        out.write(",\"items\":[");
+
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                out.write(',');
+            }
+
+            json.writeObject(resource.getKeys(), resource.valuesOf(list.get(i)));
+        }
+
+        out.write("]}");
+        out.close();
+    }
+
+    /**
+     * Responds with a single item.
+     *
+     * @param <T> the type of the item.
+     * @param exchange the request and its response.
+     * @param tag the ETag of the current version of the item.
+     * @param item the item.
+     * @param resource the representation of the item.
+     * @throws IOException if the response could not be written.
+     */
+    private <T> void sendItem(HttpExchange exchange, String tag, T item, ApiResource<T> resource) throws IOException {
+        Writer out = openBody(exchange, tag);
+
+        if (out == null) {
+            return;
+        }
+
+        new JsonWriter(out).writeObject(resource.getKeys(), resource.valuesOf(item));
+        out.close();
+    }
+
+    /**
+     * Checks whether the client has an outdated version of the response, responding with
+     * {@code 304 Not Modified} if it does not.
+     *
+     * @param exchange the request and its response.
+     * @param tag the ETag of the current version of the response.
+     * @return {@code true} if the response has to be sent, {@code false} if it was not modified.
+     * @throws IOException if the response could not be written.
+     */
+    private static boolean isModified(HttpExchange exchange, String tag) throws IOException {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+
+        if (ifNoneMatch == null) {
+            return true;
+        }
+
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+
+            if (trimmed.equals("*") || trimmed.equals(tag) || trimmed.equals("W/" + tag)) {
+                exchange.getResponseHeaders().set("ETag", tag);
+                exchange.sendResponseHeaders(304, -1);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sends the headers of a successful JSON response, and opens its body to be streamed.
+     *
+     * @param exchange the request and its response.
+     * @param tag the ETag of the response.
+     * @return the writer of the body, or {@code null} if the request has no body, ie: a {@code HEAD} request.
+     * @throws IOException if the headers could not be sent.
+     */
+    private static Writer openBody(HttpExchange exchange, String tag) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.getResponseHeaders().set("ETag", tag);
+
+        if (exchange.getRequestMethod().equals("HEAD")) {
+            exchange.sendResponseHeaders(200, -1);
+            return null;
+        }
+
+        // The length is not known in advance, so the body is sent in chunks as it is written.
+        exchange.sendResponseHeaders(200, 0);
+        return new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Checks whether the headers of the response were already sent, in which case the response can
+     * only be closed.
+     *
+     * @param exchange the request and its response.
+     * @return {@code true} if the headers were sent, {@code false} otherwise.
+     */
+    private static boolean isStarted(HttpExchange exchange) {
+        return exchange.getResponseCode() != -1;
+    }
+
+    /**
+     * Responds with an error, as a JSON object with an {@code error} message.
+     *
+     * @param exchange the request and its response.
+     * @param status the HTTP status code of the error.
+     * @param message the message of the error.
+     * @throws IOException if the response could not be written.
+     */
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        StringWriter body = new StringWriter();
+        new JsonWriter(body).writeObject(new String[] {"error"}, new Object[] {message});
+
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, exchange.getRequestMethod().equals("HEAD") ? -1 : bytes.length);
+
+        if (!exchange.getRequestMethod().equals("HEAD")) {
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    /**
+     * Gets the ETag of a response read from repositories at the given revisions.
+     *
+     * @param revisions the revisions of the repositories, and any other values the response depends on.
+     * @return the quoted ETag.
+     */
+    private String tagOf(long... revisions) {
+        StringBuilder tag = new StringBuilder("\"").append(epoch);
+
+        for (long revision : revisions) {
+            tag.append('-').append(Long.toString(revision, Character.MAX_RADIX));
+        }
+
+        return tag.append('"').toString();
+    }
+
+    /**
+     * Gets the number of minutes since the epoch, for the responses that change over time.
+     *
+     * @return the current minute.
+     */
+    private static long currentMinute() {
+        return System.currentTimeMillis() / 60000;
+    }
+
+    /**
+     * Parses the query string of a request.
+     *
+     * @param rawQuery the encoded query string, or {@code null} if the request has none.
+     * @return the query parameters by name.
+     */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<String, String>();
+
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+
+            String name = separator < 0 ? parameter : parameter.substring(0, separator);
+            String value = separator < 0 ? "" : parameter.substring(separator + 1);
+
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+
+        return query;
+    }
+
+    /**
+     * Parses an integer query parameter.
+     *
+     * @param query the query parameters of the request.
+     * @param name the name of the parameter.
+     * @param defaultValue the value if the parameter is not given.
+     * @param min the minimum value of the parameter.
+     * @param max the maximum value of the parameter.
+     * @return the value of the parameter.
+     * @throws IllegalArgumentException if the parameter is not an integer within range.
+     */
+    private static int parseInt(Map<String, String> query, String name, int defaultValue, int min, int max) {
+        String value = query.get(name);
+
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            int parsed = Integer.parseInt(value);
+
+            if (parsed >= min && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below.
+        }
+
+        throw new IllegalArgumentException(String.format(
+            "The parameter '%s' must be an integer from %d to %d.", name, min, max));
+    }
+
+    /**
+     * Parses a date query parameter, ie: {@code 2024-11-20}.
+     *
+     * @param value the value of the parameter, or {@code null} if it is not given.
+     * @return the date, which is today if the parameter is not given.
+     * @throws IllegalArgumentException if the date is invalid.
+     */
+    private static LocalDate parseDate(String value) {
+        if (value == null) {
+            return LocalDate.now();
+        }
+
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("The parameter 'date' must be a date, ie: 2024-11-20.");
+        }
+    }
+
+    /**
+     * Parses a specialisation query parameter, ie: {@code CARDIOLOGIST}.
+     *
+     * @param value the value of the parameter, or {@code null} if it is not given.
+     * @return the specialisation, or {@code null} for any specialisation if the parameter is not given.
+     * @throws IllegalArgumentException if the specialisation is invalid.
+     */
+    private static Specialisation parseSpecialisation(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return Specialisation.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("The parameter 'specialisation' is not a specialisation.");
+        }
+    }
+}
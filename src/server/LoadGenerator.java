@@ -0,0 +1,142 @@
+package server;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A load generator for the {@link ApiServer}, which requests an endpoint from several clients at
+ * once for a number of seconds, and reports the throughput and latency percentiles of the
+ * responses. With {@code --etag}, each client polls the way a dashboard would, sending the
+ * {@code ETag} of its last response in {@code If-None-Match}.
+ *
+ * <PRE>
+ * java -cp out server.LoadGenerator http://localhost:8080/api/inventory 64 10 --etag
+ * </PRE>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LoadGenerator {
+    /**
+     * The constructor is private since {@link LoadGenerator} is only run from the command line.
+     */
+    private LoadGenerator() {}
+
+    /**
+     * Runs the load generator.
+     *
+     * @param args the URL to request, followed by the number of concurrent clients (default 16),
+     * the number of seconds to run for (default 10) and optionally {@code --etag}.
+     * @throws InterruptedException if the load generator was interrupted while waiting for the clients.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1) {
+            System.out.println("Usage: java server.LoadGenerator <url> [clients] [seconds] [--etag]");
+            return;
+        }
+
+        URI uri = URI.create(args[0]);
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        boolean conditional = Arrays.asList(args).contains("--etag");
+
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        ThreadFactory threadFactory = VirtualThreads.factory("load-");
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        AtomicLong ok = new AtomicLong();
+        AtomicLong notModified = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<long[]> latencies = new ArrayList<long[]>();
+        CountDownLatch done = new CountDownLatch(clients);
+
+        for (int i = 0; i < clients; i++) {
+            // Each client records its latencies in a buffer of its own, which are merged at the end.
+            long[][] buffer = { new long[1024] };
+            int[] size = { 0 };
+
+            Thread thread = threadFactory.newThread(() -> {
+                String tag = null;
+
+                while (System.nanoTime() < deadline) {
+                    HttpRequest.Builder request = HttpRequest.newBuilder(uri).GET();
+
+                    if (conditional && tag != null) {
+                        request.header("If-None-Match", tag);
+                    }
+
+                    long start = System.nanoTime();
+
+                    try {
+                        HttpResponse<byte[]> response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+
+                        if (response.statusCode() == 200) {
+                            ok.incrementAndGet();
+                            tag = response.headers().firstValue("ETag").orElse(null);
+                        } else if (response.statusCode() == 304) {
+                            notModified.incrementAndGet();
+                        } else {
+                            failed.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        continue;
+                    }
+
+                    if (size[0] == buffer[0].length) {
+                        buffer[0] = Arrays.copyOf(buffer[0], size[0] * 2);
+                    }
+
+                    buffer[0][size[0]++] = System.nanoTime() - start;
+                }
+
+                synchronized (latencies) {
+                    latencies.add(Arrays.copyOf(buffer[0], size[0]));
+                }
+
+                done.countDown();
+            });
+
+            thread.start();
+        }
+
+        done.await();
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        long total = ok.get() + notModified.get() + failed.get();
+
+        System.out.println(String.format("%d requests in %ds from %d clients: %.1f req/s",
+            total, seconds, clients, (double) total / seconds));
+        System.out.println(String.format("200: %d, 304: %d, failed: %d", ok.get(), notModified.get(), failed.get()));
+
+        if (all.length > 0) {
+            System.out.println(String.format("latency p50: %.2fms, p95: %.2fms, p99: %.2fms, max: %.2fms",
+                percentile(all, 50), percentile(all, 95), percentile(all, 99), all[all.length - 1] / 1e6));
+        }
+    }
+
+    /**
+     * Gets a percentile of the sorted latencies.
+     *
+     * @param sorted the latencies in nanoseconds, in ascending order.
+     * @param percent the percentile to get.
+     * @return the latency at the percentile in milliseconds.
+     */
+    private static double percentile(long[] sorted, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
@@ -0,0 +1,90 @@
+package server;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.NoSuchElementException;
+
+import lib.uilib.framework.Terminal;
+import services.Navigator;
+import view.Login.LoginView;
+
+/**
+ * A console session of the application served over a TCP connection. The session runs the same
+ * views as the console of the process, painted to and read from the connection, starting from
+ * the {@link LoginView}.
+ *
+ * <p>The session must be run on a thread of its own, since its {@link Terminal}, view stack and
+ * active user are held by the thread. It ends when the user goes back from the first view, or
+ * when the connection is closed.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Session implements Closeable {
+    /**
+     * The connection of the session.
+     */
+    private final Socket socket;
+
+    /**
+     * Constructs a {@link Session} over the given connection.
+     *
+     * @param socket the connection of the session.
+     */
+    public Session(Socket socket) {
+        this.socket = socket;
+    }
+
+    /**
+     * Runs the session on the current thread until it ends.
+     *
+     * @throws IOException if the streams of the connection could not be opened.
+     */
+    public void run() throws IOException {
+        Terminal.attach(socket.getInputStream(), new BufferedOutputStream(socket.getOutputStream()));
+
+        // Going back from the first view ends the session instead of exiting the application.
+        Navigator.setExitAction(() -> {
+            throw new SessionEndedException();
+        });
+
+        try {
+            Navigator.navigateTo(new LoginView());
+        } catch (SessionEndedException | NoSuchElementException e) {
+            // The user went back from the first view, or the connection was closed.
+        }
+    }
+
+    /**
+     * Detaches the terminal of the session from the current thread, and closes the connection.
+     *
+     * @throws IOException if the connection could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        Terminal.out().flush();
+        Terminal.detach();
+        socket.close();
+    }
+
+    /**
+     * Thrown to unwind the views of a session once it ends.
+     */
+    private static class SessionEndedException extends RuntimeException {
+        /**
+         * The serializable class version number to verify whether the serialized object have loaded classes
+         * for that object that are compatible with respect to serialization.
+         */
+        private static final long serialVersionUID = 42L;
+
+        /**
+         * Constructs a {@link SessionEndedException}, without a stack trace since it is never shown.
+         */
+        SessionEndedException() {
+            super(null, null, false, false);
+        }
+    }
+}
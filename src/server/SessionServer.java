@@ -0,0 +1,102 @@
+package server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lib.uilib.framework.Terminal;
+
+/**
+ * The server that runs a console session of the application for each TCP connection, so that
+ * several terminals can share one process and one set of repositories. Each session runs on its
+ * own thread with its own {@link Terminal}, view stack and active user, while the services in
+ * {@code ServiceLocator} are shared by every session.
+ *
+ * <p>The server only listens on the loopback address. Sessions run on virtual threads where the
+ * runtime supports them (Java 21 or later), or otherwise on a platform thread each. A session can
+ * be opened with {@code nc localhost <port>} or {@code telnet localhost <port>}.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class SessionServer {
+    /**
+     * The default port that the server listens on.
+     */
+    public static final int DEFAULT_PORT = 2002;
+
+    /**
+     * The port that the server listens on.
+     */
+    private final int port;
+
+    /**
+     * The factory of the threads that the sessions run on.
+     */
+    private final ThreadFactory threadFactory = VirtualThreads.factory("session-");
+
+    /**
+     * The number of sessions that were opened, used to number the sessions.
+     */
+    private final AtomicInteger opened = new AtomicInteger();
+
+    /**
+     * The number of sessions that are currently open.
+     */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * Constructs a {@link SessionServer} that listens on the given port.
+     *
+     * @param port the port to listen on.
+     */
+    public SessionServer(int port) {
+        this.port = port;
+    }
+
+    /**
+     * Accepts connections and starts a session for each of them, until the process exits.
+     *
+     * @throws IOException if the server could not listen on its port.
+     */
+    public void run() throws IOException {
+        // Messages printed while serving a session are shown in that session.
+        Terminal.redirectSystemOut();
+
+        try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            System.out.println(String.format("[INFO] Listening for sessions on %s:%d (%d cores).",
+                serverSocket.getInetAddress().getHostAddress(), serverSocket.getLocalPort(),
+                Runtime.getRuntime().availableProcessors()));
+
+            while (true) {
+                Socket socket = serverSocket.accept();
+                int id = opened.incrementAndGet();
+
+                threadFactory.newThread(() -> serve(id, socket)).start();
+            }
+        }
+    }
+
+    /**
+     * Serves a session until it ends.
+     *
+     * @param id the number of the session.
+     * @param socket the connection of the session.
+     */
+    private void serve(int id, Socket socket) {
+        System.out.println(String.format("[INFO] Session %d opened from %s (%d active).",
+            id, socket.getRemoteSocketAddress(), active.incrementAndGet()));
+
+        try (Session session = new Session(socket)) {
+            session.run();
+        } catch (IOException e) {
+            System.out.println(String.format("[WARNING] Session %d failed: %s", id, e.getMessage()));
+        }
+
+        System.out.println(String.format("[INFO] Session %d closed (%d active).", id, active.decrementAndGet()));
+    }
+}
@@ -0,0 +1,53 @@
+package server;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The threads that the sessions and requests of the servers run on. Virtual threads are used where
+ * the runtime supports them (Java 21 or later), or otherwise a platform thread each. Virtual
+ * threads are looked up by reflection, so that the application still builds and runs on releases
+ * without them.
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class VirtualThreads {
+    /**
+     * The constructor is private since {@link VirtualThreads} should be used statically.
+     */
+    private VirtualThreads() {}
+
+    /**
+     * Gets a factory of threads with the given name prefix, followed by the number of the thread.
+     *
+     * @param prefix the prefix of the names of the threads.
+     * @return the factory of virtual threads if they are supported, or of platform threads otherwise.
+     */
+    static ThreadFactory factory(String prefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, prefix, 1L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger count = new AtomicInteger();
+            return runnable -> new Thread(runnable, prefix + count.incrementAndGet());
+        }
+    }
+
+    /**
+     * Gets an executor that runs each task on a new thread with the given name prefix.
+     *
+     * @param prefix the prefix of the names of the threads.
+     * @return the executor.
+     */
+    static Executor perTaskExecutor(String prefix) {
+        ThreadFactory factory = factory(prefix);
+        return task -> factory.newThread(task).start();
+    }
+}
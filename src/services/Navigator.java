@@ -19,8 +19,15 @@ import view.View;
 public class Navigator {
     /**
      * The view stack, which stores the logical history of {@code Views} that were navigated to.
+     * Each thread has its own stack, so that each session in the process navigates independently.
      */
-    private static Deque<View> stack = new ArrayDeque<View>();
+    private static final ThreadLocal<Deque<View>> stack = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * The action run by each thread when the last {@link View} is popped, which exits the
+     * application unless the session of the thread sets its own.
+     */
+    private static final ThreadLocal<Runnable> exitAction = ThreadLocal.withInitial(() -> () -> System.exit(0));
 
     /**
      * The constructor is private since {@link Navigator} should be used statically.
@@ -33,22 +40,34 @@ public class Navigator {
      * @param view the {@link View} to navigate to.
      */
     public static void navigateTo(View view) {
-        stack.addLast(view);
+        stack.get().addLast(view);
         view.paint();
     }
 
+    /**
+     * Sets the action run by the current thread when the last {@link View} is popped, ie: to end
+     * the session of the thread rather than exit the application.
+     * @param action the action to run.
+     */
+    public static void setExitAction(Runnable action) {
+        exitAction.set(action);
+    }
+
     /**
      * Pops the latest {@link View} from the view stack and navigating back to the previous
      * {@link View} from the view stack. If the stack is empty when popping, the application
-     * is exited.
+     * is exited, or the exit action of the current thread is run.
      */
     public static void pop() {
-        if (stack.size() <= 1) {
-            System.exit(0);
+        Deque<View> views = stack.get();
+
+        if (views.size() <= 1) {
+            exitAction.get().run();
+            return;
         }
 
-        stack.removeLast();
-        stack.getLast().paint();
+        views.removeLast();
+        views.getLast().paint();
     }
 
     /**
@@ -56,7 +75,7 @@ public class Navigator {
      * @return the formatted string of breadcrumbs.
      */
     public static String getBreadcrumbs() {
-        return String.join(" > ", stack.stream()
+        return String.join(" > ", stack.get().stream()
             .map((view) -> view.getViewName()).filter(name -> name != "").toList());
     }
 }
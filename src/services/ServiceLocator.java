@@ -1,33 +1,39 @@
 package services;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import controller.AppointmentManager;
 import controller.DoctorManager;
+import controller.ForecastManager;
 import controller.InventoryManager;
 import controller.MedicalRecordManager;
 import controller.PatientManager;
 import controller.PharmacistManager;
+import controller.ReservationManager;
 import controller.StaffManager;
 import controller.UserManager;
 import controller.interfaces.IAppointmentManager;
 import controller.interfaces.IDoctorManager;
+import controller.interfaces.IForecastManager;
 import controller.interfaces.IInventoryManager;
 import controller.interfaces.IMedicalRecordManager;
 import controller.interfaces.IPatientManager;
 import controller.interfaces.IPharmacistManager;
+import controller.interfaces.IReservationManager;
 import controller.interfaces.IStaffManager;
 import controller.interfaces.IUserManager;
 import repository.AppointmentRepository;
 import repository.DoctorRepository;
 import repository.InventoryRepository;
+import repository.LotRepository;
 import repository.MedicalRecordRepository;
 import repository.PatientRepository;
 import repository.UserRepository;
 import repository.interfaces.IAppointmentRepository;
 import repository.interfaces.IDoctorRepository;
 import repository.interfaces.IInventoryRepository;
+import repository.interfaces.ILotRepository;
 import repository.interfaces.IMedicalRecordRepository;
 import repository.interfaces.IPatientRepository;
 import repository.interfaces.IUserRepository;
@@ -47,9 +53,10 @@ public class ServiceLocator {
     private ServiceLocator() {}
     
     /**
-     * A map of services registered with the service locator.
+     * A map of services registered with the service locator, which are shared by every session
+     * in the process.
      */
-    private final static Map<Class<?>, Object> services = new HashMap<>();
+    private final static Map<Class<?>, Object> services = new ConcurrentHashMap<>();
 
     /**
      * Register a service with the service locator.
@@ -108,13 +115,32 @@ public class ServiceLocator {
         IDoctorRepository doctorRepository = new DoctorRepository(userRepository);
         IPatientRepository patientRepository = new PatientRepository(userRepository);
 
+        /// The lots follow the stock of the inventory repository
+        ILotRepository lotRepository = new LotRepository(inventoryRepository);
+
+        /// Register the base repositories for bulk operations that bypass the managers
+        ServiceLocator.registerService(IUserRepository.class, userRepository);
+        ServiceLocator.registerService(IInventoryRepository.class, inventoryRepository);
+        ServiceLocator.registerService(ILotRepository.class, lotRepository);
+        ServiceLocator.registerService(IAppointmentRepository.class, appointmentRepository);
+        ServiceLocator.registerService(IMedicalRecordRepository.class, medicalRecordRepository);
+
+        /// The stock of the prescriptions is reserved for the medical record and pharmacist managers
+        IReservationManager reservationManager = new ReservationManager(inventoryRepository, appointmentRepository);
+
         /// Register the services
+        ServiceLocator.registerService(IReservationManager.class, reservationManager);
+
         ServiceLocator.registerService(
             IAppointmentManager.class, 
-            new AppointmentManager(appointmentRepository));
+            new AppointmentManager(appointmentRepository, doctorRepository));
+
+        ServiceLocator.registerService(
+                IInventoryManager.class, new InventoryManager(inventoryRepository, lotRepository));
 
         ServiceLocator.registerService(
-                IInventoryManager.class, new InventoryManager(inventoryRepository));
+            IForecastManager.class, 
+            new ForecastManager(inventoryRepository, appointmentRepository));
 
         ServiceLocator.registerService(
                     IUserManager.class, new UserManager(userRepository));
@@ -125,7 +151,7 @@ public class ServiceLocator {
         
         ServiceLocator.registerService(
             IMedicalRecordManager.class, 
-            new MedicalRecordManager(medicalRecordRepository, inventoryRepository));
+            new MedicalRecordManager(medicalRecordRepository, inventoryRepository, appointmentRepository, reservationManager));
         
         ServiceLocator.registerService(
             IPatientManager.class, 
@@ -133,7 +159,7 @@ public class ServiceLocator {
         
         ServiceLocator.registerService(
             IPharmacistManager.class, 
-            new PharmacistManager(inventoryRepository, appointmentRepository));
+            new PharmacistManager(inventoryRepository, appointmentRepository, reservationManager));
         
         ServiceLocator.registerService(
             IStaffManager.class, new StaffManager(userRepository));
@@ -0,0 +1,84 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The utility class for splitting and quoting the fields of a line of a CSV file. Fields that
+ * contain a comma or a double quote are enclosed in double quotes, with the double quotes in them
+ * doubled, so that they are read back exactly as they were written.
+ *
+ * <p>Each entry must be on a single line, so line breaks in a field are written as spaces.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class Csv {
+    /**
+     * Private constructor of the {@link Csv} class to prevent instantiation.
+     */
+    private Csv() {}
+
+    /**
+     * Splits a line of a CSV file into its fields, unquoting the quoted fields.
+     * @param line the line to split.
+     * @return the fields of the line, including empty fields.
+     */
+    public static String[] split(String line) {
+        // Most lines have no quotes, which is the same as a plain split that keeps empty fields.
+        if (line.indexOf('"') < 0) {
+            return line.split(",", -1);
+        }
+
+        List<String> fields = new ArrayList<String>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields.toArray(String[]::new);
+    }
+
+    /**
+     * Quotes a field to be written to a CSV file, if it needs to be quoted.
+     * @param value the field to quote, may be {@code null} which is written as an empty field.
+     * @return the field as it should be written.
+     */
+    public static String quote(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        if (value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            value = value.replace("\r\n", " ").replace('\n', ' ').replace('\r', ' ');
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -4,21 +4,16 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import model.BaseModel;
-import model.enums.BloodType;
-import model.enums.Gender;
-import model.enums.Specialisation;
 import model.inventory.InventoryItem;
 import model.users.User;
-import repository.InventoryRepository;
-import repository.UserRepository;
+import repository.interfaces.IInventoryRepository;
+import repository.interfaces.IUserRepository;
+import services.ServiceLocator;
 import utils.enums.LoadableType;
 
 /**
@@ -42,54 +37,113 @@ public class Database {
     private Database() {}
 
     /**
-     * Loads data from the specified file into the database.
+     * The number of lines that are parsed together as one chunk.
+     */
+    private static final int CHUNK_SIZE = 4096;
+
+    /**
+     * The maximum number of invalid entries that are reported individually.
+     */
+    private static final int MAX_REPORTED_ERRORS = 20;
+
+    /**
+     * Loads data from the specified file into the database. The file is read as a stream of chunks
+     * of lines, which are parsed in parallel while the next chunks are read. The entries of the
+     * file are then saved to the repository as a single batch, so either all the valid entries
+     * are persisted or none of them are.
      * 
      * @param file the file to load data from.
      * @return {@code true} if the data is successfully loaded; {@code false} otherwise.
      */
     public static boolean load(LoadableFile file) {
         LoadableType loadableType = null;
-        List<BaseModel> models = new ArrayList<BaseModel>();
+        ImportPlan plan = null;
+
+        List<CompletableFuture<ParsedChunk>> chunks = new ArrayList<CompletableFuture<ParsedChunk>>();
 
         try (BufferedReader br = new BufferedReader(new FileReader(file.getFile()))) {
             String line;
+            int lineNumber = 0;
+
+            List<String> lines = new ArrayList<String>(CHUNK_SIZE);
+            int firstLineNumber = 0;
 
             while ((line = br.readLine()) != null) {
-                String[] values = line.split(",");      
+                lineNumber++;
 
                 if (loadableType == null) {
-                    loadableType = checkHeader(values);
+                    loadableType = checkHeader(Csv.split(line));
 
                     if (loadableType == LoadableType.INVALID) {
                         System.out.println("[ERROR] The file does not have a valid header.");
                         return false;
                     }
 
-                    if (loadableType != LoadableType.INVALID && file.getFileName() == "pharmacist.csv") {
+                    if (file.getFileName().equals("pharmacist.csv")) {
                         loadableType = LoadableType.PHARMACIST;
                     }
 
-                    if (loadableType != LoadableType.INVALID && file.getFileName() == "admin.csv") {
+                    if (file.getFileName().equals("admin.csv")) {
                         loadableType = LoadableType.ADMIN;
                     }
 
+                    try {
+                        plan = ImportPlan.of(loadableType);
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("[ERROR] " + e.getMessage());
+                        return false;
+                    }
+
                     System.out.println("[INFO] Detected header for model " + loadableType.getModelClass().getSimpleName());
                     continue;
                 }
 
-                BaseModel model = processEntry(loadableType, values);
+                if (lines.isEmpty()) {
+                    firstLineNumber = lineNumber;
+                }
+
+                lines.add(line);
 
-                if (model != null) {
-                    models.add(model);
+                if (lines.size() == CHUNK_SIZE) {
+                    chunks.add(parseAsync(plan, lines, firstLineNumber));
+                    lines = new ArrayList<String>(CHUNK_SIZE);
                 }
             }
+
+            if (!lines.isEmpty()) {
+                chunks.add(parseAsync(plan, lines, firstLineNumber));
+            }
+
         } catch (IOException e) {
             System.out.println("[ERROR] An error occurred while reading the file.");
             return false;
         }
 
-        persistData(models);
-        return true;
+        if (loadableType == null) {
+            System.out.println("[ERROR] The file does not have a header.");
+            return false;
+        }
+
+        List<BaseModel> models = new ArrayList<BaseModel>();
+        int errorCount = 0;
+
+        // The chunks are joined in the order they were read, so the entries and errors are in file order.
+        for (CompletableFuture<ParsedChunk> chunk : chunks) {
+            ParsedChunk parsed = chunk.join();
+            models.addAll(parsed.models);
+
+            for (String error : parsed.errors) {
+                if (errorCount++ < MAX_REPORTED_ERRORS) {
+                    System.out.println("[WARNING] " + error + " Skipping entry.");
+                }
+            }
+        }
+
+        if (errorCount > MAX_REPORTED_ERRORS) {
+            System.out.println(String.format("[WARNING] Skipped %d more invalid entries.", errorCount - MAX_REPORTED_ERRORS));
+        }
+
+        return persistData(loadableType, models);
     }
 
     /**
@@ -140,155 +194,72 @@ public class Database {
     }
 
     /**
-     * Processes an entry in the CSV file and converts it into a model.
+     * Parses a chunk of lines of the CSV file on the common pool.
      * 
-     * @param loadableType the type of model to process.
-     * @param values the values of the entry.
-     * @return the model if the entry is successfully processed; {@code null} otherwise.
+     * @param plan the plan that binds the entries to models.
+     * @param lines the lines of the chunk.
+     * @param firstLineNumber the line number of the first line of the chunk.
+     * @return the future of the parsed chunk.
      */
-    private static BaseModel processEntry(LoadableType loadableType, String[] values) {
-        if (values.length < loadableType.getHeaders().length) {
-            System.out.println("[WARNING] The number of fields in the entry is less than the number of headers. Skipping entry.");
-            return null;
-        }
-
-        Class<? extends BaseModel> clazz = loadableType.getModelClass();
-        String[] headers = loadableType.getHeaders();
+    private static CompletableFuture<ParsedChunk> parseAsync(ImportPlan plan, List<String> lines, int firstLineNumber) {
+        return CompletableFuture.supplyAsync(() -> {
+            ParsedChunk parsed = new ParsedChunk();
 
-        Class<?>[] parameterTypes = new Class<?>[headers.length + 1];
-        parameterTypes[0] = String.class;
+            for (int i = 0; i < lines.size(); i++) {
+                String line = lines.get(i);
 
-        Object[] initargs = new Object[values.length + 1];
-        // Set ID as null for repository to generate
-        initargs[0] = null;
-
-        try {
-            for (int i = 0; i < values.length; i++) {
-                if (values[i].equals("")) {
-                    System.out.println(String.format("[WARNING] The field '%s' is empty. Skipping entry.", headers[i], i));
-                    return null;
-                }
-    
-                Field field;
-                try {
-                    field = clazz.getDeclaredField(headers[i]);
-                } catch (NoSuchFieldException e) {
-                    Class<?> superclass = clazz.getSuperclass();
-    
-                    try {
-                        field = superclass.getDeclaredField(headers[i]);
-
-                    } catch (NoSuchFieldException e2) {
-                        System.out.println(String.format("[WARNING] The field '%s' does not exist in the model. Skipping entry.", headers[i]));
-                        return null;
-                    }
+                if (line.isBlank()) {
+                    continue;
                 }
 
-
-                Class<?> fieldType = field.getType();
-                parameterTypes[i + 1] = fieldType;
-    
-                Object convertedValue = convertValue(fieldType, values[i]);
-
-                if (convertedValue == null) {
-                    System.out.println(String.format("[WARNING] The field '%s' has an invalid value. Skipping entry.", headers[i]));
-                    return null;
+                try {
+                    parsed.models.add(plan.bind(Csv.split(line)));
+                } catch (IllegalArgumentException e) {
+                    parsed.errors.add(String.format("Line %d: %s", firstLineNumber + i, e.getMessage()));
                 }
-
-                initargs[i + 1] = convertedValue;
             }
-    
-            Constructor<? extends BaseModel> constructor = clazz.getConstructor(parameterTypes);
-            BaseModel model = constructor.newInstance(initargs);
-            
-            return model;
 
-        } catch (Exception e) {
-            return null;
-        }
+            return parsed;
+        });
     }
     
     /**
-     * Persists the data to the database.
+     * Persists the data to the database as a single batch.
      * 
+     * @param loadableType the type of the models to persist.
      * @param models the list of models to persist.
+     * @return {@code true} if the models were persisted; {@code false} otherwise.
      */
-    private static void persistData(List<BaseModel> models) {
+    private static boolean persistData(LoadableType loadableType, List<BaseModel> models) {
         if (models.size() == 0) {
-            return;
+            System.out.println("[WARNING] The file does not have any valid entries.");
+            return false;
         }
 
-        BaseModel firstModel = models.get(0);
-        System.out.println(String.format("[INFO] Persisting %d entry of %s to the database.", models.size(), firstModel.getClass().getSimpleName()));
+        System.out.println(String.format("[INFO] Persisting %d entry of %s to the database.", models.size(), loadableType.getModelClass().getSimpleName()));
 
-        if (firstModel instanceof InventoryItem) {
-            InventoryRepository inventoryRepository = new InventoryRepository();
-            inventoryRepository.save(models.stream().map(model -> (InventoryItem) model).toList());
+        if (loadableType == LoadableType.INVENTORY) {
+            IInventoryRepository inventoryRepository = ServiceLocator.getService(IInventoryRepository.class);
+            return inventoryRepository.save(models.stream().map(model -> (InventoryItem) model).toList()) != null;
         }
 
-        UserRepository userRepository = new UserRepository();
-        userRepository.save(models.stream().map(model -> (User) model).toList());
+        IUserRepository userRepository = ServiceLocator.getService(IUserRepository.class);
+        return userRepository.save(models.stream().map(model -> (User) model).toList()) != null;
     }
 
     /**
-     * Converts a string value to the specified field type.
-     * 
-     * @param fieldType the type of the field.
-     * @param value the value to convert.
-     * @return the converted value if successful; {@code null} otherwise.
+     * The models and errors parsed from a chunk of lines of a CSV file.
      */
-    private static Object convertValue(Class<?> fieldType, String value) {
-        if (fieldType == int.class || fieldType == Integer.class) {
-            return Integer.parseInt(value);
-
-        } else if (fieldType == double.class || fieldType == Double.class) {
-            return Double.parseDouble(value);
-
-        } else if (fieldType == boolean.class || fieldType == Boolean.class) {
-            return Boolean.parseBoolean(value);
-
-        } else if (fieldType == String.class) {
-            return value;
-
-        } else if (fieldType == LocalDate.class) {
-            return LocalDate.parse(value, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-        
-        } else if (fieldType == Gender.class) {
-            if (value.equalsIgnoreCase("m") || value.equalsIgnoreCase("male")) {
-                return Gender.MALE;
-            } else if (value.equalsIgnoreCase("f") || value.equalsIgnoreCase("female")) {
-                return Gender.FEMALE;
-            } else {
-                return null;
-            }
-
-        } else if (fieldType == Specialisation.class) {
-            try {
-                return Specialisation.valueOf(value.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                return null;
-            }
-
-        } else if (fieldType == BloodType.class) {
-            switch (value.toLowerCase()) {
-                case "a+":
-                    return BloodType.A_POSITIVE;
-                case "a-":
-                    return BloodType.A_NEGATIVE;
-                case "b+":
-                    return BloodType.B_POSITIVE;
-                case "b-":
-                    return BloodType.B_NEGATIVE;
-                case "o+":
-                    return BloodType.O_POSITIVE;
-                case "o-":
-                    return BloodType.O_NEGATIVE;
-                default:
-                    return null;
-            }
-        }
+    private static class ParsedChunk {
+        /**
+         * The models bound from the valid entries, in file order.
+         */
+        private final List<BaseModel> models = new ArrayList<BaseModel>();
 
-        return null;
+        /**
+         * The errors of the invalid entries, in file order.
+         */
+        private final List<String> errors = new ArrayList<String>();
     }
 
     /**
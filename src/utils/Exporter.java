@@ -0,0 +1,344 @@
+package utils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import model.BaseModel;
+import model.appointments.Appointment;
+import model.appointments.AppointmentOutcomeRecord;
+import model.enums.UserRole;
+import model.medrecord.MedicalRecordEntry;
+import model.prescriptions.Prescription;
+import model.users.Doctor;
+import model.users.Patient;
+import model.users.User;
+import repository.interfaces.IAppointmentRepository;
+import repository.interfaces.IInventoryRepository;
+import repository.interfaces.IMedicalRecordRepository;
+import repository.interfaces.IUserRepository;
+import services.ServiceLocator;
+import utils.enums.ExportFormat;
+import utils.enums.LoadableType;
+
+/**
+ * The {@code Exporter} class provides utility methods for exporting the data in the database to
+ * CSV or NDJSON files, for reporting and backup.
+ *
+ * <p>The items are streamed from the read-only views of the repositories through a buffered
+ * writer one at a time, so no copy of the repositories is made and the memory used does not
+ * grow with the size of the export. The CSV files of the users and inventory have the same
+ * headers as their {@link LoadableType}, so that they can be loaded back into the database with
+ * {@link Database#load(Database.LoadableFile)}. Since the IDs are generated when the entries are
+ * loaded, the IDs are only included in the NDJSON files of these.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class Exporter {
+    /**
+     * The directory where the exports are written, relative to the current working directory.
+     */
+    public static final String EXPORT_DIRECTORY = "exports";
+
+    /**
+     * The format of the dates in the CSV files, which is the format expected by {@link Database}.
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    /**
+     * The format of the name of the directory of each export.
+     */
+    private static final DateTimeFormatter DIRECTORY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * The private constructor of the {@link Exporter} class to prevent instantiation.
+     */
+    private Exporter() {}
+
+    /**
+     * Exports the users, inventory, appointments and medical records in the database to a new
+     * directory under {@link #EXPORT_DIRECTORY}, with one file for each kind of item.
+     *
+     * @param format the format to export to.
+     * @return the directory of the export, or {@code null} if the export failed.
+     */
+    public static File exportAll(ExportFormat format) {
+        File parent = new File(System.getProperty("user.dir"), EXPORT_DIRECTORY);
+        String timestamp = LocalDateTime.now().format(DIRECTORY_FORMAT);
+        File directory = new File(parent, timestamp);
+
+        // Exports within the same second are written to their own directories.
+        for (int i = 2; directory.exists(); i++) {
+            directory = new File(parent, timestamp + "-" + i);
+        }
+
+        if (!directory.mkdirs()) {
+            System.out.println("[ERROR] Could not create the export directory " + directory.getPath() + ".");
+            return null;
+        }
+
+        IUserRepository userRepository = ServiceLocator.getService(IUserRepository.class);
+
+        try {
+            export(directory, "admin", format, LoadableType.ADMIN,
+                userRepository.viewByRole(UserRole.ADMIN), Exporter::userColumns);
+
+            export(directory, "doctor", format, LoadableType.DOCTOR,
+                userRepository.viewByRole(UserRole.DOCTOR), Exporter::doctorColumns);
+
+            export(directory, "pharmacist", format, LoadableType.PHARMACIST,
+                userRepository.viewByRole(UserRole.PHARMACIST), Exporter::userColumns);
+
+            export(directory, "patient", format, LoadableType.PATIENT,
+                userRepository.viewByRole(UserRole.PATIENT), Exporter::patientColumns);
+
+            export(directory, "inventory", format, LoadableType.INVENTORY,
+                ServiceLocator.getService(IInventoryRepository.class).viewAll(),
+                item -> new Object[] {item.getItemName(), item.getStock(), item.getStockLevelAlert()});
+
+            export(directory, "appointments", format, new String[] {
+                "appointmentId", "status", "date", "time", "doctorId", "patientId",
+                "recordedDate", "consultationNotes", "services", "prescriptions"},
+                ServiceLocator.getService(IAppointmentRepository.class).viewAll(), Exporter::appointmentColumns);
+
+            export(directory, "medical_records", format, new String[] {
+                "entryId", "dateRecorded", "patientId", "doctorId",
+                "diagnosis", "treatmentPlan", "services", "prescriptions"},
+                ServiceLocator.getService(IMedicalRecordRepository.class).viewAll(), Exporter::medicalRecordColumns);
+
+        } catch (IOException e) {
+            System.out.println("[ERROR] An error occurred while writing the export: " + e.getMessage());
+            return null;
+        }
+
+        return directory;
+    }
+
+    /**
+     * Exports the items of a {@link LoadableType}, with the headers of the type. The IDs of the
+     * items are only written in the NDJSON format, as the first key {@code id}.
+     *
+     * @param <T> the type of the items.
+     * @param directory the directory of the export.
+     * @param name the name of the file without its extension.
+     * @param format the format to export to.
+     * @param loadableType the type that the items can be loaded back as.
+     * @param items the read-only view of the items.
+     * @param columns the function that gets the values of an item, one for each header.
+     * @throws IOException if the file could not be written.
+     */
+    private static <T extends BaseModel> void export(File directory, String name, ExportFormat format,
+        LoadableType loadableType, List<T> items, Function<T, Object[]> columns) throws IOException {
+
+        if (format == ExportFormat.CSV) {
+            export(directory, name, format, loadableType.getHeaders(), items, columns);
+            return;
+        }
+
+        String[] headers = loadableType.getHeaders();
+        String[] keys = new String[headers.length + 1];
+
+        keys[0] = "id";
+        System.arraycopy(headers, 0, keys, 1, headers.length);
+
+        export(directory, name, format, keys, items, item -> {
+            Object[] values = columns.apply(item);
+            Object[] row = new Object[values.length + 1];
+
+            row[0] = item.getId();
+            System.arraycopy(values, 0, row, 1, values.length);
+
+            return row;
+        });
+    }
+
+    /**
+     * Exports the items to a file, with one line for each item.
+     *
+     * @param <T> the type of the items.
+     * @param directory the directory of the export.
+     * @param name the name of the file without its extension.
+     * @param format the format to export to.
+     * @param headers the headers of the CSV file, or the keys of the NDJSON objects.
+     * @param items the read-only view of the items.
+     * @param columns the function that gets the values of an item, one for each header.
+     * @throws IOException if the file could not be written.
+     */
+    private static <T> void export(File directory, String name, ExportFormat format, String[] headers,
+        List<T> items, Function<T, Object[]> columns) throws IOException {
+
+        File file = new File(directory, name + "." + format.getExtension());
+
+        try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            JsonWriter json = new JsonWriter(out);
+
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(out, headers);
+            }
+
+            for (T item : items) {
+                Object[] values = columns.apply(item);
+
+                if (format == ExportFormat.CSV) {
+                    writeCsvLine(out, values);
+                } else {
+                    json.writeObject(headers, values);
+                    out.newLine();
+                }
+            }
+        }
+
+        System.out.println(String.format("[INFO] Exported %d entries to %s.", items.size(), file.getName()));
+    }
+
+    /**
+     * Writes a line of a CSV file.
+     *
+     * @param out the writer to write to.
+     * @param values the values of the line.
+     * @throws IOException if the line could not be written.
+     */
+    private static void writeCsvLine(Writer out, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+
+            out.write(Csv.quote(toCsv(values[i])));
+        }
+
+        out.write(System.lineSeparator());
+    }
+
+    /**
+     * Converts a value to a field of a CSV file. Dates are written in the format expected by
+     * {@link Database}, the elements of a collection are separated by {@code ;} and the values of
+     * a map are separated by {@code :}.
+     *
+     * @param value the value to convert.
+     * @return the field, or {@code null} if the value is {@code null}.
+     */
+    private static String toCsv(Object value) {
+        if (value == null) {
+            return null;
+
+        } else if (value instanceof LocalDate) {
+            return ((LocalDate) value).format(DATE_FORMAT);
+
+        } else if (value instanceof Collection) {
+            return ((Collection<?>) value).stream().map(Exporter::toCsv).collect(Collectors.joining(";"));
+
+        } else if (value instanceof Map) {
+            return ((Map<?, ?>) value).values().stream().map(Exporter::toCsv).collect(Collectors.joining(":"));
+        }
+
+        return value.toString();
+    }
+
+    /**
+     * Gets the values of an admin or pharmacist, in the order of their {@link LoadableType} headers.
+     *
+     * @param user the user.
+     * @return the values of the user.
+     */
+    private static Object[] userColumns(User user) {
+        return new Object[] {
+            user.getName(), user.getAge(), user.getPassword(), user.getGender().name(),
+            user.getDob(), user.getPhoneNumber(), user.getEmailAddress()};
+    }
+
+    /**
+     * Gets the values of a doctor, in the order of the {@link LoadableType#DOCTOR} headers.
+     *
+     * @param user the doctor.
+     * @return the values of the doctor.
+     */
+    private static Object[] doctorColumns(User user) {
+        Doctor doctor = (Doctor) user;
+
+        return new Object[] {
+            doctor.getName(), doctor.getAge(), doctor.getPassword(), doctor.getGender().name(),
+            doctor.getDob(), doctor.getPhoneNumber(), doctor.getEmailAddress(), doctor.getSpecialisation().name()};
+    }
+
+    /**
+     * Gets the values of a patient, in the order of the {@link LoadableType#PATIENT} headers.
+     *
+     * @param user the patient.
+     * @return the values of the patient.
+     */
+    private static Object[] patientColumns(User user) {
+        Patient patient = (Patient) user;
+
+        return new Object[] {
+            patient.getName(), patient.getAge(), patient.getPassword(), patient.getGender().name(),
+            patient.getDob(), patient.getWeight(), patient.getHeight(), patient.getPhoneNumber(),
+            patient.getEmailAddress(), patient.getBloodType().toString()};
+    }
+
+    /**
+     * Gets the values of an appointment, including its outcome if it has one.
+     *
+     * @param appointment the appointment.
+     * @return the values of the appointment.
+     */
+    private static Object[] appointmentColumns(Appointment appointment) {
+        AppointmentOutcomeRecord outcome = appointment.getOutcomeRecord();
+
+        return new Object[] {
+            appointment.getAppointmentId(), appointment.getStatus().name(),
+            appointment.getTimeSlot().getDate(), appointment.getTimeSlot().getTime(),
+            appointment.getDoctorId(), appointment.getPatientId(),
+            outcome == null ? null : outcome.getRecordedDate(),
+            outcome == null ? null : outcome.getConsultationNotes(),
+            outcome == null ? List.of() : outcome.getServices().stream().map(Enum::name).toList(),
+            outcome == null ? List.of() : outcome.getPrescriptions().stream().map(Exporter::prescriptionOf).toList()};
+    }
+
+    /**
+     * Gets the values of a medical record entry.
+     *
+     * @param entry the medical record entry.
+     * @return the values of the medical record entry.
+     */
+    private static Object[] medicalRecordColumns(MedicalRecordEntry entry) {
+        return new Object[] {
+            entry.getEntryId(), entry.getDateRecorded(), entry.getPatientId(), entry.getDoctorId(),
+            entry.getDiagnosis(), entry.getTreatmentPlan(),
+            entry.getMedicalServices().stream().map(Enum::name).toList(),
+            entry.getPrescription().stream().map(Exporter::prescriptionOf).toList()};
+    }
+
+    /**
+     * Gets the fields of a prescription, in a fixed order.
+     *
+     * @param prescription the prescription.
+     * @return the fields of the prescription by name.
+     */
+    private static Map<String, Object> prescriptionOf(Prescription prescription) {
+        Map<String, Object> fields = new LinkedHashMap<String, Object>();
+
+        fields.put("drugId", prescription.getDrugId());
+        fields.put("quantity", prescription.getQuantity());
+        fields.put("dosage", prescription.getDosage().getQuantity());
+        fields.put("unit", prescription.getDosage().getUnit().name());
+        fields.put("frequency", prescription.getFrequency().name());
+        fields.put("status", prescription.getStatus().name());
+
+        return fields;
+    }
+}
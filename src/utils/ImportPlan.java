@@ -0,0 +1,258 @@
+package utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import model.BaseModel;
+import model.enums.BloodType;
+import model.enums.Gender;
+import model.enums.Specialisation;
+import utils.enums.LoadableType;
+
+/**
+ * The binding plan that converts the columns of a CSV entry into a model of a {@link LoadableType}.
+ * The fields, constructor and column converters of the model are resolved by reflection once per
+ * {@link LoadableType}, so that binding an entry only converts its values and invokes the
+ * constructor through a {@link MethodHandle}.
+ *
+ * <p>A plan holds no mutable state, so it can bind entries from several threads at once.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class ImportPlan {
+    /**
+     * The format of the dates in the CSV files.
+     */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    /**
+     * The plans that were already resolved, by {@link LoadableType}.
+     */
+    private static final Map<LoadableType, ImportPlan> plans = new EnumMap<LoadableType, ImportPlan>(LoadableType.class);
+
+    /**
+     * The headers of the columns bound by the plan.
+     */
+    private final String[] headers;
+
+    /**
+     * The converter of each column into the type of the constructor parameter it is bound to.
+     * A converter returns {@code null} if the value is invalid.
+     */
+    private final List<Function<String, Object>> converters;
+
+    /**
+     * The constructor of the model, taking the ID followed by the converted columns as a single
+     * {@code Object[]} and returning a {@link BaseModel}.
+     */
+    private final MethodHandle constructor;
+
+    /**
+     * Constructs an {@link ImportPlan}.
+     * @param headers the headers of the columns bound by the plan.
+     * @param converters the converter of each column.
+     * @param constructor the spread constructor of the model.
+     */
+    private ImportPlan(String[] headers, List<Function<String, Object>> converters, MethodHandle constructor) {
+        this.headers = headers;
+        this.converters = converters;
+        this.constructor = constructor;
+    }
+
+    /**
+     * Gets the plan of a {@link LoadableType}, resolving it on first use.
+     * @param loadableType the type of model to bind.
+     * @return the plan of the type.
+     * @throws IllegalArgumentException if a header does not match a field of the model, or the model
+     * has no public constructor taking the ID followed by the fields in the order of the headers.
+     */
+    static synchronized ImportPlan of(LoadableType loadableType) {
+        ImportPlan plan = plans.get(loadableType);
+
+        if (plan == null) {
+            plan = resolve(loadableType);
+            plans.put(loadableType, plan);
+        }
+
+        return plan;
+    }
+
+    /**
+     * Binds the values of a CSV entry to a new model. The ID of the model is left {@code null} for
+     * the repository to generate.
+     * @param values the values of the entry.
+     * @return the model bound from the entry.
+     * @throws IllegalArgumentException if the entry does not have a valid value for every column,
+     * with a message that describes the offending column.
+     */
+    BaseModel bind(String[] values) {
+        if (values.length != headers.length) {
+            throw new IllegalArgumentException(String.format(
+                "Expected %d fields but found %d.", headers.length, values.length));
+        }
+
+        Object[] initargs = new Object[values.length + 1];
+
+        for (int i = 0; i < values.length; i++) {
+            String value = values[i].trim();
+
+            if (value.isEmpty()) {
+                throw new IllegalArgumentException(String.format("The field '%s' is empty.", headers[i]));
+            }
+
+            Object converted;
+
+            try {
+                converted = converters.get(i).apply(value);
+            } catch (RuntimeException e) {
+                converted = null;
+            }
+
+            if (converted == null) {
+                throw new IllegalArgumentException(String.format(
+                    "The field '%s' has an invalid value '%s'.", headers[i], value));
+            }
+
+            initargs[i + 1] = converted;
+        }
+
+        try {
+            return (BaseModel) constructor.invokeExact(initargs);
+        } catch (Throwable e) {
+            throw new IllegalArgumentException("The entry could not be constructed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolves the plan of a {@link LoadableType} by reflection.
+     * @param loadableType the type of model to bind.
+     * @return the resolved plan.
+     */
+    private static ImportPlan resolve(LoadableType loadableType) {
+        Class<? extends BaseModel> clazz = loadableType.getModelClass();
+        String[] headers = loadableType.getHeaders();
+
+        Class<?>[] parameterTypes = new Class<?>[headers.length + 1];
+        parameterTypes[0] = String.class;
+
+        List<Function<String, Object>> converters = new ArrayList<Function<String, Object>>(headers.length);
+
+        for (int i = 0; i < headers.length; i++) {
+            Class<?> fieldType = findField(clazz, headers[i]).getType();
+
+            parameterTypes[i + 1] = fieldType;
+            converters.add(converterOf(fieldType, headers[i]));
+        }
+
+        try {
+            MethodHandle constructor = MethodHandles.publicLookup()
+                .findConstructor(clazz, MethodType.methodType(void.class, parameterTypes))
+                .asSpreader(Object[].class, parameterTypes.length)
+                .asType(MethodType.methodType(BaseModel.class, Object[].class));
+
+            return new ImportPlan(headers, converters, constructor);
+
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException(String.format(
+                "The model %s has no constructor matching its headers.", clazz.getSimpleName()));
+        }
+    }
+
+    /**
+     * Finds a field declared by a class or any of its superclasses.
+     * @param clazz the class to search.
+     * @param name the name of the field.
+     * @return the field.
+     * @throws IllegalArgumentException if the field does not exist.
+     */
+    private static Field findField(Class<?> clazz, String name) {
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                continue;
+            }
+        }
+
+        throw new IllegalArgumentException(String.format(
+            "The field '%s' does not exist in the model %s.", name, clazz.getSimpleName()));
+    }
+
+    /**
+     * Gets the converter of a column into the given field type.
+     * @param fieldType the type of the field.
+     * @param header the header of the column.
+     * @return the converter, which returns {@code null} or throws if a value is invalid.
+     * @throws IllegalArgumentException if the field type is not supported.
+     */
+    private static Function<String, Object> converterOf(Class<?> fieldType, String header) {
+        if (fieldType == int.class || fieldType == Integer.class) {
+            return Integer::valueOf;
+
+        } else if (fieldType == double.class || fieldType == Double.class) {
+            return Double::valueOf;
+
+        } else if (fieldType == boolean.class || fieldType == Boolean.class) {
+            return Boolean::valueOf;
+
+        } else if (fieldType == String.class) {
+            return value -> value;
+
+        } else if (fieldType == LocalDate.class) {
+            return value -> LocalDate.parse(value, DATE_FORMAT);
+
+        } else if (fieldType == Gender.class) {
+            return ImportPlan::parseGender;
+
+        } else if (fieldType == Specialisation.class) {
+            return value -> Specialisation.valueOf(value.toUpperCase());
+
+        } else if (fieldType == BloodType.class) {
+            return ImportPlan::parseBloodType;
+        }
+
+        throw new IllegalArgumentException(String.format(
+            "The field '%s' has an unsupported type %s.", header, fieldType.getSimpleName()));
+    }
+
+    /**
+     * Parses a {@link Gender}, ie: {@code m}, {@code male}, {@code f} or {@code female}.
+     * @param value the value to parse.
+     * @return the gender, or {@code null} if the value is invalid.
+     */
+    private static Gender parseGender(String value) {
+        if (value.equalsIgnoreCase("m") || value.equalsIgnoreCase("male")) {
+            return Gender.MALE;
+        } else if (value.equalsIgnoreCase("f") || value.equalsIgnoreCase("female")) {
+            return Gender.FEMALE;
+        }
+
+        return null;
+    }
+
+    /**
+     * Parses a {@link BloodType}, ie: {@code A+} or {@code AB-}.
+     * @param value the value to parse.
+     * @return the blood type, or {@code null} if the value is invalid.
+     */
+    private static BloodType parseBloodType(String value) {
+        for (BloodType bloodType : BloodType.values()) {
+            if (bloodType.toString().equalsIgnoreCase(value)) {
+                return bloodType;
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,143 @@
+package utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A minimal streaming writer of JSON values. Values are written straight to the underlying
+ * {@link Writer} as they are given, so that nothing is accumulated in memory.
+ *
+ * <p>Strings, numbers, booleans, {@code null}, {@link Collection}s as arrays and {@link Map}s
+ * with string keys as objects are written as such. Any other value is written as the string of
+ * its {@link Object#toString()}.</p>
+ *
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class JsonWriter {
+    /**
+     * The writer to write the JSON to.
+     */
+    private final Writer out;
+
+    /**
+     * Constructs a {@link JsonWriter} that writes to the given writer.
+     * @param out the writer to write the JSON to.
+     */
+    public JsonWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Writes an object with the given keys and values, in order.
+     * @param keys the keys of the object.
+     * @param values the values of the object, one for each key.
+     * @throws IOException if the object could not be written.
+     */
+    public void writeObject(String[] keys, Object[] values) throws IOException {
+        out.write('{');
+
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+
+            writeString(keys[i]);
+            out.write(':');
+            writeValue(values[i]);
+        }
+
+        out.write('}');
+    }
+
+    /**
+     * Writes a value.
+     * @param value the value to write.
+     * @throws IOException if the value could not be written.
+     */
+    public void writeValue(Object value) throws IOException {
+        if (value == null) {
+            out.write("null");
+
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.write(value.toString());
+
+        } else if (value instanceof Collection) {
+            out.write('[');
+            boolean first = true;
+
+            for (Object element : (Collection<?>) value) {
+                if (!first) {
+                    out.write(',');
+                }
+
+                writeValue(element);
+                first = false;
+            }
+
+            out.write(']');
+
+        } else if (value instanceof Map) {
+            out.write('{');
+            boolean first = true;
+
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!first) {
+                    out.write(',');
+                }
+
+                writeString(String.valueOf(entry.getKey()));
+                out.write(':');
+                writeValue(entry.getValue());
+                first = false;
+            }
+
+            out.write('}');
+
+        } else {
+            writeString(value.toString());
+        }
+    }
+
+    /**
+     * Writes a string, escaping the characters that cannot appear in a JSON string.
+     * @param value the string to write.
+     * @throws IOException if the string could not be written.
+     */
+    private void writeString(String value) throws IOException {
+        out.write('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            switch (c) {
+                case '"':
+                    out.write("\\\"");
+                    break;
+                case '\\':
+                    out.write("\\\\");
+                    break;
+                case '\n':
+                    out.write("\\n");
+                    break;
+                case '\r':
+                    out.write("\\r");
+                    break;
+                case '\t':
+                    out.write("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+
+        out.write('"');
+    }
+}
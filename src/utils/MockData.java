@@ -17,6 +17,7 @@ import model.enums.MedicalService;
 import model.enums.MedicineFrequency;
 import model.enums.Specialisation;
 import model.inventory.InventoryItem;
+import model.inventory.StockLot;
 import model.medrecord.MedicalRecordEntry;
 import model.prescriptions.MedicineDosage;
 import model.prescriptions.Prescription;
@@ -28,6 +29,7 @@ import repository.AdminRepository;
 import repository.AppointmentRepository;
 import repository.DoctorRepository;
 import repository.InventoryRepository;
+import repository.LotRepository;
 import repository.MedicalRecordRepository;
 import repository.PatientRepository;
 import repository.PharmacistRepository;
@@ -132,6 +134,16 @@ public final class MockData {
         inventoryRepository.save(new InventoryItem("I1008", "Simvastatin", 220, 60));
         inventoryRepository.save(new InventoryItem("I1009", "Lisinopril", 100, 55));
         inventoryRepository.save(new InventoryItem("I1010", "Levothyroxine", 20, 50));
+
+        LotRepository lotRepository = new LotRepository(inventoryRepository);
+        lotRepository.clear();
+
+        lotRepository.save(new StockLot("L1001", "I1001", 80, LocalDate.now().plusDays(20), LocalDate.now().minusDays(160)));
+        lotRepository.save(new StockLot("L1002", "I1001", 120, LocalDate.now().plusDays(200), LocalDate.now().minusDays(10)));
+        lotRepository.save(new StockLot("L1003", "I1003", 50, LocalDate.now().minusDays(2), LocalDate.now().minusDays(180)));
+        lotRepository.save(new StockLot("L1004", "I1003", 100, LocalDate.now().plusDays(150), LocalDate.now().minusDays(30)));
+        lotRepository.save(new StockLot("L1005", "I1004", 30, LocalDate.now().plusDays(12), LocalDate.now().minusDays(90)));
+        lotRepository.save(new StockLot("L1006", "I1007", 120, LocalDate.now().plusDays(365), LocalDate.now().minusDays(5)));
     }
 
     /**
@@ -0,0 +1,40 @@
+package utils.enums;
+
+/**
+ * An enum that represents the formats that the data can be exported to.
+ * 
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum ExportFormat {
+    /**
+     * Comma-separated values with a header line, which can be loaded back into the database.
+     */
+    CSV("csv"),
+    /**
+     * Newline-delimited JSON, with one object per line.
+     */
+    NDJSON("ndjson");
+
+    /**
+     * The extension of the exported files.
+     */
+    private final String extension;
+
+    /**
+     * Constructor for the {@link ExportFormat} class.
+     * @param extension the extension of the exported files.
+     */
+    private ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Gets the extension of the exported files.
+     * @return the extension of the exported files.
+     */
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -1,5 +1,8 @@
 package view.Admin;
 
+import java.util.List;
+
+import controller.interfaces.IInventoryManager;
 import controller.interfaces.IUserManager;
 import lib.uilib.framework.MenuOption;
 import lib.uilib.framework.TableRow;
@@ -8,6 +11,7 @@ import lib.uilib.widgets.base.Menu;
 import lib.uilib.widgets.base.Table;
 import lib.uilib.widgets.base.VSpacer;
 import model.enums.Gender;
+import model.inventory.StockAlert;
 import model.users.User;
 import services.Navigator;
 import services.ServiceLocator;
@@ -18,6 +22,7 @@ import view.Admin.inventory.AdminInventoryView;
 import view.Admin.inventory.AdminReplenishmentRequestView;
 import view.Admin.staff.AdminManageStaffView;
 import view.Login.LoginView;
+import view.widgets.StockAlertTable;
 import view.widgets.Title;
 
 
@@ -41,6 +46,16 @@ public class AdminView extends View {
      */
     private final IUserManager userManager = ServiceLocator.getService(IUserManager.class);
 
+    /**
+     * An instance of the {@link IInventoryManager} interface. Used to retrieve the stock level alerts.
+     */
+    private final IInventoryManager inventoryManager = ServiceLocator.getService(IInventoryManager.class);
+
+    /**
+     * The sequence number of the last stock level alert shown.
+     */
+    private long lastAlertShown = 0;
+
     /**
      * Gets the name of the view for the breadcrumbs.
      * 
@@ -69,6 +84,14 @@ public class AdminView extends View {
                         activeUser.getGender().toString(), String.valueOf(activeUser.getAge())))
                 .paint(context);
 
+        List<StockAlert> alerts = inventoryManager.getStockAlertsSince(lastAlertShown);
+
+        if (!alerts.isEmpty()) {
+            new VSpacer(1).paint(context);
+            new StockAlertTable(alerts).paint(context);
+            lastAlertShown = alerts.get(alerts.size() - 1).getSequence();
+        }
+
         new VSpacer(1).paint(context);
 
         new Menu(new MenuOption("View and Manage Hospital Staff", () -> Navigator.navigateTo(new AdminManageStaffView())),
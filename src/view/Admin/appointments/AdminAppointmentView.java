@@ -129,6 +129,6 @@ public class AdminAppointmentView extends View {
      * @return the name of the user.
      */
     private String getNameById(String id) {
-        return userManager.getUser(id).getName();
+        return userManager.viewUser(id).getName();
     }
 }
@@ -1,5 +1,6 @@
 package view.Admin.database;
 
+import java.io.File;
 import java.util.List;
 
 import lib.uilib.framework.MenuOption;
@@ -12,13 +13,15 @@ import lib.uilib.widgets.base.VSpacer;
 import services.Navigator;
 import utils.Database;
 import utils.Database.LoadableFile;
+import utils.Exporter;
+import utils.enums.ExportFormat;
 import view.View;
 import view.widgets.Title;
 
 /**
  * The {@link AdminManageDatabaseView} class is responsible for providing an interface
  * to manage the database from the admin's perspective. It allows the admin to load
- * data from a file into the application.
+ * data from a file into the application, and to export the data of the application to files.
 
  * The class extends {@link View} and implements the rendering logic for the 
  * "Manage Database" section of the application.
@@ -49,7 +52,7 @@ public class AdminManageDatabaseView extends View {
      * <ul>
      * <li>Breadcrumb navigation</li>
      * <li>Title for "Manage Database"</li>
-     * <li>A menu with an option to load data from a file</li>
+     * <li>A menu with options to load data from a file and to export data to files</li>
      * </ul>
      * 
      * This method initializes and paints the user interface components for 
@@ -62,7 +65,8 @@ public class AdminManageDatabaseView extends View {
         new VSpacer(1).paint(context);
 
         new Menu(
-            new MenuOption("Load from file", this::loadFromFile)
+            new MenuOption("Load from file", this::loadFromFile),
+            new MenuOption("Export to files", this::exportToFiles)
         ).readOption(context);
     }
 
@@ -109,4 +113,37 @@ public class AdminManageDatabaseView extends View {
 
         Navigator.pop();
     }
+
+    /**
+     * Handles the exporting of data to files. It allows the user to choose the format to
+     * export to, and exports all the data in the database to a new directory under
+     * {@link Exporter#EXPORT_DIRECTORY}.
+     * 
+     * <p>After the operation is complete, the directory of the export or an error message
+     * is shown, and the user can press any key to go back to the previous view.</p>
+     */
+    private void exportToFiles() {
+        clearLines(7);
+        new VSpacer(1).paint(context);
+        new Title("Export to files").paint(context);
+        new VSpacer(1).paint(context);
+
+        new Title("Choose a format to export to").paint(context);
+        new VSpacer(1).paint(context);
+        File[] directory = {null};
+
+        new Menu(
+            new MenuOption("CSV", () -> directory[0] = Exporter.exportAll(ExportFormat.CSV)),
+            new MenuOption("NDJSON", () -> directory[0] = Exporter.exportAll(ExportFormat.NDJSON))
+        ).readOption(context);
+
+        if (directory[0] != null) {
+            new Text("Exported data to " + directory[0].getPath(), TextStyle.BOLD).paint(context);
+            new Pause("Succesfully exported data. Press any key to go back.").pause(context);
+        } else {
+            new Pause("Failed exporting data. Press any key to go back.").pause(context);
+        }
+
+        Navigator.pop();
+    }
 }
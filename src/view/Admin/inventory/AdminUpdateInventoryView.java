@@ -59,16 +59,18 @@ public class AdminUpdateInventoryView extends View {
 
         new VSpacer(1).paint(context);
 
-        TextInputField selectField = new TextInputField("Select field to update (1-2)");
-        new TextInput(selectField).read(context, "Choose either stock or stock level alert to update",
-            (input) -> InputValidators.validateRange(input, 2));
+        TextInputField selectField = new TextInputField("Select field to update (1-3)");
+        new TextInput(selectField).read(context, "Choose either stock, stock level alert or a new lot to update",
+            (input) -> InputValidators.validateRange(input, 3));
 
         new VSpacer(1).paint(context);
 
         if (selectField.getOption() == 0) {
             promptUpdateStock();
-        } else {
+        } else if (selectField.getOption() == 1) {
             promptUpdateStockLevelAlert();
+        } else {
+            promptReceiveLot();
         }
 
         clear();
@@ -76,7 +78,7 @@ public class AdminUpdateInventoryView extends View {
         // Repaint the view with the changes
         new Breadcrumbs().paint(context);
         new Title("Update Inventory Item");
-        new InventoryItemUpdateTable(item).paint(context);
+        new InventoryItemUpdateTable(inventoryManager.getItem(item.getId())).paint(context);
 
         new Pause("Inventory item has been updated. Press any key to continue.").pause(context);
         Navigator.pop();
@@ -103,5 +105,20 @@ public class AdminUpdateInventoryView extends View {
         
         inventoryManager.updateStockLevelAlert(item, stockLevelAlertField.getInt());
     }
+
+    /**
+     * Prompts the admin to receive a new lot of the inventory item, adding its quantity to the stock.
+     */
+    private void promptReceiveLot() {
+        TextInputField quantityField = new TextInputField("Enter quantity received");
+        new TextInput(quantityField).read(context, "Enter a valid quantity.", 
+            (input) -> InputValidators.validateQuantity(input));
+
+        TextInputField expiryField = new TextInputField("Enter expiry date (dd/MM/yy)");
+        new TextInput(expiryField).read(context, "Enter a valid date in the future.", 
+            (input) -> InputValidators.validateFutureDate(input, "dd/MM/yy"));
+
+        inventoryManager.receiveLot(item.getId(), quantityField.getInt(), expiryField.getDate());
+    }
     
 }
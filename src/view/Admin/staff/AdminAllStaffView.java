@@ -82,6 +82,6 @@ public class AdminAllStaffView extends View {
             return staffManager.getAllStaff();
         }
 
-        return staffManager.findStaffByKeywords(keyword);
+        return staffManager.viewStaffByKeywords(keyword);
     }
 }
@@ -3,6 +3,7 @@ package view.Admin.staff;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import controller.interfaces.IStaffManager;
 import services.ServiceLocator;
@@ -105,8 +106,7 @@ public class AdminUpdateStaffDetailsView extends View {
         TextInputField nameField = new TextInputField("Enter the staff's new name");
         new TextInput(nameField).read(context, "Enter a non-empty staff name.", input -> !input.trim().isEmpty());
 
-        staff.setName(nameField.getValue());
-        staffManager.updateStaff(staff);
+        update(current -> current.setName(nameField.getValue()));
     }
 
     /**
@@ -116,8 +116,7 @@ public class AdminUpdateStaffDetailsView extends View {
         TextInputField ageField = new TextInputField("Enter the staff's new age");
         new TextInput(ageField).read(context, "Enter a valid age.", input -> InputValidators.validateAge(input));
 
-        staff.setAge(ageField.getAge());
-        staffManager.updateStaff(staff);
+        update(current -> current.setAge(ageField.getAge()));
     }
 
     /**
@@ -127,8 +126,7 @@ public class AdminUpdateStaffDetailsView extends View {
         TextInputField passwordField = new TextInputField("Enter the staff's new password");
         new TextInput(passwordField).read(context, "Enter a valid password.", input -> !input.isEmpty());
 
-        staff.setPassword(passwordField.getValue());
-        staffManager.updateStaff(staff);
+        update(current -> current.setPassword(passwordField.getValue()));
     }
 
     /**
@@ -143,8 +141,7 @@ public class AdminUpdateStaffDetailsView extends View {
             new MenuOption("Female", () -> gender [0]= Gender.FEMALE)
         ).readOption(context);
 
-        staff.setGender(gender[0]);
-        staffManager.updateStaff(staff);
+        update(current -> current.setGender(gender[0]));
     }
 
     /**
@@ -154,8 +151,7 @@ public class AdminUpdateStaffDetailsView extends View {
         TextInputField birthdayField = new TextInputField("Enter the staff's new birthday (yyyy-MM-dd)");
         new TextInput(birthdayField).read(context, "Enter a valid date.", input -> InputValidators.validateDate(input));
 
-        staff.setDob(birthdayField.getDate("yyyy-MM-dd"));
-        staffManager.updateStaff(staff);
+        update(current -> current.setDob(birthdayField.getDate("yyyy-MM-dd")));
     }
 
     /**
@@ -165,8 +161,7 @@ public class AdminUpdateStaffDetailsView extends View {
         TextInputField emailField = new TextInputField("Enter the staff's new email address");
         new TextInput(emailField).read(context, "Enter a valid email address.", input -> InputValidators.validateEmail(input));
 
-        staff.setEmailAddress(emailField.getValue());
-        staffManager.updateStaff(staff);
+        update(current -> current.setEmailAddress(emailField.getValue()));
     }
 
     /**
@@ -176,8 +171,7 @@ public class AdminUpdateStaffDetailsView extends View {
         TextInputField phoneNumberField = new TextInputField("Enter the staff's new phone number");
         new TextInput(phoneNumberField).read(context, "Enter a valid phone number.", input -> InputValidators.validatePhoneNumber(input));
 
-        staff.setPhoneNumber(phoneNumberField.getValue());
-        staffManager.updateStaff(staff);
+        update(current -> current.setPhoneNumber(phoneNumberField.getValue()));
     }
 
     /**
@@ -196,7 +190,19 @@ public class AdminUpdateStaffDetailsView extends View {
                 () -> specialisation[0] = spz)).toArray(MenuOption[]::new)
         ).readOption(context);
 
-        ((Doctor) staff).setSpecialisation(specialisation[0]);
-        staffManager.updateStaff(staff);
+        update(current -> ((Doctor) current).setSpecialisation(specialisation[0]));
+    }
+
+    /**
+     * Makes a change to the staff member's details, on a fresh copy of the staff member if they were
+     * updated meanwhile, and shows the updated staff member.
+     * @param change the change to make to the staff member.
+     */
+    private void update(Consumer<User> change) {
+        User updated = staffManager.updateStaff(staff, change);
+
+        if (updated != null) {
+            staff = updated;
+        }
     }
 }
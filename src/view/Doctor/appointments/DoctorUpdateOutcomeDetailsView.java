@@ -35,7 +35,7 @@ import services.ServiceLocator;
 import controller.interfaces.IUserManager;
 import controller.interfaces.IMedicalRecordManager;
 import controller.interfaces.IInventoryManager;
-import controller.interfaces.IAppointmentManager;
+import controller.interfaces.IReservationManager;
 
 /**
  * {@link DoctorUpdateOutcomeDetailsView} is a {@link View} that allows doctors to update
@@ -62,9 +62,9 @@ public class DoctorUpdateOutcomeDetailsView extends View {
     private final IInventoryManager inventoryManager = ServiceLocator.getService(IInventoryManager.class);
 
     /**
-     * An instance of appointment manager used to manage appointments.
+     * An instance of the {@link IReservationManager} class. Used to check the stock available to prescribe.
      */
-    private final IAppointmentManager appointmentManager = ServiceLocator.getService(IAppointmentManager.class);
+    private final IReservationManager reservationManager = ServiceLocator.getService(IReservationManager.class);
 
     /**
      * The {@link Appointment} for which the outcome is being updated.
@@ -167,10 +167,14 @@ public class DoctorUpdateOutcomeDetailsView extends View {
             repaint();
         }        
 
-        AppointmentOutcomeRecord outcomeRecord =
-             appointmentManager.updateAppointmentOutcome(appointment, consultationNotes, prescriptions, services);
-        
-        recordManager.createMedicalRecordFromOutcome(patient, doctor, outcomeRecord);
+        AppointmentOutcomeRecord outcomeRecord = recordManager.recordAppointmentOutcome(
+            appointment, patient, doctor, consultationNotes, prescriptions, services);
+
+        if (outcomeRecord == null) {
+            new Pause("The outcome could not be saved, or the prescribed stock is no longer available. Press any key to go back.").pause(context);
+            Navigator.pop();
+            return;
+        }
         
         new Pause("Completed. Press any key to go back.").pause(context);
         Navigator.pop();
@@ -266,9 +270,15 @@ public class DoctorUpdateOutcomeDetailsView extends View {
         new Menu(dosageOptions.toArray(MenuOption[]::new)).readOption(context);
         
         new VSpacer(1).paint(context);
-        TextInputField prescribedQtyField = new TextInputField("Enter quantity to prescribe");
-        new TextInput(prescribedQtyField).read(context, "Enter a valid item quantity.",
-            (input) -> InputValidators.validateQuantity(input));
+        // The stock already prescribed in this outcome is not yet reserved.
+        final int available = reservationManager.getAvailableToPromise(drug.getId()) - prescriptions.stream()
+            .filter(prescribed -> prescribed.getDrugId().equals(drug.getId()))
+            .mapToInt(Prescription::getQuantity)
+            .sum();
+
+        TextInputField prescribedQtyField = new TextInputField(String.format("Enter quantity to prescribe (%d available)", Math.max(0, available)));
+        new TextInput(prescribedQtyField).read(context, "Enter a valid item quantity within the available stock.",
+            (input) -> InputValidators.validateQuantity(input) && Integer.parseInt(input) <= available);
 
         MedicineDosage dosage = new MedicineDosage(dosageField[0].getInt(), selectedUnit[0]);
         return new Prescription(drug.getId(), prescribedQtyField.getInt(), dosage, selectedFreq[0]);
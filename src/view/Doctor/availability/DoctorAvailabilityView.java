@@ -45,7 +45,7 @@ public class DoctorAvailabilityView extends View {
     /**
      * The {@link Doctor} for whom the view is managing availability.
      */
-    private final Doctor doctor;
+    private Doctor doctor;
 
     /**
      * Constructs a new {@link DoctorAvailabilityView} for a given doctor.
@@ -123,8 +123,8 @@ public class DoctorAvailabilityView extends View {
         new TextInput(endField).read(context, "Enter a valid time in the 24 hour format.",
             (input) -> InputValidators.validateTime(input));
 
-        doctorManager.setDoctorAvailability(doctor, 
-            DayOfWeek.of(dayField.getInt()), new TimePeriod(startField.getTime(), endField.getTime()));
+        updateDoctor(doctorManager.setDoctorAvailability(doctor, 
+            DayOfWeek.of(dayField.getInt()), new TimePeriod(startField.getTime(), endField.getTime())));
     }
 
     /**
@@ -153,8 +153,8 @@ public class DoctorAvailabilityView extends View {
         new TextInput(endField).read(context, "Enter a valid time in the 24 hour format.",
             (input) -> InputValidators.validateTime(input));
 
-        doctorManager.setDoctorAvailability(doctor, 
-        dateField.getDate(), new TimePeriod(startField.getTime(), endField.getTime()));
+        updateDoctor(doctorManager.setDoctorAvailability(doctor, 
+        dateField.getDate(), new TimePeriod(startField.getTime(), endField.getTime())));
     }
 
     /**
@@ -172,14 +172,25 @@ public class DoctorAvailabilityView extends View {
 
         if (InputValidators.validateFutureDate(daydateField.getValue())) {
             LocalDate date = LocalDate.parse(daydateField.getValue(), DateTimeFormatter.ofPattern("dd/MM/yy"));
-            doctorManager.clearDoctorAvailability(doctor, date);
+            updateDoctor(doctorManager.clearDoctorAvailability(doctor, date));
 
         } else {
             DayOfWeek day = DayOfWeek.of(daydateField.getInt());
-            doctorManager.clearDoctorAvailability(doctor, day);
+            updateDoctor(doctorManager.clearDoctorAvailability(doctor, day));
         }        
     }
 
+    /**
+     * Replaces the doctor shown by the view with its updated copy, if it was updated.
+     *
+     * @param updated the updated {@link Doctor}, or {@code null} if it was not updated.
+     */
+    private void updateDoctor(Doctor updated) {
+        if (updated != null) {
+            doctor = updated;
+        }
+    }
+
     /**
      * Builds a table displaying the general availability of the doctor.
      *
@@ -2,6 +2,7 @@ package view.Doctor.records;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,7 +54,7 @@ public class DoctorUpdateMedicalRecordDetailsView extends View {
     /**
      * The {@link MedicalRecordEntry} to update.
      */
-    private final MedicalRecordEntry entry;
+    private MedicalRecordEntry entry;
 
     /**
      * The {@link BuildContext} used to render the view.
@@ -123,8 +124,7 @@ public class DoctorUpdateMedicalRecordDetailsView extends View {
         TextInputField diagnosisField = new TextInputField("Enter new diagnosis");
         new TextInput(diagnosisField).read(context, "Enter a non-empty diagnosis.", input -> !input.trim().isEmpty());
 
-        entry.setDiagnosis(diagnosisField.getValue());
-        recordManager.updateRecord(entry);
+        update(current -> current.setDiagnosis(diagnosisField.getValue()));
     }
 
     /**
@@ -134,8 +134,7 @@ public class DoctorUpdateMedicalRecordDetailsView extends View {
         TextInputField treatmentPlanField = new TextInputField("Enter new treatment plan");
         new TextInput(treatmentPlanField).read(context, "Enter a non-empty treatment plan.", input -> !input.trim().isEmpty());
 
-        entry.setTreatmentPlan(treatmentPlanField.getValue());
-        recordManager.updateRecord(entry);
+        update(current -> current.setTreatmentPlan(treatmentPlanField.getValue()));
     }
 
     /**
@@ -172,12 +171,11 @@ public class DoctorUpdateMedicalRecordDetailsView extends View {
         prescription[0].dispense();
 
         // Add the new prescription to the existing list of prescriptions
-        List<Prescription> prescriptions = entry.getPrescription();
-        prescriptions.add(prescription[0]);
-        entry.setPrescription(prescriptions);
-        
-        // Update the record
-        recordManager.updateRecord(entry);
+        update(current -> {
+            List<Prescription> prescriptions = current.getPrescription();
+            prescriptions.add(prescription[0]);
+            current.setPrescription(prescriptions);
+        });
     }
 
     /**
@@ -257,13 +255,29 @@ public class DoctorUpdateMedicalRecordDetailsView extends View {
             return;
         }
 
-        // Add the new service to the existing list of services
-        List<MedicalService> medicalServices = entry.getMedicalServices();
-        medicalServices.add(serviceToAdd[0]);
-        entry.setMedicalServices(medicalServices);
+        // Add the new service to the existing list of services, unless it was added meanwhile
+        update(current -> {
+            List<MedicalService> medicalServices = current.getMedicalServices();
+
+            if (!medicalServices.contains(serviceToAdd[0])) {
+                medicalServices.add(serviceToAdd[0]);
+                current.setMedicalServices(medicalServices);
+            }
+        });
+    }
+
+    /**
+     * Makes a change to the medical record entry, on a fresh copy of the entry if it was updated
+     * meanwhile, and shows the updated entry.
+     *
+     * @param change the change to make to the entry.
+     */
+    private void update(Consumer<MedicalRecordEntry> change) {
+        MedicalRecordEntry updated = recordManager.updateRecord(entry, change);
 
-        // Update the record
-        recordManager.updateRecord(entry);
+        if (updated != null) {
+            entry = updated;
+        }
     }
 
     /**
@@ -1,5 +1,6 @@
 package view.Patient;
 
+import controller.interfaces.IPatientManager;
 import controller.interfaces.IUserManager;
 import lib.uilib.framework.MenuOption;
 import lib.uilib.framework.TableRow;
@@ -36,10 +37,15 @@ public class PatientView extends View {
      */
     private final IUserManager userManager = ServiceLocator.getService(IUserManager.class);
 
+    /**
+     * Manager for handling patient-related operations.
+     */
+    private final IPatientManager patientManager = ServiceLocator.getService(IPatientManager.class);
+
     /**
      * The currently active patient.
      */
-    private final Patient patient = (Patient) userManager.getActiveUser();
+    private Patient patient = (Patient) userManager.getActiveUser();
 
     /**
      * Gets the name of the view.
@@ -55,6 +61,13 @@ public class PatientView extends View {
      */
     @Override
     public void render() {
+        // The details of the patient may have been updated since the view was last rendered.
+        Patient updated = patientManager.getPatient(patient.getPatientId());
+
+        if (updated != null) {
+            patient = updated;
+        }
+
         new Breadcrumbs().paint(context);
         new Title("Welcome " + (patient.getGender() == Gender.MALE ? "Mr. " : "Mrs. ") + patient.getName()).paint(context);
 
@@ -63,6 +63,7 @@ public class PatientAppointmentView extends View {
         new Menu(
             new MenuOption("View appointment requests", () -> Navigator.navigateTo(new PatientPendingAppointmentsView(patient))),
             new MenuOption("Schedule an appointment", () -> Navigator.navigateTo(new PatientScheduleAppointmentView(patient))),
+            new MenuOption("Find the earliest available appointment", () -> Navigator.navigateTo(new PatientEarliestAppointmentView(patient))),
             new MenuOption("Reschedule an appointment", () -> Navigator.navigateTo(new PatientRescheduleAppointmentView(patient))),
             new MenuOption("Cancel an appointment", () -> Navigator.navigateTo(new PatientCancelAppointmentView(patient))),
             new MenuOption("View Past Appointments", () -> Navigator.navigateTo(new PatientPastAppointmentsView(patient))),
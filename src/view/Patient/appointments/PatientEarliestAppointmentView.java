@@ -0,0 +1,148 @@
+package view.Patient.appointments;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import controller.interfaces.IAppointmentManager;
+import lib.uilib.framework.MenuOption;
+import lib.uilib.framework.TextInputField;
+import lib.uilib.widgets.base.Breadcrumbs;
+import lib.uilib.widgets.base.Menu;
+import lib.uilib.widgets.base.Pause;
+import lib.uilib.widgets.base.TextInput;
+import lib.uilib.widgets.base.VSpacer;
+import model.appointments.AppointmentSlot;
+import model.enums.Specialisation;
+import model.users.Patient;
+import services.Navigator;
+import services.ServiceLocator;
+import utils.InputValidators;
+import view.View;
+import view.Patient.appointments.widgets.AppointmentScheduledStatus;
+import view.Patient.appointments.widgets.AppointmentSlotSelectionTable;
+import view.widgets.Title;
+
+/**
+ * View for scheduling an appointment at the earliest available slot across all doctors, 
+ * optionally of a given specialisation.
+ * 
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PatientEarliestAppointmentView extends View {
+    /**
+     * The number of earliest available slots shown to the patient.
+     */
+    private static final int SLOT_COUNT = 10;
+
+    /**
+     * Manager for handling appointment-related operations.
+     */
+    private final IAppointmentManager appointmentManager = ServiceLocator.getService(IAppointmentManager.class);
+
+    /**
+     * The patient scheduling the appointment.
+     */
+    private final Patient patient;
+
+    /**
+     * Constructs a new view for scheduling an appointment at the earliest available slot.
+     * 
+     * @param patient The patient scheduling the appointment.
+     */
+    public PatientEarliestAppointmentView(Patient patient) {
+        this.patient = patient;
+    }
+
+    /**
+     * Gets the name of the view for the breadcrumbs.
+     * 
+     * @return The name of the view.
+     */
+    @Override
+    public String getViewName() {
+        return "Earliest Appointment";
+    }
+
+    /**
+     * Renders the view to schedule an appointment at the earliest available slot. The user is 
+     * prompted to choose a specialisation, and then one of the earliest available slots.
+     */
+    @Override
+    public void render() {
+        new Breadcrumbs().paint(context);
+        new Title("Find Earliest Appointment").paint(context);
+        new VSpacer(1).paint(context);
+
+        final Specialisation specialisation = promptChooseSpecialisation();
+        new VSpacer(1).paint(context);
+
+        final AppointmentSlot appointmentSlot = promptChooseAppointmentSlot(specialisation);
+
+        if (appointmentSlot == null) {
+            new Pause("Press enter to go back.").pause(context);
+            Navigator.pop();
+            return;
+        }
+
+        // Schedule the appointment
+        appointmentManager.scheduleAppointment(appointmentSlot, patient);
+
+        /// Print the details of the newly scheduled appointment
+        clear();
+        new Breadcrumbs().paint(context);
+        new Title("Find Earliest Appointment").paint(context);
+        new VSpacer(1).paint(context);
+        AppointmentScheduledStatus.scheduled(appointmentSlot).paint(context);
+
+        new Pause().pause(context);
+        Navigator.pop();
+    }
+
+    /**
+     * Prompts the user to choose the specialisation of the doctor for the appointment.
+     * 
+     * @return The selected specialisation, or {@code null} for any specialisation.
+     */
+    private Specialisation promptChooseSpecialisation() {
+        new Title("Choose Specialisation").paint(context);
+
+        Specialisation[] specialisation = {null};
+        List<MenuOption> options = new ArrayList<MenuOption>();
+        options.add(new MenuOption("Any specialisation", () -> specialisation[0] = null));
+
+        for (Specialisation spz : Specialisation.values()) {
+            options.add(new MenuOption(spz.getValue(), () -> specialisation[0] = spz));
+        }
+
+        new Menu(options.toArray(MenuOption[]::new)).readOption(context);
+
+        return specialisation[0];
+    }
+
+    /**
+     * Prompts the user to choose one of the earliest available appointment slots.
+     * 
+     * @param specialisation The specialisation of the doctor, or {@code null} for any doctor.
+     * @return The selected appointment slot, or {@code null} if no slot is available.
+     */
+    private AppointmentSlot promptChooseAppointmentSlot(Specialisation specialisation) {
+        new Title("Earliest Available Appointment Slots").paint(context);
+        List<AppointmentSlot> appointmentSlots = appointmentManager.findEarliestSlots(SLOT_COUNT, specialisation);
+        new AppointmentSlotSelectionTable(appointmentSlots).paint(context);
+
+        if (appointmentSlots.isEmpty()) {
+            return null;
+        }
+
+        /// Choose an appointment slot
+        new VSpacer(1).paint(context);
+        TextInputField slotField = new TextInputField(
+                String.format("Choose an appointment slot (1-%d)", appointmentSlots.size()));
+        new TextInput(slotField).read(context, "Choose a slot from the list above.",
+                (input) -> InputValidators.validateRange(input, appointmentSlots.size()));
+
+        return appointmentSlots.get(slotField.getOption());
+    }
+}
@@ -2,6 +2,7 @@ package view.Patient.update;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import controller.interfaces.IPatientManager;
 import lib.uilib.framework.MenuOption;
@@ -38,7 +39,7 @@ public final class PatientUpdateDetailsView extends View {
     /**
      * The patient whose details are being updated.
      */
-    private final Patient patient;
+    private Patient patient;
 
     /**
      * Constructs a new view for updating patient details.
@@ -100,8 +101,7 @@ public final class PatientUpdateDetailsView extends View {
         TextInputField nameField = new TextInputField("Enter your new name");
         new TextInput(nameField).read(context, "Enter a non-empty name.", input -> !input.trim().isEmpty());
 
-        patient.setName(nameField.getValue());
-        patientManager.updatePatient(patient);
+        update(current -> current.setName(nameField.getValue()));
     }
 
     /**
@@ -111,8 +111,7 @@ public final class PatientUpdateDetailsView extends View {
         TextInputField ageField = new TextInputField("Enter the your new age");
         new TextInput(ageField).read(context, "Enter a valid age.", input -> InputValidators.validateAge(input));
 
-        patient.setAge(ageField.getAge());
-        patientManager.updatePatient(patient);
+        update(current -> current.setAge(ageField.getAge()));
     }
 
     /**
@@ -122,8 +121,7 @@ public final class PatientUpdateDetailsView extends View {
         TextInputField passwordField = new TextInputField("Enter the your new password");
         new TextInput(passwordField).read(context, "Enter a valid password.", input -> !input.isEmpty());
 
-        patient.setPassword(passwordField.getValue());
-        patientManager.updatePatient(patient);
+        update(current -> current.setPassword(passwordField.getValue()));
     }
 
     /**
@@ -138,8 +136,7 @@ public final class PatientUpdateDetailsView extends View {
             new MenuOption("Female", () -> gender [0]= Gender.FEMALE)
         ).readOption(context);
 
-        patient.setGender(gender[0]);
-        patientManager.updatePatient(patient);
+        update(current -> current.setGender(gender[0]));
     }
 
     /**
@@ -149,8 +146,7 @@ public final class PatientUpdateDetailsView extends View {
         TextInputField birthdayField = new TextInputField("Enter the your new birthday (yyyy-MM-dd)");
         new TextInput(birthdayField).read(context, "Enter a valid date.", input -> InputValidators.validateDate(input, "yyyy-MM-dd"));
 
-        patient.setDob(birthdayField.getDate("yyyy-MM-dd"));
-        patientManager.updatePatient(patient);
+        update(current -> current.setDob(birthdayField.getDate("yyyy-MM-dd")));
     }
 
     /**
@@ -160,8 +156,7 @@ public final class PatientUpdateDetailsView extends View {
         TextInputField emailField = new TextInputField("Enter the your new email address");
         new TextInput(emailField).read(context, "Enter a valid email address.", input -> InputValidators.validateEmail(input));
 
-        patient.setEmailAddress(emailField.getValue());
-        patientManager.updatePatient(patient);
+        update(current -> current.setEmailAddress(emailField.getValue()));
     }
 
     /**
@@ -171,7 +166,20 @@ public final class PatientUpdateDetailsView extends View {
         TextInputField phoneNumberField = new TextInputField("Enter the your new phone number");
         new TextInput(phoneNumberField).read(context, "Enter a valid phone number.", input -> InputValidators.validatePhoneNumber(input));
 
-        patient.setPhoneNumber(phoneNumberField.getValue());
-        patientManager.updatePatient(patient);
+        update(current -> current.setPhoneNumber(phoneNumberField.getValue()));
+    }
+
+    /**
+     * Makes a change to the patient's details, on a fresh copy of the patient if they were updated
+     * meanwhile, and shows the updated patient.
+     *
+     * @param change The change to make to the patient.
+     */
+    private void update(Consumer<Patient> change) {
+        Patient updated = patientManager.updatePatient(patient, change);
+
+        if (updated != null) {
+            patient = updated;
+        }
     }
 }
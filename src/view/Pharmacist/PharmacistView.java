@@ -1,6 +1,9 @@
 package view.Pharmacist;
 
+import java.util.List;
+
 import controller.UserManager;
+import controller.interfaces.IInventoryManager;
 import controller.interfaces.IUserManager;
 import lib.uilib.framework.MenuOption;
 import lib.uilib.framework.TableRow;
@@ -9,13 +12,17 @@ import lib.uilib.widgets.base.Menu;
 import lib.uilib.widgets.base.Table;
 import lib.uilib.widgets.base.VSpacer;
 import model.enums.Gender;
+import model.inventory.StockAlert;
 import model.users.User;
 import services.Navigator;
 import services.ServiceLocator;
 import view.View;
+import view.Pharmacist.inventory.PharmacistExpiringLotsView;
 import view.Pharmacist.inventory.PharmacistInventoryView;
 import view.Pharmacist.inventory.PharmacistReplenishmentRequestView;
+import view.Pharmacist.inventory.PharmacistReplenishmentSuggestionView;
 import view.Pharmacist.prescription.PharmacistPrescriptionView;
+import view.widgets.StockAlertTable;
 import view.widgets.Title;
 
 /**
@@ -37,6 +44,16 @@ public final class PharmacistView extends View {
      * An instance of the {@link UserManager} class. Used to retrieve the active user.
      */
     private final IUserManager userManager = ServiceLocator.getService(IUserManager.class);
+
+    /**
+     * An instance of the {@link IInventoryManager} interface. Used to retrieve the stock level alerts.
+     */
+    private final IInventoryManager inventoryManager = ServiceLocator.getService(IInventoryManager.class);
+
+    /**
+     * The sequence number of the last stock level alert shown.
+     */
+    private long lastAlertShown = 0;
     
     /**
      * Gets the name of the view for the breadcrumbs.
@@ -63,6 +80,14 @@ public final class PharmacistView extends View {
             activeUser.getGender().toString(), String.valueOf(activeUser.getAge()))
         ).paint(context);
 
+        List<StockAlert> alerts = inventoryManager.getStockAlertsSince(lastAlertShown);
+
+        if (!alerts.isEmpty()) {
+            new VSpacer(1).paint(context);
+            new StockAlertTable(alerts).paint(context);
+            lastAlertShown = alerts.get(alerts.size() - 1).getSequence();
+        }
+
         new VSpacer(1).paint(context);
 
         new Menu(
@@ -72,6 +97,10 @@ public final class PharmacistView extends View {
                 Navigator.navigateTo(new PharmacistInventoryView())),
             new MenuOption("Submit Replenishment Request", () -> 
                 Navigator.navigateTo(new PharmacistReplenishmentRequestView())),
+            new MenuOption("View Suggested Replenishments", () -> 
+                Navigator.navigateTo(new PharmacistReplenishmentSuggestionView())),
+            new MenuOption("View Expiring Lots", () -> 
+                Navigator.navigateTo(new PharmacistExpiringLotsView())),
             new MenuOption("Log Out", () -> Navigator.pop())
 
         ).readOption(context);
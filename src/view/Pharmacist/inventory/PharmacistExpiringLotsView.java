@@ -0,0 +1,72 @@
+package view.Pharmacist.inventory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import controller.InventoryManager;
+import controller.interfaces.IInventoryManager;
+import lib.uilib.widgets.base.Breadcrumbs;
+import lib.uilib.widgets.base.Pause;
+import lib.uilib.widgets.base.VSpacer;
+import model.inventory.InventoryItem;
+import model.inventory.StockLot;
+import services.Navigator;
+import services.ServiceLocator;
+import view.View;
+import view.Pharmacist.inventory.widget.LotTable;
+import view.widgets.Title;
+
+/**
+ * This view allows the pharmacist to view the lots of medications that expire within the next
+ * {@link #EXPIRY_WINDOW_DAYS} days, including the lots that have already expired, from the
+ * earliest expiry date.
+ * 
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PharmacistExpiringLotsView extends View {
+    /**
+     * The number of days from today within which the lots are shown.
+     */
+    private static final int EXPIRY_WINDOW_DAYS = 30;
+
+    /**
+     * Default constructor for the {@link PharmacistExpiringLotsView} class.
+     */
+    public PharmacistExpiringLotsView() {}
+
+    /**
+     * An instance of the {@link InventoryManager} class. Used to retrieve the expiring lots.
+     */
+    private final IInventoryManager inventoryManager = ServiceLocator.getService(IInventoryManager.class);
+
+    /**
+     * Gets the name of the view for the breadcrumbs.
+     * @return the name of the view.
+     */
+    @Override
+    public String getViewName() {
+       return "Expiring Lots";
+    }
+
+    /**
+     * Renders the view.
+     */
+    @Override
+    public void render() {
+        new Breadcrumbs().paint(context);
+        new Title(String.format("Lots Expiring Within %d Days", EXPIRY_WINDOW_DAYS)).paint(context);
+
+        final List<StockLot> lots = inventoryManager.getExpiringLots(EXPIRY_WINDOW_DAYS);
+        final Map<String, String> itemNames = inventoryManager.getAllItems().stream()
+            .collect(Collectors.toMap(InventoryItem::getId, InventoryItem::getItemName));
+
+        new LotTable(lots, itemNames).paint(context);
+        new VSpacer(1).paint(context);
+
+        new Pause("Press any key to go back.").pause(context);
+        Navigator.pop();
+    }
+}
@@ -1,9 +1,12 @@
 package view.Pharmacist.inventory;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import controller.InventoryManager;
 import controller.interfaces.IInventoryManager;
+import controller.interfaces.IReservationManager;
 import lib.uilib.framework.TextInputField;
 import lib.uilib.widgets.base.Breadcrumbs;
 import lib.uilib.widgets.base.TextInput;
@@ -33,6 +36,11 @@ public class PharmacistInventoryView extends View {
      * An instance of the {@link InventoryManager} class. Used to manage inventory items.
      */
     private final IInventoryManager inventoryManager = ServiceLocator.getService(IInventoryManager.class);
+
+    /**
+     * An instance of the {@link IReservationManager} class. Used to get the stock available to promise.
+     */
+    private final IReservationManager reservationManager = ServiceLocator.getService(IReservationManager.class);
     
     /**
      * A list of all medications in the inventory.
@@ -66,7 +74,10 @@ public class PharmacistInventoryView extends View {
         new Title("All Medications").paint(context);
 
         List<InventoryItem> filteredMedications = filterMedications(keyword);
-        new InventoryTable(filteredMedications).paint(context);
+        Map<String, Integer> availableToPromise = filteredMedications.stream()
+            .collect(Collectors.toMap(InventoryItem::getId, item -> reservationManager.getAvailableToPromise(item.getId())));
+
+        new InventoryTable(filteredMedications, availableToPromise).paint(context);
 
         new VSpacer(1).paint(context);
 
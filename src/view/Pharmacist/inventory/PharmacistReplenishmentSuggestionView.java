@@ -0,0 +1,116 @@
+package view.Pharmacist.inventory;
+
+import java.util.List;
+
+import controller.ForecastManager;
+import controller.InventoryManager;
+import controller.UserManager;
+import controller.interfaces.IForecastManager;
+import controller.interfaces.IInventoryManager;
+import controller.interfaces.IUserManager;
+import lib.uilib.framework.TextInputField;
+import lib.uilib.widgets.base.Breadcrumbs;
+import lib.uilib.widgets.base.Pause;
+import lib.uilib.widgets.base.TextInput;
+import lib.uilib.widgets.base.VSpacer;
+import model.inventory.ConsumptionForecast;
+import model.inventory.InventoryItem;
+import model.users.Pharmacist;
+import services.Navigator;
+import services.ServiceLocator;
+import utils.InputValidators;
+import view.View;
+import view.Pharmacist.inventory.widget.ForecastTable;
+import view.widgets.Title;
+
+/**
+ * This view allows the pharmacist to request the replenishments suggested from the forecast
+ * consumption of the medications. It displays the medications that should be replenished, from
+ * the earliest date to request them by, and requests the suggested quantity of the chosen medication.
+ * 
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class PharmacistReplenishmentSuggestionView extends View {
+
+    /**
+     * Default constructor for the {@link PharmacistReplenishmentSuggestionView} class.
+     */
+    public PharmacistReplenishmentSuggestionView() {}
+    
+    /**
+     * An instance of the {@link UserManager} class. Used to retrieve the active user.
+     */
+    private final IUserManager userManager = ServiceLocator.getService(IUserManager.class);
+    
+    /**
+     * An instance of the {@link InventoryManager} class. Used to request replenishments.
+     */
+    private final IInventoryManager inventoryManager = ServiceLocator.getService(IInventoryManager.class);
+
+    /**
+     * An instance of the {@link ForecastManager} class. Used to retrieve the suggested replenishments.
+     */
+    private final IForecastManager forecastManager = ServiceLocator.getService(IForecastManager.class);
+
+    /**
+     * Gets the name of the view for the breadcrumbs.
+     * @return the name of the view.
+     */
+    @Override
+    public String getViewName() {
+       return "Suggested Replenishments";
+    }
+
+    /**
+     * Renders the view.
+     */
+    @Override
+    public void render() {
+        new Breadcrumbs().paint(context);
+        new Title("Suggested Replenishments").paint(context);
+        
+        final List<ConsumptionForecast> suggestions = forecastManager.getReplenishmentSuggestions();
+        
+        new ForecastTable(suggestions).paint(context);
+        new VSpacer(1).paint(context);
+
+        if (suggestions.isEmpty()) {
+            new Pause("No replenishment suggested. Press any key to go back.").pause(context);
+            Navigator.pop();
+            return;
+        }
+
+        TextInputField medicationField = new TextInputField(String.format("Select a medication to request replenishment (1-%d)", suggestions.size()));
+        new TextInput(medicationField).read(context, "Choose a medication from the list above.",
+            (input) -> InputValidators.validateRange(input, suggestions.size()));
+
+        final ConsumptionForecast selectedSuggestion = suggestions.get(medicationField.getOption());
+        final InventoryItem selectedMedication = inventoryManager.getItem(selectedSuggestion.getItemId());
+
+        if (selectedMedication == null) {
+            new Pause("Medication no longer exists. Press any key to continue.").pause(context);
+            repaint();
+            return;
+        }
+
+        new VSpacer(1).paint(context);
+        TextInputField confirmationField = new TextInputField(
+            String.format("Confirm request of %dx %s (Y/N)", selectedSuggestion.getSuggestedQuantity(), selectedMedication.getItemName()));
+        new TextInput(confirmationField).read(context, "Y to Confirm. N to Cancel.",
+            (input) -> InputValidators.validateYesNo(input));
+
+        if (!confirmationField.getYesNo()) {
+            new Pause("Request cancelled. Press any key to go back.").pause(context);
+            Navigator.pop();
+            return;
+        }
+
+        inventoryManager.requestReplenishment((Pharmacist) userManager.getActiveUser(), selectedMedication, selectedSuggestion.getSuggestedQuantity());
+        
+        new Pause("Replenishment request submitted. Press any key to continue.").pause(context);
+        repaint();
+    }
+    
+}
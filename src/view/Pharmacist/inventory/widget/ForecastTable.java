@@ -0,0 +1,63 @@
+package view.Pharmacist.inventory.widget;
+
+import java.util.List;
+
+import lib.uilib.framework.BuildContext;
+import lib.uilib.framework.TableRow;
+import lib.uilib.framework.Widget;
+import lib.uilib.widgets.base.EnumeratedTable;
+import lib.uilib.widgets.base.Table;
+import model.inventory.ConsumptionForecast;
+
+/**
+ * The {@link ForecastTable} widget displays a table of the forecast consumption of inventory items.
+ * It displays the name, quantity, daily consumption, pending quantity and suggested replenishment of each item.
+ * 
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ForecastTable extends Widget {
+
+    /**
+     * The {@link List} of {@link ConsumptionForecast} to be displayed in the table.
+     */
+    private final List<ConsumptionForecast> forecasts;
+
+    /**
+     * Constructs a new {@link ForecastTable} with a given {@link List} of {@link ConsumptionForecast}.
+     * 
+     * @param forecasts the {@link List} of {@link ConsumptionForecast}.
+     */
+    public ForecastTable(List<ConsumptionForecast> forecasts) {
+        this.forecasts = forecasts;
+    }
+
+    /**
+     * Builds the table of forecasts.
+     * 
+     * @param context the {@link BuildContext} used to build the widget.
+     * @return a {@link String} representing the table of {@link ConsumptionForecast}.
+     */
+    @Override
+    public String build(BuildContext context) {
+        TableRow header = new TableRow("Name", "Quantity", "Daily Usage", "Pending", "Suggested", "Request By");
+
+        if (forecasts.isEmpty()) {
+            return new Table(new TableRow("No replenishment suggested")).build(context);
+        }
+
+        TableRow[] rows = forecasts.stream()
+            .map(forecast -> new TableRow(
+                forecast.getItemName(),
+                String.valueOf(forecast.getStock()),
+                String.format("%.1f", Math.max(forecast.getAverageDailyConsumption(), forecast.getSmoothedDailyConsumption())),
+                String.valueOf(forecast.getPendingDemand()),
+                forecast.hasSuggestion() ? String.valueOf(forecast.getSuggestedQuantity()) : "-",
+                forecast.hasSuggestion() ? forecast.getReorderDate().toString() : "-"
+            ))
+            .toArray(TableRow[]::new);
+
+        return EnumeratedTable.withHeader(header, rows).build(context);
+    }
+}
@@ -1,6 +1,7 @@
 package view.Pharmacist.inventory.widget;
 
 import java.util.List;
+import java.util.Map;
 
 import lib.uilib.widgets.base.EnumeratedTable;
 import lib.uilib.widgets.base.Table;
@@ -11,7 +12,8 @@ import lib.uilib.framework.Widget;
 
 /**
  * The {@link InventoryTable} widget displays a table of inventory items.
- * It displays the name, quantity, reorder level, stock level, and replenishment status of each item.
+ * It displays the name, quantity, reorder level, stock level, and replenishment status of each item,
+ * and the stock available to promise of each item if it is given.
  * 
  * @author Bryan Soong, Joyce Lee
  * @version 1.0
@@ -24,13 +26,30 @@ public class InventoryTable extends Widget {
      */
     private List<InventoryItem> medications;
 
+    /**
+     * The stock available to promise of each item by ID, or {@code null} if it is not displayed.
+     */
+    private Map<String, Integer> availableToPromise;
+
     /**
      * Constructs a new {@link InventoryTable} with a given {@link List} of {@link InventoryItem}.
      * 
      * @param medications the {@link List} of {@link InventoryItem}.
      */
     public InventoryTable(List<InventoryItem> medications) {
+        this(medications, null);
+    }
+
+    /**
+     * Constructs a new {@link InventoryTable} with a given {@link List} of {@link InventoryItem},
+     * displaying the stock available to promise of each item next to its quantity.
+     * 
+     * @param medications the {@link List} of {@link InventoryItem}.
+     * @param availableToPromise the stock available to promise of each item by ID.
+     */
+    public InventoryTable(List<InventoryItem> medications, Map<String, Integer> availableToPromise) {
         this.medications = medications;
+        this.availableToPromise = availableToPromise;
     }
 
     /**
@@ -41,11 +60,28 @@ public class InventoryTable extends Widget {
      */
     @Override
     public String build(BuildContext context) {
-        TableRow header = new TableRow("Name", "Quantity", "Reorder Level", "Stock Level", "Replenishment Status");
-
         if (medications.isEmpty()) {
             return new Table(new TableRow("No medications found")).build(context);
         }
+
+        if (availableToPromise != null) {
+            TableRow header = new TableRow("Name", "Quantity", "Available", "Reorder Level", "Stock Level", "Replenishment Status");
+
+            TableRow[] rows = medications.stream()
+                .map(medication -> new TableRow(
+                    medication.getItemName(),
+                    String.valueOf(medication.getStock()),
+                    String.valueOf(availableToPromise.getOrDefault(medication.getId(), 0)),
+                    String.valueOf(medication.getStockLevelAlert()),
+                    getStockLevel(medication),
+                    medication.getReplenishmentStatus().toString()
+                ))
+                .toArray(TableRow[]::new);
+
+            return EnumeratedTable.withHeader(header, rows).build(context);
+        }
+
+        TableRow header = new TableRow("Name", "Quantity", "Reorder Level", "Stock Level", "Replenishment Status");
         
         TableRow[] rows = medications.stream()
             .map(medication -> new TableRow(
@@ -0,0 +1,74 @@
+package view.Pharmacist.inventory.widget;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import lib.uilib.framework.BuildContext;
+import lib.uilib.framework.TableRow;
+import lib.uilib.framework.Widget;
+import lib.uilib.widgets.base.EnumeratedTable;
+import lib.uilib.widgets.base.Table;
+import model.inventory.StockLot;
+
+/**
+ * The {@link LotTable} widget displays a table of the lots of inventory items.
+ * It displays the ID, medication, quantity, expiry date and the days until each lot expires.
+ * 
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LotTable extends Widget {
+
+    /**
+     * The {@link List} of {@link StockLot} to be displayed in the table.
+     */
+    private final List<StockLot> lots;
+
+    /**
+     * The names of the items of the lots, by item ID.
+     */
+    private final Map<String, String> itemNames;
+
+    /**
+     * Constructs a new {@link LotTable} with a given {@link List} of {@link StockLot}.
+     * 
+     * @param lots the {@link List} of {@link StockLot}.
+     * @param itemNames the names of the items of the lots, by item ID.
+     */
+    public LotTable(List<StockLot> lots, Map<String, String> itemNames) {
+        this.lots = lots;
+        this.itemNames = itemNames;
+    }
+
+    /**
+     * Builds the table of lots.
+     * 
+     * @param context the {@link BuildContext} used to build the widget.
+     * @return a {@link String} representing the table of {@link StockLot}.
+     */
+    @Override
+    public String build(BuildContext context) {
+        TableRow header = new TableRow("Lot ID", "Name", "Quantity", "Expiry Date", "Expires In");
+
+        if (lots.isEmpty()) {
+            return new Table(new TableRow("No lots expiring")).build(context);
+        }
+
+        LocalDate today = LocalDate.now();
+
+        TableRow[] rows = lots.stream()
+            .map(lot -> new TableRow(
+                lot.getLotId(),
+                itemNames.getOrDefault(lot.getItemId(), lot.getItemId()),
+                String.valueOf(lot.getQuantity()),
+                lot.getExpiryDate().toString(),
+                lot.isExpired(today) ? "Expired" : ChronoUnit.DAYS.between(today, lot.getExpiryDate()) + " days"
+            ))
+            .toArray(TableRow[]::new);
+
+        return EnumeratedTable.withHeader(header, rows).build(context);
+    }
+}
@@ -128,7 +128,10 @@ public final class PharmacistPrescribeMedicineView extends View {
             return;
         }
         
-        pharmacistManager.dispensePrescription(appointment, selectedPrescription);
+        if (!pharmacistManager.dispensePrescription(appointment, selectedPrescription)) {
+            new Pause("Insufficient stock, submit a replenishment request to refill. Press any key to continue.").pause(context);
+        }
+
         repaint();
     }
 
@@ -99,8 +99,8 @@ public abstract class View {
      * Utility method to clear the screen.
      */
     public static void clear() {
-        System.out.print("\033[H\033[2J");  
-        System.out.flush();
+        Terminal.out().print("\033[H\033[2J");  
+        Terminal.out().flush();
         gotoPrevLine();
     }
 
@@ -108,7 +108,7 @@ public abstract class View {
      * Utility method to move the cursor up to the previous line.
      */
     public static void gotoPrevLine() {
-        System.out.print(String.format("\033[1A"));
+        Terminal.out().print(String.format("\033[1A"));
     }
 
     /**
@@ -126,8 +126,8 @@ public abstract class View {
      * Utility method to move up the cursor by one line, and clear that line.
      */
     public static void clearLine() {
-        System.out.print(String.format("\033[1A"));
-        System.out.print("\033[2K");
+        Terminal.out().print(String.format("\033[1A"));
+        Terminal.out().print("\033[2K");
     }
 
     /**
@@ -0,0 +1,53 @@
+package view.widgets;
+
+import java.util.List;
+
+import lib.uilib.framework.BuildContext;
+import lib.uilib.framework.TableRow;
+import lib.uilib.framework.Widget;
+import lib.uilib.widgets.base.Table;
+import model.inventory.StockAlert;
+
+/**
+ * Widget for displaying the medications whose stock crossed their stock level alerts.
+ * 
+ * @author agent
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class StockAlertTable extends Widget {
+    /**
+     * The alerts to display, from the oldest.
+     */
+    private final List<StockAlert> alerts;
+
+    /**
+     * Constructs a new stock alert table widget.
+     * 
+     * @param alerts The alerts to display, from the oldest.
+     */
+    public StockAlertTable(List<StockAlert> alerts) {
+        this.alerts = alerts;
+    }
+
+    /**
+     * Builds the stock alert table widget.
+     * 
+     * @param context The build context.
+     * @return The built widget.
+     */
+    @Override
+    public String build(BuildContext context) {
+        TableRow[] rows = new TableRow[alerts.size() + 1];
+        rows[0] = new TableRow("Stock Alert", "Quantity", "Reorder Level", "Status");
+
+        for (int i = 0; i < alerts.size(); i++) {
+            StockAlert alert = alerts.get(i);
+
+            rows[i + 1] = new TableRow(alert.getItemName(), String.valueOf(alert.getStock()),
+                String.valueOf(alert.getStockLevelAlert()), alert.isLow() ? "Low Stock" : "Restocked");
+        }
+
+        return new Table(rows).build(context);
+    }
+}